@@ -0,0 +1,62 @@
+package com.yhs.inventroysystem.benchmark;
+
+import com.yhs.inventroysystem.application.bulk.parser.*;
+import com.yhs.inventroysystem.benchmark.SyntheticData.BulkFile;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일괄 등록 파일 파서 (양식별 CSV/XLSX)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkParserBenchmark {
+
+    @Param({"PART", "PRODUCT", "PRODUCT_PART_MAPPING", "CLIENT", "PRICE", "DELIVERY", "DELIVERY_ITEM"})
+    public BulkFile type;
+
+    @Param({"csv", "xlsx"})
+    public String format;
+
+    @Param({"1000", "10000"})
+    public int rows;
+
+    private final PartBulkFileParser partParser = new PartBulkFileParser();
+    private final ProductBulkFileParser productParser = new ProductBulkFileParser();
+    private final ProductPartMappingFileParser mappingParser = new ProductPartMappingFileParser();
+    private final ClientBulkFileParser clientParser = new ClientBulkFileParser();
+    private final PriceBulkFileParser priceParser = new PriceBulkFileParser();
+    private final DeliveryBulkFileParser deliveryParser = new DeliveryBulkFileParser();
+    private final DeliveryItemBulkFileParser deliveryItemParser = new DeliveryItemBulkFileParser();
+
+    private MultipartFile file;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<List<String>> table = new SyntheticData(42).bulkTable(type, rows);
+        byte[] content = "csv".equals(format) ? SyntheticData.toCsv(table) : SyntheticData.toXlsx(table);
+        file = new MockMultipartFile("file", type.name().toLowerCase() + "." + format, null, content);
+    }
+
+    @Benchmark
+    public List<?> parse() throws IOException {
+        return switch (type) {
+            case PART -> partParser.parseFile(file);
+            case PRODUCT -> productParser.parseFile(file);
+            case PRODUCT_PART_MAPPING -> mappingParser.parseFile(file);
+            case CLIENT -> clientParser.parseFile(file);
+            case PRICE -> priceParser.parseFile(file);
+            case DELIVERY -> deliveryParser.parseFile(file);
+            case DELIVERY_ITEM -> deliveryItemParser.parseFile(file);
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.yhs.inventroysystem.benchmark;
+
+import com.yhs.inventroysystem.domain.delivery.entity.Delivery;
+import com.yhs.inventroysystem.domain.product.entity.Product;
+import com.yhs.inventroysystem.domain.shipment.entity.Shipment;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 금액/수량 계산
+ * - Delivery 합계 재계산 (할인 적용 시 전체 품목 합산)
+ * - Shipment 합계 재계산 (수량/금액/중량/CBM)
+ * - BOM 기준 최대 생산 가능 수량
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DomainCalculationBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int size;
+
+    private Delivery delivery;
+    private Shipment shipment;
+    private Product bomProduct;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticData data = new SyntheticData(42);
+        delivery = data.pendingDelivery(size);
+        shipment = data.shipment(size);
+        bomProduct = data.productWithBom(size);
+    }
+
+    @Benchmark
+    public BigDecimal deliveryCalculateTotalAmount() {
+        delivery.applyDiscount(BigDecimal.TEN, null);
+        return delivery.getTotalAmount();
+    }
+
+    @Benchmark
+    public BigDecimal shipmentRecalculateTotals() {
+        shipment.updateTotals();
+        return shipment.getTotalAmount();
+    }
+
+    @Benchmark
+    public int bomMaxProducibleQuantity() {
+        return bomProduct.calculateMaxProducibleQuantity();
+    }
+}
@@ -0,0 +1,92 @@
+package com.yhs.inventroysystem.benchmark;
+
+import com.yhs.inventroysystem.application.auth.UserDetails.CustomUserDetailsService;
+import com.yhs.inventroysystem.domain.auth.entity.User;
+import com.yhs.inventroysystem.domain.auth.repository.UserRepository;
+import com.yhs.inventroysystem.infrastructure.security.jwt.JwtAuthenticationFilter;
+import com.yhs.inventroysystem.infrastructure.security.jwt.JwtProperties;
+import com.yhs.inventroysystem.infrastructure.security.jwt.JwtTokenProvider;
+import com.yhs.inventroysystem.infrastructure.security.jwt.VerifiedToken;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JWT 검증과 JwtAuthenticationFilter의 요청당 비용
+ * - verifyCached: 캐시된 토큰 (일반적인 요청)
+ * - issueAndVerify: 새 토큰 서명 + 첫 검증 (캐시 미스 경로)
+ *   같은 초에 같은 사용자로 서명하면 토큰이 같아 캐시에 걸리므로 호출마다 사용자명을 바꿈
+ * - filterPerRequest: 쿠키 추출 → 검증 → 사용자 캐시 조회 → SecurityContext 설정까지
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private UsernamePasswordAuthenticationToken authentication;
+    private String token;
+    private long issueSequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(Base64.getEncoder().encodeToString(new byte[64]));
+        jwtProperties.setExpiration(TimeUnit.HOURS.toMillis(1));
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+
+        authentication = new UsernamePasswordAuthenticationToken(
+                "benchuser", null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        token = jwtTokenProvider.generateToken(authentication);
+
+        UserRepository userRepository = mock(UserRepository.class);
+        User user = User.createNewUser("benchuser", "{noop}password", "벤치마크", "bench@example.com");
+        when(userRepository.findByUsername(anyString())).thenReturn(Optional.of(user));
+
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, new CustomUserDetailsService(userRepository));
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyCached() {
+        return jwtTokenProvider.verify(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> issueAndVerify() {
+        UsernamePasswordAuthenticationToken uniqueAuthentication = new UsernamePasswordAuthenticationToken(
+                "benchuser" + issueSequence++, null, authentication.getAuthorities());
+        return jwtTokenProvider.verify(jwtTokenProvider.generateToken(uniqueAuthentication));
+    }
+
+    @Benchmark
+    public Object filterPerRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.setCookies(new Cookie("JWT_TOKEN", token));
+
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
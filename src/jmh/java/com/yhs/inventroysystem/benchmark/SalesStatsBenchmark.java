@@ -0,0 +1,70 @@
+package com.yhs.inventroysystem.benchmark;
+
+import com.yhs.inventroysystem.application.sales.SalesStatsService;
+import com.yhs.inventroysystem.domain.client.entity.Client;
+import com.yhs.inventroysystem.domain.delivery.entity.Delivery;
+import com.yhs.inventroysystem.domain.delivery.service.DeliveryDomainService;
+import com.yhs.inventroysystem.domain.product.entity.Product;
+import com.yhs.inventroysystem.domain.product.service.ProductDomainService;
+import com.yhs.inventroysystem.presentation.sales.SalesStatsDtos.MonthlySalesResponse;
+import com.yhs.inventroysystem.presentation.sales.SalesStatsDtos.WeeklySalesResponse;
+import com.yhs.inventroysystem.presentation.sales.SalesStatsDtos.YearlySalesByClientResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * SalesStatsService 집계 (DB 조회는 미리 만든 납품 목록으로 대체)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SalesStatsBenchmark {
+
+    @Param({"1000", "20000"})
+    public int deliveryCount;
+
+    private SalesStatsService salesStatsService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticData data = new SyntheticData(42);
+        List<Client> clients = data.clients(80);
+        List<Product> products = data.products(300);
+        List<Delivery> deliveries = data.completedDeliveries(deliveryCount, clients, products);
+
+        DeliveryDomainService deliveryDomainService = mock(DeliveryDomainService.class);
+        when(deliveryDomainService.findWeeklySales(any(), any())).thenReturn(deliveries);
+        when(deliveryDomainService.findCompletedDeliveriesByPeriod(any(), any())).thenReturn(deliveries);
+        when(deliveryDomainService.findCompletedDeliveriesByYear(anyInt())).thenReturn(deliveries);
+
+        ProductDomainService productDomainService = mock(ProductDomainService.class);
+        when(productDomainService.findAllActive()).thenReturn(products);
+
+        salesStatsService = new SalesStatsService(deliveryDomainService, productDomainService);
+    }
+
+    @Benchmark
+    public WeeklySalesResponse weeklySales() {
+        return salesStatsService.getThisWeekSales();
+    }
+
+    @Benchmark
+    public MonthlySalesResponse monthlySales() {
+        return salesStatsService.getMonthlySales();
+    }
+
+    @Benchmark
+    public YearlySalesByClientResponse yearlySalesByClient() {
+        return salesStatsService.getYearlySalesByClient(2025);
+    }
+}
@@ -0,0 +1,279 @@
+package com.yhs.inventroysystem.benchmark;
+
+import com.yhs.inventroysystem.domain.client.entity.Client;
+import com.yhs.inventroysystem.domain.client.entity.Country;
+import com.yhs.inventroysystem.domain.delivery.entity.Delivery;
+import com.yhs.inventroysystem.domain.delivery.entity.DeliveryItem;
+import com.yhs.inventroysystem.domain.delivery.entity.DeliveryStatus;
+import com.yhs.inventroysystem.domain.exchange.entity.Currency;
+import com.yhs.inventroysystem.domain.part.entity.Part;
+import com.yhs.inventroysystem.domain.product.entity.Product;
+import com.yhs.inventroysystem.domain.product.entity.ProductCategory;
+import com.yhs.inventroysystem.domain.product.entity.ProductPart;
+import com.yhs.inventroysystem.domain.shipment.entity.Shipment;
+import com.yhs.inventroysystem.domain.shipment.entity.ShipmentItem;
+import com.yhs.inventroysystem.domain.shipment.entity.ShipmentType;
+import com.yhs.inventroysystem.domain.shipment.entity.TradeTerms;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 결정적(seed 고정) 데이터 생성기
+ * - 운영 데이터와 비슷한 분포: 거래처 수십 개, 제품 수백 개, 납품당 1~8개 품목, 최근 1년에 고르게 분포
+ * - JPA 없이 엔티티를 직접 만들고, 집계 키로 쓰이는 id는 리플렉션으로 채움
+ */
+public class SyntheticData {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Random random;
+    private final LocalDate today = LocalDate.of(2025, 6, 30);
+
+    public SyntheticData(long seed) {
+        this.random = new Random(seed);
+    }
+
+    // ========== 엔티티 ==========
+
+    public List<Client> clients(int count) {
+        Country country = new Country("KR", "대한민국", "Korea");
+        List<Client> clients = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Client client = new Client("C" + pad(i), country, "거래처" + i, "C" + i,
+                    "서울시 " + i, "02-000-" + pad(i), "client" + i + "@example.com", "담당자" + i,
+                    i % 3 == 0 ? Currency.USD : Currency.KRW, null, null, null, null, null);
+            ReflectionTestUtils.setField(client, "id", (long) i);
+            clients.add(client);
+        }
+        return clients;
+    }
+
+    public List<Product> products(int count) {
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Product product = new Product(ProductCategory.HARDWARE, "P" + pad(i), "제품" + i,
+                    price(10_000, 2_000_000), "설명" + i, random.nextInt(500));
+            ReflectionTestUtils.setField(product, "id", (long) i);
+            if (i % 10 == 0) {
+                product.markAsFeatured();
+            }
+            products.add(product);
+        }
+        return products;
+    }
+
+    public List<Part> parts(int count) {
+        List<Part> parts = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Part part = new Part("PT" + pad(i), "부품" + i, "규격" + i, random.nextInt(100_000), "EA");
+            ReflectionTestUtils.setField(part, "id", (long) i);
+            parts.add(part);
+        }
+        return parts;
+    }
+
+    /**
+     * 부품 partCount개로 구성된 제품 (BOM)
+     */
+    public Product productWithBom(int partCount) {
+        Product product = new Product(ProductCategory.HARDWARE, "BOM-" + partCount, "BOM 제품",
+                BigDecimal.valueOf(1_000_000), null, 0);
+        for (Part part : parts(partCount)) {
+            product.addPartMapping(new ProductPart(product, part, 1 + random.nextInt(20)));
+        }
+        return product;
+    }
+
+    public Delivery delivery(Client client, List<Product> products, int itemCount, LocalDateTime deliveredAt) {
+        Delivery delivery = new Delivery("SOLM-PO-" + random.nextInt(1_000_000), client,
+                deliveredAt.toLocalDate().minusDays(7), deliveredAt.toLocalDate(),
+                DeliveryStatus.COMPLETED, deliveredAt);
+        for (int i = 0; i < itemCount; i++) {
+            Product product = products.get(random.nextInt(products.size()));
+            delivery.addItem(new DeliveryItem(delivery, product, 1 + random.nextInt(50), product.getDefaultUnitPrice()));
+        }
+        if (client.getCurrency() != Currency.KRW) {
+            delivery.setExchangeRate(BigDecimal.valueOf(1300 + random.nextInt(100)));
+        }
+        return delivery;
+    }
+
+    /**
+     * 최근 1년에 고르게 분포한 완료 납품
+     */
+    public List<Delivery> completedDeliveries(int count, List<Client> clients, List<Product> products) {
+        List<Delivery> deliveries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime deliveredAt = today.minusDays(random.nextInt(365)).atTime(9 + random.nextInt(9), 0);
+            Client client = clients.get(random.nextInt(clients.size()));
+            deliveries.add(delivery(client, products, 1 + random.nextInt(8), deliveredAt));
+        }
+        return deliveries;
+    }
+
+    /**
+     * 단일 납품 (품목 itemCount개, 대기 상태)
+     */
+    public Delivery pendingDelivery(int itemCount) {
+        Client client = clients(1).get(0);
+        List<Product> products = products(Math.min(itemCount, 500));
+        Delivery delivery = new Delivery("SOLM-PO-BENCH", client, today, today.plusDays(7));
+        for (int i = 0; i < itemCount; i++) {
+            Product product = products.get(random.nextInt(products.size()));
+            delivery.addItem(new DeliveryItem(delivery, product, 1 + random.nextInt(50), product.getDefaultUnitPrice()));
+        }
+        return delivery;
+    }
+
+    public Shipment shipment(int itemCount) {
+        Shipment shipment = Shipment.create("INV-BENCH", today, today.getYear(), 1,
+                "Shipper", "Shipper address", "Shipper contact", "000",
+                1L, "Sold to", "Sold to address", "Sold to contact", "000",
+                "Ship to", "Ship to address", "Ship to contact", "000",
+                "Incheon", "Los Angeles", null, "Carrier", today,
+                "TRACK", null, null, null, null,
+                ShipmentType.EXPORT, TradeTerms.FOB, "Made in Korea", null, "USD");
+        for (int i = 1; i <= itemCount; i++) {
+            BigDecimal netWeight = decimal(1, 50);
+            shipment.addItem(ShipmentItem.create(i, (long) i, "P" + pad(i), "Product " + i,
+                    "8471.30", "EA", 1 + random.nextInt(100), price(10, 5_000),
+                    netWeight, netWeight.add(BigDecimal.ONE), decimal(0, 2)));
+        }
+        return shipment;
+    }
+
+    // ========== 일괄 등록 파일 ==========
+
+    public enum BulkFile {
+        PART, PRODUCT, PRODUCT_PART_MAPPING, CLIENT, PRICE, DELIVERY, DELIVERY_ITEM
+    }
+
+    /**
+     * 일괄 등록 양식과 같은 헤더의 표 데이터
+     */
+    public List<List<String>> bulkTable(BulkFile type, int rows) {
+        List<List<String>> table = new ArrayList<>(rows + 1);
+        switch (type) {
+            case PART -> {
+                table.add(List.of("partCode", "name", "specification", "adjustmentQuantity", "unit"));
+                for (int i = 1; i <= rows; i++) {
+                    table.add(List.of("PT" + pad(i), "부품" + i, "규격 " + i, String.valueOf(random.nextInt(10_000)), "EA"));
+                }
+            }
+            case PRODUCT -> {
+                table.add(List.of("productCode", "name", "defaultUnitPrice", "description", "adjustmentQuantity"));
+                for (int i = 1; i <= rows; i++) {
+                    table.add(List.of("P" + pad(i), "제품" + i, price(10_000, 2_000_000).toPlainString(), "설명 " + i,
+                            String.valueOf(random.nextInt(500))));
+                }
+            }
+            case PRODUCT_PART_MAPPING -> {
+                table.add(List.of("productCode", "partCode", "requiredQuantity"));
+                for (int i = 1; i <= rows; i++) {
+                    table.add(List.of("P" + pad(1 + i / 20), "PT" + pad(1 + random.nextInt(5_000)),
+                            String.valueOf(1 + random.nextInt(20))));
+                }
+            }
+            case CLIENT -> {
+                table.add(List.of("clientCode", "countryCode", "name", "address", "contactNumber", "email",
+                        "currency", "parentClientCode"));
+                for (int i = 1; i <= rows; i++) {
+                    table.add(List.of("C" + pad(i), "KR", "거래처" + i, "서울시 " + i, "02-000-" + pad(i),
+                            "client" + i + "@example.com", i % 3 == 0 ? "USD" : "KRW",
+                            i % 5 == 0 ? "C" + pad(i - 1) : ""));
+                }
+            }
+            case PRICE -> {
+                table.add(List.of("clientCode", "productCode", "unitPrice"));
+                for (int i = 1; i <= rows; i++) {
+                    table.add(List.of("C" + pad(1 + random.nextInt(100)), "P" + pad(1 + random.nextInt(1_000)),
+                            price(10_000, 2_000_000).toPlainString()));
+                }
+            }
+            case DELIVERY -> {
+                table.add(List.of("deliveryNumber", "clientCode", "orderedAt", "requestedAt", "status",
+                        "deliveredAt", "totalDiscountAmount", "discountNote", "memo"));
+                for (int i = 1; i <= rows; i++) {
+                    LocalDateTime deliveredAt = today.minusDays(random.nextInt(365)).atTime(10, 0);
+                    table.add(List.of("SOLM-PO-" + pad(i), "C" + pad(1 + random.nextInt(100)),
+                            DATE.format(deliveredAt.minusDays(7)), DATE.format(deliveredAt),
+                            "COMPLETED", DATE_TIME.format(deliveredAt),
+                            i % 10 == 0 ? "10000" : "", i % 10 == 0 ? "할인" : "", ""));
+                }
+            }
+            case DELIVERY_ITEM -> {
+                table.add(List.of("deliveryNumber", "productCode", "quantity", "actualUnitPrice", "priceNote", "isFreeItem"));
+                for (int i = 1; i <= rows; i++) {
+                    table.add(List.of("SOLM-PO-" + pad(1 + i / 4), "P" + pad(1 + random.nextInt(1_000)),
+                            String.valueOf(1 + random.nextInt(50)), i % 7 == 0 ? "9000" : "",
+                            "", i % 50 == 0 ? "true" : "false"));
+                }
+            }
+        }
+        return table;
+    }
+
+    public static byte[] toCsv(List<List<String>> table) {
+        StringBuilder csv = new StringBuilder();
+        for (List<String> row : table) {
+            csv.append(String.join(",", row)).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 숫자로 읽히는 값은 숫자 셀로 기록 (실제 업로드 파일과 동일하게)
+     */
+    public static byte[] toXlsx(List<List<String>> table) {
+        try (XSSFWorkbook workbook = new XSSFWorkbook();
+             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("data");
+            for (int r = 0; r < table.size(); r++) {
+                Row row = sheet.createRow(r);
+                List<String> values = table.get(r);
+                for (int c = 0; c < values.size(); c++) {
+                    String value = values.get(c);
+                    if (r > 0 && value.matches("\\d+(\\.\\d+)?")) {
+                        row.createCell(c).setCellValue(Double.parseDouble(value));
+                    } else if (!value.isEmpty()) {
+                        row.createCell(c).setCellValue(value);
+                    }
+                }
+            }
+            workbook.write(outputStream);
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ========== 값 ==========
+
+    private BigDecimal price(int min, int max) {
+        return BigDecimal.valueOf(min + random.nextInt(max - min)).setScale(0, RoundingMode.DOWN);
+    }
+
+    private BigDecimal decimal(int min, int max) {
+        return BigDecimal.valueOf(min + random.nextDouble() * (max - min)).setScale(3, RoundingMode.HALF_UP);
+    }
+
+    private static String pad(int value) {
+        return String.format("%05d", value);
+    }
+}
@@ -0,0 +1,56 @@
+package com.yhs.inventroysystem.loadtest;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfiguration;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+import java.nio.file.Path;
+
+/**
+ * 부하 테스트용 내장 MariaDB (MariaDB4j)
+ * - 운영과 같은 MariaDB 엔진이라 네이티브 쿼리(SUBSTRING_INDEX, ON DUPLICATE KEY 등)가 그대로 동작
+ * - 매 실행마다 빈 데이터 디렉터리에서 시작하고, 포트는 빈 포트를 자동 선택
+ * - DB 생성은 드라이버 옵션(createDatabaseIfNotExist)으로 처리 (mariadb CLI의 libncurses 의존 회피)
+ */
+public class EmbeddedMariaDb implements AutoCloseable {
+
+    private static final String DATABASE = "inventory_perf";
+
+    private final DB db;
+    private final DBConfiguration configuration;
+
+    private EmbeddedMariaDb(DB db, DBConfiguration configuration) {
+        this.db = db;
+        this.configuration = configuration;
+    }
+
+    public static EmbeddedMariaDb start(Path baseDir) throws ManagedProcessException {
+        DBConfigurationBuilder builder = DBConfigurationBuilder.newBuilder()
+                .setPort(0)
+                .setBaseDir(baseDir.resolve("base").toString())
+                .setDataDir(baseDir.resolve("data").toString())
+                .setDeletingTemporaryBaseAndDataDirsOnShutdown(true)
+                .addArg("--character-set-server=utf8mb4")
+                .addArg("--collation-server=utf8mb4_unicode_ci")
+                .addArg("--innodb-buffer-pool-size=512M")
+                .addArg("--max-connections=200");
+        if ("root".equals(System.getProperty("user.name"))) {
+            builder.addArg("--user=root"); // mysqld는 root로 실행 시 명시적 지정 필요 (CI 컨테이너)
+        }
+
+        DBConfiguration configuration = builder.build();
+        DB db = DB.newEmbeddedDB(configuration);
+        db.start();
+        return new EmbeddedMariaDb(db, configuration);
+    }
+
+    public String jdbcUrl() {
+        return "jdbc:mariadb://localhost:" + configuration.getPort() + "/" + DATABASE + "?createDatabaseIfNotExist=true";
+    }
+
+    @Override
+    public void close() throws ManagedProcessException {
+        db.stop();
+    }
+}
@@ -0,0 +1,129 @@
+package com.yhs.inventroysystem.loadtest;
+
+import com.yhs.inventroysystem.loadtest.LoadScenario.Endpoint;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 닫힌 루프(closed-loop) 부하 발생기
+ * - threads개의 가상 사용자가 응답을 받는 즉시 다음 요청을 보냄
+ * - 워밍업 구간의 응답은 기록하지 않음 (JIT, 커넥션 풀, 캐시 예열)
+ */
+@Slf4j
+public class LoadDriver {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final URI baseUri;
+    private final String jwtCookie;
+    private final LoadScenario scenario;
+    private final HttpClient httpClient;
+
+    public LoadDriver(URI baseUri, String jwtCookie, LoadScenario scenario) {
+        this.baseUri = baseUri;
+        this.jwtCookie = jwtCookie;
+        this.scenario = scenario;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public LoadReport run(LoadTestOptions options) throws InterruptedException {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        for (Endpoint endpoint : scenario.endpoints()) {
+            stats.put(endpoint.name(), new EndpointStats());
+        }
+
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + options.warmup().toNanos();
+        long deadline = measureFrom + options.duration().toNanos();
+
+        log.info("부하 시작 - 스레드 {}, 워밍업 {}, 측정 {}", options.threads(), options.warmup(), options.duration());
+        ExecutorService executor = Executors.newFixedThreadPool(options.threads());
+        for (int i = 0; i < options.threads(); i++) {
+            Random random = new Random(options.seed() + i);
+            executor.execute(() -> runUser(random, stats, measureFrom, deadline));
+        }
+        executor.shutdown();
+        executor.awaitTermination(options.warmup().plus(options.duration()).toSeconds() + 60, TimeUnit.SECONDS);
+
+        double seconds = options.duration().toMillis() / 1000.0;
+        List<LoadReport.EndpointResult> results = stats.entrySet().stream()
+                .map(entry -> entry.getValue().toResult(entry.getKey(), seconds))
+                .toList();
+        return new LoadReport(options.threads(), options.duration(), results);
+    }
+
+    private void runUser(Random random, Map<String, EndpointStats> stats, long measureFrom, long deadline) {
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = scenario.next(random);
+            HttpRequest request = endpoint.factory().create(baseUri, random)
+                    .header("Cookie", jwtCookie)
+                    .build();
+
+            long sentAt = System.nanoTime();
+            boolean failed;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                failed = response.statusCode() >= 400;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                failed = true;
+            }
+            long receivedAt = System.nanoTime();
+
+            if (sentAt >= measureFrom && receivedAt <= deadline) {
+                stats.get(endpoint.name()).record(receivedAt - sentAt, failed);
+            }
+        }
+    }
+
+    private static class EndpointStats {
+
+        private final Histogram latencies = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        void record(long elapsedNanos, boolean failed) {
+            latencies.recordValue(Math.min(elapsedNanos, MAX_TRACKABLE_NANOS));
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        LoadReport.EndpointResult toResult(String name, double seconds) {
+            long count = latencies.getTotalCount();
+            return new LoadReport.EndpointResult(
+                    name,
+                    count,
+                    errors.sum(),
+                    count / seconds,
+                    toMillis(latencies.getValueAtPercentile(50)),
+                    toMillis(latencies.getValueAtPercentile(95)),
+                    toMillis(latencies.getValueAtPercentile(99)),
+                    toMillis(latencies.getMaxValue())
+            );
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.yhs.inventroysystem.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 엔드포인트별 처리량(req/s)과 응답 시간 분위수(ms)
+ */
+public record LoadReport(
+        int threads,
+        Duration duration,
+        List<EndpointResult> endpoints
+) {
+
+    public record EndpointResult(
+            String endpoint,
+            long requests,
+            long errors,
+            double throughput,
+            double p50,
+            double p95,
+            double p99,
+            double max
+    ) {}
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%-34s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        for (EndpointResult result : endpoints) {
+            table.append(String.format("%-34s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    result.endpoint(), result.requests(), result.errors(), result.throughput(),
+                    result.p50(), result.p95(), result.p99(), result.max()));
+        }
+        table.append(String.format("전체 처리량 %.1f req/s (스레드 %d, 측정 %ds)",
+                endpoints.stream().mapToDouble(EndpointResult::throughput).sum(), threads, duration.toSeconds()));
+        return table.toString();
+    }
+
+    public void writeJson(Path path) throws IOException {
+        new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .writerWithDefaultPrettyPrinter()
+                .writeValue(path.toFile(), this);
+    }
+}
@@ -0,0 +1,105 @@
+package com.yhs.inventroysystem.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 엔드포인트별 가중치로 구성된 요청 혼합
+ * - 조회 위주(목록/통계/검색)에 일괄 등록 업로드를 소량 섞음
+ * - 업로드는 매번 새 부품 코드를 써서 중복 실패가 아닌 실제 저장 경로를 측정
+ */
+public class LoadScenario {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] TASK_KEYWORDS = {"일정 1", "일정 2", "일정 3", "일정 4", "설명"};
+    private static final String[] TASK_STATUSES = {"TODO", "IN_PROGRESS", "COMPLETED"};
+    private static final int UPLOAD_ROWS = 100;
+
+    public record Endpoint(String name, int weight, RequestFactory factory) {}
+
+    @FunctionalInterface
+    public interface RequestFactory {
+        HttpRequest.Builder create(URI baseUri, Random random);
+    }
+
+    private final List<Endpoint> endpoints;
+    private final int totalWeight;
+    private final AtomicInteger uploadSequence = new AtomicInteger();
+
+    public LoadScenario() {
+        this.endpoints = List.of(
+                new Endpoint("GET /api/deliveries", 30, (baseUri, random) ->
+                        get(baseUri, "/api/deliveries?page=" + random.nextInt(20) + "&size=25")),
+                new Endpoint("GET /api/products/with-parts", 15, (baseUri, random) ->
+                        get(baseUri, "/api/products/with-parts")),
+                new Endpoint("GET /api/sales-stats/monthly", 15, (baseUri, random) ->
+                        get(baseUri, "/api/sales-stats/monthly")),
+                new Endpoint("GET /api/tasks/search", 35, this::taskSearch),
+                new Endpoint("POST /api/bulk-register/parts", 5, this::partUpload)
+        );
+        this.totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+    }
+
+    public List<Endpoint> endpoints() {
+        return endpoints;
+    }
+
+    public Endpoint next(Random random) {
+        int pick = random.nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            pick -= endpoint.weight();
+            if (pick < 0) {
+                return endpoint;
+            }
+        }
+        throw new IllegalStateException("가중치 합계가 올바르지 않습니다.");
+    }
+
+    private HttpRequest.Builder taskSearch(URI baseUri, Random random) {
+        LocalDate from = LocalDate.now().minusDays(random.nextInt(365));
+        String query = "title=" + encode(TASK_KEYWORDS[random.nextInt(TASK_KEYWORDS.length)])
+                + "&status=" + TASK_STATUSES[random.nextInt(TASK_STATUSES.length)]
+                + "&startDate=" + from + "&endDate=" + from.plusDays(90)
+                + "&page=" + random.nextInt(3) + "&size=20";
+        return get(baseUri, "/api/tasks/search?" + query);
+    }
+
+    private HttpRequest.Builder partUpload(URI baseUri, Random random) {
+        int sequence = uploadSequence.incrementAndGet();
+        StringBuilder csv = new StringBuilder("partCode,name,specification,adjustmentQuantity,unit\n");
+        for (int i = 1; i <= UPLOAD_ROWS; i++) {
+            csv.append("LT").append(sequence).append('-').append(i).append(",부하 부품 ").append(i)
+                    .append(",규격,").append(random.nextInt(1_000)).append(",EA\n");
+        }
+
+        String boundary = "----loadtest" + UUID.randomUUID();
+        String body = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"parts.csv\"\r\n"
+                + "Content-Type: text/csv\r\n\r\n"
+                + csv
+                + "\r\n--" + boundary + "--\r\n";
+
+        return HttpRequest.newBuilder(baseUri.resolve("/api/bulk-register/parts"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+    }
+
+    private static HttpRequest.Builder get(URI baseUri, String pathAndQuery) {
+        return HttpRequest.newBuilder(baseUri.resolve(pathAndQuery))
+                .timeout(REQUEST_TIMEOUT)
+                .GET();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,68 @@
+package com.yhs.inventroysystem.loadtest;
+
+import com.yhs.inventroysystem.InventroySystemApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * HTTP 부하 테스트 진입점 (gradle loadTest)
+ * 1. 내장 MariaDB 기동
+ * 2. perf + seed 프로필로 애플리케이션 기동 (빈 포트, 기동 중 SyntheticDataSeeder가 결정적 데이터 생성)
+ * 3. 기본 관리자 계정으로 로그인해 JWT 쿠키 획득
+ * 4. 요청 혼합 실행 후 엔드포인트별 처리량/p50/p95/p99 출력 및 JSON 저장
+ */
+@Slf4j
+public class LoadTestApplication {
+
+    private static final String USERNAME = "solmitech";
+    private static final String PASSWORD = "solmi!300";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (EmbeddedMariaDb database = EmbeddedMariaDb.start(Path.of("mariadb").toAbsolutePath());
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(InventroySystemApplication.class)
+                     .profiles("perf", "seed")
+                     .properties(Map.of(
+                             "spring.datasource.url", database.jdbcUrl(),
+                             "spring.datasource.username", "root",
+                             "spring.datasource.password", "",
+                             "seed.random-seed", String.valueOf(options.seed()),
+                             "seed.scale-factor", String.valueOf(options.scale())))
+                     .run()) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI baseUri = URI.create("http://localhost:" + port);
+
+            LoadReport report = new LoadDriver(baseUri, login(baseUri), new LoadScenario()).run(options);
+
+            log.info("부하 테스트 결과\n{}", report.toTable());
+            report.writeJson(options.report());
+            log.info("결과 저장: {}", options.report());
+        }
+    }
+
+    private static String login(URI baseUri) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+
+        HttpResponse<Void> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.discarding());
+        return response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith("JWT_TOKEN="))
+                .map(cookie -> cookie.split(";", 2)[0])
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("로그인 실패: HTTP " + response.statusCode()));
+    }
+}
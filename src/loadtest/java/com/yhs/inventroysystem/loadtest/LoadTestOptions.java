@@ -0,0 +1,46 @@
+package com.yhs.inventroysystem.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션 (--key=value)
+ *
+ * @param duration 측정 시간
+ * @param warmup   측정 전 워밍업 시간 (결과에서 제외)
+ * @param threads  동시 사용자(스레드) 수
+ * @param seed     시드 데이터 난수 seed (같은 seed → 같은 데이터)
+ * @param scale    시드 데이터 배수
+ * @param report   결과 JSON 경로
+ */
+public record LoadTestOptions(
+        Duration duration,
+        Duration warmup,
+        int threads,
+        long seed,
+        int scale,
+        Path report
+) {
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("알 수 없는 인자입니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        return new LoadTestOptions(
+                Duration.parse(values.getOrDefault("duration", "PT1M")),
+                Duration.parse(values.getOrDefault("warmup", "PT15S")),
+                Integer.parseInt(values.getOrDefault("threads", "16")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Integer.parseInt(values.getOrDefault("scale", "1")),
+                Path.of(values.getOrDefault("report", "loadtest-results.json"))
+        );
+    }
+}
@@ -1,7 +1,8 @@
 package com.yhs.inventroysystem.application.auth.UserDetails;
 
 import com.yhs.inventroysystem.domain.auth.entity.User;
-import lombok.RequiredArgsConstructor;
+import com.yhs.inventroysystem.domain.auth.entity.UserRole;
+import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,28 +10,43 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.List;
 
-@RequiredArgsConstructor
+/**
+ * 인증 주체
+ * - 엔티티 대신 필요한 값만 복사해 보관 (요청 간 캐시되어도 영속성 컨텍스트와 무관)
+ */
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    @Getter
+    private final Long id;
+    private final String username;
+    private final String password;
+    @Getter
+    private final String name;
+    private final UserRole userRole;
+    private final boolean enabled;
+
+    public CustomUserDetails(User user) {
+        this.id = user.getId();
+        this.username = user.getUsername();
+        this.password = user.getPassword();
+        this.name = user.getName();
+        this.userRole = user.getUserRole();
+        this.enabled = !Boolean.FALSE.equals(user.getEnabled());
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + user.getUserRole().name()));
+        return List.of(new SimpleGrantedAuthority("ROLE_" + userRole.name()));
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername();
-    }
-
-    public String getName() {
-        return user.getName();
+        return username;
     }
 
     @Override
@@ -50,6 +66,6 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return enabled;
     }
 }
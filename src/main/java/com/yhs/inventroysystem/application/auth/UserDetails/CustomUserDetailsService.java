@@ -7,13 +7,30 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
+    private static final Duration CACHE_TTL = Duration.ofSeconds(60);
+    private static final int MAX_CACHED_USERS = 1_000;
+
     private final UserRepository userRepository;
 
+    private record CachedUser(CustomUserDetails userDetails, Instant expiresAt) {}
+
+    private final Map<String, CachedUser> userCache = new ConcurrentHashMap<>();
+
+    /**
+     * 로그인(비밀번호 검증)용 - 항상 DB에서 조회
+     */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsername(username)
@@ -21,4 +38,44 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         return new CustomUserDetails(user);
     }
+
+    /**
+     * JWT 인증용 - 짧은 TTL 캐시 후 DB 조회
+     * - 요청(AJAX 폴링 포함)마다 사용자 조회 쿼리가 나가지 않도록 함
+     * - 비활성화/비밀번호 변경 시 evict()로 즉시 무효화, 다른 인스턴스는 최대 TTL만큼 지연
+     */
+    public CustomUserDetails loadCachedUserByUsername(String username) throws UsernameNotFoundException {
+        Instant now = Instant.now();
+
+        CachedUser cached = userCache.get(username);
+        if (cached != null && now.isBefore(cached.expiresAt())) {
+            return cached.userDetails();
+        }
+
+        CustomUserDetails userDetails = (CustomUserDetails) loadUserByUsername(username);
+
+        if (userCache.size() >= MAX_CACHED_USERS) {
+            userCache.values().removeIf(user -> !now.isBefore(user.expiresAt()));
+        }
+        if (userCache.size() < MAX_CACHED_USERS) {
+            userCache.put(username, new CachedUser(userDetails, now.plus(CACHE_TTL)));
+        }
+        return userDetails;
+    }
+
+    /**
+     * 캐시된 인증 주체 무효화
+     * - 트랜잭션 안이면 커밋 후 제거 (커밋 전 다른 요청이 이전 값을 다시 캐시하지 않도록)
+     */
+    public void evict(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userCache.remove(username);
+                }
+            });
+        }
+        userCache.remove(username);
+    }
 }
@@ -2,13 +2,16 @@ package com.yhs.inventroysystem.application.auth;
 
 import com.yhs.inventroysystem.application.auth.UserCommands.LoginCommand;
 import com.yhs.inventroysystem.application.auth.UserCommands.SignupCommand;
+import com.yhs.inventroysystem.application.auth.UserDetails.CustomUserDetailsService;
 import com.yhs.inventroysystem.domain.auth.entity.User;
 import com.yhs.inventroysystem.domain.auth.service.UserDomainService;
 import com.yhs.inventroysystem.domain.exception.InvalidPasswordException;
+import com.yhs.inventroysystem.domain.exception.UserDisabledException;
 import com.yhs.inventroysystem.infrastructure.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -25,6 +28,7 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final CustomUserDetailsService customUserDetailsService;
 
     @Transactional
     public User signup(SignupCommand signupCommand) {
@@ -41,12 +45,17 @@ public class UserService {
     }
 
     public String login(LoginCommand command) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        command.username(),
-                        command.password()
-                )
-        );
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            command.username(),
+                            command.password()
+                    )
+            );
+        } catch (DisabledException e) {
+            throw new UserDisabledException(command.username());
+        }
 
         return jwtTokenProvider.generateToken(authentication);
     }
@@ -65,18 +74,21 @@ public class UserService {
 
         String encodedNewPassword = passwordEncoder.encode(newPassword);
         user.updatePassword(encodedNewPassword);
+        customUserDetailsService.evict(user.getUsername());
     }
 
     @Transactional
     public void disableUser(Long userId) {
         User user = userDomainService.findUserById(userId);
         user.disable();
+        customUserDetailsService.evict(user.getUsername());
     }
 
     @Transactional
     public void enableUser(Long userId) {
         User user = userDomainService.findUserById(userId);
         user.enable();
+        customUserDetailsService.evict(user.getUsername());
     }
 
     private void validateDuplicateUsername(String username) {
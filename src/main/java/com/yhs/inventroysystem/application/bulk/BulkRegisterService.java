@@ -4,6 +4,9 @@ import com.yhs.inventroysystem.application.auth.UserDetails.CustomUserDetails;
 import com.yhs.inventroysystem.application.bulk.command.*;
 import com.yhs.inventroysystem.application.bulk.command.ProductBulkRegisterCommand.BulkProductData;
 import com.yhs.inventroysystem.application.bulk.parser.*;
+import com.yhs.inventroysystem.application.exchange.ExchangeRateCache;
+import com.yhs.inventroysystem.application.exchange.ExchangeRateService;
+import com.yhs.inventroysystem.application.task.TaskChangedEvent;
 import com.yhs.inventroysystem.domain.client.entity.Client;
 import com.yhs.inventroysystem.domain.client.entity.Country;
 import com.yhs.inventroysystem.domain.client.repository.ClientRepository;
@@ -11,10 +14,9 @@ import com.yhs.inventroysystem.domain.client.repository.CountryRepository;
 import com.yhs.inventroysystem.domain.delivery.entity.Delivery;
 import com.yhs.inventroysystem.domain.delivery.entity.DeliveryItem;
 import com.yhs.inventroysystem.domain.delivery.entity.DeliveryStatus;
+import com.yhs.inventroysystem.domain.delivery.repository.DeliveryBulkRepository;
 import com.yhs.inventroysystem.domain.delivery.repository.DeliveryRepository;
 import com.yhs.inventroysystem.domain.exchange.entity.Currency;
-import com.yhs.inventroysystem.domain.exchange.entity.ExchangeRate;
-import com.yhs.inventroysystem.domain.exchange.service.ExchangeDomainService;
 import com.yhs.inventroysystem.domain.part.entity.Part;
 import com.yhs.inventroysystem.domain.part.entity.TransactionType;
 import com.yhs.inventroysystem.domain.part.repository.PartRepository;
@@ -23,30 +25,37 @@ import com.yhs.inventroysystem.domain.price.entity.ClientProductPrice;
 import com.yhs.inventroysystem.domain.price.repository.ClientProductPriceRepository;
 import com.yhs.inventroysystem.domain.product.entity.Product;
 import com.yhs.inventroysystem.domain.product.entity.ProductCategory;
-import com.yhs.inventroysystem.domain.product.entity.ProductPart;
 import com.yhs.inventroysystem.domain.product.entity.ProductTransactionType;
+import com.yhs.inventroysystem.domain.product.repository.ProductPartBulkRepository;
 import com.yhs.inventroysystem.domain.product.repository.ProductPartRepository;
 import com.yhs.inventroysystem.domain.product.repository.ProductRepository;
 import com.yhs.inventroysystem.domain.product.service.ProductStockTransactionDomainService;
 import com.yhs.inventroysystem.domain.task.entity.Priority;
 import com.yhs.inventroysystem.domain.task.entity.Task;
 import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
-import com.yhs.inventroysystem.domain.task.repository.TaskRepository;
+import com.yhs.inventroysystem.domain.task.repository.TaskBulkRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 
 @Service
+@Timed(value = "bulk.register", percentiles = {0.5, 0.95, 0.99})
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
@@ -61,6 +70,7 @@ public class BulkRegisterService {
     private final ProductBulkFileParser productBulkFileParser;
 
     private final ProductPartRepository productPartRepository;
+    private final ProductPartBulkRepository productPartBulkRepository;
     private final ProductPartMappingFileParser productPartMappingFileParser;
 
     private final ClientRepository clientRepository;
@@ -71,16 +81,14 @@ public class BulkRegisterService {
     private final PriceBulkFileParser priceBulkFileParser;
 
     private final DeliveryRepository deliveryRepository;
+    private final DeliveryBulkRepository deliveryBulkRepository;
     private final DeliveryBulkFileParser deliveryBulkFileParser;
-    private final ExchangeDomainService exchangeDomainService;
-    private final TaskRepository taskRepository;
+    private final ExchangeRateService exchangeRateService;
+    private final TaskBulkRepository taskBulkRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final DeliveryItemBulkFileParser deliveryItemBulkFileParser;
 
-    private final RestTemplate restTemplate;
-
-    private static final String API_URL = "https://api.exchangerate-api.com/v4/latest/KRW";
-
     /**
      * Part
      */
@@ -265,6 +273,8 @@ public class BulkRegisterService {
 
     /**
      * Part-Product mapping
+     * 행 단위 조회 대신 코드 → ID 맵과 기존 매핑 쌍을 한 번에 조회한 뒤
+     * 메모리에서 insert 대상을 계산하고 배치로 저장
      */
     @Transactional
     public ProductPartMappingBulkCommand.Result bulkRegisterProductPartMappings(MultipartFile file) {
@@ -277,9 +287,37 @@ public class BulkRegisterService {
         }
 
         int totalCount = bulkMappings.size();
-        int successCount = 0;
         List<ProductPartMappingBulkCommand.FailureDetail> failures = new ArrayList<>();
 
+        // 1. 파일에 등장하는 코드만 모아 코드 → ID 맵 구성
+        Set<String> productCodes = new HashSet<>();
+        Set<String> partCodes = new HashSet<>();
+        for (ProductPartMappingBulkCommand.BulkMappingData bulkData : bulkMappings) {
+            if (bulkData.productCode() != null) {
+                productCodes.add(bulkData.productCode());
+            }
+            if (bulkData.partCode() != null) {
+                partCodes.add(bulkData.partCode());
+            }
+        }
+
+        Map<String, Long> productIdByCode = productCodes.isEmpty() ? Map.of() :
+                productRepository.findCodeIdsByProductCodes(productCodes).stream()
+                        .collect(Collectors.toMap(ProductRepository.CodeIdView::getCode, ProductRepository.CodeIdView::getId));
+        Map<String, Long> partIdByCode = partCodes.isEmpty() ? Map.of() :
+                partRepository.findCodeIdsByPartCodes(partCodes).stream()
+                        .collect(Collectors.toMap(PartRepository.CodeIdView::getCode, PartRepository.CodeIdView::getId));
+
+        // 2. 기존 (제품 ID, 부품 ID) 매핑 쌍 조회
+        Set<ProductPartKey> existingKeys = new HashSet<>();
+        if (!productIdByCode.isEmpty()) {
+            productPartRepository.findMappingKeysByProductIds(productIdByCode.values())
+                    .forEach(view -> existingKeys.add(new ProductPartKey(view.getProductId(), view.getPartId())));
+        }
+
+        // 3. 메모리에서 insert 대상 계산 (파일 내 중복도 함께 걸러냄)
+        List<ProductPartBulkRepository.MappingRow> rowsToInsert = new ArrayList<>();
+
         for (int i = 0; i < bulkMappings.size(); i++) {
             ProductPartMappingBulkCommand.BulkMappingData bulkData = bulkMappings.get(i);
             int rowNumber = i + 2; // Excel/CSV의 실제 행 번호 (헤더 + 0-based index)
@@ -287,21 +325,18 @@ public class BulkRegisterService {
             try {
                 validateBulkMappingData(bulkData);
 
-                // Product 조회
-                Product product = productRepository.findByProductCodeAndNotDeleted(bulkData.productCode())
-                        .orElseThrow(() -> new IllegalArgumentException(
-                                "존재하지 않는 제품 코드입니다: " + bulkData.productCode()));
+                Long productId = productIdByCode.get(bulkData.productCode());
+                if (productId == null) {
+                    throw new IllegalArgumentException("존재하지 않는 제품 코드입니다: " + bulkData.productCode());
+                }
 
-                // Part 조회
-                Part part = partRepository.findByPartCodeAndNotDeleted(bulkData.partCode())
-                        .orElseThrow(() -> new IllegalArgumentException(
-                                "존재하지 않는 부품 코드입니다: " + bulkData.partCode()));
+                Long partId = partIdByCode.get(bulkData.partCode());
+                if (partId == null) {
+                    throw new IllegalArgumentException("존재하지 않는 부품 코드입니다: " + bulkData.partCode());
+                }
 
                 // 중복 매핑 체크 (같은 제품에 같은 부품이 이미 매핑되어 있는지)
-                boolean isDuplicate = product.getPartMappings().stream()
-                        .anyMatch(mapping -> mapping.getPart().getId().equals(part.getId()));
-
-                if (isDuplicate) {
+                if (!existingKeys.add(new ProductPartKey(productId, partId))) {
                     failures.add(ProductPartMappingBulkCommand.FailureDetail.builder()
                             .rowNumber(rowNumber)
                             .productCode(bulkData.productCode())
@@ -311,17 +346,11 @@ public class BulkRegisterService {
                     continue;
                 }
 
-                // ProductPart 매핑 생성 및 저장
-                ProductPart mapping = new ProductPart(
-                        product,
-                        part,
+                rowsToInsert.add(new ProductPartBulkRepository.MappingRow(
+                        productId,
+                        partId,
                         bulkData.requiredQuantity()
-                );
-
-                product.addPartMapping(mapping);
-                productPartRepository.save(mapping);
-
-                successCount++;
+                ));
 
             } catch (Exception e) {
                 failures.add(ProductPartMappingBulkCommand.FailureDetail.builder()
@@ -333,6 +362,10 @@ public class BulkRegisterService {
             }
         }
 
+        // 4. 배치 저장
+        productPartBulkRepository.batchInsert(rowsToInsert);
+
+        int successCount = rowsToInsert.size();
         int failureCount = totalCount - successCount;
 
         return new ProductPartMappingBulkCommand.Result(
@@ -343,6 +376,8 @@ public class BulkRegisterService {
         );
     }
 
+    private record ProductPartKey(Long productId, Long partId) {}
+
     private void validateBulkMappingData(ProductPartMappingBulkCommand.BulkMappingData data) {
         if (data.productCode() == null || data.productCode().trim().isEmpty()) {
             throw new IllegalArgumentException("제품 코드는 필수입니다");
@@ -616,6 +651,10 @@ public class BulkRegisterService {
 
     /**
      * Delivery
+     * 과거 납품 이력 일괄 등록
+     * - 거래처/기존 납품 번호는 파일 단위로 한 번에 조회
+     * - 환율은 (통화, 주문일) 조합마다 한 번만 조회
+     * - 납품은 배치로 저장 (금액과 Task는 납품 항목 등록 시 계산)
      */
     @Transactional
     public DeliveryBulkRegisterCommand.Result bulkRegisterDeliveries(MultipartFile file, String userName) {
@@ -628,9 +667,28 @@ public class BulkRegisterService {
         }
 
         int totalCount = bulkDeliveries.size();
-        int successCount = 0;
         List<DeliveryBulkRegisterCommand.FailureDetail> failures = new ArrayList<>();
 
+        Set<String> clientCodes = new HashSet<>();
+        Set<String> deliveryNumbers = new HashSet<>();
+        for (DeliveryBulkRegisterCommand.BulkDeliveryData bulkData : bulkDeliveries) {
+            if (bulkData.clientCode() != null) {
+                clientCodes.add(bulkData.clientCode());
+            }
+            if (bulkData.deliveryNumber() != null) {
+                deliveryNumbers.add(bulkData.deliveryNumber());
+            }
+        }
+
+        Map<String, Client> clientByCode = clientCodes.isEmpty() ? Map.of() :
+                clientRepository.findAllByClientCodesAndNotDeleted(clientCodes).stream()
+                        .collect(Collectors.toMap(Client::getClientCode, client -> client));
+        Set<String> registeredNumbers = deliveryNumbers.isEmpty() ? new HashSet<>() :
+                new HashSet<>(deliveryRepository.findExistingDeliveryNumbers(deliveryNumbers));
+
+        ExchangeRateCache rateCache = new ExchangeRateCache(exchangeRateService);
+        List<Delivery> deliveriesToInsert = new ArrayList<>();
+
         for (int i = 0; i < bulkDeliveries.size(); i++) {
             DeliveryBulkRegisterCommand.BulkDeliveryData bulkData = bulkDeliveries.get(i);
             int rowNumber = i + 2; // Excel/CSV의 실제 행 번호 (헤더 + 0-based index)
@@ -639,12 +697,13 @@ public class BulkRegisterService {
                 validateBulkDeliveryData(bulkData);
 
                 // Client 조회
-                Client client = clientRepository.findByClientCodeAndNotDeleted(bulkData.clientCode())
-                        .orElseThrow(() -> new IllegalArgumentException(
-                                "존재하지 않는 거래처 코드입니다: " + bulkData.clientCode()));
+                Client client = clientByCode.get(bulkData.clientCode());
+                if (client == null) {
+                    throw new IllegalArgumentException("존재하지 않는 거래처 코드입니다: " + bulkData.clientCode());
+                }
 
-                // Delivery 번호 중복 체크 (옵션)
-                if (deliveryRepository.existsByDeliveryNumber(bulkData.deliveryNumber())) {
+                // Delivery 번호 중복 체크 (DB + 파일 내 중복)
+                if (!registeredNumbers.add(bulkData.deliveryNumber())) {
                     failures.add(DeliveryBulkRegisterCommand.FailureDetail.builder()
                             .rowNumber(rowNumber)
                             .deliveryNumber(bulkData.deliveryNumber())
@@ -675,14 +734,10 @@ public class BulkRegisterService {
                     delivery.applyDiscount(bulkData.totalDiscountAmount(), bulkData.discountNote());
                 }
 
-                // 환율 조회 및 설정
-                ExchangeRate exchangeRate = getLatestExchangeRate(client.getCurrency());
-                delivery.setExchangeRate(exchangeRate.getRate());
-
-                // Delivery 저장
-                Delivery savedDelivery = deliveryRepository.save(delivery);
+                // 주문일 기준 환율 설정
+                delivery.setExchangeRate(rateCache.getRate(client.getCurrency(), bulkData.orderedAt()));
 
-                successCount++;
+                deliveriesToInsert.add(delivery);
 
             } catch (Exception e) {
                 failures.add(DeliveryBulkRegisterCommand.FailureDetail.builder()
@@ -694,6 +749,10 @@ public class BulkRegisterService {
             }
         }
 
+        // 배치 저장
+        deliveryBulkRepository.batchInsertDeliveries(deliveriesToInsert);
+
+        int successCount = deliveriesToInsert.size();
         int failureCount = totalCount - successCount;
 
         return new DeliveryBulkRegisterCommand.Result(
@@ -722,24 +781,28 @@ public class BulkRegisterService {
         }
     }
 
-    private Task createOrderTask(Delivery delivery, Client client, String username, LocalDate orderedAt) {
-        String title = String.format("[주문] %s - %s", client.getName(), delivery.getDeliveryNumber());
-        String description = generateOrderTaskDescription(delivery);
+    private Task createOrderTask(Delivery delivery, List<DeliveryItem> items, Delivery.Amounts amounts, String username) {
+        String title = String.format("[주문] %s - %s", delivery.getClient().getName(), delivery.getDeliveryNumber());
+        String description = generateOrderTaskDescription(delivery, items, amounts);
 
         Task task = new Task(
                 title,
                 description,
                 username,
-                orderedAt,
-                orderedAt,
+                delivery.getOrderedAt(),
+                delivery.getOrderedAt(),
                 TaskStatus.TODO,
                 Priority.MEDIUM
         );
 
-        return taskRepository.save(task);
+        if (delivery.getStatus() == DeliveryStatus.COMPLETED) {
+            task.updateStatus(TaskStatus.COMPLETED);
+        }
+
+        return task;
     }
 
-    private String generateOrderTaskDescription(Delivery delivery) {
+    private String generateOrderTaskDescription(Delivery delivery, List<DeliveryItem> items, Delivery.Amounts amounts) {
         StringBuilder description = new StringBuilder();
 
         // 주문일, 출하요청일 정보
@@ -751,45 +814,59 @@ public class BulkRegisterService {
         description.append("\n");
 
         // 납품 정보
-        description.append(generateTaskDescription(delivery));
+        description.append(generateTaskDescription(delivery, items, amounts));
 
         return description.toString();
     }
 
-    private Task createShipmentTask(Delivery delivery, Client client, String username, LocalDate requestedAt) {
-        String title = String.format("[출하 요청] %s - %s", client.getName(), delivery.getDeliveryNumber());
-        String description = generateShipmentTaskDescription(delivery);
+    private Task createShipmentTask(Delivery delivery, List<DeliveryItem> items, Delivery.Amounts amounts, String username) {
+        String title = String.format("[출하 요청] %s - %s", delivery.getClient().getName(), delivery.getDeliveryNumber());
+        String description = generateShipmentTaskDescription(delivery, items, amounts);
 
         Task task = new Task(
                 title,
                 description,
                 username,
-                requestedAt,
-                requestedAt,
+                delivery.getRequestedAt(),
+                delivery.getRequestedAt(),
                 TaskStatus.TODO,
                 Priority.MEDIUM
         );
 
-        return taskRepository.save(task);
+        if (delivery.getStatus() == DeliveryStatus.COMPLETED) {
+            LocalDate actualDeliveredDate = delivery.getDeliveredAt() != null
+                    ? delivery.getDeliveredAt().toLocalDate()
+                    : LocalDate.now();
+
+            task.updatePeriod(actualDeliveredDate, actualDeliveredDate);
+            task.updateTaskInfo(
+                    "[출하 완료] " + delivery.getDeliveryNumber(),
+                    task.getDescription(),
+                    task.getPriority()
+            );
+            task.updateStatus(TaskStatus.COMPLETED);
+        }
+
+        return task;
     }
 
-    private String generateShipmentTaskDescription(Delivery delivery) {
+    private String generateShipmentTaskDescription(Delivery delivery, List<DeliveryItem> items, Delivery.Amounts amounts) {
         StringBuilder description = new StringBuilder();
 
         // 주문일 정보
         description.append(String.format("주문일: %s\n\n", delivery.getOrderedAt()));
 
         // 납품 정보
-        description.append(generateTaskDescription(delivery));
+        description.append(generateTaskDescription(delivery, items, amounts));
 
         return description.toString();
     }
 
-    private String generateTaskDescription(Delivery delivery) {
+    private String generateTaskDescription(Delivery delivery, List<DeliveryItem> items, Delivery.Amounts amounts) {
         StringBuilder description = new StringBuilder();
         description.append("납품 정보:\n");
 
-        for (DeliveryItem item : delivery.getItems()) {
+        for (DeliveryItem item : items) {
             description.append(String.format("- %s: %d개",
                     item.getProduct().getName(),
                     item.getQuantity()));
@@ -801,24 +878,20 @@ public class BulkRegisterService {
             description.append("\n");
         }
 
-        description.append(String.format("\n소계: %s%s",
-                delivery.getClient().getCurrency().getSymbol(),
-                delivery.getSubtotalAmount()));
+        String currencySymbol = delivery.getClient().getCurrency().getSymbol();
+
+        description.append(String.format("\n소계: %s%s", currencySymbol, amounts.subtotalAmount()));
 
         // 전체 할인 정보
         if (delivery.hasDiscount()) {
-            description.append(String.format("\n할인: -%s%s",
-                    delivery.getClient().getCurrency().getSymbol(),
-                    delivery.getTotalDiscountAmount()));
+            description.append(String.format("\n할인: -%s%s", currencySymbol, delivery.getTotalDiscountAmount()));
         }
 
-        description.append(String.format("\n이액: %s%s",
-                delivery.getClient().getCurrency().getSymbol(),
-                delivery.getTotalAmount()));
+        description.append(String.format("\n이액: %s%s", currencySymbol, amounts.totalAmount()));
 
         // 원화 환산 금액 추가
-        if (delivery.getTotalAmountKRW() != null) {
-            description.append(String.format(" (₩%s)", delivery.getTotalAmountKRW()));
+        if (amounts.totalAmountKRW() != null) {
+            description.append(String.format(" (₩%s)", amounts.totalAmountKRW()));
         }
 
         return description.toString();
@@ -826,6 +899,9 @@ public class BulkRegisterService {
 
     /**
      * DeliveryItem
+     * - 납품/제품/거래처 단가는 파일 단위로 한 번에 조회
+     * - 항목을 납품 번호별로 묶어 납품당 금액 계산과 Task 생성은 한 번만 수행
+     * - 항목, Task, 납품 금액 갱신은 배치로 저장
      */
     @Transactional
     public DeliveryItemBulkRegisterCommand.Result bulkRegisterDeliveryItems(MultipartFile file, CustomUserDetails currentUser) {
@@ -838,9 +914,47 @@ public class BulkRegisterService {
         }
 
         int totalCount = bulkItems.size();
-        int successCount = 0;
         List<DeliveryItemBulkRegisterCommand.FailureDetail> failures = new ArrayList<>();
 
+        // 1. 파일에 등장하는 납품/제품을 한 번에 조회
+        Set<String> deliveryNumbers = new HashSet<>();
+        Set<String> productCodes = new HashSet<>();
+        for (DeliveryItemBulkRegisterCommand.BulkDeliveryItemData bulkData : bulkItems) {
+            if (bulkData.deliveryNumber() != null) {
+                deliveryNumbers.add(bulkData.deliveryNumber());
+            }
+            if (bulkData.productCode() != null) {
+                productCodes.add(bulkData.productCode());
+            }
+        }
+
+        Map<String, Delivery> deliveryByNumber = deliveryNumbers.isEmpty() ? Map.of() :
+                deliveryRepository.findAllByDeliveryNumbers(deliveryNumbers).stream()
+                        .collect(Collectors.toMap(Delivery::getDeliveryNumber, delivery -> delivery, (a, b) -> a));
+        Map<String, Product> productByCode = productCodes.isEmpty() ? Map.of() :
+                productRepository.findAllByProductCodesAndNotDeleted(productCodes).stream()
+                        .collect(Collectors.toMap(Product::getProductCode, product -> product));
+
+        // 2. 거래처-제품 기준 단가 조회
+        Map<ClientProductKey, BigDecimal> unitPriceByKey = new HashMap<>();
+        if (!deliveryByNumber.isEmpty() && !productByCode.isEmpty()) {
+            Set<Long> clientIds = deliveryByNumber.values().stream()
+                    .map(delivery -> delivery.getClient().getId())
+                    .collect(Collectors.toSet());
+            Set<Long> productIds = productByCode.values().stream()
+                    .map(Product::getId)
+                    .collect(Collectors.toSet());
+
+            priceRepository.findAllByClientIdsAndProductIds(clientIds, productIds)
+                    .forEach(price -> unitPriceByKey.put(
+                            new ClientProductKey(price.getClient().getId(), price.getProduct().getId()),
+                            price.getUnitPrice()));
+        }
+
+        // 3. 납품 번호별로 항목 묶기 (파일 순서 유지)
+        Map<Delivery, List<DeliveryItem>> itemsByDelivery = new LinkedHashMap<>();
+        int successCount = 0;
+
         for (int i = 0; i < bulkItems.size(); i++) {
             DeliveryItemBulkRegisterCommand.BulkDeliveryItemData bulkData = bulkItems.get(i);
             int rowNumber = i + 2; // Excel/CSV의 실제 행 번호 (헤더 + 0-based index)
@@ -848,42 +962,38 @@ public class BulkRegisterService {
             try {
                 validateBulkDeliveryItemData(bulkData);
 
-                // Delivery 조회
-                Delivery delivery = deliveryRepository.findByDeliveryNumber(bulkData.deliveryNumber())
-                        .orElseThrow(() -> new IllegalArgumentException(
-                                "존재하지 않는 납품 번호입니다: " + bulkData.deliveryNumber()));
-
-                // Product 조회
-                Product product = productRepository.findByProductCodeAndNotDeleted(bulkData.productCode())
-                        .orElseThrow(() -> new IllegalArgumentException(
-                                "존재하지 않는 제품 코드입니다: " + bulkData.productCode()));
+                Delivery delivery = deliveryByNumber.get(bulkData.deliveryNumber());
+                if (delivery == null) {
+                    throw new IllegalArgumentException("존재하지 않는 납품 번호입니다: " + bulkData.deliveryNumber());
+                }
 
-                // 기준 단가 조회
-                BigDecimal baseUnitPrice = getBaseUnitPrice(
-                        delivery.getClient().getId(),
-                        product.getId(),
-                        product
-                );
+                Product product = productByCode.get(bulkData.productCode());
+                if (product == null) {
+                    throw new IllegalArgumentException("존재하지 않는 제품 코드입니다: " + bulkData.productCode());
+                }
 
-                // 실제 적용 단가 결정
-                BigDecimal actualUnitPrice;
+                DeliveryItem item;
 
                 if (bulkData.isFreeItem() != null && bulkData.isFreeItem()) {
                     // 무상 제공 항목
-                    DeliveryItem freeItem = DeliveryItem.createFreeItem(
+                    item = DeliveryItem.createFreeItem(
                             delivery,
                             product,
                             bulkData.quantity(),
                             bulkData.priceNote()
                     );
-                    delivery.addItem(freeItem);
                 } else {
                     // 유상 항목
-                    actualUnitPrice = bulkData.actualUnitPrice() != null
+                    BigDecimal baseUnitPrice = unitPriceByKey.getOrDefault(
+                            new ClientProductKey(delivery.getClient().getId(), product.getId()),
+                            product.getDefaultUnitPrice() != null ? product.getDefaultUnitPrice() : BigDecimal.ZERO
+                    );
+
+                    BigDecimal actualUnitPrice = bulkData.actualUnitPrice() != null
                             ? bulkData.actualUnitPrice()
                             : baseUnitPrice;
 
-                    DeliveryItem item = new DeliveryItem(
+                    item = new DeliveryItem(
                             delivery,
                             product,
                             bulkData.quantity(),
@@ -891,32 +1001,9 @@ public class BulkRegisterService {
                             actualUnitPrice,
                             bulkData.priceNote()
                     );
-                    delivery.addItem(item);
-                }
-
-
-                // Task 생성
-                Task orderTask = createOrderTask(delivery, delivery.getClient(), currentUser.getUsername(), delivery.getOrderedAt());
-                delivery.setOrderTask(orderTask);
-
-                Task shipmentTask = createShipmentTask(delivery,  delivery.getClient(), currentUser.getUsername(), delivery.getRequestedAt());
-                delivery.setShipmentTask(shipmentTask);
-
-                if (delivery.getStatus() == DeliveryStatus.COMPLETED) {
-                    LocalDate actualDeliveredDate = delivery.getDeliveredAt() != null
-                            ? delivery.getDeliveredAt().toLocalDate()
-                            : LocalDate.now();
-
-                    orderTask.updateStatus(TaskStatus.COMPLETED);
-                    shipmentTask.updatePeriod(actualDeliveredDate, actualDeliveredDate);
-                    shipmentTask.updateTaskInfo(
-                            "[출하 완료] " + delivery.getDeliveryNumber(),
-                            shipmentTask.getDescription(),
-                            shipmentTask.getPriority()
-                    );
-                    shipmentTask.updateStatus(TaskStatus.COMPLETED);
                 }
 
+                itemsByDelivery.computeIfAbsent(delivery, key -> new ArrayList<>()).add(item);
                 successCount++;
 
             } catch (Exception e) {
@@ -929,6 +1016,48 @@ public class BulkRegisterService {
             }
         }
 
+        // 4. 납품별 금액 계산 및 Task 생성 (Task가 없는 납품만)
+        List<DeliveryItem> itemsToInsert = new ArrayList<>();
+        List<Task> tasksToInsert = new ArrayList<>();
+        List<Delivery> deliveriesNeedingTasks = new ArrayList<>();
+        Map<Delivery, Delivery.Amounts> amountsByDelivery = new LinkedHashMap<>();
+
+        itemsByDelivery.forEach((delivery, items) -> {
+            Delivery.Amounts amounts = delivery.calculateAmountsWith(items);
+            amountsByDelivery.put(delivery, amounts);
+            itemsToInsert.addAll(items);
+
+            if (delivery.getOrderTask() == null && delivery.getShipmentTask() == null) {
+                tasksToInsert.add(createOrderTask(delivery, items, amounts, currentUser.getUsername()));
+                tasksToInsert.add(createShipmentTask(delivery, items, amounts, currentUser.getUsername()));
+                deliveriesNeedingTasks.add(delivery);
+            }
+        });
+
+        // 5. 배치 저장
+        deliveryBulkRepository.batchInsertItems(itemsToInsert);
+        List<Long> taskIds = taskBulkRepository.batchInsert(tasksToInsert);
+        if (!taskIds.isEmpty()) {
+            eventPublisher.publishEvent(TaskChangedEvent.bulk(TaskChangedEvent.ChangeType.CREATED));
+        }
+
+        Map<Delivery, Integer> taskIndexByDelivery = new HashMap<>();
+        for (int i = 0; i < deliveriesNeedingTasks.size(); i++) {
+            taskIndexByDelivery.put(deliveriesNeedingTasks.get(i), i * 2);
+        }
+
+        List<DeliveryBulkRepository.AmountsUpdate> updates = new ArrayList<>();
+        amountsByDelivery.forEach((delivery, amounts) -> {
+            Integer taskIndex = taskIndexByDelivery.get(delivery);
+            updates.add(new DeliveryBulkRepository.AmountsUpdate(
+                    delivery.getId(),
+                    amounts,
+                    taskIndex != null ? taskIds.get(taskIndex) : null,
+                    taskIndex != null ? taskIds.get(taskIndex + 1) : null
+            ));
+        });
+        deliveryBulkRepository.batchUpdateAmountsAndTasks(updates);
+
         int failureCount = totalCount - successCount;
 
         return new DeliveryItemBulkRegisterCommand.Result(
@@ -939,6 +1068,8 @@ public class BulkRegisterService {
         );
     }
 
+    private record ClientProductKey(Long clientId, Long productId) {}
+
     private void validateBulkDeliveryItemData(DeliveryItemBulkRegisterCommand.BulkDeliveryItemData data) {
         if (data.deliveryNumber() == null || data.deliveryNumber().trim().isEmpty()) {
             throw new IllegalArgumentException("납품 번호는 필수입니다");
@@ -953,77 +1084,4 @@ public class BulkRegisterService {
             throw new IllegalArgumentException("단가는 0 이상이어야 합니다");
         }
     }
-
-    private BigDecimal getBaseUnitPrice(Long clientId, Long productId, Product product) {
-        return priceRepository.findByClientIdAndProductId(clientId, productId)
-                .map(ClientProductPrice::getUnitPrice)
-                .orElseGet(() -> product.getDefaultUnitPrice() != null
-                        ? product.getDefaultUnitPrice()
-                        : BigDecimal.ZERO);
-    }
-
-    /**
-     * 최신 환율 조회 (오늘 날짜 기준)
-     */
-    @Transactional
-    public ExchangeRate getLatestExchangeRate(Currency currency) {
-        LocalDate now = LocalDate.now();
-
-        // KRW는 환율이 1
-        if (currency == Currency.KRW) {
-            return new ExchangeRate(Currency.KRW, BigDecimal.ONE, now);
-        }
-
-        return exchangeDomainService.findByCurrencyAndDate(currency, now)
-                .orElseGet(() -> fetchAndSaveExchangeRate(currency, now));
-    }
-
-    /**
-     * 외부 API에서 환율 가져와서 저장
-     */
-    @Transactional
-    public ExchangeRate fetchAndSaveExchangeRate(Currency currency, LocalDate date) {
-        try {
-            // API 호출
-            Map<String, Object> response = restTemplate.getForObject(API_URL, Map.class);
-
-            if (response != null && response.containsKey("rates")) {
-                Map<String, Double> rates = (Map<String, Double>) response.get("rates");
-
-                // KRW 기준이므로 역수 계산
-                // 예: API에서 1 KRW = 0.00075 USD라면, 1 USD = 1333.33 KRW
-                Double rate = rates.get(currency.getCode());
-                BigDecimal krwRate = BigDecimal.ONE.divide(
-                        BigDecimal.valueOf(rate),
-                        6,
-                        BigDecimal.ROUND_HALF_UP
-                );
-
-                ExchangeRate exchangeRate = new ExchangeRate(currency, krwRate, date);
-                return exchangeDomainService.saveExchangeRate(exchangeRate);
-            }
-        } catch (Exception e) {
-            log.error("환율 조회 실패: {}", e.getMessage());
-        }
-
-        // 실패 시 기본값 반환 (고정 환율)
-        return getDefaultExchangeRate(currency, date);
-    }
-
-    /**
-     * API 실패 시 기본 환율 반환
-     */
-    private ExchangeRate getDefaultExchangeRate(Currency currency, LocalDate date) {
-        BigDecimal defaultRate = switch (currency) {
-            case USD -> BigDecimal.valueOf(1300.0);
-            case JPY -> BigDecimal.valueOf(9.5);
-            case EUR -> BigDecimal.valueOf(1400.0);
-            case CNY -> BigDecimal.valueOf(180.0);
-            case GBP -> BigDecimal.valueOf(1650.0);
-            default -> BigDecimal.ONE;
-        };
-
-        ExchangeRate exchangeRate = new ExchangeRate(currency, defaultRate, date);
-        return exchangeDomainService.saveExchangeRate(exchangeRate);
-    }
 }
@@ -12,13 +12,16 @@ import com.yhs.inventroysystem.infrastructure.file.FileStorageFactory;
 import com.yhs.inventroysystem.infrastructure.file.FileStorageService;
 import com.yhs.inventroysystem.infrastructure.file.FileStorageType;
 import com.yhs.inventroysystem.infrastructure.file.FileUploadResult;
+import com.yhs.inventroysystem.infrastructure.file.cleanup.FileDeletionQueue;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @Transactional(readOnly = true)
@@ -29,14 +32,17 @@ public class DeliveryDocumentService {
     private final DeliveryDocumentDomainService deliveryDocumentDomainService;
 
     private final FileStorageService fileStorageService;
+    private final FileDeletionQueue fileDeletionQueue;
 
     public DeliveryDocumentService(
             DeliveryDomainService deliveryDomainService,
             DeliveryDocumentDomainService deliveryDocumentDomainService,
-            FileStorageFactory fileStorageFactory) {
+            FileStorageFactory fileStorageFactory,
+            FileDeletionQueue fileDeletionQueue) {
         this.deliveryDomainService = deliveryDomainService;
         this.deliveryDocumentDomainService = deliveryDocumentDomainService;
         this.fileStorageService = fileStorageFactory.getStorageService(FileStorageType.DELIVERY_DOCUMENT);
+        this.fileDeletionQueue = fileDeletionQueue;
     }
 
     @Transactional
@@ -86,9 +92,20 @@ public class DeliveryDocumentService {
 //        return fileStorageService.load(document.getFilePath());
 //    }
 
-    public InputStream getDocumentFileStream(Long documentId) {
+    public Resource getDocumentResource(Long documentId) {
         DeliveryDocument document = deliveryDocumentDomainService.findById(documentId);
-        return fileStorageService.loadAsStream(document.getFilePath());
+        return fileStorageService.loadAsResource(document.getFilePath());
+    }
+
+    /**
+     * 저장소가 직접 내려주는 임시 다운로드 URL (오브젝트 스토리지일 때만 존재)
+     */
+    public Optional<URI> getDocumentDownloadUrl(DeliveryDocument document) {
+        return fileStorageService.createDownloadUrl(
+                document.getFilePath(),
+                document.getOriginalFileName(),
+                document.getContentType()
+        );
     }
 
     @Transactional
@@ -106,7 +123,7 @@ public class DeliveryDocumentService {
         Delivery delivery = deliveryDomainService.findById(command.deliveryId());
         DeliveryDocument document = deliveryDocumentDomainService.findById(command.documentId());
 
-        fileStorageService.delete(document.getFilePath());
+        fileDeletionQueue.enqueue(FileStorageType.DELIVERY_DOCUMENT, document.getFilePath());
 
         delivery.getDocuments().remove(document);
         deliveryDocumentDomainService.deleteDocument(document);
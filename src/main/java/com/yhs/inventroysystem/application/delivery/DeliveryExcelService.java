@@ -3,15 +3,17 @@ package com.yhs.inventroysystem.application.delivery;
 import com.yhs.inventroysystem.domain.delivery.entity.Delivery;
 import com.yhs.inventroysystem.domain.delivery.entity.DeliveryItem;
 import com.yhs.inventroysystem.domain.delivery.service.DeliveryDomainService;
+import com.yhs.inventroysystem.infrastructure.excel.ExcelColumnWidthTracker;
+import com.yhs.inventroysystem.infrastructure.persistence.ChunkedEntityReader;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.ss.util.RegionUtil;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -23,14 +25,17 @@ import java.util.List;
 public class DeliveryExcelService {
 
     private final DeliveryDomainService deliveryDomainService;
+    private final ChunkedEntityReader chunkedEntityReader;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100; // 메모리에 유지할 최대 행 수
 
     /**
-     * 모든 납품 데이터를 엑셀로 내보내는 메서드
+     * 모든 납품 데이터를 엑셀로 내보내는 메서드 (outputStream으로 바로 기록)
      */
-    public byte[] exportAllDeliveriesToExcel(LocalDate startDate, LocalDate endDate) {
+    @Timed(value = "excel.export", extraTags = {"type", "delivery"}, percentiles = {0.5, 0.95, 0.99})
+    public void exportAllDeliveriesToExcel(LocalDate startDate, LocalDate endDate, OutputStream outputStream) {
         if (startDate == null) {
             startDate = LocalDate.now().minusYears(1);
         }
@@ -40,26 +45,41 @@ public class DeliveryExcelService {
         LocalDateTime startDateTime = startDate.atStartOfDay();
         LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
 
-        List<Delivery> deliveries = deliveryDomainService.findCompletedDeliveriesByPeriod(startDateTime, endDateTime);
+        // ID만 먼저 조회한 뒤 청크 단위로 품목까지 fetch join 조회
+        List<Long> deliveryIds = deliveryDomainService.findCompletedDeliveryIdsByPeriod(startDateTime, endDateTime);
+        Iterable<Delivery> deliveries = chunkedEntityReader.read(deliveryIds, deliveryDomainService::findAllWithItemsByIds);
 
-        return generateExcel(deliveries);
+        generateExcel(deliveries, outputStream);
     }
 
     /**
-     * 특정 납품 ID 데이터만 엑셀로 내보내는 메서드
+     * 기간 내 납품 데이터 버전 (내보내기 결과 캐시 키용)
      */
-    public byte[] exportDeliveryByIdToExcel(Long deliveryId) {
+    public String getDataVersion(LocalDate startDate, LocalDate endDate) {
+        return deliveryDomainService
+                .findDataVersionByPeriod(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay())
+                .toVersionStringWithReferences();
+    }
+
+    /**
+     * 특정 납품 ID 데이터만 엑셀로 내보내는 메서드 (outputStream으로 바로 기록)
+     */
+    @Timed(value = "excel.export", extraTags = {"type", "delivery-single"}, percentiles = {0.5, 0.95, 0.99})
+    public void exportDeliveryByIdToExcel(Long deliveryId, OutputStream outputStream) {
         Delivery delivery = deliveryDomainService.findById(deliveryId);
-        return generateExcel(List.of(delivery));
+        generateExcel(List.of(delivery), outputStream);
     }
 
     /**
      * 납품 데이터를 기반으로 실제 엑셀 파일 생성
+     * - SXSSF 스트리밍 워크북으로 ROW_ACCESS_WINDOW_SIZE 행만 메모리에 유지
+     * - 열 너비는 autoSizeColumn 대신 기록한 최대 문자열 길이로 계산
      */
-    private byte[] generateExcel(List<Delivery> deliveries) {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+    private void generateExcel(Iterable<Delivery> deliveries, OutputStream outputStream) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
 
+        try {
             Sheet sheet = workbook.createSheet("납품 목록");
 
             // 스타일 정의
@@ -76,10 +96,13 @@ public class DeliveryExcelService {
                     "소계", "환율", "원화환산금액", "출하요청일", "실출하일", "상태", "메모"
             };
 
+            ExcelColumnWidthTracker widthTracker = new ExcelColumnWidthTracker(headers.length);
+
             for (int i = 0; i < headers.length; i++) {
                 Cell cell = headerRow.createCell(i);
                 cell.setCellValue(headers[i]);
                 cell.setCellStyle(headerStyle);
+                widthTracker.track(i, headers[i]);
             }
 
             // 데이터 입력
@@ -95,33 +118,44 @@ public class DeliveryExcelService {
 
                     // 첫 행만 공통 정보 입력 (수주일~통화)
                     if (i == 0) {
-                        createCell(row, colNum++, formatDate(delivery.getOrderedAt()), mergedStyle);
-                        createCell(row, colNum++, delivery.getDeliveryNumber(), mergedStyle);
-                        createCell(row, colNum++, delivery.getClient().getName(), mergedStyle);
-                        createCell(row, colNum++, delivery.getClient().getCurrency().name() +
+                        createCell(row, colNum++, widthTracker, formatDate(delivery.getOrderedAt()), mergedStyle);
+                        createCell(row, colNum++, widthTracker, delivery.getDeliveryNumber(), mergedStyle);
+                        createCell(row, colNum++, widthTracker, delivery.getClient().getName(), mergedStyle);
+                        createCell(row, colNum++, widthTracker, delivery.getClient().getCurrency().name() +
                                 "(" + delivery.getClient().getCurrency().getSymbol() + ")", mergedStyle);
                     } else {
-                        colNum += 4;
+                        // 병합 영역 테두리를 위해 빈 셀에도 스타일 적용
+                        for (int col = 0; col < 4; col++) {
+                            row.createCell(colNum++).setCellStyle(mergedStyle);
+                        }
                     }
 
                     // 품목별 데이터
-                    createCell(row, colNum++, item.getProduct().getName(), dataStyle);
-                    createCell(row, colNum++, item.getQuantity(), numberStyle);
-                    createCell(row, colNum++, item.getBaseUnitPrice(), numberStyle);
-                    createCell(row, colNum++, item.getActualUnitPrice(), numberStyle);
-                    createCell(row, colNum++, item.getDiscountAmount(), numberStyle);
-                    createCell(row, colNum++, item.getPriceNote(), dataStyle);
-                    createCell(row, colNum++, item.getTotalPrice(), numberStyle);
+                    createCell(row, colNum++, widthTracker, item.getProduct().getName(), dataStyle);
+                    createCell(row, colNum++, widthTracker, item.getQuantity(), numberStyle);
+                    createCell(row, colNum++, widthTracker, item.getBaseUnitPrice(), numberStyle);
+                    createCell(row, colNum++, widthTracker, item.getActualUnitPrice(), numberStyle);
+                    createCell(row, colNum++, widthTracker, item.getDiscountAmount(), numberStyle);
+                    createCell(row, colNum++, widthTracker, item.getPriceNote(), dataStyle);
+                    createCell(row, colNum++, widthTracker, item.getTotalPrice(), numberStyle);
 
                     // 첫 행에만 납품 합계 등 입력
                     if (i == 0) {
-                        createCell(row, colNum++, delivery.getSubtotalAmount() != null ? delivery.getSubtotalAmount() : delivery.getTotalAmount(), numberStyle);
-                        createCell(row, colNum++, delivery.getExchangeRate(), numberStyle);
-                        createCell(row, colNum++, delivery.getTotalAmountKRW(), numberStyle);
-                        createCell(row, colNum++, formatDate(delivery.getRequestedAt()), mergedStyle);
-                        createCell(row, colNum++, formatDateTime(delivery.getDeliveredAt()), mergedStyle);
-                        createCell(row, colNum++, getStatusText(delivery.getStatus().name()), mergedStyle);
-                        createCell(row, colNum++, delivery.getMemo(), mergedStyle);
+                        createCell(row, colNum++, widthTracker, delivery.getSubtotalAmount() != null ? delivery.getSubtotalAmount() : delivery.getTotalAmount(), numberStyle);
+                        createCell(row, colNum++, widthTracker, delivery.getExchangeRate(), numberStyle);
+                        createCell(row, colNum++, widthTracker, delivery.getTotalAmountKRW(), numberStyle);
+                        createCell(row, colNum++, widthTracker, formatDate(delivery.getRequestedAt()), mergedStyle);
+                        createCell(row, colNum++, widthTracker, formatDateTime(delivery.getDeliveredAt()), mergedStyle);
+                        createCell(row, colNum++, widthTracker, getStatusText(delivery.getStatus().name()), mergedStyle);
+                        createCell(row, colNum++, widthTracker, delivery.getMemo(), mergedStyle);
+                    } else {
+                        // 병합 영역 테두리를 위해 빈 셀에도 스타일 적용
+                        for (int col = 0; col < 3; col++) {
+                            row.createCell(colNum++).setCellStyle(numberStyle);
+                        }
+                        for (int col = 0; col < 4; col++) {
+                            row.createCell(colNum++).setCellStyle(mergedStyle);
+                        }
                     }
                 }
 
@@ -131,44 +165,38 @@ public class DeliveryExcelService {
                     int[] mergeCols = {0, 1, 2, 3, 11, 12, 13, 14, 15, 16, 17};
 
                     for (int col : mergeCols) {
-                        CellRangeAddress region = new CellRangeAddress(startRow, endRow, col, col);
-                        sheet.addMergedRegion(region);
-
-                        // 병합된 영역 전체에 테두리 적용
-                        RegionUtil.setBorderTop(BorderStyle.THIN, region, sheet);
-                        RegionUtil.setBorderBottom(BorderStyle.THIN, region, sheet);
-                        RegionUtil.setBorderLeft(BorderStyle.THIN, region, sheet);
-                        RegionUtil.setBorderRight(BorderStyle.THIN, region, sheet);
+                        sheet.addMergedRegion(new CellRangeAddress(startRow, endRow, col, col));
                     }
                 }
             }
 
-            // 열 너비 자동 조정
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-                sheet.setColumnWidth(i, sheet.getColumnWidth(i) + 1024);
-            }
+            // 기록한 문자열 길이로 열 너비 지정
+            widthTracker.applyTo(sheet);
 
-            workbook.write(baos);
-            return baos.toByteArray();
+            workbook.write(outputStream);
 
         } catch (Exception e) {
             throw new RuntimeException("Excel 생성 중 오류가 발생했습니다", e);
+        } finally {
+            workbook.dispose(); // 임시 파일 삭제
         }
     }
 
     /**
-     * 셀 생성 + 값 + 스타일 적용
+     * 셀 생성 + 값 + 스타일 적용 (열 너비 계산용 문자열 길이 기록)
      */
-    private void createCell(Row row, int column, Object value, CellStyle style) {
+    private void createCell(Row row, int column, ExcelColumnWidthTracker widthTracker, Object value, CellStyle style) {
         Cell cell = row.createCell(column);
 
         if (value == null) {
             cell.setCellValue("-");
+            widthTracker.track(column, "-");
         } else if (value instanceof String) {
             cell.setCellValue((String) value);
+            widthTracker.track(column, (String) value);
         } else if (value instanceof Number) {
             cell.setCellValue(((Number) value).doubleValue());
+            widthTracker.track(column, String.format("%,.0f", ((Number) value).doubleValue()));
         }
 
         cell.setCellStyle(style);
@@ -1,6 +1,7 @@
 package com.yhs.inventroysystem.application.delivery;
 
 import com.yhs.inventroysystem.application.auth.UserDetails.CustomUserDetails;
+import com.yhs.inventroysystem.application.task.TaskChangedEvent;
 import com.yhs.inventroysystem.domain.client.entity.Client;
 import com.yhs.inventroysystem.domain.client.service.ClientDomainService;
 import com.yhs.inventroysystem.domain.delivery.entity.Delivery;
@@ -22,11 +23,11 @@ import com.yhs.inventroysystem.domain.task.entity.TaskCategory;
 import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
 import com.yhs.inventroysystem.domain.task.service.TaskCategoryDomainService;
 import com.yhs.inventroysystem.domain.task.service.TaskDomainService;
-import com.yhs.inventroysystem.infrastructure.file.FileStorageFactory;
-import com.yhs.inventroysystem.infrastructure.file.FileStorageService;
 import com.yhs.inventroysystem.infrastructure.file.FileStorageType;
 import com.yhs.inventroysystem.infrastructure.pagenation.PageableUtils;
+import com.yhs.inventroysystem.infrastructure.file.cleanup.FileDeletionQueue;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -54,8 +55,9 @@ public class DeliveryService {
     private final TaskDomainService taskDomainService;
     private final TaskCategoryDomainService taskCategoryDomainService;
     private final ProductStockTransactionDomainService productStockTransactionDomainService;
-    private final FileStorageService fileStorageService;
+    private final FileDeletionQueue fileDeletionQueue;
     private final RestTemplate restTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     public DeliveryService(DeliveryDomainService deliveryDomainService,
                            ClientDomainService clientDomainService,
@@ -65,8 +67,9 @@ public class DeliveryService {
                            TaskDomainService taskDomainService,
                            TaskCategoryDomainService taskCategoryDomainService,
                            ProductStockTransactionDomainService productStockTransactionDomainService,
-                           FileStorageFactory fileStorageFactory,
-                           RestTemplate restTemplate) {
+                           FileDeletionQueue fileDeletionQueue,
+                           RestTemplate restTemplate,
+                           ApplicationEventPublisher eventPublisher) {
         this.deliveryDomainService = deliveryDomainService;
         this.clientDomainService = clientDomainService;
         this.exchangeDomainService = exchangeDomainService;
@@ -75,8 +78,9 @@ public class DeliveryService {
         this.taskDomainService = taskDomainService;
         this.taskCategoryDomainService = taskCategoryDomainService;
         this.productStockTransactionDomainService = productStockTransactionDomainService;
-        this.fileStorageService = fileStorageFactory.getStorageService(FileStorageType.DELIVERY_DOCUMENT);
+        this.fileDeletionQueue = fileDeletionQueue;
         this.restTemplate = restTemplate;
+        this.eventPublisher = eventPublisher;
     }
 
     private static final String API_URL = "https://api.exchangerate-api.com/v4/latest/KRW";
@@ -131,6 +135,7 @@ public class DeliveryService {
         shipmentTask.addCategory(orderDeliveryCategory);
         savedDelivery.setShipmentTask(shipmentTask);
 
+        eventPublisher.publishEvent(TaskChangedEvent.bulk(TaskChangedEvent.ChangeType.CREATED));
         return savedDelivery;
     }
 
@@ -220,6 +225,8 @@ public class DeliveryService {
             );
             shipmentTask.updateStatus(TaskStatus.COMPLETED);
         }
+
+        eventPublisher.publishEvent(TaskChangedEvent.bulk(TaskChangedEvent.ChangeType.UPDATED));
     }
 
     @Transactional
@@ -249,6 +256,8 @@ public class DeliveryService {
             delivery.clearShipmentTask(); // 연관관계 제거
             taskDomainService.deleteTask(shipmentTask.getId());
         }
+
+        eventPublisher.publishEvent(TaskChangedEvent.bulk(TaskChangedEvent.ChangeType.UPDATED));
     }
 
     @Transactional
@@ -259,8 +268,9 @@ public class DeliveryService {
 
         List<DeliveryDocument> documents = delivery.getDocuments();
 
+        // 파일은 커밋 후 삭제 (롤백 시 파일 유지)
         for (DeliveryDocument document : documents) {
-            fileStorageService.delete(document.getFilePath());
+            fileDeletionQueue.enqueue(FileStorageType.DELIVERY_DOCUMENT, document.getFilePath());
         }
 
         // 삭제
@@ -302,6 +312,8 @@ public class DeliveryService {
             delivery.clearShipmentTask(); // 연관관계 제거
             taskDomainService.deleteTask(shipmentTask.getId());
         }
+
+        eventPublisher.publishEvent(TaskChangedEvent.bulk(TaskChangedEvent.ChangeType.UPDATED));
     }
 
     public Delivery findDeliveryById(Long deliveryId) {
@@ -0,0 +1,30 @@
+package com.yhs.inventroysystem.application.exchange;
+
+import com.yhs.inventroysystem.domain.exchange.entity.Currency;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 일괄 등록 1회 동안 사용하는 환율 캐시
+ * - (통화, 날짜) 조합마다 한 번만 조회
+ * - 요청 범위 객체이므로 스레드 안전하지 않음
+ */
+public class ExchangeRateCache {
+
+    private final ExchangeRateService exchangeRateService;
+    private final Map<RateKey, BigDecimal> rates = new HashMap<>();
+
+    public ExchangeRateCache(ExchangeRateService exchangeRateService) {
+        this.exchangeRateService = exchangeRateService;
+    }
+
+    public BigDecimal getRate(Currency currency, LocalDate date) {
+        return rates.computeIfAbsent(new RateKey(currency, date),
+                key -> exchangeRateService.getHistoricalExchangeRate(key.currency(), key.date()).getRate());
+    }
+
+    private record RateKey(Currency currency, LocalDate date) {}
+}
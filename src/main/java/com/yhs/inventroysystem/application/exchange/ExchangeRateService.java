@@ -39,6 +39,22 @@ public class ExchangeRateService {
                 .orElseGet(() -> fetchAndSaveExchangeRate(currency, date));
     }
 
+    /**
+     * 과거 거래일 기준 환율 조회
+     * - 해당 날짜 환율 → 해당 날짜 이전의 가장 최근 환율 순으로 DB에서 조회
+     * - DB에 없으면 오늘 날짜 환율 사용 (외부 API는 최신 환율만 제공)
+     */
+    @Transactional
+    public ExchangeRate getHistoricalExchangeRate(Currency currency, LocalDate date) {
+        if (currency == Currency.KRW) {
+            return new ExchangeRate(Currency.KRW, BigDecimal.ONE, date);
+        }
+
+        return exchangeDomainService.findByCurrencyAndDate(currency, date)
+                .or(() -> exchangeDomainService.findLatestByCurrencyBeforeDate(currency, date))
+                .orElseGet(() -> getExchangeRate(currency, LocalDate.now()));
+    }
+
     /**
      * 외부 API에서 환율 가져와서 저장
      */
@@ -0,0 +1,111 @@
+package com.yhs.inventroysystem.application.export;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 엑셀 내보내기 작업 (메모리 보관)
+ * - jobKey: 유형 + 기간 + 데이터 버전, 같은 키의 요청은 같은 작업/파일을 재사용
+ * - 상태 필드는 작업 스레드에서 변경되고 요청 스레드에서 조회되므로 volatile
+ * - 다운로드 중인 작업은 정리 대상에서 제외 (열린 스트림 수 + 마지막 다운로드 요청 시각)
+ */
+@Getter
+public class ExportJob {
+
+    private final String jobId;
+    private final String jobKey;
+    private final ExportType type;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String dataVersion;
+    private final String fileName;
+    private final LocalDateTime requestedAt;
+
+    private volatile ExportJobStatus status;
+    private volatile String filePath;
+    private volatile Long fileSize;
+    private volatile String errorMessage;
+    private volatile LocalDateTime completedAt;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger openDownloads = new AtomicInteger();
+    @Getter(AccessLevel.NONE)
+    private volatile LocalDateTime lastDownloadAt;
+
+    private ExportJob(String jobKey, ExportType type, LocalDate startDate, LocalDate endDate, String dataVersion) {
+        this.jobId = UUID.randomUUID().toString();
+        this.jobKey = jobKey;
+        this.type = type;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.dataVersion = dataVersion;
+        this.fileName = type.getFileNamePrefix() + "_" + startDate + "_" + endDate + ".xlsx";
+        this.requestedAt = LocalDateTime.now();
+        this.status = ExportJobStatus.PENDING;
+    }
+
+    public static ExportJob create(ExportType type, LocalDate startDate, LocalDate endDate, String dataVersion) {
+        String jobKey = type + ":" + startDate + ":" + endDate + ":" + dataVersion;
+        return new ExportJob(jobKey, type, startDate, endDate, dataVersion);
+    }
+
+    public void markRunning() {
+        this.status = ExportJobStatus.RUNNING;
+    }
+
+    public void markCompleted(String filePath, Long fileSize) {
+        this.filePath = filePath;
+        this.fileSize = fileSize;
+        this.completedAt = LocalDateTime.now();
+        this.status = ExportJobStatus.COMPLETED;
+    }
+
+    public void markFailed(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.completedAt = LocalDateTime.now();
+        this.status = ExportJobStatus.FAILED;
+    }
+
+    /**
+     * 다운로드 요청 시각 기록 (응답 스트림이 열리기 전까지는 유예 시간으로 보호)
+     */
+    public void markDownloadRequested() {
+        this.lastDownloadAt = LocalDateTime.now();
+    }
+
+    public void downloadStarted() {
+        openDownloads.incrementAndGet();
+        this.lastDownloadAt = LocalDateTime.now();
+    }
+
+    public void downloadFinished() {
+        openDownloads.decrementAndGet();
+        this.lastDownloadAt = LocalDateTime.now();
+    }
+
+    /**
+     * 파일을 전송 중이거나 grace 이내에 다운로드 요청이 있었는지
+     */
+    public boolean isDownloading(Duration grace) {
+        LocalDateTime last = lastDownloadAt;
+        return openDownloads.get() > 0
+                || (last != null && last.isAfter(LocalDateTime.now().minus(grace)));
+    }
+
+    public boolean isFinished() {
+        return status == ExportJobStatus.COMPLETED || status == ExportJobStatus.FAILED;
+    }
+
+    /**
+     * 같은 유형/기간 요청인지 (데이터 버전 무관)
+     */
+    public boolean isSameRequest(ExportJob other) {
+        return type == other.type && startDate.equals(other.startDate) && endDate.equals(other.endDate);
+    }
+}
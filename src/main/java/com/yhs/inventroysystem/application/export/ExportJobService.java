@@ -0,0 +1,256 @@
+package com.yhs.inventroysystem.application.export;
+
+import com.yhs.inventroysystem.application.delivery.DeliveryExcelService;
+import com.yhs.inventroysystem.application.quotation.QuotationExcelService;
+import com.yhs.inventroysystem.application.shipment.ShipmentExcelService;
+import com.yhs.inventroysystem.domain.exception.ExportJobException;
+import com.yhs.inventroysystem.domain.exception.ResourceNotFoundException;
+import com.yhs.inventroysystem.infrastructure.file.FileStorageFactory;
+import com.yhs.inventroysystem.infrastructure.file.FileStorageService;
+import com.yhs.inventroysystem.infrastructure.file.FileStorageType;
+import com.yhs.inventroysystem.infrastructure.file.FileUploadResult;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엑셀 내보내기 작업 관리
+ * - 요청 시 (유형, 기간, 데이터 버전)으로 작업을 찾고, 없으면 전용 작업 풀에 등록
+ * - 데이터가 바뀌지 않은 동일 요청은 진행 중/완료된 작업을 그대로 반환 (중복 생성 방지)
+ * - 생성된 파일은 FileStorageService(EXPORT_FILE)에 저장하고 작업 ID로 다운로드
+ * - 작업 목록은 메모리에만 있으므로 시작 시 이전 실행이 남긴 내보내기 파일을 정리
+ */
+@Slf4j
+@Service
+public class ExportJobService {
+
+    public static final String EXCEL_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private static final int MAX_FINISHED_JOBS = 50;
+
+    // 다운로드 요청 후 응답 스트림이 열리기까지 정리를 미루는 시간
+    private static final Duration DOWNLOAD_GRACE = Duration.ofMinutes(1);
+
+    private final DeliveryExcelService deliveryExcelService;
+    private final ShipmentExcelService shipmentExcelService;
+    private final QuotationExcelService quotationExcelService;
+    private final FileStorageService fileStorageService;
+    private final TaskExecutor exportJobExecutor;
+
+    private final Map<String, ExportJob> jobsByKey = new ConcurrentHashMap<>();
+    private final Map<String, ExportJob> jobsById = new ConcurrentHashMap<>();
+
+    public ExportJobService(DeliveryExcelService deliveryExcelService,
+                            ShipmentExcelService shipmentExcelService,
+                            QuotationExcelService quotationExcelService,
+                            FileStorageFactory fileStorageFactory,
+                            @Qualifier("exportJobExecutor") TaskExecutor exportJobExecutor) {
+        this.deliveryExcelService = deliveryExcelService;
+        this.shipmentExcelService = shipmentExcelService;
+        this.quotationExcelService = quotationExcelService;
+        this.fileStorageService = fileStorageFactory.getStorageService(FileStorageType.EXPORT_FILE);
+        this.exportJobExecutor = exportJobExecutor;
+    }
+
+    /**
+     * 재시작 전 작업의 파일은 더 이상 작업 ID로 찾을 수 없으므로 삭제
+     */
+    @PostConstruct
+    void sweepOrphanedFiles() {
+        try {
+            int deleted = fileStorageService.deleteAll(FileStorageType.EXPORT_FILE.getDirectory());
+            if (deleted > 0) {
+                log.info("이전 실행의 내보내기 파일 {}개 삭제", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("이전 실행의 내보내기 파일 정리 실패", e);
+        }
+    }
+
+    /**
+     * 내보내기 요청
+     * - 같은 키의 작업이 대기/진행/완료 상태면 그대로 반환, 실패했거나 없으면 새로 등록
+     */
+    public ExportJob requestExport(ExportType type, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null) {
+            startDate = LocalDate.now().minusYears(1);
+        }
+        if (endDate == null) {
+            endDate = LocalDate.now();
+        }
+
+        String dataVersion = getDataVersion(type, startDate, endDate);
+        ExportJob newJob = ExportJob.create(type, startDate, endDate, dataVersion);
+
+        synchronized (this) {
+            ExportJob existing = jobsByKey.get(newJob.getJobKey());
+            if (existing != null && existing.getStatus() != ExportJobStatus.FAILED) {
+                return existing;
+            }
+
+            try {
+                exportJobExecutor.execute(() -> runJob(newJob));
+            } catch (TaskRejectedException e) {
+                throw ExportJobException.queueFull();
+            }
+
+            jobsByKey.put(newJob.getJobKey(), newJob);
+            jobsById.put(newJob.getJobId(), newJob);
+        }
+
+        return newJob;
+    }
+
+    public ExportJob getJob(String jobId) {
+        ExportJob job = jobsById.get(jobId);
+        if (job == null) {
+            throw ResourceNotFoundException.exportJob(jobId);
+        }
+        return job;
+    }
+
+    /**
+     * 완료된 작업의 파일
+     * - 정리(evictFinishedJobs)와 같은 락 안에서 다운로드 요청을 기록해, 조회 직후 파일이 삭제되지 않도록 함
+     */
+    public Resource loadResult(String jobId) {
+        ExportJob job;
+        synchronized (this) {
+            job = getJob(jobId);
+            if (job.getStatus() != ExportJobStatus.COMPLETED) {
+                throw ExportJobException.notReady(jobId);
+            }
+            job.markDownloadRequested();
+        }
+        return new ExportResultResource(fileStorageService.loadAsResource(job.getFilePath()), job);
+    }
+
+    /**
+     * 완료된 작업 파일의 저장소 직접 다운로드 URL (오브젝트 스토리지일 때만 존재)
+     */
+    public Optional<URI> getResultDownloadUrl(String jobId) {
+        ExportJob job = getJob(jobId);
+        if (job.getStatus() != ExportJobStatus.COMPLETED) {
+            throw ExportJobException.notReady(jobId);
+        }
+        return fileStorageService.createDownloadUrl(job.getFilePath(), job.getFileName(), EXCEL_CONTENT_TYPE);
+    }
+
+    private void runJob(ExportJob job) {
+        job.markRunning();
+
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("export-", ".xlsx");
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                writeExcel(job, outputStream);
+            }
+
+            FileUploadResult result;
+            try (InputStream inputStream = Files.newInputStream(tempFile)) {
+                result = fileStorageService.store(inputStream, job.getFileName(), FileStorageType.EXPORT_FILE.getDirectory());
+            }
+
+            job.markCompleted(result.getFilePath(), result.getFileSize());
+            log.info("엑셀 내보내기 완료 - type: {}, 기간: {} ~ {}, size: {}",
+                    job.getType(), job.getStartDate(), job.getEndDate(), result.getFileSize());
+
+            evictFinishedJobs(job);
+
+        } catch (Exception e) {
+            log.error("엑셀 내보내기 실패 - jobId: {}, type: {}", job.getJobId(), job.getType(), e);
+            job.markFailed("엑셀 파일 생성 중 오류가 발생했습니다");
+        } finally {
+            deleteTempFile(tempFile);
+        }
+    }
+
+    private void writeExcel(ExportJob job, OutputStream outputStream) {
+        switch (job.getType()) {
+            case DELIVERY -> deliveryExcelService.exportAllDeliveriesToExcel(job.getStartDate(), job.getEndDate(), outputStream);
+            case SHIPMENT -> shipmentExcelService.exportAllShipmentsToExcel(job.getStartDate(), job.getEndDate(), outputStream);
+            case QUOTATION -> quotationExcelService.exportAllQuotationsToExcel(job.getStartDate(), job.getEndDate(), outputStream);
+        }
+    }
+
+    private String getDataVersion(ExportType type, LocalDate startDate, LocalDate endDate) {
+        return switch (type) {
+            case DELIVERY -> deliveryExcelService.getDataVersion(startDate, endDate);
+            case SHIPMENT -> shipmentExcelService.getDataVersion(startDate, endDate);
+            case QUOTATION -> quotationExcelService.getDataVersion(startDate, endDate);
+        };
+    }
+
+    /**
+     * 보관 작업 정리
+     * - 같은 유형/기간의 이전 버전 작업은 더 이상 쓰이지 않으므로 제거
+     * - 완료/실패 작업이 MAX_FINISHED_JOBS를 넘으면 오래된 것부터 제거
+     * - 다운로드 중인 작업은 건너뛰고 다음 정리 때 다시 확인
+     */
+    private synchronized void evictFinishedJobs(ExportJob latest) {
+        List<ExportJob> finishedJobs = new ArrayList<>();
+
+        for (ExportJob job : jobsById.values()) {
+            if (job == latest || !job.isFinished()) {
+                continue;
+            }
+            if (job.isSameRequest(latest) && !job.isDownloading(DOWNLOAD_GRACE)) {
+                removeJob(job);
+            } else {
+                finishedJobs.add(job);
+            }
+        }
+
+        int overflow = finishedJobs.size() + 1 - MAX_FINISHED_JOBS;
+        if (overflow > 0) {
+            finishedJobs.stream()
+                    .filter(job -> !job.isDownloading(DOWNLOAD_GRACE))
+                    .sorted(Comparator.comparing(ExportJob::getCompletedAt))
+                    .limit(overflow)
+                    .forEach(this::removeJob);
+        }
+    }
+
+    private void removeJob(ExportJob job) {
+        jobsById.remove(job.getJobId());
+        jobsByKey.remove(job.getJobKey(), job);
+
+        if (job.getFilePath() != null) {
+            try {
+                fileStorageService.delete(job.getFilePath());
+            } catch (Exception e) {
+                log.warn("내보내기 파일 삭제 실패: {}", job.getFilePath(), e);
+            }
+        }
+    }
+
+    private void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", tempFile, e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.yhs.inventroysystem.application.export;
+
+public enum ExportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,75 @@
+package com.yhs.inventroysystem.application.export;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 내보내기 결과 파일 Resource
+ * - 스트림을 여는 동안 작업의 다운로드 수를 올려, 전송 중인 파일이 정리되지 않도록 함
+ * - Range 요청은 구간마다 스트림을 열고 닫으므로 구간 단위로 증감
+ */
+class ExportResultResource extends AbstractResource {
+
+    private final Resource delegate;
+    private final ExportJob job;
+
+    ExportResultResource(Resource delegate, ExportJob job) {
+        this.delegate = delegate;
+        this.job = job;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Export result [" + job.getJobId() + "] " + delegate.getDescription();
+    }
+
+    @Override
+    public String getFilename() {
+        return delegate.getFilename();
+    }
+
+    @Override
+    public boolean exists() {
+        return delegate.exists();
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        return delegate.contentLength();
+    }
+
+    @Override
+    public long lastModified() throws IOException {
+        return delegate.lastModified();
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        job.downloadStarted();
+        try {
+            return new FilterInputStream(delegate.getInputStream()) {
+                private boolean closed;
+
+                @Override
+                public void close() throws IOException {
+                    if (closed) {
+                        return;
+                    }
+                    closed = true;
+                    try {
+                        super.close();
+                    } finally {
+                        job.downloadFinished();
+                    }
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            job.downloadFinished();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.yhs.inventroysystem.application.export;
+
+public enum ExportType {
+    DELIVERY("deliveries"),
+    SHIPMENT("shipments"),
+    QUOTATION("quotations")
+
+    ;
+
+    private final String fileNamePrefix;
+
+    ExportType(String fileNamePrefix) {
+        this.fileNamePrefix = fileNamePrefix;
+    }
+
+    public String getFileNamePrefix() {
+        return fileNamePrefix;
+    }
+}
@@ -15,7 +15,10 @@ import com.yhs.inventroysystem.infrastructure.file.FileStorageFactory;
 import com.yhs.inventroysystem.infrastructure.file.FileStorageService;
 import com.yhs.inventroysystem.infrastructure.file.FileStorageType;
 import com.yhs.inventroysystem.infrastructure.file.FileUploadResult;
+import com.yhs.inventroysystem.infrastructure.file.ImageDerivativeService;
 import com.yhs.inventroysystem.infrastructure.pagenation.PageableUtils;
+import com.yhs.inventroysystem.infrastructure.file.cleanup.FileDeletionQueue;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -23,8 +26,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
 import static com.yhs.inventroysystem.application.part.PartCommands.PartRegisterCommand;
 import static com.yhs.inventroysystem.application.part.PartCommands.PartUpdateCommand;
@@ -34,20 +38,29 @@ import static com.yhs.inventroysystem.domain.part.entity.TransactionType.ADJUSTM
 @Transactional(readOnly = true)
 public class PartService {
 
+    // 이미지 응답은 기존 직접 전송과 같이 image/jpeg로 내려줌
+    private static final String IMAGE_CONTENT_TYPE = "image/jpeg";
+
     private final PartDomainService partDomainService;
     private final ProductPartDomainService productPartDomainService;
     private final PartStockTransactionDomainService partStockTransactionDomainService;
     private final FileStorageService fileStorageService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final FileDeletionQueue fileDeletionQueue;
 
     public PartService(
             PartDomainService partDomainService,
             ProductPartDomainService productPartDomainService,
             PartStockTransactionDomainService partStockTransactionDomainService,
-            FileStorageFactory fileStorageFactory) {
+            FileStorageFactory fileStorageFactory,
+            ImageDerivativeService imageDerivativeService,
+            FileDeletionQueue fileDeletionQueue) {
         this.partDomainService = partDomainService;
         this.productPartDomainService = productPartDomainService;
         this.partStockTransactionDomainService = partStockTransactionDomainService;
         this.fileStorageService = fileStorageFactory.getStorageService(FileStorageType.PART_IMAGE);
+        this.imageDerivativeService = imageDerivativeService;
+        this.fileDeletionQueue = fileDeletionQueue;
     }
 
 
@@ -70,6 +83,7 @@ public class PartService {
                     imageFile,
                     FileStorageType.PART_IMAGE.getDirectory());
             part.updateImage(result.getFilePath(), result.getOriginalFileName());
+            imageDerivativeService.generateThumbnailAsync(result.getFilePath());
         }
 
         Part savedPart = partDomainService.savePart(part);
@@ -111,13 +125,11 @@ public class PartService {
                 command.unit()
         );
 
-        // 새 이미지가 있으면 기존 이미지 삭제 후 저장
+        // 새 이미지가 있으면 저장 후 기존 이미지 삭제
+        // (같은 이미지를 다시 올린 경우 blob 참조가 0이 되어 지워졌다 다시 쓰이지 않도록 저장을 먼저 수행)
         MultipartFile imageFile = command.imageFile();
         if (imageFile != null && !imageFile.isEmpty()) {
-            // 기존 이미지 삭제
-            if (part.getImagePath() != null) {
-                fileStorageService.delete(part.getImagePath());
-            }
+            String previousImagePath = part.getImagePath();
 
             // 새 이미지 저장
             FileUploadResult result = fileStorageService.store(
@@ -125,6 +137,12 @@ public class PartService {
                     FileStorageType.PART_IMAGE.getDirectory()
             );
             part.updateImage(result.getFilePath(), result.getOriginalFileName());
+            imageDerivativeService.generateThumbnailAsync(result.getFilePath());
+
+            // 기존 이미지는 커밋 후 삭제 (같은 내용이면 blob/썸네일이 그대로 공유되므로 참조만 해제)
+            if (previousImagePath != null) {
+                fileDeletionQueue.enqueue(FileStorageType.PART_IMAGE, previousImagePath);
+            }
         }
 
         Integer afterStock = part.getStockQuantity();
@@ -170,7 +188,7 @@ public class PartService {
         Part part = findPartById(partId);
 
         if (part.getImagePath() != null) {
-            fileStorageService.delete(part.getImagePath());
+            fileDeletionQueue.enqueue(FileStorageType.PART_IMAGE, part.getImagePath());
             part.removeImage();
         }
     }
@@ -208,9 +226,9 @@ public class PartService {
             throw PartInUseException.usedInProducts(part.getPartCode(), (int) usingProductCount);
         }
 
-        // 이미지 파일 삭제
+        // 이미지 파일은 커밋 후 삭제
         if (part.getImagePath() != null) {
-            fileStorageService.delete(part.getImagePath());
+            fileDeletionQueue.enqueue(FileStorageType.PART_IMAGE, part.getImagePath());
         }
 
         part.markAsDeleted();
@@ -228,13 +246,35 @@ public class PartService {
         return partDomainService.findById(partId);
     }
 
-    public InputStream getPartImageStream(Long partId) {
-        Part part = findPartById(partId);
+    public Resource getPartImage(Part part) {
+        if (part.getImagePath() == null) {
+            throw new IllegalArgumentException("이미지가 존재하지 않습니다.");
+        }
+
+        return fileStorageService.loadAsResource(part.getImagePath());
+    }
+
+    /**
+     * 이미지의 저장소 직접 다운로드 URL (오브젝트 스토리지일 때만 존재, 로컬 저장소는 empty → 직접 전송)
+     * - 오브젝트 스토리지 원본은 썸네일을 만들지 않으므로 썸네일 요청도 이 URL 사용
+     */
+    public Optional<URI> getPartImageDownloadUrl(Part part) {
+        if (part.getImagePath() == null) {
+            throw new IllegalArgumentException("이미지가 존재하지 않습니다.");
+        }
+
+        return fileStorageService.createDownloadUrl(part.getImagePath(), part.getOriginalImageName(), IMAGE_CONTENT_TYPE);
+    }
 
+    /**
+     * 목록용 썸네일 (생성할 수 없는 형식이면 원본)
+     */
+    public Resource getPartThumbnail(Part part) {
         if (part.getImagePath() == null) {
             throw new IllegalArgumentException("이미지가 존재하지 않습니다.");
         }
 
-        return fileStorageService.loadAsStream(part.getImagePath());
+        return imageDerivativeService.loadThumbnail(part.getImagePath())
+                .orElseGet(() -> fileStorageService.loadAsResource(part.getImagePath()));
     }
 }
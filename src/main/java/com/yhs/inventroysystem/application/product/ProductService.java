@@ -1,6 +1,7 @@
 package com.yhs.inventroysystem.application.product;
 
 import com.yhs.inventroysystem.application.auth.UserDetails.CustomUserDetails;
+import com.yhs.inventroysystem.application.task.TaskChangedEvent;
 import com.yhs.inventroysystem.domain.exception.InsufficientStockException;
 import com.yhs.inventroysystem.domain.part.entity.Part;
 import com.yhs.inventroysystem.domain.part.entity.TransactionType;
@@ -18,6 +19,7 @@ import com.yhs.inventroysystem.domain.task.service.TaskCategoryDomainService;
 import com.yhs.inventroysystem.domain.task.service.TaskDomainService;
 import com.yhs.inventroysystem.infrastructure.pagenation.PageableUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -42,6 +44,7 @@ public class ProductService {
 
     private final ProductStockTransactionDomainService productStockTransactionDomainService;
     private final PartStockTransactionDomainService partStockTransactionDomainService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional
@@ -238,28 +241,7 @@ public class ProductService {
      */
     public Integer calculateMaxProducibleQuantity(Long productId) {
         Product product = productDomainService.findProductWithParts(productId);
-
-        // 부품이 없으면 제한 없음 (매우 큰 수 반환)
-        if (product.getPartMappings().isEmpty()) {
-            return Integer.MAX_VALUE;
-        }
-
-        Integer maxQuantity = Integer.MAX_VALUE;
-
-        // 각 부품별로 생산 가능한 최대 수량 계산
-        for (ProductPart mapping : product.getPartMappings()) {
-            Part part = mapping.getPart();
-            Integer availableStock = part.getStockQuantity();
-            Integer requiredPerProduct = mapping.getRequiredQuantity();
-
-            // 해당 부품으로 생산 가능한 최대 수량
-            Integer producibleByThisPart = availableStock / requiredPerProduct;
-
-            // 가장 적게 생산 가능한 수량이 최대 생산 가능 수량
-            maxQuantity = Math.min(maxQuantity, producibleByThisPart);
-        }
-
-        return maxQuantity;
+        return product.calculateMaxProducibleQuantity();
     }
 
     /**
@@ -316,7 +298,9 @@ public class ProductService {
         );
 
         task.addCategory(productionCategory);
-        taskDomainService.saveTask(task);
+        Task savedTask = taskDomainService.saveTask(task);
+
+        eventPublisher.publishEvent(TaskChangedEvent.created(savedTask.getId()));
     }
     private String generateTaskTitle(Product product, Integer quantity) {
         return String.format("[생산] %s - %s",
@@ -9,13 +9,16 @@ import com.yhs.inventroysystem.infrastructure.file.FileStorageFactory;
 import com.yhs.inventroysystem.infrastructure.file.FileStorageService;
 import com.yhs.inventroysystem.infrastructure.file.FileStorageType;
 import com.yhs.inventroysystem.infrastructure.file.FileUploadResult;
+import com.yhs.inventroysystem.infrastructure.file.cleanup.FileDeletionQueue;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
 import static com.yhs.inventroysystem.application.quotation.QuotationDocumentCommands.*;
 
@@ -28,13 +31,16 @@ public class QuotationDocumentService {
     private final QuotationDocumentDomainService quotationDocumentDomainService;
 
     private final FileStorageService fileStorageService;
+    private final FileDeletionQueue fileDeletionQueue;
 
     public QuotationDocumentService(QuotationDomainService quotationDomainService,
                                     QuotationDocumentDomainService quotationDocumentDomainService,
-                                    FileStorageFactory fileStorageFactory) {
+                                    FileStorageFactory fileStorageFactory,
+                                    FileDeletionQueue fileDeletionQueue) {
         this.quotationDomainService = quotationDomainService;
         this.quotationDocumentDomainService = quotationDocumentDomainService;
         this.fileStorageService = fileStorageFactory.getStorageService(FileStorageType.QUOTATION_DOCUMENT);
+        this.fileDeletionQueue = fileDeletionQueue;
     }
 
     @Transactional
@@ -86,7 +92,7 @@ public class QuotationDocumentService {
         Quotation quotation = quotationDomainService.findById(command.quotationId());
         QuotationDocument document = quotationDocumentDomainService.findById(command.documentId());
 
-        fileStorageService.delete(document.getFilePath());
+        fileDeletionQueue.enqueue(FileStorageType.QUOTATION_DOCUMENT, document.getFilePath());
 
         quotation.removeDocument(document);
         quotationDocumentDomainService.deleteById(document.getId());
@@ -103,9 +109,20 @@ public class QuotationDocumentService {
 //        return fileStorageService.load(document.getFilePath());
 //    }
 
-    public InputStream getDocumentFileStream(Long documentId) {
+    public Resource getDocumentResource(Long documentId) {
         QuotationDocument document = quotationDocumentDomainService.findById(documentId);
-        return fileStorageService.loadAsStream(document.getFilePath());
+        return fileStorageService.loadAsResource(document.getFilePath());
+    }
+
+    /**
+     * 저장소가 직접 내려주는 임시 다운로드 URL (오브젝트 스토리지일 때만 존재)
+     */
+    public Optional<URI> getDocumentDownloadUrl(QuotationDocument document) {
+        return fileStorageService.createDownloadUrl(
+                document.getFilePath(),
+                document.getOriginalFileName(),
+                document.getContentType()
+        );
     }
 
     private void validateDocumentFile(MultipartFile file) {
@@ -3,28 +3,38 @@ package com.yhs.inventroysystem.application.quotation;
 import com.yhs.inventroysystem.domain.quotation.entity.Quotation;
 import com.yhs.inventroysystem.domain.quotation.entity.QuotationItem;
 import com.yhs.inventroysystem.domain.quotation.service.QuotationDomainService;
+import com.yhs.inventroysystem.infrastructure.excel.ExcelColumnWidthTracker;
+import com.yhs.inventroysystem.infrastructure.persistence.ChunkedEntityReader;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.ss.util.RegionUtil;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class QuotationExcelService {
 
     private final QuotationDomainService quotationDomainService;
+    private final ChunkedEntityReader chunkedEntityReader;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100; // 메모리에 유지할 최대 행 수
 
-    public byte[] exportAllQuotationsToExcel(LocalDate startDate, LocalDate endDate) {
+    /**
+     * 기간 내 견적서 데이터를 엑셀로 내보내는 메서드 (outputStream으로 바로 기록)
+     */
+    @Timed(value = "excel.export", extraTags = {"type", "quotation"}, percentiles = {0.5, 0.95, 0.99})
+    public void exportAllQuotationsToExcel(LocalDate startDate, LocalDate endDate, OutputStream outputStream) {
         if (startDate == null) {
             startDate = LocalDate.now().minusYears(1);
         }
@@ -32,18 +42,30 @@ public class QuotationExcelService {
             endDate = LocalDate.now();
         }
 
-        List<Quotation> quotations = quotationDomainService.findQuotationsByPeriod(startDate, endDate);
+        // ID만 먼저 조회한 뒤 청크 단위로 품목까지 fetch join 조회
+        List<Long> quotationIds = quotationDomainService.findQuotationIdsByPeriod(startDate, endDate);
+        Iterable<Quotation> quotations = chunkedEntityReader.read(quotationIds, quotationDomainService::findAllWithItemsByIds);
 
-        return generateExcel(quotations);
+        generateExcel(quotations, outputStream);
+    }
+
+    /**
+     * 기간 내 견적서 데이터 버전 (내보내기 결과 캐시 키용)
+     */
+    public String getDataVersion(LocalDate startDate, LocalDate endDate) {
+        return quotationDomainService.findDataVersionByPeriod(startDate, endDate).toVersionString();
     }
 
     /**
      * 견적서 데이터를 기반으로 실제 엑셀 파일 생성
+     * - SXSSF 스트리밍 워크북으로 ROW_ACCESS_WINDOW_SIZE 행만 메모리에 유지
+     * - 열 너비는 autoSizeColumn 대신 기록한 최대 문자열 길이로 계산
      */
-    private byte[] generateExcel(List<Quotation> quotations) {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+    private void generateExcel(Iterable<Quotation> quotations, OutputStream outputStream) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
 
+        try {
             Sheet sheet = workbook.createSheet("견적서 목록");
 
             // 스타일 정의
@@ -60,10 +82,13 @@ public class QuotationExcelService {
                     "소계", "부가세액", "총액", "부가세 포함 여부", "비고"
             };
 
+            ExcelColumnWidthTracker widthTracker = new ExcelColumnWidthTracker(headers.length);
+
             for (int i = 0; i < headers.length; i++) {
                 Cell cell = headerRow.createCell(i);
                 cell.setCellValue(headers[i]);
                 cell.setCellStyle(headerStyle);
+                widthTracker.track(i, headers[i]);
             }
 
             // 데이터 입력
@@ -79,29 +104,40 @@ public class QuotationExcelService {
 
                     // 첫 행만 공통 정보 입력 (발행일~통화)
                     if (i == 0) {
-                        createCell(row, colNum++, formatDate(quotation.getOrderedAt()), mergedStyle);
-                        createCell(row, colNum++, quotation.getQuotationNumber(), mergedStyle);
-                        createCell(row, colNum++, getQuotationTypeText(quotation.getQuotationType().name()), mergedStyle);
-                        createCell(row, colNum++, quotation.getCompanyName(), mergedStyle);
-                        createCell(row, colNum++, quotation.getRepresentativeName() != null ? quotation.getRepresentativeName() : "-", mergedStyle);
-                        createCell(row, colNum++, quotation.getCurrency().name() + "(" + quotation.getCurrency().getSymbol() + ")", mergedStyle);
+                        createCell(row, colNum++, widthTracker, formatDate(quotation.getOrderedAt()), mergedStyle);
+                        createCell(row, colNum++, widthTracker, quotation.getQuotationNumber(), mergedStyle);
+                        createCell(row, colNum++, widthTracker, getQuotationTypeText(quotation.getQuotationType().name()), mergedStyle);
+                        createCell(row, colNum++, widthTracker, quotation.getCompanyName(), mergedStyle);
+                        createCell(row, colNum++, widthTracker, quotation.getRepresentativeName() != null ? quotation.getRepresentativeName() : "-", mergedStyle);
+                        createCell(row, colNum++, widthTracker, quotation.getCurrency().name() + "(" + quotation.getCurrency().getSymbol() + ")", mergedStyle);
                     } else {
-                        colNum += 6;
+                        // 병합 영역 테두리를 위해 빈 셀에도 스타일 적용
+                        for (int col = 0; col < 6; col++) {
+                            row.createCell(colNum++).setCellStyle(mergedStyle);
+                        }
                     }
 
                     // 품목별 데이터
-                    createCell(row, colNum++, item.getProductName(), dataStyle);
-                    createCell(row, colNum++, item.getQuantity(), numberStyle);
-                    createCell(row, colNum++, item.getUnitPrice(), numberStyle);
-                    createCell(row, colNum++, item.getTotalPrice(), numberStyle);
+                    createCell(row, colNum++, widthTracker, item.getProductName(), dataStyle);
+                    createCell(row, colNum++, widthTracker, item.getQuantity(), numberStyle);
+                    createCell(row, colNum++, widthTracker, item.getUnitPrice(), numberStyle);
+                    createCell(row, colNum++, widthTracker, item.getTotalPrice(), numberStyle);
 
                     // 첫 행에만 견적서 합계 등 입력
                     if (i == 0) {
-                        createCell(row, colNum++, quotation.getTotalAmount(), numberStyle);
-                        createCell(row, colNum++, quotation.getTaxAmount(), numberStyle);
-                        createCell(row, colNum++, quotation.getTotalAfterTaxAmount(), numberStyle);
-                        createCell(row, colNum++, quotation.isTax() ? "포함" : "미포함", mergedStyle);
-                        createCell(row, colNum++, quotation.getNote() != null ? quotation.getNote() : "-", mergedStyle);
+                        createCell(row, colNum++, widthTracker, quotation.getTotalAmount(), numberStyle);
+                        createCell(row, colNum++, widthTracker, quotation.getTaxAmount(), numberStyle);
+                        createCell(row, colNum++, widthTracker, quotation.getTotalAfterTaxAmount(), numberStyle);
+                        createCell(row, colNum++, widthTracker, quotation.isTax() ? "포함" : "미포함", mergedStyle);
+                        createCell(row, colNum++, widthTracker, quotation.getNote() != null ? quotation.getNote() : "-", mergedStyle);
+                    } else {
+                        // 병합 영역 테두리를 위해 빈 셀에도 스타일 적용
+                        for (int col = 0; col < 3; col++) {
+                            row.createCell(colNum++).setCellStyle(numberStyle);
+                        }
+                        for (int col = 0; col < 2; col++) {
+                            row.createCell(colNum++).setCellStyle(mergedStyle);
+                        }
                     }
                 }
 
@@ -111,44 +147,38 @@ public class QuotationExcelService {
                     int[] mergeCols = {0, 1, 2, 3, 4, 5, 10, 11, 12, 13, 14};
 
                     for (int col : mergeCols) {
-                        CellRangeAddress region = new CellRangeAddress(startRow, endRow, col, col);
-                        sheet.addMergedRegion(region);
-
-                        // 병합된 영역 전체에 테두리 적용
-                        RegionUtil.setBorderTop(BorderStyle.THIN, region, sheet);
-                        RegionUtil.setBorderBottom(BorderStyle.THIN, region, sheet);
-                        RegionUtil.setBorderLeft(BorderStyle.THIN, region, sheet);
-                        RegionUtil.setBorderRight(BorderStyle.THIN, region, sheet);
+                        sheet.addMergedRegion(new CellRangeAddress(startRow, endRow, col, col));
                     }
                 }
             }
 
-            // 열 너비 자동 조정
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-                sheet.setColumnWidth(i, sheet.getColumnWidth(i) + 1024);
-            }
+            // 기록한 문자열 길이로 열 너비 지정
+            widthTracker.applyTo(sheet);
 
-            workbook.write(baos);
-            return baos.toByteArray();
+            workbook.write(outputStream);
 
         } catch (Exception e) {
             throw new RuntimeException("Excel 생성 중 오류가 발생했습니다", e);
+        } finally {
+            workbook.dispose(); // 임시 파일 삭제
         }
     }
 
     /**
-     * 셀 생성 + 값 + 스타일 적용
+     * 셀 생성 + 값 + 스타일 적용 (열 너비 계산용 문자열 길이 기록)
      */
-    private void createCell(Row row, int column, Object value, CellStyle style) {
+    private void createCell(Row row, int column, ExcelColumnWidthTracker widthTracker, Object value, CellStyle style) {
         Cell cell = row.createCell(column);
 
         if (value == null) {
             cell.setCellValue("-");
+            widthTracker.track(column, "-");
         } else if (value instanceof String) {
             cell.setCellValue((String) value);
+            widthTracker.track(column, (String) value);
         } else if (value instanceof Number) {
             cell.setCellValue(((Number) value).doubleValue());
+            widthTracker.track(column, String.format("%,.0f", ((Number) value).doubleValue()));
         }
 
         cell.setCellStyle(style);
@@ -5,10 +5,9 @@ import com.yhs.inventroysystem.domain.quotation.entity.QuotationDocument;
 import com.yhs.inventroysystem.domain.quotation.entity.QuotationItem;
 import com.yhs.inventroysystem.domain.quotation.entity.QuotationType;
 import com.yhs.inventroysystem.domain.quotation.service.QuotationDomainService;
-import com.yhs.inventroysystem.infrastructure.file.FileStorageFactory;
-import com.yhs.inventroysystem.infrastructure.file.FileStorageService;
 import com.yhs.inventroysystem.infrastructure.file.FileStorageType;
 import com.yhs.inventroysystem.infrastructure.pagenation.PageableUtils;
+import com.yhs.inventroysystem.infrastructure.file.cleanup.FileDeletionQueue;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -28,12 +27,12 @@ public class QuotationService {
 
     private final QuotationDomainService quotationDomainService;
 
-    private final FileStorageService fileStorageService;
+    private final FileDeletionQueue fileDeletionQueue;
 
     public QuotationService(QuotationDomainService quotationDomainService,
-                            FileStorageFactory fileStorageFactory) {
+                            FileDeletionQueue fileDeletionQueue) {
         this.quotationDomainService = quotationDomainService;
-        this.fileStorageService = fileStorageFactory.getStorageService(FileStorageType.QUOTATION_DOCUMENT);
+        this.fileDeletionQueue = fileDeletionQueue;
     }
     private static final String QUOTATION_RECEIPT_PREFIX = "SOLM-RECEIPT-";
     private static final String QUOTATION_ISSUANCE_PREFIX = "SOLM-ISSUANCE-";
@@ -123,8 +122,9 @@ public class QuotationService {
         Quotation quotation = quotationDomainService.findByIdWithItems(quotationId);
         List<QuotationDocument> documents = quotation.getDocuments();
 
+        // 파일은 커밋 후 삭제 (롤백 시 파일 유지)
         for (QuotationDocument document : documents) {
-            fileStorageService.delete(document.getFilePath());
+            fileDeletionQueue.enqueue(FileStorageType.QUOTATION_DOCUMENT, document.getFilePath());
         }
 
         quotation.markAsDeleted();
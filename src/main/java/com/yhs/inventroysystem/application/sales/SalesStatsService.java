@@ -6,6 +6,7 @@ import com.yhs.inventroysystem.domain.delivery.service.DeliveryDomainService;
 import com.yhs.inventroysystem.domain.product.entity.Product;
 import com.yhs.inventroysystem.domain.product.service.ProductDomainService;
 import com.yhs.inventroysystem.presentation.sales.SalesStatsDtos.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +22,7 @@ import java.util.stream.Collectors;
 
 
 @Service
+@Timed(value = "sales.stats", percentiles = {0.5, 0.95, 0.99})
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SalesStatsService {
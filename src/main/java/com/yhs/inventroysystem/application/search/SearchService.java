@@ -0,0 +1,38 @@
+package com.yhs.inventroysystem.application.search;
+
+import com.yhs.inventroysystem.infrastructure.search.SearchDocumentType;
+import com.yhs.inventroysystem.infrastructure.search.SearchIndex;
+import com.yhs.inventroysystem.presentation.search.SearchDto.SearchHitResponse;
+import com.yhs.inventroysystem.presentation.search.SearchDto.SearchResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 통합 검색 (작업/납품/제품/부품/거래처)
+ * - DB를 조회하지 않고 검색 색인만 사용, 결과 항목 클릭 시 각 화면에서 상세 조회
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private final SearchIndex searchIndex;
+
+    public SearchResponse search(String keyword, Collection<SearchDocumentType> types, int size) {
+        long startNanos = System.nanoTime();
+
+        Set<SearchDocumentType> typeFilter = types == null || types.isEmpty()
+                ? EnumSet.allOf(SearchDocumentType.class)
+                : EnumSet.copyOf(types);
+
+        List<SearchHitResponse> hits = searchIndex.search(keyword, typeFilter, size).stream()
+                .map(SearchHitResponse::from)
+                .toList();
+
+        return new SearchResponse(keyword, hits, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+}
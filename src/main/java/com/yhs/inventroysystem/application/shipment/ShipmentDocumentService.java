@@ -8,13 +8,16 @@ import com.yhs.inventroysystem.infrastructure.file.FileStorageFactory;
 import com.yhs.inventroysystem.infrastructure.file.FileStorageService;
 import com.yhs.inventroysystem.infrastructure.file.FileStorageType;
 import com.yhs.inventroysystem.infrastructure.file.FileUploadResult;
+import com.yhs.inventroysystem.infrastructure.file.cleanup.FileDeletionQueue;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
 import static com.yhs.inventroysystem.application.shipment.ShipmentDocumentCommands.*;
 
@@ -27,13 +30,16 @@ public class ShipmentDocumentService {
     private final ShipmentDocumentDomainService shipmentDocumentDomainService;
 
     private final FileStorageService fileStorageService;
+    private final FileDeletionQueue fileDeletionQueue;
 
     public ShipmentDocumentService(ShipmentDomainService shipmentDomainService,
                                    ShipmentDocumentDomainService shipmentDocumentDomainService,
-                                   FileStorageFactory fileStorageFactory) {
+                                   FileStorageFactory fileStorageFactory,
+                                   FileDeletionQueue fileDeletionQueue) {
         this.shipmentDomainService = shipmentDomainService;
         this.shipmentDocumentDomainService = shipmentDocumentDomainService;
         this.fileStorageService = fileStorageFactory.getStorageService(FileStorageType.SHIPMENT_DOCUMENT);
+        this.fileDeletionQueue = fileDeletionQueue;
     }
 
 
@@ -84,9 +90,20 @@ public class ShipmentDocumentService {
 //        return fileStorageService.load(document.getFilePath());
 //    }
 
-    public InputStream getDocumentFileStream(Long documentId) {
+    public Resource getDocumentResource(Long documentId) {
         ShipmentDocument document = shipmentDocumentDomainService.findById(documentId);
-        return fileStorageService.loadAsStream(document.getFilePath());
+        return fileStorageService.loadAsResource(document.getFilePath());
+    }
+
+    /**
+     * 저장소가 직접 내려주는 임시 다운로드 URL (오브젝트 스토리지일 때만 존재)
+     */
+    public Optional<URI> getDocumentDownloadUrl(ShipmentDocument document) {
+        return fileStorageService.createDownloadUrl(
+                document.getFilePath(),
+                document.getOriginalFileName(),
+                document.getContentType()
+        );
     }
 
     @Transactional
@@ -104,7 +121,7 @@ public class ShipmentDocumentService {
         Shipment shipment = shipmentDomainService.getShipment(command.shipmentId());
         ShipmentDocument document = shipmentDocumentDomainService.findById(command.documentId());
 
-        fileStorageService.delete(document.getFilePath());
+        fileDeletionQueue.enqueue(FileStorageType.SHIPMENT_DOCUMENT, document.getFilePath());
 
         shipment.getDocuments().remove(document);
         shipmentDocumentDomainService.deleteDocument(document);
@@ -2,12 +2,16 @@ package com.yhs.inventroysystem.application.shipment;
 
 import com.yhs.inventroysystem.domain.shipment.entity.Shipment;
 import com.yhs.inventroysystem.domain.shipment.service.ShipmentDomainService;
+import com.yhs.inventroysystem.infrastructure.excel.ExcelColumnWidthTracker;
+import com.yhs.inventroysystem.infrastructure.persistence.ChunkedEntityReader;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -15,13 +19,20 @@ import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ShipmentExcelService {
 
     private final ShipmentDomainService shipmentDomainService;
+    private final ChunkedEntityReader chunkedEntityReader;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100; // 메모리에 유지할 최대 행 수
 
-    public byte[] exportAllShipmentsToExcel(LocalDate startDate, LocalDate endDate) {
+    /**
+     * 기간 내 선적 데이터를 엑셀로 내보내는 메서드 (outputStream으로 바로 기록)
+     */
+    @Timed(value = "excel.export", extraTags = {"type", "shipment"}, percentiles = {0.5, 0.95, 0.99})
+    public void exportAllShipmentsToExcel(LocalDate startDate, LocalDate endDate, OutputStream outputStream) {
         if (startDate == null) {
             startDate = LocalDate.now().minusYears(1);
         }
@@ -29,18 +40,30 @@ public class ShipmentExcelService {
             endDate = LocalDate.now();
         }
 
-        List<Shipment> shipments = shipmentDomainService.findByDateRange(startDate, endDate);
+        // ID만 먼저 조회한 뒤 청크 단위로 품목까지 fetch join 조회
+        List<Long> shipmentIds = shipmentDomainService.findIdsByDateRange(startDate, endDate);
+        Iterable<Shipment> shipments = chunkedEntityReader.read(shipmentIds, shipmentDomainService::findAllWithItemsByIds);
 
-        return generateExcel(shipments);
+        generateExcel(shipments, outputStream);
+    }
+
+    /**
+     * 기간 내 선적 데이터 버전 (내보내기 결과 캐시 키용)
+     */
+    public String getDataVersion(LocalDate startDate, LocalDate endDate) {
+        return shipmentDomainService.findDataVersionByDateRange(startDate, endDate).toVersionString();
     }
 
     /**
      * 선적 데이터를 기반으로 실제 엑셀 파일 생성
+     * - SXSSF 스트리밍 워크북으로 ROW_ACCESS_WINDOW_SIZE 행만 메모리에 유지
+     * - 열 너비는 autoSizeColumn 대신 기록한 최대 문자열 길이로 계산
      */
-    private byte[] generateExcel(List<Shipment> shipments) {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+    private void generateExcel(Iterable<Shipment> shipments, OutputStream outputStream) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
 
+        try {
             Sheet sheet = workbook.createSheet("선적 목록");
 
             // 스타일 정의
@@ -55,10 +78,13 @@ public class ShipmentExcelService {
                     "작성일", "Invoice No.", "거래유형", "거래처", "제품명", "수량(총계)", "금액(화폐)", "목적지", "발송일", "운송장번호", "면장번호"
             };
 
+            ExcelColumnWidthTracker widthTracker = new ExcelColumnWidthTracker(headers.length);
+
             for (int i = 0; i < headers.length; i++) {
                 Cell cell = headerRow.createCell(i);
                 cell.setCellValue(headers[i]);
                 cell.setCellStyle(headerStyle);
+                widthTracker.track(i, headers[i]);
             }
 
             // 데이터 입력
@@ -69,56 +95,57 @@ public class ShipmentExcelService {
                 String currency = shipment.getCurrency();
 
                 // 작성일
-                createCell(row, 0, formatDate(shipment.getInvoiceDate()), dateStyle);
+                createCell(row, 0, widthTracker, formatDate(shipment.getInvoiceDate()), dateStyle);
                 // Invoice No.
-                createCell(row, 1, shipment.getInvoiceNumber(), dataStyle);
+                createCell(row, 1, widthTracker, shipment.getInvoiceNumber(), dataStyle);
                 // 거래유형
-                createCell(row, 2, getShipmentTypeText(shipment.getShipmentType().name()), dataStyle);
+                createCell(row, 2, widthTracker, getShipmentTypeText(shipment.getShipmentType().name()), dataStyle);
                 // 거래처 (Sold To Company Name)
-                createCell(row, 3, shipment.getSoldToCompanyName(), dataStyle);
+                createCell(row, 3, widthTracker, shipment.getSoldToCompanyName(), dataStyle);
                 // 제품명 (items의 productCode 리스트)
-                createCell(row, 4, getProductNames(shipment), dataStyle);
+                createCell(row, 4, widthTracker, getProductNames(shipment), dataStyle);
                 // 수량
-                createCell(row, 5, shipment.getTotalQuantity(), numberStyle);
+                createCell(row, 5, widthTracker, shipment.getTotalQuantity(), numberStyle);
                 // 금액 (totalAmount)
-                createCell(row, 6, totalAmount + " (" + currency + ")", numberStyle);
+                createCell(row, 6, widthTracker, totalAmount + " (" + currency + ")", numberStyle);
                 // 목적지 (Final Destination)
-                createCell(row, 7, shipment.getFinalDestination(), dataStyle);
+                createCell(row, 7, widthTracker, shipment.getFinalDestination(), dataStyle);
                 // 발송일 (Freight Date)
-                createCell(row, 8, formatDate(shipment.getFreightDate()), dateStyle);
+                createCell(row, 8, widthTracker, formatDate(shipment.getFreightDate()), dateStyle);
                 // 운송장 번호
-                createCell(row, 9, shipment.getTrackingNumber(), dataStyle);
+                createCell(row, 9, widthTracker, shipment.getTrackingNumber(), dataStyle);
                 // 면장 번호
-                createCell(row, 10, shipment.getExportLicenseNumber(), dataStyle);
+                createCell(row, 10, widthTracker, shipment.getExportLicenseNumber(), dataStyle);
 
             }
 
-            // 열 너비 자동 조정
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-                sheet.setColumnWidth(i, sheet.getColumnWidth(i) + 1024);
-            }
+            // 기록한 문자열 길이로 열 너비 지정
+            widthTracker.applyTo(sheet);
 
-            workbook.write(baos);
-            return baos.toByteArray();
+            workbook.write(outputStream);
 
         } catch (Exception e) {
             throw new RuntimeException("Excel 생성 중 오류가 발생했습니다", e);
+        } finally {
+            workbook.dispose(); // 임시 파일 삭제
         }
     }
 
     /**
-     * 셀 생성 + 값 + 스타일 적용
+     * 셀 생성 + 값 + 스타일 적용 (열 너비 계산용 문자열 길이 기록)
      */
-    private void createCell(Row row, int column, Object value, CellStyle style) {
+    private void createCell(Row row, int column, ExcelColumnWidthTracker widthTracker, Object value, CellStyle style) {
         Cell cell = row.createCell(column);
 
         if (value == null) {
             cell.setCellValue("-");
+            widthTracker.track(column, "-");
         } else if (value instanceof String) {
             cell.setCellValue((String) value);
+            widthTracker.track(column, (String) value);
         } else if (value instanceof Number) {
             cell.setCellValue(((Number) value).doubleValue());
+            widthTracker.track(column, String.format("%,.0f", ((Number) value).doubleValue()));
         }
 
         cell.setCellStyle(style);
@@ -0,0 +1,147 @@
+package com.yhs.inventroysystem.application.task;
+
+import com.yhs.inventroysystem.domain.task.entity.TaskCategory;
+import com.yhs.inventroysystem.domain.task.repository.TaskCategoryMappingBulkRepository;
+import com.yhs.inventroysystem.domain.task.repository.TaskCategoryMappingBulkRepository.Assignment;
+import com.yhs.inventroysystem.domain.task.repository.TaskCategoryMappingBulkRepository.UncategorizedTask;
+import com.yhs.inventroysystem.domain.task.service.TaskCategoryDomainService;
+import com.yhs.inventroysystem.domain.task.service.TaskDomainService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * 미분류 작업 자동 카테고리 매핑
+ * - 카테고리가 없는 작업만 task_id 순으로 CHUNK_SIZE건씩 읽어 제목으로 분류 후 배치 저장
+ * - 묶음 1개 = 트랜잭션 1개, 중간에 실패해도 이미 커밋된 묶음은 유지되고 재실행 시 남은 작업만 처리
+ */
+@Slf4j
+@Component
+public class TaskAutoCategorizer {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String ORDER_DELIVERY_CATEGORY = "수주/납품";
+    private static final String PRODUCTION_CATEGORY = "제품 생산";
+    private static final String ETC_CATEGORY = "기타";
+
+    // 앞선 규칙이 우선, 어느 규칙에도 해당하지 않으면 기타
+    private static final Pattern ORDER_DELIVERY_PATTERN = Pattern.compile("출하|주문|납품");
+    private static final Pattern PRODUCTION_PATTERN = Pattern.compile("생산");
+
+    private final TaskCategoryDomainService taskCategoryDomainService;
+    private final TaskDomainService taskDomainService;
+    private final TaskCategoryMappingBulkRepository taskCategoryMappingBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public TaskAutoCategorizer(TaskCategoryDomainService taskCategoryDomainService,
+                               TaskDomainService taskDomainService,
+                               TaskCategoryMappingBulkRepository taskCategoryMappingBulkRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.taskCategoryDomainService = taskCategoryDomainService;
+        this.taskDomainService = taskDomainService;
+        this.taskCategoryMappingBulkRepository = taskCategoryMappingBulkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public TaskCategorizationResult categorizeUncategorizedTasks() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("자동 카테고리 매핑이 이미 진행 중입니다.");
+        }
+
+        try {
+            return run();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private TaskCategorizationResult run() {
+        long startNanos = System.nanoTime();
+
+        List<CategoryRule> rules = List.of(
+                new CategoryRule(ORDER_DELIVERY_PATTERN, findActiveCategory(ORDER_DELIVERY_CATEGORY)),
+                new CategoryRule(PRODUCTION_PATTERN, findActiveCategory(PRODUCTION_CATEGORY))
+        );
+        TaskCategory etcCategory = findActiveCategory(ETC_CATEGORY);
+
+        Map<Long, String> categoryNames = new LinkedHashMap<>();
+        rules.forEach(rule -> categoryNames.put(rule.category().getId(), rule.category().getName()));
+        categoryNames.put(etcCategory.getId(), etcCategory.getName());
+
+        Map<String, Integer> mappedByCategory = new LinkedHashMap<>();
+        categoryNames.values().forEach(name -> mappedByCategory.put(name, 0));
+
+        long afterId = 0;
+        int scanned = 0;
+        int mapped = 0;
+        List<UncategorizedTask> chunk;
+
+        do {
+            chunk = taskCategoryMappingBulkRepository.findUncategorizedAfterId(afterId, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            List<Assignment> assignments = new ArrayList<>(chunk.size());
+            for (UncategorizedTask task : chunk) {
+                TaskCategory category = classify(task.title(), rules, etcCategory);
+                assignments.add(new Assignment(task.taskId(), category.getId()));
+            }
+
+            Map<Long, Integer> inserted = transactionTemplate.execute(status -> {
+                Map<Long, Integer> counts = taskCategoryMappingBulkRepository.batchInsertIgnoringDuplicates(assignments);
+                taskDomainService.refreshCategorySummaries(assignments.stream().map(Assignment::taskId).toList());
+                return counts;
+            });
+
+            if (inserted != null) {
+                inserted.forEach((categoryId, count) ->
+                        mappedByCategory.merge(categoryNames.get(categoryId), count, Integer::sum));
+                mapped += inserted.values().stream().mapToInt(Integer::intValue).sum();
+            }
+            scanned += chunk.size();
+            afterId = chunk.get(chunk.size() - 1).taskId();
+
+            log.info("자동 카테고리 매핑 진행 - 검사: {}개, 매핑: {}개 (마지막 taskId: {})", scanned, mapped, afterId);
+        } while (chunk.size() == CHUNK_SIZE);
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("자동 카테고리 매핑 완료 - 검사: {}개, 매핑: {}개, 카테고리별: {}, {}ms",
+                scanned, mapped, mappedByCategory, elapsedMillis);
+
+        return new TaskCategorizationResult(scanned, mapped, mappedByCategory, elapsedMillis);
+    }
+
+    private TaskCategory classify(String title, List<CategoryRule> rules, TaskCategory etcCategory) {
+        if (title == null) {
+            return etcCategory;
+        }
+        for (CategoryRule rule : rules) {
+            if (rule.pattern().matcher(title).find()) {
+                return rule.category();
+            }
+        }
+        return etcCategory;
+    }
+
+    private TaskCategory findActiveCategory(String name) {
+        TaskCategory category = taskCategoryDomainService.findByName(name);
+        if (!category.isActive()) {
+            throw new IllegalStateException("비활성화된 카테고리에는 작업을 연결할 수 없습니다. (" + name + ")");
+        }
+        return category;
+    }
+
+    private record CategoryRule(Pattern pattern, TaskCategory category) {}
+}
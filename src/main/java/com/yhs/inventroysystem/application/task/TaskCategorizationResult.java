@@ -0,0 +1,17 @@
+package com.yhs.inventroysystem.application.task;
+
+import java.util.Map;
+
+/**
+ * 자동 카테고리 매핑 결과
+ *
+ * @param scanned 검사한 미분류 작업 수
+ * @param mapped 새로 저장된 매핑 수
+ * @param mappedByCategory 카테고리명별 새로 저장된 매핑 수
+ */
+public record TaskCategorizationResult(
+        int scanned,
+        int mapped,
+        Map<String, Integer> mappedByCategory,
+        long elapsedMillis
+) {}
@@ -2,18 +2,26 @@ package com.yhs.inventroysystem.application.task;
 
 import com.yhs.inventroysystem.domain.task.entity.Task;
 import com.yhs.inventroysystem.domain.task.entity.TaskCategory;
+import com.yhs.inventroysystem.domain.task.repository.TaskSpecifications;
 import com.yhs.inventroysystem.domain.task.service.TaskCategoryDomainService;
 import com.yhs.inventroysystem.domain.task.service.TaskDomainService;
 import com.yhs.inventroysystem.domain.task.service.TaskMappingDomainService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,6 +33,8 @@ public class TaskCategoryMappingService {
     private final TaskDomainService taskDomainService;
     private final TaskCategoryDomainService taskCategoryDomainService;
     private final TaskMappingDomainService taskMappingDomainService;
+    private final TaskAutoCategorizer taskAutoCategorizer;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 작업에 카테고리 추가
@@ -36,6 +46,8 @@ public class TaskCategoryMappingService {
 
         task.addCategory(taskCategory);
         log.info("작업에 카테고리가 추가되었습니다. taskId: {}, categoryId: {}", taskId, categoryId);
+
+        eventPublisher.publishEvent(TaskChangedEvent.updated(taskId));
     }
 
     /**
@@ -48,6 +60,8 @@ public class TaskCategoryMappingService {
 
         task.removeCategory(taskCategory);
         log.info("작업에서 카테고리가 제거되었습니다. taskId: {}, categoryId: {}", taskId, categoryId);
+
+        eventPublisher.publishEvent(TaskChangedEvent.updated(taskId));
     }
 
     /**
@@ -93,96 +107,51 @@ public class TaskCategoryMappingService {
                 taskId,
                 newCategoryIds.size()
         );
+
+        eventPublisher.publishEvent(TaskChangedEvent.updated(taskId));
     }
 
     /**
-     * 카테고리별 작업 목록 조회 (Fetch Join 사용)
+     * 카테고리별 작업 목록 조회 (우선순위, 생성일 역순)
+     * - 매핑/카테고리를 Fetch Join하지 않음, 응답의 카테고리는 getCategoryIds() + getCategoryLookup()으로 조립
      */
     public List<Task> getTasksByCategory(Long categoryId) {
         findTaskCategoryById(categoryId);
-
-        // 1단계: 해당 카테고리에 속한 Task ID 목록 조회
-        List<Long> taskIds = taskMappingDomainService.findTaskIdsByCategoryId(categoryId);
-
-        if (taskIds.isEmpty()) {
-            return List.of();
-        }
-
-        // 2단계: Task ID로 Fetch Join하여 Task + 카테고리 정보 조회
-        // TaskRepository에 이미 있는 메서드 활용
-        return taskDomainService.findTasksByIdsWithCategories(taskIds);
+        return taskDomainService.findTasksByCategoryId(categoryId, Pageable.unpaged(TaskSpecifications.SEARCH_SORT))
+                .getContent();
     }
 
     /**
-     * 모든 작업에 카테고리 매핑 (초기 데이터 설정용)
+     * 카테고리별 작업 목록 페이지 조회
      */
-    @Transactional
-    public void mappingAllTasks() {
-        log.info("모든 Task에 대한 자동 카테고리 매핑 시작");
-
-        // 필요한 카테고리들 미리 조회
-        TaskCategory orderDeliveryCategory = taskCategoryDomainService.findByName("수주/납품");
-
-        TaskCategory productionCategory = taskCategoryDomainService.findByName("제품 생산");
-
-        TaskCategory etcCategory = taskCategoryDomainService.findByName("기타");
-
-        // 모든 Task 조회
-        List<Task> allTasks = taskDomainService.findAllTasks();
-        log.info("이 {} 개의 Task를 조회했습니다.", allTasks.size());
-
-        int mappedCount = 0;
-        int skippedCount = 0;
-
-        for (Task task : allTasks) {
-            // 이미 카테고리가 매핑되어 있으면 건너뛰기
-            if (task.getCategoryCount() > 0) {
-                skippedCount++;
-                continue;
-            }
-
-            TaskCategory targetCategory = determineCategory(
-                    task.getTitle(),
-                    orderDeliveryCategory,
-                    productionCategory,
-                    etcCategory
-            );
-
-            task.addCategory(targetCategory);
-            mappedCount++;
-
-            log.debug("Task[{}] '{}' -> 카테고리 '{}'로 매핑",
-                    task.getId(), task.getTitle(), targetCategory.getName());
-        }
+    public Page<Task> getTasksByCategory(Long categoryId, int page, int size) {
+        findTaskCategoryById(categoryId);
+        return taskDomainService.findTasksByCategoryId(categoryId,
+                PageRequest.of(page, size, TaskSpecifications.SEARCH_SORT));
+    }
 
-        log.info("자동 카테고리 매핑 완료 - 매핑: {}개, 건너뜀: {}개", mappedCount, skippedCount);
+    /**
+     * 카테고리 id → 카테고리 (목록 응답 조립용, 카테고리 수가 적어 전체 조회)
+     */
+    public Map<Long, TaskCategory> getCategoryLookup() {
+        return taskCategoryDomainService.findAllByOrderByDisplayOrderAsc().stream()
+                .collect(Collectors.toMap(TaskCategory::getId, Function.identity()));
     }
 
     /**
-     * 작업 제목을 기반으로 적절한 카테고리 결정
+     * 카테고리가 없는 모든 작업에 제목 기반 카테고리 매핑 (초기 데이터 설정용)
+     * - 묶음 단위로 커밋하므로 호출 트랜잭션에 참여하지 않음, 재실행 시 남은 작업만 처리
      */
-    private TaskCategory determineCategory(
-            String title,
-            TaskCategory orderDeliveryCategory,
-            TaskCategory productionCategory,
-            TaskCategory etcCategory) {
-
-        if (title == null) {
-            return etcCategory;
-        }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TaskCategorizationResult mappingAllTasks() {
+        log.info("모든 Task에 대한 자동 카테고리 매핑 시작");
 
-        // "출하", "주문", "납품" 중 하나라도 포함되어 있으면 수주/납품
-        if (title.contains("출하") || title.contains("주문") || title.contains("납품")) {
-            return orderDeliveryCategory;
-        }
+        TaskCategorizationResult result = taskAutoCategorizer.categorizeUncategorizedTasks();
 
-        // "생산"이 포함되어 있으면 생산
-        if (title.contains("생산")) {
-            return productionCategory;
+        if (result.mapped() > 0) {
+            eventPublisher.publishEvent(TaskChangedEvent.bulk(TaskChangedEvent.ChangeType.UPDATED));
         }
-
-        // 둘 다 해당 없으면 기타
-        return etcCategory;
+        return result;
     }
 
     private Task findTaskById(Long taskId) {
@@ -3,12 +3,14 @@ package com.yhs.inventroysystem.application.task;
 
 import com.yhs.inventroysystem.domain.task.entity.TaskCategory;
 import com.yhs.inventroysystem.domain.task.service.TaskCategoryDomainService;
+import com.yhs.inventroysystem.domain.task.service.TaskDomainService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 import static com.yhs.inventroysystem.application.task.TaskCategoryCommands.*;
 
@@ -19,6 +21,7 @@ import static com.yhs.inventroysystem.application.task.TaskCategoryCommands.*;
 public class TaskCategoryService {
 
     private final TaskCategoryDomainService taskCategoryDomainService;
+    private final TaskDomainService taskDomainService;
 
 
     @Transactional
@@ -59,6 +62,9 @@ public class TaskCategoryService {
             taskCategoryDomainService.validateDuplicateName(command.name());
         }
 
+        String previousColorCode = taskCategory.getColorCode();
+        Integer previousDisplayOrder = taskCategory.getDisplayOrder();
+
         taskCategory.updateInfo(
                 command.name(),
                 command.description(),
@@ -69,6 +75,12 @@ public class TaskCategoryService {
             taskCategory.updateDisplayOrder(command.displayOrder());
         }
 
+        // 색상/순서는 작업의 category_summary에도 들어 있으므로 함께 갱신
+        if (!Objects.equals(previousColorCode, taskCategory.getColorCode())
+                || !Objects.equals(previousDisplayOrder, taskCategory.getDisplayOrder())) {
+            taskDomainService.refreshCategorySummariesByCategoryId(taskCategoryId);
+        }
+
         return taskCategory;
     }
 
@@ -76,6 +88,7 @@ public class TaskCategoryService {
     public TaskCategory updateDisplayOrder(Long taskCategoryId, Integer displayOrder) {
         TaskCategory taskCategory = taskCategoryDomainService.findTaskCategoryById(taskCategoryId);
         taskCategory.updateDisplayOrder(displayOrder);
+        taskDomainService.refreshCategorySummariesByCategoryId(taskCategoryId);
 
         return taskCategory;
     }
@@ -86,6 +99,9 @@ public class TaskCategoryService {
             TaskCategory taskCategory = taskCategoryDomainService.findTaskCategoryById(command.taskCategoryId());
             taskCategory.updateDisplayOrder(command.displayOrder());
         }
+        for (TaskCategoryDisplayOrderUpdateCommand command : commands) {
+            taskDomainService.refreshCategorySummariesByCategoryId(command.taskCategoryId());
+        }
     }
 
     @Transactional
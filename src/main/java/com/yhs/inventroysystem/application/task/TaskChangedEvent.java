@@ -0,0 +1,29 @@
+package com.yhs.inventroysystem.application.task;
+
+/**
+ * 작업(Task) 또는 작업-카테고리 매핑 변경 이벤트
+ * - 통계 등 작업 기반 캐시 무효화용
+ * - 일괄 등록처럼 대상이 여러 건이면 taskId는 null
+ */
+public record TaskChangedEvent(ChangeType changeType, Long taskId) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static TaskChangedEvent created(Long taskId) {
+        return new TaskChangedEvent(ChangeType.CREATED, taskId);
+    }
+
+    public static TaskChangedEvent updated(Long taskId) {
+        return new TaskChangedEvent(ChangeType.UPDATED, taskId);
+    }
+
+    public static TaskChangedEvent deleted(Long taskId) {
+        return new TaskChangedEvent(ChangeType.DELETED, taskId);
+    }
+
+    public static TaskChangedEvent bulk(ChangeType changeType) {
+        return new TaskChangedEvent(changeType, null);
+    }
+}
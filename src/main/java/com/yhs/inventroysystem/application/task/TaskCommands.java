@@ -5,6 +5,7 @@ import com.yhs.inventroysystem.domain.task.entity.Priority;
 import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
 
 import java.time.LocalDate;
+import java.util.List;
 
 public class TaskCommands {
     public record TaskCreateCommand(
@@ -26,4 +27,15 @@ public class TaskCommands {
             Priority priority
     ) {
     }
+
+    public record TaskRecurrenceCreateCommand(
+            String title,
+            String description,
+            Priority priority,
+            String rrule,
+            LocalDate startDate,
+            int durationDays,
+            List<Long> categoryIds
+    ) {
+    }
 }
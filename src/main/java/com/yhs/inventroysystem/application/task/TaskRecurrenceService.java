@@ -0,0 +1,270 @@
+package com.yhs.inventroysystem.application.task;
+
+import com.yhs.inventroysystem.application.auth.UserDetails.CustomUserDetails;
+import com.yhs.inventroysystem.application.task.TaskCommands.TaskRecurrenceCreateCommand;
+import com.yhs.inventroysystem.application.task.TaskCommands.TaskUpdateCommand;
+import com.yhs.inventroysystem.domain.task.entity.RecurrenceRule;
+import com.yhs.inventroysystem.domain.task.entity.Task;
+import com.yhs.inventroysystem.domain.task.entity.TaskCategory;
+import com.yhs.inventroysystem.domain.task.entity.TaskRecurrence;
+import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
+import com.yhs.inventroysystem.domain.task.repository.TaskOccurrenceKey;
+import com.yhs.inventroysystem.domain.task.service.TaskCategoryDomainService;
+import com.yhs.inventroysystem.domain.task.service.TaskDomainService;
+import com.yhs.inventroysystem.domain.task.service.TaskRecurrenceDomainService;
+import com.yhs.inventroysystem.presentation.task.TaskDto.TaskCalendarResponse;
+import com.yhs.inventroysystem.presentation.task.TaskDto.TaskCalendarResponse.CategoryColor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 반복 일정
+ * - 회차는 미리 생성하지 않고 조회 범위만큼 규칙으로 펼쳐서 가상 회차로 응답
+ * - 회차를 수정/완료하는 시점에만 tasks에 저장 (recurrenceId + occurrenceDate 유니크)
+ * - 건너뛰기/저장된 회차 삭제는 템플릿의 제외 날짜로 기록
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class TaskRecurrenceService {
+
+    private static final String OCCURRENCE_UNIQUE_KEY = "uk_task_occurrence";
+
+    private final TaskRecurrenceDomainService taskRecurrenceDomainService;
+    private final TaskDomainService taskDomainService;
+    private final TaskCategoryDomainService taskCategoryDomainService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional
+    public TaskRecurrence createRecurrence(TaskRecurrenceCreateCommand command, CustomUserDetails currentUser) {
+        RecurrenceRule rule = RecurrenceRule.parse(command.rrule());
+
+        List<TaskCategory> categories = command.categoryIds() == null ? List.of()
+                : command.categoryIds().stream()
+                        .distinct()
+                        .map(taskCategoryDomainService::findTaskCategoryById)
+                        .toList();
+
+        TaskRecurrence recurrence = taskRecurrenceDomainService.saveRecurrence(new TaskRecurrence(
+                command.title(),
+                command.description(),
+                currentUser.getName(),
+                command.priority(),
+                rule,
+                command.startDate(),
+                command.durationDays(),
+                categories
+        ));
+
+        log.info("반복 일정이 생성되었습니다. ID: {}, 제목: {}, 규칙: {}",
+                recurrence.getId(), recurrence.getTitle(), recurrence.getRrule());
+        return recurrence;
+    }
+
+    public List<TaskRecurrence> getRecurrences() {
+        return taskRecurrenceDomainService.findAllRecurrences();
+    }
+
+    public TaskRecurrence getRecurrence(Long recurrenceId) {
+        return taskRecurrenceDomainService.findRecurrenceById(recurrenceId);
+    }
+
+    /**
+     * 반복 일정 삭제 - 이미 저장된 회차는 일반 작업으로 남기고 이후 가상 회차만 사라짐
+     */
+    @Transactional
+    public void deleteRecurrence(Long recurrenceId) {
+        TaskRecurrence recurrence = taskRecurrenceDomainService.findRecurrenceById(recurrenceId);
+
+        int detached = taskDomainService.detachRecurrence(recurrenceId);
+        taskRecurrenceDomainService.deleteRecurrence(recurrence);
+
+        log.info("반복 일정이 삭제되었습니다. ID: {}, 제목: {}, 유지된 회차: {}",
+                recurrenceId, recurrence.getTitle(), detached);
+    }
+
+    /**
+     * 달력 범위의 가상 회차 (이미 저장된 회차는 tasks 조회 결과로 나가므로 제외)
+     * - 템플릿은 기간 인덱스로 범위와 겹치는 것만, 저장된 회차는 (recurrenceId, occurrenceDate) 키만 조회
+     */
+    public List<TaskCalendarResponse> expandOccurrences(LocalDate from, LocalDate to) {
+        List<TaskRecurrence> recurrences = taskRecurrenceDomainService.findOverlapping(from, to);
+        if (recurrences.isEmpty()) {
+            return List.of();
+        }
+
+        Set<TaskOccurrenceKey> materialized = new HashSet<>(taskDomainService.findOccurrenceKeys(
+                recurrences.stream().map(TaskRecurrence::getId).toList(),
+                from.minusDays(TaskRecurrence.MAX_DURATION_DAYS),
+                to));
+
+        // 색상은 현재 카테고리 기준 (템플릿 생성 이후 색상 변경/비활성화 반영)
+        Map<Long, TaskCategory> activeCategories = getActiveCategoryLookup();
+
+        List<TaskCalendarResponse> occurrences = new ArrayList<>();
+        for (TaskRecurrence recurrence : recurrences) {
+            List<CategoryColor> categories = recurrence.getCategoryIds().stream()
+                    .map(activeCategories::get)
+                    .filter(Objects::nonNull)
+                    .map(category -> new CategoryColor(category.getId(), category.getColorCode()))
+                    .toList();
+
+            for (LocalDate date : recurrence.occurrencesOverlapping(from, to)) {
+                if (materialized.contains(new TaskOccurrenceKey(recurrence.getId(), date))) {
+                    continue;
+                }
+                occurrences.add(new TaskCalendarResponse(
+                        null,
+                        recurrence.getTitle(),
+                        date,
+                        recurrence.occurrenceEndDate(date),
+                        TaskStatus.TODO,
+                        recurrence.getPriority(),
+                        categories,
+                        recurrence.getId(),
+                        date,
+                        recurrence.getLastModifiedAt()
+                ));
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * 회차 수정 - 아직 저장되지 않은 회차면 작업으로 저장하고 수정 내용을 같은 트랜잭션에서 반영
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Task updateOccurrence(Long recurrenceId, LocalDate occurrenceDate, TaskUpdateCommand command) {
+        return executeRetryingOccurrenceConflict(() -> {
+            taskDomainService.validateDateRange(command.startDate(), command.endDate());
+
+            Task task = findOrCreateOccurrenceTask(recurrenceId, occurrenceDate);
+            task.updateTaskInfo(command.title(), command.description(), command.priority());
+            task.updatePeriod(command.startDate(), command.endDate());
+            task.updateStatus(command.status());
+
+            log.info("반복 일정 회차가 수정되었습니다. 반복 ID: {}, 회차: {}, 작업 ID: {}",
+                    recurrenceId, occurrenceDate, task.getId());
+
+            eventPublisher.publishEvent(TaskChangedEvent.updated(task.getId()));
+            return task;
+        });
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Task completeOccurrence(Long recurrenceId, LocalDate occurrenceDate) {
+        return executeRetryingOccurrenceConflict(() -> {
+            Task task = findOrCreateOccurrenceTask(recurrenceId, occurrenceDate);
+            task.updateStatus(TaskStatus.COMPLETED);
+
+            log.info("반복 일정 회차가 완료되었습니다. 반복 ID: {}, 회차: {}, 작업 ID: {}",
+                    recurrenceId, occurrenceDate, task.getId());
+
+            eventPublisher.publishEvent(TaskChangedEvent.updated(task.getId()));
+            return task;
+        });
+    }
+
+    /**
+     * 회차 건너뛰기 - 저장된 회차는 작업 삭제로 처리
+     */
+    @Transactional
+    public void skipOccurrence(Long recurrenceId, LocalDate occurrenceDate) {
+        TaskRecurrence recurrence = taskRecurrenceDomainService.findRecurrenceById(recurrenceId);
+        validateOccurrence(recurrence, occurrenceDate);
+
+        if (taskDomainService.findOccurrenceTask(recurrenceId, occurrenceDate).isPresent()) {
+            throw new IllegalStateException(
+                    String.format("이미 작업으로 저장된 회차입니다. 작업을 삭제하세요. 회차: %s", occurrenceDate));
+        }
+
+        recurrence.exclude(occurrenceDate);
+        log.info("반복 일정 회차를 건너뛰었습니다. 반복 ID: {}, 회차: {}", recurrenceId, occurrenceDate);
+    }
+
+    /**
+     * 같은 회차를 동시에 저장하면 늦은 쪽이 uk_task_occurrence 위반으로 롤백되므로,
+     * 새 트랜잭션에서 한 번 더 실행해 먼저 저장된 작업에 반영
+     */
+    private Task executeRetryingOccurrenceConflict(Supplier<Task> action) {
+        try {
+            return transactionTemplate.execute(status -> action.get());
+        } catch (DataIntegrityViolationException e) {
+            String message = e.getMostSpecificCause().getMessage();
+            if (message == null || !message.contains(OCCURRENCE_UNIQUE_KEY)) {
+                throw e;
+            }
+            log.info("반복 일정 회차가 동시에 저장되어 기존 작업으로 다시 처리합니다.");
+            return transactionTemplate.execute(status -> action.get());
+        }
+    }
+
+    private Task findOrCreateOccurrenceTask(Long recurrenceId, LocalDate occurrenceDate) {
+        TaskRecurrence recurrence = taskRecurrenceDomainService.findRecurrenceById(recurrenceId);
+
+        return taskDomainService.findOccurrenceTask(recurrenceId, occurrenceDate)
+                .orElseGet(() -> createOccurrenceTask(recurrence, occurrenceDate));
+    }
+
+    private Task createOccurrenceTask(TaskRecurrence recurrence, LocalDate occurrenceDate) {
+        validateOccurrence(recurrence, occurrenceDate);
+
+        Task task = new Task(
+                recurrence.getTitle(),
+                recurrence.getDescription(),
+                recurrence.getAuthorName(),
+                occurrenceDate,
+                recurrence.occurrenceEndDate(occurrenceDate),
+                TaskStatus.TODO,
+                recurrence.getPriority()
+        );
+        task.linkOccurrence(recurrence.getId(), occurrenceDate);
+
+        // 템플릿 생성 이후 삭제/비활성화된 카테고리는 붙이지 않음
+        Map<Long, TaskCategory> activeCategories = getActiveCategoryLookup();
+        recurrence.getCategoryIds().stream()
+                .map(activeCategories::get)
+                .filter(Objects::nonNull)
+                .forEach(task::addCategory);
+
+        taskDomainService.saveTask(task);
+
+        log.info("반복 일정 회차가 작업으로 저장되었습니다. 반복 ID: {}, 회차: {}, 작업 ID: {}",
+                recurrence.getId(), occurrenceDate, task.getId());
+
+        eventPublisher.publishEvent(TaskChangedEvent.created(task.getId()));
+        return task;
+    }
+
+    private Map<Long, TaskCategory> getActiveCategoryLookup() {
+        return taskCategoryDomainService.findAllByIsActiveTrueOrderByDisplayOrderAsc().stream()
+                .collect(Collectors.toMap(TaskCategory::getId, Function.identity()));
+    }
+
+    private void validateOccurrence(TaskRecurrence recurrence, LocalDate occurrenceDate) {
+        if (!recurrence.occursOn(occurrenceDate)) {
+            throw new IllegalArgumentException(
+                    String.format("반복 규칙에 해당하지 않는 날짜입니다. 반복 ID: %d, 날짜: %s",
+                            recurrence.getId(), occurrenceDate));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.yhs.inventroysystem.application.task;
+
+import com.yhs.inventroysystem.domain.task.entity.Priority;
+import com.yhs.inventroysystem.domain.task.entity.Task;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 작업 목록 무한 스크롤용 keyset 커서
+ * - 검색 정렬 키(우선순위, 생성일, id)를 불투명한 문자열로 인코딩해 클라이언트에 전달
+ */
+public record TaskSearchCursor(Priority priority, LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static TaskSearchCursor from(Task task) {
+        return new TaskSearchCursor(task.getPriority(), task.getCreatedAt(), task.getId());
+    }
+
+    public static TaskSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new TaskSearchCursor(
+                    Priority.valueOf(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+
+    public String encode() {
+        String raw = priority.name() + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 검색 정렬(TaskSpecifications.SEARCH_SORT)과 같은 키 순서의 스크롤 위치
+     */
+    public KeysetScrollPosition toScrollPosition() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("priority", priority);
+        keys.put("createdAt", createdAt);
+        keys.put("id", id);
+        return ScrollPosition.forward(keys);
+    }
+}
@@ -7,20 +7,31 @@ import com.yhs.inventroysystem.application.task.TaskCommands.TaskUpdateCommand;
 import com.yhs.inventroysystem.domain.task.entity.Priority;
 import com.yhs.inventroysystem.domain.task.entity.Task;
 import com.yhs.inventroysystem.domain.task.entity.TaskCategory;
+import com.yhs.inventroysystem.domain.task.entity.TaskCategorySummary;
 import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
+import com.yhs.inventroysystem.domain.task.repository.TaskSearchCondition;
 import com.yhs.inventroysystem.domain.task.service.TaskDomainService;
+import com.yhs.inventroysystem.domain.task.service.TaskRecurrenceDomainService;
+import com.yhs.inventroysystem.presentation.task.TaskDto.TaskCalendarResponse;
+import com.yhs.inventroysystem.presentation.task.TaskDto.TaskCalendarResponse.CategoryColor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -28,7 +39,17 @@ import java.util.Map;
 @Slf4j
 public class TaskService {
 
+    private static final long MAX_CALENDAR_DAYS = 400;
+
+    private static final Comparator<TaskCalendarResponse> CALENDAR_ORDER = Comparator
+            .comparing(TaskCalendarResponse::startDate)
+            .thenComparing(TaskCalendarResponse::id, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(TaskCalendarResponse::recurrenceId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
     private final TaskDomainService taskDomainService;
+    private final TaskRecurrenceDomainService taskRecurrenceDomainService;
+    private final TaskRecurrenceService taskRecurrenceService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Task createTask(TaskCreateCommand command, CustomUserDetails currentUser) {
@@ -46,6 +67,7 @@ public class TaskService {
         log.info("새 작업이 생성되었습니다. ID: {}, 제목: {}, 우선순위: {}",
                 savedTask.getId(), savedTask.getTitle(), savedTask.getPriority());
 
+        eventPublisher.publishEvent(TaskChangedEvent.created(savedTask.getId()));
         return savedTask;
     }
 
@@ -104,25 +126,85 @@ public class TaskService {
     }
 
     /**
-     * 복합 검색 - 카테고리 정보 포함 (Fetch Join)
+     * 달력 범위 조회 - 기간이 겹치는 작업의 슬림 프로젝션 + 카테고리 색상
+     * - 작업 1회, 카테고리 색상 1회 조회 후 메모리에서 조립
+     * - 반복 일정은 저장되지 않은 회차를 가상 회차(id 없음)로 합쳐서 시작일 순 정렬
      */
-    public Page<Task> searchTasks(String title, String authorName, List<TaskStatus> statusList,
-                                  Priority priority, LocalDate startDate, LocalDate endDate,
-                                  int page, int size) {
+    public List<TaskCalendarResponse> getCalendarTasks(LocalDate from, LocalDate to) {
+        taskDomainService.validateDateRange(from, to);
+        if (ChronoUnit.DAYS.between(from, to) > MAX_CALENDAR_DAYS) {
+            throw new IllegalArgumentException(
+                    String.format("달력 조회 기간은 최대 %d일입니다.", MAX_CALENDAR_DAYS));
+        }
 
-        Pageable pageable = PageRequest.of(page, size);
+        List<TaskCalendarResponse> tasks = taskDomainService.findCalendarRows(from, to).stream()
+                .map(row -> new TaskCalendarResponse(
+                        row.id(),
+                        row.title(),
+                        row.startDate(),
+                        row.endDate(),
+                        row.status(),
+                        row.priority(),
+                        TaskCategorySummary.parse(row.categorySummary()).entries().stream()
+                                .map(entry -> new CategoryColor(entry.categoryId(), entry.colorCode()))
+                                .toList(),
+                        row.recurrenceId(),
+                        row.occurrenceDate(),
+                        row.modifiedAt()
+                ))
+                .toList();
+
+        List<TaskCalendarResponse> occurrences = taskRecurrenceService.expandOccurrences(from, to);
+        if (occurrences.isEmpty()) {
+            return tasks;
+        }
 
-        Page<Task> tasks = taskDomainService.findTasksWithFiltersAndCategories(
-                title, authorName, statusList, priority, startDate, endDate, pageable);
+        List<TaskCalendarResponse> merged = new ArrayList<>(tasks.size() + occurrences.size());
+        merged.addAll(tasks);
+        merged.addAll(occurrences);
+        merged.sort(CALENDAR_ORDER);
+        return merged;
+    }
 
-        // 트랜잭션 안에서 카테고리 강제 로딩
-        tasks.getContent().forEach(task ->
-                task.getCategories().forEach(TaskCategory::getName)  // TaskCategory 필드 접근으로 강제 로딩
-        );
+    /**
+     * 복합 검색 - 전달된 조건만 쿼리에 포함, 전체 건수 포함
+     */
+    public Page<Task> searchTasks(TaskSearchCondition condition, int page, int size) {
+        Page<Task> tasks = taskDomainService.searchTasks(condition, page, size);
+        initializeCategories(tasks.getContent());
+        return tasks;
+    }
+
+    /**
+     * 복합 검색 - 전체 건수가 필요 없는 경우 (count 쿼리 생략)
+     */
+    public Slice<Task> searchTasksWithoutCount(TaskSearchCondition condition, int page, int size) {
+        Slice<Task> tasks = taskDomainService.searchTasksSlice(condition, page, size);
+        initializeCategories(tasks.getContent());
+        return tasks;
+    }
 
+    /**
+     * 복합 검색 - keyset 이어 조회 (무한 스크롤)
+     * - cursor가 없으면 처음부터, 있으면 해당 위치 다음부터 조회
+     */
+    public Window<Task> scrollTasks(TaskSearchCondition condition, String cursor, int size) {
+        KeysetScrollPosition position = cursor == null || cursor.isBlank()
+                ? ScrollPosition.keyset()
+                : TaskSearchCursor.decode(cursor).toScrollPosition();
+
+        Window<Task> tasks = taskDomainService.scrollTasks(condition, position, size);
+        initializeCategories(tasks.getContent());
         return tasks;
     }
 
+    // 트랜잭션 안에서 카테고리 강제 로딩 (@BatchSize로 묶어서 조회)
+    private void initializeCategories(List<Task> tasks) {
+        tasks.forEach(task ->
+                task.getCategories().forEach(TaskCategory::getName)  // TaskCategory 필드 접근으로 강제 로딩
+        );
+    }
+
     @Transactional
     public Task updateTask(Long taskId, TaskUpdateCommand command) {
         taskDomainService.validateDateRange(command.startDate(), command.endDate());
@@ -136,6 +218,7 @@ public class TaskService {
         log.info("작업이 수정되었습니다. ID: {}, 제목: {}, 우선순위: {}",
                 task.getId(), task.getTitle(), task.getPriority());
 
+        eventPublisher.publishEvent(TaskChangedEvent.updated(taskId));
         return task;
     }
 
@@ -146,6 +229,7 @@ public class TaskService {
 
         log.info("작업 상태가 변경되었습니다. ID: {}, 상태: {}", task.getId(), status);
 
+        eventPublisher.publishEvent(TaskChangedEvent.updated(taskId));
         return task;
     }
 
@@ -156,37 +240,25 @@ public class TaskService {
 
         log.info("작업 우선순위가 변경되었습니다. ID: {}, 우선순위: {}", task.getId(), priority);
 
+        eventPublisher.publishEvent(TaskChangedEvent.updated(taskId));
         return task;
     }
 
     @Transactional
     public void deleteTask(Long taskId) {
-        String title = taskDomainService.findTaskById(taskId).getTitle();
+        Task task = taskDomainService.findTaskById(taskId);
+        String title = task.getTitle();
 
-        taskDomainService.deleteTask(taskId);
-
-        log.info("작업이 삭제되었습니다. ID: {}, 제목: {}", taskId, title);
-    }
-
-    public Map<String, Object> getTaskStatistics() {
-        Map<String, Object> statistics = new HashMap<>();
-
-        Map<TaskStatus, Long> statusStats = new HashMap<>();
-        for (TaskStatus status : TaskStatus.values()) {
-            Long count = taskDomainService.countByStatus(status);
-            statusStats.put(status, count);
+        // 저장된 반복 회차를 삭제하면 같은 날짜의 가상 회차가 다시 나타나지 않도록 제외
+        if (task.isRecurrenceOccurrence()) {
+            taskRecurrenceDomainService.excludeOccurrence(task.getRecurrenceId(), task.getOccurrenceDate());
         }
 
-        Map<Priority, Long> priorityStats = new HashMap<>();
-        for (Priority priority : Priority.values()) {
-            Long count = taskDomainService.countByPriority(priority);
-            priorityStats.put(priority, count);
-        }
+        taskDomainService.deleteTask(taskId);
 
-        statistics.put("status", statusStats);
-        statistics.put("priority", priorityStats);
+        log.info("작업이 삭제되었습니다. ID: {}, 제목: {}", taskId, title);
 
-        return statistics;
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(taskId));
     }
 
 }
\ No newline at end of file
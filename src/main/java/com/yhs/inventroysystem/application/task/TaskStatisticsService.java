@@ -0,0 +1,128 @@
+package com.yhs.inventroysystem.application.task;
+
+import com.yhs.inventroysystem.domain.task.entity.Priority;
+import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
+import com.yhs.inventroysystem.domain.task.repository.TaskCategoryCount;
+import com.yhs.inventroysystem.domain.task.repository.TaskStatusPriorityCount;
+import com.yhs.inventroysystem.domain.task.service.TaskDomainService;
+import com.yhs.inventroysystem.domain.task.service.TaskMappingDomainService;
+import com.yhs.inventroysystem.presentation.task.TaskDto.TaskStatisticsResponse;
+import com.yhs.inventroysystem.presentation.task.TaskDto.TaskStatisticsResponse.CategoryCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 작업 통계 서비스
+ * - 상태 x 우선순위 / 지연 작업 수는 GROUP BY 한 번, 카테고리별 작업 수는 GROUP BY 한 번으로 집계
+ * - 대시보드 위젯 폴링 대비 짧은 TTL로 캐시, 작업 변경 이벤트 커밋 후 무효화
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskStatisticsService {
+
+    private static final Duration CACHE_TTL = Duration.ofSeconds(30);
+
+    private final TaskDomainService taskDomainService;
+    private final TaskMappingDomainService taskMappingDomainService;
+
+    private record CachedStatistics(TaskStatisticsResponse statistics, LocalDate baseDate, Instant expiresAt) {}
+
+    private final AtomicReference<CachedStatistics> cache = new AtomicReference<>();
+
+    // 집계 도중 무효화된 결과가 캐시에 다시 올라가지 않도록 하는 버전
+    private final AtomicLong version = new AtomicLong();
+
+    @Transactional(readOnly = true)
+    public TaskStatisticsResponse getTaskStatistics() {
+        Instant now = Instant.now();
+        LocalDate today = LocalDate.now();
+
+        CachedStatistics cached = cache.get();
+        if (cached != null && now.isBefore(cached.expiresAt()) && today.equals(cached.baseDate())) {
+            return cached.statistics();
+        }
+
+        long versionBefore = version.get();
+        TaskStatisticsResponse statistics = aggregate(today);
+
+        if (version.get() == versionBefore) {
+            cache.set(new CachedStatistics(statistics, today, now.plus(CACHE_TTL)));
+        }
+        return statistics;
+    }
+
+    /**
+     * 작업 변경 커밋 후 캐시 무효화 (다음 조회 시 재집계)
+     * - 트랜잭션 밖에서 발행된 이벤트도 즉시 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        version.incrementAndGet();
+        cache.set(null);
+        log.debug("작업 통계 캐시 무효화 - {} taskId: {}", event.changeType(), event.taskId());
+    }
+
+    private TaskStatisticsResponse aggregate(LocalDate today) {
+        Map<TaskStatus, Long> statusCounts = new EnumMap<>(TaskStatus.class);
+        Map<Priority, Long> priorityCounts = new EnumMap<>(Priority.class);
+        Map<TaskStatus, Map<Priority, Long>> statusPriorityCounts = new EnumMap<>(TaskStatus.class);
+
+        for (TaskStatus status : TaskStatus.values()) {
+            statusCounts.put(status, 0L);
+            Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+            for (Priority priority : Priority.values()) {
+                byPriority.put(priority, 0L);
+            }
+            statusPriorityCounts.put(status, byPriority);
+        }
+        for (Priority priority : Priority.values()) {
+            priorityCounts.put(priority, 0L);
+        }
+
+        long totalCount = 0;
+        long overdueCount = 0;
+
+        for (TaskStatusPriorityCount row : taskDomainService.countGroupByStatusAndPriority(today)) {
+            long count = row.taskCount();
+
+            statusCounts.merge(row.status(), count, Long::sum);
+            priorityCounts.merge(row.priority(), count, Long::sum);
+            statusPriorityCounts.get(row.status()).put(row.priority(), count);
+
+            totalCount += count;
+            overdueCount += row.overdueCount() != null ? row.overdueCount() : 0L;
+        }
+
+        List<CategoryCount> categoryCounts = taskMappingDomainService.countTasksGroupByCategory().stream()
+                .map(this::toCategoryCount)
+                .toList();
+
+        return new TaskStatisticsResponse(
+                statusCounts,
+                priorityCounts,
+                statusPriorityCounts,
+                totalCount,
+                overdueCount,
+                categoryCounts,
+                LocalDateTime.now()
+        );
+    }
+
+    private CategoryCount toCategoryCount(TaskCategoryCount row) {
+        return new CategoryCount(row.categoryId(), row.categoryName(), row.colorCode(), row.taskCount());
+    }
+}
@@ -11,7 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "clients")
+@Table(name = "clients", indexes = @Index(name = "idx_clients_modified_at", columnList = "modified_at"))
 @Getter
 @NoArgsConstructor
 public class Client extends BaseTimeEntity {
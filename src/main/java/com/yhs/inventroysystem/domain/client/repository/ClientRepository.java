@@ -3,8 +3,10 @@ package com.yhs.inventroysystem.domain.client.repository;
 import com.yhs.inventroysystem.domain.client.entity.Client;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +25,10 @@ public interface ClientRepository extends JpaRepository<Client, Long> {
             "WHERE c.clientCode = :clientCode AND c.deletedAt IS NULL")
     Optional<Client> findByClientCodeAndNotDeleted(String clientCode);
 
+    @Query("SELECT c FROM Client c " +
+            "WHERE c.clientCode IN :clientCodes AND c.deletedAt IS NULL")
+    List<Client> findAllByClientCodesAndNotDeleted(@Param("clientCodes") Collection<String> clientCodes);
+
     @Query("SELECT c FROM Client c " +
             "JOIN FETCH c.country " +
             "WHERE c.deletedAt IS NULL " +
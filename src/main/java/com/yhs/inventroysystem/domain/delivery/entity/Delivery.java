@@ -17,7 +17,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "deliveries")
+@Table(name = "deliveries", indexes = @Index(name = "idx_deliveries_modified_at", columnList = "modified_at"))
 @Getter
 @NoArgsConstructor
 public class Delivery extends BaseTimeEntity {
@@ -189,28 +189,51 @@ public class Delivery extends BaseTimeEntity {
 
 
     private void calculateTotalAmount() {
-        // 1. 각 항목의 금액 합계
-        this.subtotalAmount = items.stream()
+        // 각 항목의 금액 합계 → 전체 할인 차감 → 원화 환산
+        Amounts amounts = calculateAmounts(sumTotalPrices(items, BigDecimal.ZERO));
+
+        this.subtotalAmount = amounts.subtotalAmount();
+        this.totalAmount = amounts.totalAmount();
+        this.totalAmountKRW = amounts.totalAmountKRW();
+    }
+
+    /**
+     * 일괄 등록용 금액 계산
+     * items 컬렉션을 로딩하지 않고 저장된 소계에 추가 항목 금액을 더해 한 번에 계산 (엔티티 상태는 변경하지 않음)
+     */
+    public Amounts calculateAmountsWith(List<DeliveryItem> additionalItems) {
+        BigDecimal storedSubtotal = this.subtotalAmount != null ? this.subtotalAmount : BigDecimal.ZERO;
+        return calculateAmounts(sumTotalPrices(additionalItems, storedSubtotal));
+    }
+
+    public record Amounts(BigDecimal subtotalAmount, BigDecimal totalAmount, BigDecimal totalAmountKRW) {}
+
+    private static BigDecimal sumTotalPrices(List<DeliveryItem> deliveryItems, BigDecimal initial) {
+        return deliveryItems.stream()
                 .map(DeliveryItem::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+                .reduce(initial, BigDecimal::add);
+    }
 
-        // 2. 전체 할인 적용
+    // 소계 기준 금액 계산 (환율이 없으면 기존 원화 금액 유지)
+    private Amounts calculateAmounts(BigDecimal subtotal) {
         BigDecimal discount = this.totalDiscountAmount != null
                 ? this.totalDiscountAmount
                 : BigDecimal.ZERO;
 
-        this.totalAmount = this.subtotalAmount.subtract(discount); // 전체 할인액 차감
+        BigDecimal total = subtotal.subtract(discount); // 전체 할인액 차감
 
-        // 3. 원화 환산 금액 재계산
-        calculateKRWAmount();
+        return new Amounts(subtotal, total, toKRW(total));
     }
 
     private void calculateKRWAmount() {
-        if (this.exchangeRate != null && this.totalAmount != null) {
-            this.totalAmountKRW = this.totalAmount
-                    .multiply(this.exchangeRate)
-                    .setScale(0, RoundingMode.HALF_UP);
+        this.totalAmountKRW = toKRW(this.totalAmount);
+    }
+
+    private BigDecimal toKRW(BigDecimal amount) {
+        if (this.exchangeRate == null || amount == null) {
+            return this.totalAmountKRW;
         }
+        return amount.multiply(this.exchangeRate).setScale(0, RoundingMode.HALF_UP);
     }
 
     private void validatePendingStatus(String action) {
@@ -4,11 +4,16 @@ import com.yhs.inventroysystem.domain.product.entity.Product;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "delivery_items")
+@EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor
 public class DeliveryItem {
@@ -46,6 +51,11 @@ public class DeliveryItem {
     @Column(nullable = false)
     private Boolean isFreeItem;
 
+    // 수량/단가 조정 시각 (엑셀 내보내기 캐시 키용, 납품 행이 바뀌지 않는 품목 수정도 감지)
+    @LastModifiedDate
+    @Column(name = "modified_at")
+    private LocalDateTime lastModifiedAt;
+
     public DeliveryItem(Delivery delivery, Product product, Integer quantity,
                         BigDecimal baseUnitPrice, BigDecimal actualUnitPrice,
                         String priceNote) {
@@ -0,0 +1,119 @@
+package com.yhs.inventroysystem.domain.delivery.repository;
+
+import com.yhs.inventroysystem.domain.delivery.entity.Delivery;
+import com.yhs.inventroysystem.domain.delivery.entity.DeliveryItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 납품/납품 항목 일괄 저장용 JDBC 리포지토리
+ * - 과거 납품 데이터 일괄 등록 시 행 단위 INSERT 대신 배치 사용
+ * - 현재 트랜잭션(JPA)의 커넥션을 그대로 사용하므로 같은 트랜잭션으로 묶임
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeliveryBulkRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_DELIVERY_SQL =
+            "INSERT INTO deliveries (delivery_number, client_id, status, subtotal_amount, total_discount_amount, " +
+                    "total_amount, discount_note, exchange_rate, total_amountkrw, ordered_at, requested_at, " +
+                    "delivered_at, memo, created_at, modified_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ITEM_SQL =
+            "INSERT INTO delivery_items (delivery_id, product_id, quantity, base_unit_price, actual_unit_price, " +
+                    "discount_amount, price_note, total_price, is_free_item, modified_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_AMOUNTS_SQL =
+            "UPDATE deliveries SET subtotal_amount = ?, total_amount = ?, total_amountkrw = ?, " +
+                    "order_task_id = COALESCE(?, order_task_id), shipment_task_id = COALESCE(?, shipment_task_id), " +
+                    "modified_at = ? " +
+                    "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record AmountsUpdate(Long deliveryId, Delivery.Amounts amounts, Long orderTaskId, Long shipmentTaskId) {}
+
+    /**
+     * 아직 저장되지 않은 Delivery 엔티티를 배치로 저장
+     */
+    public void batchInsertDeliveries(List<Delivery> deliveries) {
+        if (deliveries.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_DELIVERY_SQL, deliveries, BATCH_SIZE, (ps, delivery) -> {
+            ps.setString(1, delivery.getDeliveryNumber());
+            ps.setLong(2, delivery.getClient().getId());
+            ps.setString(3, delivery.getStatus().name());
+            ps.setObject(4, delivery.getSubtotalAmount(), Types.DECIMAL);
+            ps.setObject(5, delivery.getTotalDiscountAmount(), Types.DECIMAL);
+            ps.setObject(6, delivery.getTotalAmount(), Types.DECIMAL);
+            ps.setString(7, delivery.getDiscountNote());
+            ps.setObject(8, delivery.getExchangeRate(), Types.DECIMAL);
+            ps.setObject(9, delivery.getTotalAmountKRW(), Types.DECIMAL);
+            ps.setObject(10, delivery.getOrderedAt(), Types.DATE);
+            ps.setObject(11, delivery.getRequestedAt(), Types.DATE);
+            ps.setObject(12, delivery.getDeliveredAt(), Types.TIMESTAMP);
+            ps.setString(13, delivery.getMemo());
+            ps.setTimestamp(14, now);
+            ps.setTimestamp(15, now);
+        });
+    }
+
+    /**
+     * 아직 저장되지 않은 DeliveryItem 엔티티를 배치로 저장 (delivery, product는 저장된 엔티티여야 함)
+     */
+    public void batchInsertItems(List<DeliveryItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, items, BATCH_SIZE, (ps, item) -> {
+            ps.setLong(1, item.getDelivery().getId());
+            ps.setLong(2, item.getProduct().getId());
+            ps.setInt(3, item.getQuantity());
+            ps.setBigDecimal(4, item.getBaseUnitPrice());
+            ps.setBigDecimal(5, item.getActualUnitPrice());
+            ps.setObject(6, item.getDiscountAmount(), Types.DECIMAL);
+            ps.setString(7, item.getPriceNote());
+            ps.setBigDecimal(8, item.getTotalPrice());
+            ps.setBoolean(9, item.getIsFreeItem());
+            ps.setTimestamp(10, now);
+        });
+    }
+
+    /**
+     * 항목 추가 후 금액과 연결 Task를 배치로 갱신 (Task ID가 null이면 기존 값 유지)
+     */
+    public void batchUpdateAmountsAndTasks(List<AmountsUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPDATE_AMOUNTS_SQL, updates, BATCH_SIZE, (ps, update) -> {
+            ps.setBigDecimal(1, update.amounts().subtotalAmount());
+            ps.setBigDecimal(2, update.amounts().totalAmount());
+            ps.setObject(3, update.amounts().totalAmountKRW(), Types.DECIMAL);
+            ps.setObject(4, update.orderTaskId(), Types.BIGINT);
+            ps.setObject(5, update.shipmentTaskId(), Types.BIGINT);
+            ps.setTimestamp(6, now);
+            ps.setLong(7, update.deliveryId());
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package com.yhs.inventroysystem.domain.delivery.repository;
+
+import com.yhs.inventroysystem.infrastructure.persistence.DataVersionView;
+
+import java.time.LocalDateTime;
+
+/**
+ * 납품 데이터 버전 프로젝션
+ * - 납품 엑셀은 거래처명/통화와 제품명을 함께 출력하므로 참조 행의 최종 수정 시각도 포함
+ */
+public interface DeliveryDataVersionView extends DataVersionView {
+
+    LocalDateTime getClientLastModifiedAt();
+
+    LocalDateTime getProductLastModifiedAt();
+
+    default String toVersionStringWithReferences() {
+        return toVersionString()
+                + "-" + DataVersionView.epochMillis(getClientLastModifiedAt())
+                + "-" + DataVersionView.epochMillis(getProductLastModifiedAt());
+    }
+}
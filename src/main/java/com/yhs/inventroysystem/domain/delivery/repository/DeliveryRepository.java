@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -86,6 +87,60 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
             @Param("endDate") LocalDateTime endDate
     );
 
+    /**
+     * 기간별 완료 납품 ID 조회 (엑셀 청크 조회용, findCompletedDeliveriesByPeriod와 동일 조건/정렬)
+     */
+    @Query("""
+    SELECT d.id
+    FROM Delivery d
+    WHERE d.deletedAt IS NULL
+    AND d.status = 'COMPLETED'
+    AND d.deliveredAt BETWEEN :startDate AND :endDate
+    AND EXISTS (SELECT 1 FROM DeliveryItem di WHERE di.delivery = d)
+    ORDER BY d.deliveredAt, d.id
+    """)
+    List<Long> findCompletedDeliveryIdsByPeriod(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * ID 목록으로 납품 + 품목 + 제품 + 거래처 일괄 조회
+     */
+    @Query("""
+    SELECT DISTINCT d
+    FROM Delivery d
+    JOIN FETCH d.items di
+    JOIN FETCH di.product p
+    JOIN FETCH d.client c
+    WHERE d.id IN :ids
+    ORDER BY d.deliveredAt, d.id
+    """)
+    List<Delivery> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 기간 내 납품 데이터 버전 (엑셀 내보내기 캐시 키용)
+     * - 삭제/상태 변경도 반영되도록 deletedAt, status 조건 없이 집계
+     * - 품목 수정, 거래처/제품 이름 변경도 반영되도록 각 행의 최종 수정 시각 포함
+     */
+    @Query("""
+    SELECT COUNT(DISTINCT d.id) AS rowCount,
+           COUNT(di.id) AS itemCount,
+           MAX(d.lastModifiedAt) AS lastModifiedAt,
+           MAX(di.lastModifiedAt) AS itemLastModifiedAt,
+           MAX(c.lastModifiedAt) AS clientLastModifiedAt,
+           MAX(p.lastModifiedAt) AS productLastModifiedAt
+    FROM Delivery d
+    JOIN d.client c
+    LEFT JOIN d.items di
+    LEFT JOIN di.product p
+    WHERE d.deliveredAt BETWEEN :startDate AND :endDate
+    """)
+    DeliveryDataVersionView findDataVersionByPeriod(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
     @Query("""
         SELECT d
         FROM Delivery d 
@@ -119,6 +174,16 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
             "AND d.deliveryNumber = :deliveryNumber")
     Optional<Delivery> findByDeliveryNumber(@Param("deliveryNumber") String deliveryNumber);
 
+    @Query("SELECT d.deliveryNumber FROM Delivery d " +
+            "WHERE d.deliveryNumber IN :deliveryNumbers")
+    List<String> findExistingDeliveryNumbers(@Param("deliveryNumbers") Collection<String> deliveryNumbers);
+
+    @Query("SELECT d FROM Delivery d " +
+            "JOIN FETCH d.client " +
+            "WHERE d.deletedAt IS NULL " +
+            "AND d.deliveryNumber IN :deliveryNumbers")
+    List<Delivery> findAllByDeliveryNumbers(@Param("deliveryNumbers") Collection<String> deliveryNumbers);
+
     @Query(value = """
     SELECT MAX(
         CAST(
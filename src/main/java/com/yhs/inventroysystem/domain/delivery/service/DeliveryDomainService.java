@@ -2,6 +2,7 @@ package com.yhs.inventroysystem.domain.delivery.service;
 
 import com.yhs.inventroysystem.domain.delivery.entity.Delivery;
 import com.yhs.inventroysystem.domain.delivery.entity.DeliveryStatus;
+import com.yhs.inventroysystem.domain.delivery.repository.DeliveryDataVersionView;
 import com.yhs.inventroysystem.domain.delivery.repository.DeliveryRepository;
 import com.yhs.inventroysystem.domain.exception.InvalidDeliveryStateException;
 import com.yhs.inventroysystem.domain.exception.ResourceNotFoundException;
@@ -64,6 +65,18 @@ public class DeliveryDomainService {
         return deliveryRepository.findCompletedDeliveriesByPeriod(startDateTime, endDateTime);
     }
 
+    public List<Long> findCompletedDeliveryIdsByPeriod(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        return deliveryRepository.findCompletedDeliveryIdsByPeriod(startDateTime, endDateTime);
+    }
+
+    public List<Delivery> findAllWithItemsByIds(List<Long> deliveryIds) {
+        return deliveryRepository.findAllWithItemsByIdIn(deliveryIds);
+    }
+
+    public DeliveryDataVersionView findDataVersionByPeriod(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        return deliveryRepository.findDataVersionByPeriod(startDateTime, endDateTime);
+    }
+
     public List<Delivery> findWeeklySales(LocalDateTime startDateTime, LocalDateTime endDateTime) {
         return deliveryRepository.findWeeklySales(startDateTime, endDateTime);
     }
@@ -0,0 +1,23 @@
+package com.yhs.inventroysystem.domain.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 엑셀 내보내기 작업 관련 예외
+ */
+public class ExportJobException extends BusinessException {
+
+    private static final String ERROR_CODE = "EXPORT_JOB_ERROR";
+
+    private ExportJobException(String message, HttpStatus httpStatus) {
+        super(message, httpStatus, ERROR_CODE);
+    }
+
+    public static ExportJobException queueFull() {
+        return new ExportJobException("대기 중인 내보내기 작업이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    public static ExportJobException notReady(String jobId) {
+        return new ExportJobException("내보내기 파일이 아직 준비되지 않았습니다. 작업 ID: " + jobId, HttpStatus.CONFLICT);
+    }
+}
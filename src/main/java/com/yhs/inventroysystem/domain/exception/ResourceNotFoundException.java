@@ -56,6 +56,10 @@ public class ResourceNotFoundException extends BusinessException {
         return new  ResourceNotFoundException("일정을 찾을 수 없습니다. ID: " + taskId);
     }
 
+    public static ResourceNotFoundException taskRecurrence(Long recurrenceId) {
+        return new ResourceNotFoundException("반복 일정을 찾을 수 없습니다. ID: " + recurrenceId);
+    }
+
     public static ResourceNotFoundException taskCategory(Long taskCategoryId) {
         return new ResourceNotFoundException("일정 카테고리를 찾을 수 없습니다. ID: " + taskCategoryId);
     }
@@ -79,4 +83,8 @@ public class ResourceNotFoundException extends BusinessException {
     public static ResourceNotFoundException box(Long boxId) {
         return new ResourceNotFoundException("존재하지 않는 박스 템플릿입니다. ID: " + boxId);
     }
+
+    public static ResourceNotFoundException exportJob(String jobId) {
+        return new ResourceNotFoundException("내보내기 작업을 찾을 수 없습니다. ID: " + jobId);
+    }
 }
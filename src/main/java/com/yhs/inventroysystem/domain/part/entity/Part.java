@@ -6,10 +6,11 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 
 @Entity @Getter
-@Table(name = "parts")
+@Table(name = "parts", indexes = @Index(name = "idx_parts_modified_at", columnList = "modified_at"))
 @NoArgsConstructor
 public class Part extends BaseTimeEntity {
 
@@ -75,6 +76,17 @@ public class Part extends BaseTimeEntity {
         this.originalImageName = originalImageName;
     }
 
+    /**
+     * 이미지 버전 (저장 파일명 = 내용 해시 또는 업로드별 UUID)
+     * - 이미지 URL의 v 파라미터로 사용, 이미지가 바뀌면 URL도 바뀌어 브라우저 캐시 무효화
+     */
+    public String getImageVersion() {
+        if (imagePath == null) {
+            return null;
+        }
+        return Paths.get(imagePath).getFileName().toString();
+    }
+
     public void removeImage() {
         ensureNotDeleted();
         this.imagePath = null;
@@ -6,7 +6,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +37,19 @@ public interface PartRepository extends JpaRepository<Part, Long> {
     @Query("SELECT p FROM Part p WHERE p.partCode = :partCode AND p.deletedAt IS NULL")
     Optional<Part> findByPartCodeAndNotDeleted(String partCode);
 
+    /**
+     * 부품 코드 목록으로 (코드, ID) 쌍 조회
+     * 엔티티를 로딩하지 않으므로 일괄 등록 시 코드 → ID 매핑 용도로 사용
+     */
+    @Query("SELECT p.partCode AS code, p.id AS id FROM Part p " +
+            "WHERE p.partCode IN :partCodes AND p.deletedAt IS NULL")
+    List<CodeIdView> findCodeIdsByPartCodes(@Param("partCodes") Collection<String> partCodes);
+
+    interface CodeIdView {
+        String getCode();
+        Long getId();
+    }
+
     /**
      * 부품 이름을 기준으로 부품 정보 조회
      */
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,5 +36,10 @@ public interface ClientProductPriceRepository extends JpaRepository<ClientProduc
             "WHERE cpp.client.id = :clientId AND cpp.product.id = :productId")
     Optional<ClientProductPrice> findByClientIdAndProductId(@Param("clientId") Long clientId, @Param("productId") Long productId);
 
+    @Query("SELECT cpp FROM ClientProductPrice cpp " +
+            "WHERE cpp.client.id IN :clientIds AND cpp.product.id IN :productIds")
+    List<ClientProductPrice> findAllByClientIdsAndProductIds(@Param("clientIds") Collection<Long> clientIds,
+                                                             @Param("productIds") Collection<Long> productIds);
+
     boolean existsByClientIdAndProductId(Long clientId, Long productId);
 }
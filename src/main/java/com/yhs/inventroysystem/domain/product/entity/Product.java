@@ -13,7 +13,7 @@ import java.util.List;
 import java.util.ArrayList;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = @Index(name = "idx_products_modified_at", columnList = "modified_at"))
 @Getter
 @NoArgsConstructor
 @BatchSize(size = 100)
@@ -171,6 +171,22 @@ public class Product extends BaseTimeEntity {
         return this.isFeatured;
     }
 
+    /**
+     * 현재 부품 재고로 생산 가능한 최대 수량
+     * - 부품별 (재고 / 1개당 필요 수량) 중 최솟값
+     * - 부품이 없으면 제한 없음 (Integer.MAX_VALUE)
+     */
+    public int calculateMaxProducibleQuantity() {
+        int maxQuantity = Integer.MAX_VALUE;
+
+        for (ProductPart mapping : this.partMappings) {
+            int producibleByThisPart = mapping.getPart().getStockQuantity() / mapping.getRequiredQuantity();
+            maxQuantity = Math.min(maxQuantity, producibleByThisPart);
+        }
+
+        return maxQuantity;
+    }
+
     public void clearPartMappings() {
         ensureNotDeleted();
         this.partMappings.clear();
@@ -0,0 +1,38 @@
+package com.yhs.inventroysystem.domain.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 제품-부품 매핑 일괄 저장용 JDBC 리포지토리
+ * - IDENTITY 전략에서는 Hibernate 배치 insert가 동작하지 않으므로 JdbcTemplate 배치 사용
+ * - 현재 트랜잭션(JPA)의 커넥션을 그대로 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductPartBulkRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO product_part_mappings (product_id, part_id, required_quantity) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record MappingRow(Long productId, Long partId, Integer requiredQuantity) {}
+
+    public void batchInsert(List<MappingRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.productId());
+            ps.setLong(2, row.partId());
+            ps.setInt(3, row.requiredQuantity());
+        });
+    }
+}
@@ -7,6 +7,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ProductPartRepository extends JpaRepository<ProductPart, Long> {
 
@@ -23,4 +26,17 @@ public interface ProductPartRepository extends JpaRepository<ProductPart, Long>
     @Query("SELECT COUNT(DISTINCT pp.product) FROM ProductPart pp " +
             "WHERE pp.part = :part AND pp.product.deletedAt IS NULL")
     long countProductsByPart(@Param("part") Part part);
+
+    /**
+     * 제품 ID 목록에 대한 기존 (제품 ID, 부품 ID) 매핑 쌍 조회
+     * 컬렉션을 로딩하지 않고 중복 매핑 여부를 메모리에서 판별하기 위해 사용
+     */
+    @Query("SELECT pp.product.id AS productId, pp.part.id AS partId FROM ProductPart pp " +
+            "WHERE pp.product.id IN :productIds")
+    List<MappingKeyView> findMappingKeysByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    interface MappingKeyView {
+        Long getProductId();
+        Long getPartId();
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +45,27 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.name = :name AND p.deletedAt IS NULL")
     Optional<Product> findByNameAndNotDeleted(String name);
 
+    /**
+     * 제품 코드 목록으로 (코드, ID) 쌍 조회
+     * 엔티티를 로딩하지 않으므로 일괄 등록 시 코드 → ID 매핑 용도로 사용
+     */
+    @Query("SELECT p.productCode AS code, p.id AS id FROM Product p " +
+            "WHERE p.productCode IN :productCodes AND p.deletedAt IS NULL")
+    List<CodeIdView> findCodeIdsByProductCodes(@Param("productCodes") Collection<String> productCodes);
+
+    /**
+     * 제품 코드 목록으로 제품 조회 (일괄 등록용)
+     */
+    @Query("SELECT p FROM Product p " +
+            "LEFT JOIN FETCH p.productLine " +
+            "WHERE p.productCode IN :productCodes AND p.deletedAt IS NULL")
+    List<Product> findAllByProductCodesAndNotDeleted(@Param("productCodes") Collection<String> productCodes);
+
+    interface CodeIdView {
+        String getCode();
+        Long getId();
+    }
+
     /**
      * ID로 제품과 부품 매핑 정보를 함께 조회
      * LEFT JOIN FETCH를 사용하여 부품이 없는 제품도 조회 가능
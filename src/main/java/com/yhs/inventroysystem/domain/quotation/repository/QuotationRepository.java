@@ -2,6 +2,7 @@ package com.yhs.inventroysystem.domain.quotation.repository;
 
 import com.yhs.inventroysystem.domain.quotation.entity.Quotation;
 import com.yhs.inventroysystem.domain.quotation.entity.QuotationType;
+import com.yhs.inventroysystem.infrastructure.persistence.DataVersionView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,6 +67,51 @@ public interface QuotationRepository extends JpaRepository<Quotation, Long> {
             @Param("endDate") LocalDate endDate
     );
 
+    /**
+     * 기간별 견적서 ID 조회 (엑셀 청크 조회용, findQuotationsByPeriod와 동일 조건/정렬)
+     */
+    @Query("""
+            SELECT q.id
+            FROM Quotation q
+            WHERE q.deletedAt IS NULL
+            AND q.orderedAt BETWEEN :startDate AND :endDate
+            AND EXISTS (SELECT 1 FROM QuotationItem qi WHERE qi.quotation = q)
+            ORDER BY q.orderedAt, q.id
+            """)
+    List<Long> findQuotationIdsByPeriod(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * ID 목록으로 견적서 + 품목 일괄 조회
+     */
+    @Query("""
+            SELECT DISTINCT q
+            FROM Quotation q
+            JOIN FETCH q.items
+            WHERE q.id IN :ids
+            ORDER BY q.orderedAt, q.id
+            """)
+    List<Quotation> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 기간 내 견적서 데이터 버전 (엑셀 내보내기 캐시 키용)
+     */
+    @Query("""
+            SELECT COUNT(DISTINCT q.id) AS rowCount,
+                   COUNT(qi.id) AS itemCount,
+                   MAX(q.lastModifiedAt) AS lastModifiedAt,
+                   MAX(qi.lastModifiedAt) AS itemLastModifiedAt
+            FROM Quotation q
+            LEFT JOIN q.items qi
+            WHERE q.orderedAt BETWEEN :startDate AND :endDate
+            """)
+    DataVersionView findDataVersionByPeriod(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     @Query("SELECT q FROM Quotation q " +
             "WHERE q.deletedAt IS NULL " +
             "AND q.quotationType = :quotationType " +
@@ -11,6 +11,7 @@ import com.yhs.inventroysystem.infrastructure.file.FileStorageFactory;
 import com.yhs.inventroysystem.infrastructure.file.FileStorageService;
 import com.yhs.inventroysystem.infrastructure.file.FileStorageType;
 import com.yhs.inventroysystem.infrastructure.pagenation.PageableUtils;
+import com.yhs.inventroysystem.infrastructure.persistence.DataVersionView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -75,6 +76,18 @@ public class QuotationDomainService {
         return quotationRepository.findQuotationsByPeriod(startDate, endDate);
     }
 
+    public List<Long> findQuotationIdsByPeriod(LocalDate startDate, LocalDate endDate) {
+        return quotationRepository.findQuotationIdsByPeriod(startDate, endDate);
+    }
+
+    public List<Quotation> findAllWithItemsByIds(List<Long> quotationIds) {
+        return quotationRepository.findAllWithItemsByIdIn(quotationIds);
+    }
+
+    public DataVersionView findDataVersionByPeriod(LocalDate startDate, LocalDate endDate) {
+        return quotationRepository.findDataVersionByPeriod(startDate, endDate);
+    }
+
     public Page<Quotation> searchByKeywordAndType(String keyword, QuotationType quotationType, Pageable pageable) {
         return quotationRepository.searchByKeywordAndType(keyword, quotationType, pageable);
     }
@@ -2,6 +2,7 @@ package com.yhs.inventroysystem.domain.shipment.repository;
 
 import com.yhs.inventroysystem.domain.shipment.entity.Shipment;
 import com.yhs.inventroysystem.domain.shipment.entity.ShipmentType;
+import com.yhs.inventroysystem.infrastructure.persistence.DataVersionView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +42,37 @@ public interface ShipmentRepository extends JpaRepository<Shipment, Long> {
      */
     List<Shipment> findByInvoiceDateBetween(LocalDate startDate, LocalDate endDate);
 
+    /**
+     * 기간별 선적 ID 조회 (엑셀 청크 조회용)
+     */
+    @Query("SELECT s.id FROM Shipment s " +
+            "WHERE s.invoiceDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY s.invoiceDate, s.id")
+    List<Long> findIdsByInvoiceDateBetween(@Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+
+    /**
+     * ID 목록으로 선적 + 품목 일괄 조회
+     */
+    @Query("SELECT DISTINCT s FROM Shipment s " +
+            "LEFT JOIN FETCH s.items " +
+            "WHERE s.id IN :ids " +
+            "ORDER BY s.invoiceDate, s.id")
+    List<Shipment> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 기간 내 선적 데이터 버전 (엑셀 내보내기 캐시 키용)
+     */
+    @Query("SELECT COUNT(DISTINCT s.id) AS rowCount, " +
+            "COUNT(si.id) AS itemCount, " +
+            "MAX(s.lastModifiedAt) AS lastModifiedAt, " +
+            "MAX(si.lastModifiedAt) AS itemLastModifiedAt " +
+            "FROM Shipment s " +
+            "LEFT JOIN s.items si " +
+            "WHERE s.invoiceDate BETWEEN :startDate AND :endDate")
+    DataVersionView findDataVersionByInvoiceDateBetween(@Param("startDate") LocalDate startDate,
+                                                        @Param("endDate") LocalDate endDate);
+
     /**
      * 연도별 최대 시퀀스 조회
      */
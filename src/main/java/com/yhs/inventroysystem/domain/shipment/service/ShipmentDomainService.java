@@ -4,6 +4,7 @@ import com.yhs.inventroysystem.domain.exception.ResourceNotFoundException;
 import com.yhs.inventroysystem.domain.shipment.entity.Shipment;
 import com.yhs.inventroysystem.domain.shipment.entity.ShipmentType;
 import com.yhs.inventroysystem.domain.shipment.repository.ShipmentRepository;
+import com.yhs.inventroysystem.infrastructure.persistence.DataVersionView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -50,6 +51,28 @@ public class ShipmentDomainService {
 
         return shipments;
     }
+
+    /**
+     * 기간별 선적 ID 조회 (작성일, ID 순)
+     */
+    public List<Long> findIdsByDateRange(LocalDate startDate, LocalDate endDate) {
+        return shipmentRepository.findIdsByInvoiceDateBetween(startDate, endDate);
+    }
+
+    /**
+     * ID 목록으로 선적 + 품목 조회
+     */
+    public List<Shipment> findAllWithItemsByIds(List<Long> shipmentIds) {
+        return shipmentRepository.findAllWithItemsByIdIn(shipmentIds);
+    }
+
+    /**
+     * 기간 내 선적 데이터 버전 조회
+     */
+    public DataVersionView findDataVersionByDateRange(LocalDate startDate, LocalDate endDate) {
+        return shipmentRepository.findDataVersionByInvoiceDateBetween(startDate, endDate);
+    }
+
     /**
      * 기간별 선적 목록 조회
      */
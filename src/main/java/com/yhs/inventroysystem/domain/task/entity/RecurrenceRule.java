@@ -0,0 +1,352 @@
+package com.yhs.inventroysystem.domain.task.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 반복 규칙 (RFC 5545 RRULE 중 날짜 단위 일부)
+ * - FREQ=DAILY|WEEKLY|MONTHLY|YEARLY (필수), INTERVAL, COUNT 또는 UNTIL(yyyyMMdd)
+ * - BYDAY: 요일 목록, MONTHLY에서는 순번 지정 가능 (1MO = 첫째 월요일, -1FR = 마지막 금요일)
+ * - BYMONTHDAY: MONTHLY 전용, 음수는 말일 기준 (-1 = 말일)
+ * - 주 시작은 월요일, 존재하지 않는 날짜(2월 30일 등)는 건너뜀
+ * 예) "FREQ=WEEKLY;BYDAY=MO,TH", "FREQ=MONTHLY;BYDAY=-1FR", "FREQ=MONTHLY;BYMONTHDAY=1,15;COUNT=12"
+ */
+public record RecurrenceRule(
+        Frequency frequency,
+        int interval,
+        List<WeekdayNum> byDay,
+        List<Integer> byMonthDay,
+        Integer count,
+        LocalDate until
+) {
+
+    public static final int MAX_COUNT = 1000;
+    private static final int MAX_INTERVAL = 999;
+    // COUNT 규칙의 마지막 회차를 구할 때 펼쳐 보는 최대 범위
+    private static final int COUNT_HORIZON_YEARS = 100;
+
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final Map<String, DayOfWeek> DAY_CODES = Map.of(
+            "MO", DayOfWeek.MONDAY,
+            "TU", DayOfWeek.TUESDAY,
+            "WE", DayOfWeek.WEDNESDAY,
+            "TH", DayOfWeek.THURSDAY,
+            "FR", DayOfWeek.FRIDAY,
+            "SA", DayOfWeek.SATURDAY,
+            "SU", DayOfWeek.SUNDAY
+    );
+
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY, YEARLY
+    }
+
+    /**
+     * BYDAY 항목, ordinal 0은 순번 없음 (해당 요일 전체)
+     */
+    public record WeekdayNum(int ordinal, DayOfWeek dayOfWeek) {
+
+        @Override
+        public String toString() {
+            return (ordinal != 0 ? String.valueOf(ordinal) : "") + dayOfWeek.name().substring(0, 2);
+        }
+    }
+
+    public RecurrenceRule {
+        if (frequency == null) {
+            throw new IllegalArgumentException("반복 주기(FREQ)는 필수입니다.");
+        }
+        if (interval < 1 || interval > MAX_INTERVAL) {
+            throw new IllegalArgumentException("반복 간격(INTERVAL)은 1~" + MAX_INTERVAL + " 사이여야 합니다.");
+        }
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("COUNT와 UNTIL은 함께 사용할 수 없습니다.");
+        }
+        if (count != null && (count < 1 || count > MAX_COUNT)) {
+            throw new IllegalArgumentException("반복 횟수(COUNT)는 1~" + MAX_COUNT + " 사이여야 합니다.");
+        }
+        byDay = byDay == null ? List.of() : List.copyOf(byDay);
+        byMonthDay = byMonthDay == null ? List.of() : List.copyOf(byMonthDay);
+
+        if (frequency != Frequency.MONTHLY) {
+            if (byDay.stream().anyMatch(day -> day.ordinal() != 0)) {
+                throw new IllegalArgumentException("BYDAY 순번(예: 1MO)은 MONTHLY에서만 사용할 수 있습니다.");
+            }
+            if (!byMonthDay.isEmpty()) {
+                throw new IllegalArgumentException("BYMONTHDAY는 MONTHLY에서만 사용할 수 있습니다.");
+            }
+        }
+        if (frequency == Frequency.YEARLY && !byDay.isEmpty()) {
+            throw new IllegalArgumentException("YEARLY에서는 BYDAY를 지원하지 않습니다.");
+        }
+        for (WeekdayNum day : byDay) {
+            if (Math.abs(day.ordinal()) > 5) {
+                throw new IllegalArgumentException("BYDAY 순번은 -5~5 사이여야 합니다: " + day);
+            }
+        }
+        for (int monthDay : byMonthDay) {
+            if (monthDay == 0 || Math.abs(monthDay) > 31) {
+                throw new IllegalArgumentException("BYMONTHDAY는 1~31 또는 -31~-1 이어야 합니다: " + monthDay);
+            }
+        }
+    }
+
+    public static RecurrenceRule parse(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("반복 규칙은 필수입니다.");
+        }
+        String rule = value.trim().toUpperCase(Locale.ROOT);
+        if (rule.startsWith("RRULE:")) {
+            rule = rule.substring("RRULE:".length());
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        List<WeekdayNum> byDay = List.of();
+        List<Integer> byMonthDay = List.of();
+        Integer count = null;
+        LocalDate until = null;
+
+        for (String part : rule.split(";")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            int separator = part.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("잘못된 반복 규칙입니다: " + part);
+            }
+            String name = part.substring(0, separator);
+            String partValue = part.substring(separator + 1);
+
+            try {
+                switch (name) {
+                    case "FREQ" -> frequency = Frequency.valueOf(partValue);
+                    case "INTERVAL" -> interval = Integer.parseInt(partValue);
+                    case "COUNT" -> count = Integer.parseInt(partValue);
+                    // 시각이 붙은 형식(yyyyMMdd'T'HHmmss'Z')은 날짜만 사용
+                    case "UNTIL" -> until = LocalDate.parse(partValue.substring(0, Math.min(8, partValue.length())), UNTIL_FORMAT);
+                    case "BYDAY" -> byDay = Arrays.stream(partValue.split(","))
+                            .map(RecurrenceRule::parseWeekdayNum)
+                            .toList();
+                    case "BYMONTHDAY" -> byMonthDay = Arrays.stream(partValue.split(","))
+                            .map(Integer::valueOf)
+                            .toList();
+                    case "WKST" -> {
+                        if (!"MO".equals(partValue)) {
+                            throw new IllegalArgumentException("주 시작 요일(WKST)은 MO만 지원합니다.");
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("지원하지 않는 반복 규칙 항목입니다: " + name);
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 반복 규칙 값입니다: " + part);
+            } catch (IllegalArgumentException e) {
+                if (e.getMessage() != null && e.getMessage().startsWith("No enum constant")) {
+                    throw new IllegalArgumentException("지원하지 않는 반복 주기입니다: " + partValue);
+                }
+                throw e;
+            }
+        }
+
+        return new RecurrenceRule(frequency, interval, byDay, byMonthDay, count, until);
+    }
+
+    /**
+     * 정규화된 RRULE 문자열 (기본값 INTERVAL=1은 생략)
+     */
+    @Override
+    public String toString() {
+        StringBuilder rule = new StringBuilder("FREQ=").append(frequency.name());
+        if (interval != 1) {
+            rule.append(";INTERVAL=").append(interval);
+        }
+        if (!byDay.isEmpty()) {
+            rule.append(";BYDAY=").append(byDay.stream().map(WeekdayNum::toString).collect(Collectors.joining(",")));
+        }
+        if (!byMonthDay.isEmpty()) {
+            rule.append(";BYMONTHDAY=").append(byMonthDay.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        }
+        if (count != null) {
+            rule.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            rule.append(";UNTIL=").append(until.format(UNTIL_FORMAT));
+        }
+        return rule.toString();
+    }
+
+    /**
+     * from~to(포함) 사이의 회차 날짜 (오름차순)
+     * - COUNT가 없으면 from이 속한 주기부터 바로 계산, 있으면 횟수를 세기 위해 첫 주기부터 계산
+     */
+    public List<LocalDate> occurrencesBetween(LocalDate start, LocalDate from, LocalDate to) {
+        List<LocalDate> occurrences = new ArrayList<>();
+        LocalDate end = until != null && until.isBefore(to) ? until : to;
+        if (end.isBefore(start) || end.isBefore(from)) {
+            return occurrences;
+        }
+
+        long period = count == null ? firstPeriodIndex(start, from) : 0;
+        int generated = 0;
+
+        while (true) {
+            LocalDate periodStart = periodStart(start, period);
+            if (periodStart.isAfter(end)) {
+                return occurrences;
+            }
+
+            for (LocalDate date : candidates(start, periodStart)) {
+                if (date.isBefore(start)) {
+                    continue;
+                }
+                if (date.isAfter(end)) {
+                    return occurrences;
+                }
+                generated++;
+                if (!date.isBefore(from)) {
+                    occurrences.add(date);
+                }
+                if (count != null && generated >= count) {
+                    return occurrences;
+                }
+            }
+            period++;
+        }
+    }
+
+    public boolean occursOn(LocalDate start, LocalDate date) {
+        return occurrencesBetween(start, date, date).contains(date);
+    }
+
+    /**
+     * 마지막 회차 날짜, 끝이 없는 규칙(COUNT/UNTIL 없음)이면 null
+     */
+    public LocalDate lastOccurrence(LocalDate start) {
+        if (count == null && until == null) {
+            return null;
+        }
+        LocalDate horizon = until != null ? until : start.plusYears(COUNT_HORIZON_YEARS);
+        List<LocalDate> occurrences = occurrencesBetween(start, start, horizon);
+        return occurrences.isEmpty() ? start : occurrences.get(occurrences.size() - 1);
+    }
+
+    private long firstPeriodIndex(LocalDate start, LocalDate from) {
+        if (!from.isAfter(start)) {
+            return 0;
+        }
+        long elapsed = switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(start, from);
+            case WEEKLY -> ChronoUnit.WEEKS.between(weekStart(start), weekStart(from));
+            case MONTHLY -> ChronoUnit.MONTHS.between(YearMonth.from(start), YearMonth.from(from));
+            case YEARLY -> from.getYear() - start.getYear();
+        };
+        return elapsed / interval;
+    }
+
+    private LocalDate periodStart(LocalDate start, long period) {
+        long step = period * interval;
+        return switch (frequency) {
+            case DAILY -> start.plusDays(step);
+            case WEEKLY -> weekStart(start).plusWeeks(step);
+            case MONTHLY -> start.withDayOfMonth(1).plusMonths(step);
+            case YEARLY -> start.withDayOfYear(1).plusYears(step);
+        };
+    }
+
+    /**
+     * 한 주기 안의 후보 날짜 (오름차순)
+     */
+    private List<LocalDate> candidates(LocalDate start, LocalDate periodStart) {
+        return switch (frequency) {
+            case DAILY -> matchesDayFilter(periodStart) ? List.of(periodStart) : List.of();
+            case WEEKLY -> weeklyCandidates(start, periodStart);
+            case MONTHLY -> monthlyCandidates(start, YearMonth.from(periodStart));
+            case YEARLY -> {
+                YearMonth yearMonth = YearMonth.of(periodStart.getYear(), start.getMonth());
+                yield yearMonth.isValidDay(start.getDayOfMonth())
+                        ? List.of(yearMonth.atDay(start.getDayOfMonth()))
+                        : List.of();
+            }
+        };
+    }
+
+    private boolean matchesDayFilter(LocalDate date) {
+        return byDay.isEmpty() || byDay.stream().anyMatch(day -> day.dayOfWeek() == date.getDayOfWeek());
+    }
+
+    private List<LocalDate> weeklyCandidates(LocalDate start, LocalDate weekStart) {
+        if (byDay.isEmpty()) {
+            return List.of(weekStart.with(TemporalAdjusters.nextOrSame(start.getDayOfWeek())));
+        }
+        Set<LocalDate> dates = new TreeSet<>();
+        byDay.forEach(day -> dates.add(weekStart.with(TemporalAdjusters.nextOrSame(day.dayOfWeek()))));
+        return new ArrayList<>(dates);
+    }
+
+    private List<LocalDate> monthlyCandidates(LocalDate start, YearMonth month) {
+        Set<LocalDate> dates = new TreeSet<>();
+        int length = month.lengthOfMonth();
+
+        if (!byMonthDay.isEmpty()) {
+            for (int monthDay : byMonthDay) {
+                int day = monthDay > 0 ? monthDay : length + monthDay + 1;
+                if (day >= 1 && day <= length) {
+                    LocalDate date = month.atDay(day);
+                    if (matchesDayFilter(date)) {
+                        dates.add(date);
+                    }
+                }
+            }
+        } else if (!byDay.isEmpty()) {
+            for (WeekdayNum day : byDay) {
+                LocalDate first = month.atDay(1).with(TemporalAdjusters.nextOrSame(day.dayOfWeek()));
+                List<LocalDate> inMonth = new ArrayList<>();
+                for (LocalDate date = first; !date.isAfter(month.atEndOfMonth()); date = date.plusWeeks(1)) {
+                    inMonth.add(date);
+                }
+
+                if (day.ordinal() == 0) {
+                    dates.addAll(inMonth);
+                } else {
+                    int index = day.ordinal() > 0 ? day.ordinal() - 1 : inMonth.size() + day.ordinal();
+                    if (index >= 0 && index < inMonth.size()) {
+                        dates.add(inMonth.get(index));
+                    }
+                }
+            }
+        } else if (start.getDayOfMonth() <= length) {
+            dates.add(month.atDay(start.getDayOfMonth()));
+        }
+        return new ArrayList<>(dates);
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static WeekdayNum parseWeekdayNum(String value) {
+        if (value.length() < 2) {
+            throw new IllegalArgumentException("잘못된 요일입니다: " + value);
+        }
+        String code = value.substring(value.length() - 2);
+        DayOfWeek dayOfWeek = DAY_CODES.get(code);
+        if (dayOfWeek == null) {
+            throw new IllegalArgumentException("잘못된 요일입니다: " + value);
+        }
+        String ordinal = value.substring(0, value.length() - 2);
+        return new WeekdayNum(ordinal.isEmpty() ? 0 : Integer.parseInt(ordinal.replace("+", "")), dayOfWeek);
+    }
+}
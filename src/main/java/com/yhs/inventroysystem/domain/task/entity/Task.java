@@ -19,7 +19,11 @@ import java.util.stream.Collectors;
         @Index(name = "idx_priority", columnList = "priority"),
         @Index(name = "idx_start_date", columnList = "startDate"),
         @Index(name = "idx_end_date", columnList = "endDate"),
-        @Index(name = "idx_created_at", columnList = "createdAt")
+        @Index(name = "idx_end_start_date", columnList = "endDate, startDate"),
+        @Index(name = "idx_created_at", columnList = "createdAt"),
+        @Index(name = "idx_tasks_modified_at", columnList = "modified_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_task_occurrence", columnNames = {"recurrence_id", "occurrence_date"})
 })
 @Getter
 @EntityListeners(AuditingEntityListener.class)
@@ -59,6 +63,17 @@ public class Task extends BaseTimeEntity {
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)  // OneToMany는 기본이 Lazy loading: 트랜잭션 범위 밖(컨트롤러)에서 getCategoryMappings 호출 시 에러 발생
     private List<TaskCategoryMapping> categoryMappings = new ArrayList<>();
 
+    // 카테고리 id/색상 비정규화 (TaskCategorySummary), 매핑 변경 시 함께 갱신
+    // JDBC로 매핑을 직접 쓰는 경로는 TaskRepository.refreshCategorySummary*로 다시 계산
+    @Column(name = "category_summary", length = 500)
+    private String categorySummary = "";
+
+    // 반복 일정(TaskRecurrence)에서 저장된 회차인 경우 템플릿 id와 원래 회차 날짜
+    @Column(name = "recurrence_id")
+    private Long recurrenceId;
+
+    @Column(name = "occurrence_date")
+    private LocalDate occurrenceDate;
 
     public Task(String title, String description, String authorName, LocalDate startDate, LocalDate endDate, TaskStatus status, Priority priority) {
         this.title = title;
@@ -90,6 +105,15 @@ public class Task extends BaseTimeEntity {
         this.priority = priority;
     }
 
+    public void linkOccurrence(Long recurrenceId, LocalDate occurrenceDate) {
+        this.recurrenceId = recurrenceId;
+        this.occurrenceDate = occurrenceDate;
+    }
+
+    public boolean isRecurrenceOccurrence() {
+        return this.recurrenceId != null;
+    }
+
     public void addCategory(TaskCategory category) {
         if (hasCategory(category)) {
             log.info("Task {} already has category {}. Skipping.", id, category.getId());
@@ -98,14 +122,18 @@ public class Task extends BaseTimeEntity {
 
         TaskCategoryMapping mapping = new TaskCategoryMapping(this, category);
         categoryMappings.add(mapping);
+        refreshCategorySummary();
     }
 
     public void removeCategory(TaskCategory category) {
-        categoryMappings.removeIf(mapping -> mapping.isMappedTo(category));
+        if (categoryMappings.removeIf(mapping -> mapping.isMappedTo(category))) {
+            refreshCategorySummary();
+        }
     }
 
     public void clearCategories() {
         categoryMappings.clear();
+        refreshCategorySummary();
     }
 
     public boolean hasCategory(TaskCategory category) {
@@ -123,6 +151,13 @@ public class Task extends BaseTimeEntity {
         return categoryMappings.size();
     }
 
+    /**
+     * 매핑 컬렉션을 로딩하지 않고 요약 컬럼에서 카테고리 id 조회 (표시 순서)
+     */
+    public List<Long> getCategoryIds() {
+        return TaskCategorySummary.parse(categorySummary).categoryIds();
+    }
+
     public boolean isInProgress() {
         return this.status == TaskStatus.IN_PROGRESS;
     }
@@ -147,6 +182,10 @@ public class Task extends BaseTimeEntity {
         return ChronoUnit.DAYS.between(startDate, endDate) + 1;
     }
 
+    private void refreshCategorySummary() {
+        this.categorySummary = TaskCategorySummary.format(getCategories());
+    }
+
     private void validateDatePeriod(LocalDate startDate, LocalDate endDate) {
         if (endDate.isBefore(startDate)) {
             throw new IllegalArgumentException(
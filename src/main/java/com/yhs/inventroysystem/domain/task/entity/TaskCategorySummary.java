@@ -0,0 +1,60 @@
+package com.yhs.inventroysystem.domain.task.entity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 작업의 카테고리 요약 (tasks.category_summary)
+ * - "카테고리ID:색상" 을 카테고리 표시 순서대로 ',' 로 이어 붙인 문자열, 카테고리가 없으면 빈 문자열
+ * - 목록/달력에서 매핑 테이블 조인 없이 카테고리 id와 색상 표시
+ * - DB에서 다시 계산하는 쿼리(TaskRepository.refreshCategorySummary*)와 형식/정렬이 같아야 함
+ */
+public record TaskCategorySummary(List<Entry> entries) {
+
+    private static final String ENTRY_SEPARATOR = ",";
+    private static final String VALUE_SEPARATOR = ":";
+
+    public static final Comparator<TaskCategory> DISPLAY_ORDER = Comparator
+            .comparing(TaskCategory::getDisplayOrder, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(TaskCategory::getId);
+
+    public record Entry(Long categoryId, String colorCode) {}
+
+    public static String format(List<TaskCategory> categories) {
+        StringBuilder summary = new StringBuilder();
+        categories.stream()
+                .sorted(DISPLAY_ORDER)
+                .forEach(category -> {
+                    if (!summary.isEmpty()) {
+                        summary.append(ENTRY_SEPARATOR);
+                    }
+                    summary.append(category.getId()).append(VALUE_SEPARATOR)
+                            .append(category.getColorCode() != null ? category.getColorCode() : "");
+                });
+        return summary.toString();
+    }
+
+    public static TaskCategorySummary parse(String summary) {
+        if (summary == null || summary.isEmpty()) {
+            return new TaskCategorySummary(List.of());
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (String token : summary.split(ENTRY_SEPARATOR)) {
+            int separator = token.indexOf(VALUE_SEPARATOR);
+            String colorCode = token.substring(separator + 1);
+            entries.add(new Entry(
+                    Long.valueOf(token.substring(0, separator)),
+                    colorCode.isEmpty() ? null : colorCode
+            ));
+        }
+        return new TaskCategorySummary(List.copyOf(entries));
+    }
+
+    public List<Long> categoryIds() {
+        return entries.stream()
+                .map(Entry::categoryId)
+                .toList();
+    }
+}
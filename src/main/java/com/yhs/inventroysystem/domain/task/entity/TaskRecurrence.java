@@ -0,0 +1,166 @@
+package com.yhs.inventroysystem.domain.task.entity;
+
+import com.yhs.inventroysystem.infrastructure.model.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 반복 일정 템플릿
+ * - 회차는 조회 범위만큼 규칙으로 펼쳐서 보여주고, 수정/완료된 회차만 tasks에 저장 (Task.recurrenceId + occurrenceDate)
+ * - 건너뛴 회차와 저장 후 삭제된 회차는 제외 날짜(exdates)로 기록
+ */
+@Entity
+@Table(name = "task_recurrences", indexes = {
+        @Index(name = "idx_recurrence_period", columnList = "startDate, seriesEndDate")
+})
+@Getter
+@NoArgsConstructor
+public class TaskRecurrence extends BaseTimeEntity {
+
+    public static final int MAX_DURATION_DAYS = 31;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "recurrence_id")
+    private Long id;
+
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "author_name", nullable = false, length = 50)
+    private String authorName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", nullable = false)
+    private Priority priority = Priority.MEDIUM;
+
+    @Column(name = "rrule", nullable = false, length = 200)
+    private String rrule;
+
+    // 규칙 기준일 (첫 회차 후보)
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    // 회차 하나의 기간 (1 = 당일)
+    @Column(name = "duration_days", nullable = false)
+    private int durationDays = 1;
+
+    // 마지막 회차의 종료일, 끝이 없는 규칙이면 null (조회 범위 필터용)
+    @Column(name = "series_end_date")
+    private LocalDate seriesEndDate;
+
+    // 회차 저장 시 붙일 카테고리 (TaskCategorySummary 형식)
+    @Column(name = "category_summary", length = 500)
+    private String categorySummary = "";
+
+    // 제외 날짜 (yyyy-MM-dd, ',' 구분)
+    @Column(name = "exdates", columnDefinition = "TEXT")
+    private String exdates = "";
+
+    @Transient
+    private RecurrenceRule rule;
+
+    public TaskRecurrence(String title, String description, String authorName, Priority priority,
+                          RecurrenceRule rule, LocalDate startDate, int durationDays,
+                          List<TaskCategory> categories) {
+        validateTitle(title);
+        validateDuration(durationDays);
+        if (startDate == null) {
+            throw new IllegalArgumentException("반복 시작일은 필수입니다.");
+        }
+
+        this.title = title;
+        this.description = description;
+        this.authorName = authorName;
+        this.priority = priority != null ? priority : Priority.MEDIUM;
+        this.startDate = startDate;
+        this.durationDays = durationDays;
+        this.categorySummary = TaskCategorySummary.format(categories);
+        applyRule(rule);
+    }
+
+    public RecurrenceRule getRule() {
+        if (rule == null) {
+            rule = RecurrenceRule.parse(rrule);
+        }
+        return rule;
+    }
+
+    /**
+     * from~to와 기간이 겹치는 회차의 시작일 (제외 날짜 제외)
+     */
+    public List<LocalDate> occurrencesOverlapping(LocalDate from, LocalDate to) {
+        Set<LocalDate> excluded = getExcludedDates();
+        return getRule().occurrencesBetween(startDate, from.minusDays(durationDays - 1L), to).stream()
+                .filter(date -> !excluded.contains(date))
+                .toList();
+    }
+
+    public boolean occursOn(LocalDate occurrenceDate) {
+        return !getExcludedDates().contains(occurrenceDate) && getRule().occursOn(startDate, occurrenceDate);
+    }
+
+    public LocalDate occurrenceEndDate(LocalDate occurrenceDate) {
+        return occurrenceDate.plusDays(durationDays - 1L);
+    }
+
+    public void exclude(LocalDate occurrenceDate) {
+        Set<LocalDate> excluded = getExcludedDates();
+        if (excluded.add(occurrenceDate)) {
+            this.exdates = excluded.stream()
+                    .map(LocalDate::toString)
+                    .collect(Collectors.joining(","));
+        }
+    }
+
+    public Set<LocalDate> getExcludedDates() {
+        if (exdates == null || exdates.isEmpty()) {
+            return new TreeSet<>();
+        }
+        return Arrays.stream(exdates.split(","))
+                .map(LocalDate::parse)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    public List<Long> getCategoryIds() {
+        return TaskCategorySummary.parse(categorySummary).categoryIds();
+    }
+
+    private void applyRule(RecurrenceRule rule) {
+        if (rule == null) {
+            throw new IllegalArgumentException("반복 규칙은 필수입니다.");
+        }
+        if (rule.until() != null && rule.until().isBefore(startDate)) {
+            throw new IllegalArgumentException(
+                    String.format("반복 종료일(%s)은 시작일(%s) 이후여야 합니다.", rule.until(), startDate));
+        }
+        this.rule = rule;
+        this.rrule = rule.toString();
+
+        LocalDate lastOccurrence = rule.lastOccurrence(startDate);
+        this.seriesEndDate = lastOccurrence != null ? occurrenceEndDate(lastOccurrence) : null;
+    }
+
+    private void validateTitle(String title) {
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("반복 일정 제목은 필수입니다.");
+        }
+    }
+
+    private void validateDuration(int durationDays) {
+        if (durationDays < 1 || durationDays > MAX_DURATION_DAYS) {
+            throw new IllegalArgumentException("회차 기간은 1~" + MAX_DURATION_DAYS + "일 사이여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.yhs.inventroysystem.domain.task.repository;
+
+import com.yhs.inventroysystem.domain.task.entity.Task;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 작업(Task) 일괄 저장용 JDBC 리포지토리
+ * - 생성된 task_id를 입력 순서대로 반환하여 다른 엔티티와 연결할 수 있도록 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskBulkRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tasks (title, description, author_name, start_date, end_date, status, priority, " +
+                    "category_summary, created_at, modified_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 아직 저장되지 않은 Task 엔티티를 배치로 저장하고 생성된 ID 목록 반환
+     */
+    public List<Long> batchInsert(List<Task> tasks) {
+        List<Long> generatedIds = new ArrayList<>(tasks.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < tasks.size(); from += BATCH_SIZE) {
+            List<Task> chunk = tasks.subList(from, Math.min(from + BATCH_SIZE, tasks.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            Task task = chunk.get(i);
+                            ps.setString(1, task.getTitle());
+                            ps.setString(2, task.getDescription());
+                            ps.setString(3, task.getAuthorName());
+                            ps.setObject(4, task.getStartDate());
+                            ps.setObject(5, task.getEndDate());
+                            ps.setString(6, task.getStatus().name());
+                            ps.setString(7, task.getPriority().name());
+                            ps.setString(8, task.getCategorySummary());
+                            ps.setTimestamp(9, now);
+                            ps.setTimestamp(10, now);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    },
+                    keyHolder);
+
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                generatedIds.add(((Number) keys.values().iterator().next()).longValue());
+            }
+        }
+
+        return generatedIds;
+    }
+}
@@ -0,0 +1,25 @@
+package com.yhs.inventroysystem.domain.task.repository;
+
+import com.yhs.inventroysystem.domain.task.entity.Priority;
+import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 달력 표시용 작업 프로젝션 (설명 등 본문 제외)
+ * - 카테고리 색상은 category_summary(TaskCategorySummary)에서 읽어 매핑 조인 없이 한 테이블 조회
+ * - modifiedAt은 응답 ETag 계산용
+ */
+public record TaskCalendarRow(
+        Long id,
+        String title,
+        LocalDate startDate,
+        LocalDate endDate,
+        TaskStatus status,
+        Priority priority,
+        String categorySummary,
+        Long recurrenceId,
+        LocalDate occurrenceDate,
+        LocalDateTime modifiedAt
+) {}
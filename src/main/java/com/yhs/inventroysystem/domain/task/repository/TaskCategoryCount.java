@@ -0,0 +1,11 @@
+package com.yhs.inventroysystem.domain.task.repository;
+
+/**
+ * 카테고리별 작업 수 집계 행
+ */
+public record TaskCategoryCount(
+        Long categoryId,
+        String categoryName,
+        String colorCode,
+        Long taskCount
+) {}
@@ -0,0 +1,102 @@
+package com.yhs.inventroysystem.domain.task.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 작업-카테고리 매핑 일괄 처리용 JDBC 리포지토리
+ * - 엔티티/연관관계 로딩 없이 미분류 작업 조회와 매핑 저장을 집합 단위로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskCategoryMappingBulkRepository {
+
+    private static final String SELECT_UNCATEGORIZED_SQL =
+            "SELECT t.task_id, t.title FROM tasks t " +
+                    "WHERE t.task_id > ? " +
+                    "AND NOT EXISTS (SELECT 1 FROM task_category_mappings m WHERE m.task_id = t.task_id) " +
+                    "ORDER BY t.task_id LIMIT ?";
+
+    // uk_task_category 중복(동시 실행/재실행)은 건너뜀
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO task_category_mappings (task_id, category_id, created_at, modified_at) " +
+                    "VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record UncategorizedTask(Long taskId, String title) {}
+
+    public record Assignment(Long taskId, Long categoryId) {}
+
+    /**
+     * 카테고리가 하나도 없는 작업을 task_id 순으로 limit건 조회 (keyset 순회)
+     */
+    public List<UncategorizedTask> findUncategorizedAfterId(long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_UNCATEGORIZED_SQL,
+                (rs, rowNum) -> new UncategorizedTask(rs.getLong("task_id"), rs.getString("title")),
+                afterId, limit);
+    }
+
+    /**
+     * 매핑 일괄 저장 후 카테고리 id별로 실제 저장된 행 수 반환 (이미 있는 매핑은 제외)
+     * - 드라이버가 배치를 합쳐 보내면 행별 건수 대신 SUCCESS_NO_INFO가 와서 건너뛴 중복을 구분할 수 없으므로
+     *   같은 트랜잭션에서 저장 전후 매핑 수를 세어 차이로 계산
+     */
+    public Map<Long, Integer> batchInsertIgnoringDuplicates(List<Assignment> assignments) {
+        if (assignments.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> taskIds = assignments.stream().map(Assignment::taskId).distinct().toList();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        Map<Long, Integer> before = countByCategory(taskIds);
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Assignment assignment = assignments.get(i);
+                ps.setLong(1, assignment.taskId());
+                ps.setLong(2, assignment.categoryId());
+                ps.setTimestamp(3, now);
+                ps.setTimestamp(4, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return assignments.size();
+            }
+        });
+
+        Map<Long, Integer> inserted = new HashMap<>();
+        countByCategory(taskIds).forEach((categoryId, count) -> {
+            int added = count - before.getOrDefault(categoryId, 0);
+            if (added > 0) {
+                inserted.put(categoryId, added);
+            }
+        });
+        return inserted;
+    }
+
+    private Map<Long, Integer> countByCategory(List<Long> taskIds) {
+        String placeholders = String.join(",", Collections.nCopies(taskIds.size(), "?"));
+        Map<Long, Integer> counts = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT category_id, COUNT(*) AS mapping_count FROM task_category_mappings " +
+                        "WHERE task_id IN (" + placeholders + ") GROUP BY category_id",
+                rs -> {
+                    counts.put(rs.getLong("category_id"), rs.getInt("mapping_count"));
+                },
+                taskIds.toArray());
+        return counts;
+    }
+}
@@ -71,4 +71,14 @@ public interface TaskCategoryMappingRepository extends JpaRepository<TaskCategor
      * 특정 카테고리에 연결된 작업 수 조회
      */
     long countByCategoryId(Long categoryId);
+
+    /**
+     * 카테고리별 작업 수를 한 번의 GROUP BY로 집계 (작업이 없는 카테고리 포함)
+     */
+    @Query("SELECT new com.yhs.inventroysystem.domain.task.repository.TaskCategoryCount(" +
+            "c.id, c.name, c.colorCode, COUNT(tcm.id)) " +
+            "FROM TaskCategory c LEFT JOIN c.taskMappings tcm " +
+            "GROUP BY c.id, c.name, c.colorCode, c.displayOrder " +
+            "ORDER BY c.displayOrder ASC")
+    List<TaskCategoryCount> countTasksGroupByCategory();
 }
\ No newline at end of file
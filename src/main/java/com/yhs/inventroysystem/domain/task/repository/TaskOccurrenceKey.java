@@ -0,0 +1,11 @@
+package com.yhs.inventroysystem.domain.task.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 저장된 반복 일정 회차 식별자 (템플릿 id + 원래 회차 날짜)
+ */
+public record TaskOccurrenceKey(
+        Long recurrenceId,
+        LocalDate occurrenceDate
+) {}
@@ -0,0 +1,23 @@
+package com.yhs.inventroysystem.domain.task.repository;
+
+import com.yhs.inventroysystem.domain.task.entity.TaskRecurrence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TaskRecurrenceRepository extends JpaRepository<TaskRecurrence, Long> {
+
+    List<TaskRecurrence> findAllByOrderByStartDateAscIdAsc();
+
+    /**
+     * 조회 범위와 기간이 겹칠 수 있는 반복 일정 (끝이 없는 규칙 포함)
+     */
+    @Query("SELECT r FROM TaskRecurrence r " +
+            "WHERE r.startDate <= :to AND (r.seriesEndDate IS NULL OR r.seriesEndDate >= :from)")
+    List<TaskRecurrence> findOverlapping(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
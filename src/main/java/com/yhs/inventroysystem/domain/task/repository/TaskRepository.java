@@ -6,17 +6,20 @@ import com.yhs.inventroysystem.domain.task.entity.Task;
 import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends CrudRepository<Task, Long> {
+public interface TaskRepository extends CrudRepository<Task, Long>, JpaSpecificationExecutor<Task> {
 
     // ==================== Fetch Join 쿼리들 ====================
     /**
@@ -80,33 +83,6 @@ public interface TaskRepository extends CrudRepository<Task, Long> {
             @Param("currentDate") LocalDate currentDate,
             @Param("completedStatus") TaskStatus completedStatus);
 
-    /**
-     * 복합 검색 (fetch join 제거, @BatchSize로 N+1 해결)
-     */
-    @Query(value = "SELECT t FROM Task t " +
-            "WHERE (:title IS NULL OR UPPER(t.title) LIKE UPPER(CONCAT('%', :title, '%'))) AND " +
-            "(:authorName IS NULL OR UPPER(t.authorName) LIKE UPPER(CONCAT('%', :authorName, '%'))) AND " +
-            "(:statusList IS NULL OR t.status IN :statusList) AND " +
-            "(:priority IS NULL OR t.priority = :priority) AND " +
-            "(:startDate IS NULL OR t.startDate >= :startDate) AND " +
-            "(:endDate IS NULL OR t.endDate <= :endDate) " +
-            "ORDER BY t.priority DESC, t.createdAt DESC",
-            countQuery = "SELECT COUNT(t) FROM Task t " +
-                    "WHERE (:title IS NULL OR UPPER(t.title) LIKE UPPER(CONCAT('%', :title, '%'))) AND " +
-                    "(:authorName IS NULL OR UPPER(t.authorName) LIKE UPPER(CONCAT('%', :authorName, '%'))) AND " +
-                    "(:statusList IS NULL OR t.status IN :statusList) AND " +
-                    "(:priority IS NULL OR t.priority = :priority) AND " +
-                    "(:startDate IS NULL OR t.startDate >= :startDate) AND " +
-                    "(:endDate IS NULL OR t.endDate <= :endDate)")
-    Page<Task> findTasksWithFiltersAndCategories(
-            @Param("title") String title,
-            @Param("authorName") String authorName,
-            @Param("statusList") List<TaskStatus> statusList,
-            @Param("priority") Priority priority,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate,
-            Pageable pageable);
-
     /**
      * 카테고리별 작업 조회 + 카테고리 Fetch Join
      */
@@ -118,14 +94,66 @@ public interface TaskRepository extends CrudRepository<Task, Long> {
     List<Task> findTasksByCategoryWithCategories(@Param("categoryId") Long categoryId);
 
     /**
-     * Task ID 목록으로 작업 조회 + 카테고리 Fetch Join
+     * 카테고리별 작업 조회 (페이징)
+     * - 매핑의 category_id 인덱스로 작업 id만 좁힌 뒤 tasks 한 테이블에서 정렬/페이징, 중복 제거 불필요
+     * - 카테고리 표시는 category_summary 사용 (매핑/카테고리 Fetch Join 없음)
      */
-    @Query("SELECT DISTINCT t FROM Task t " +
-            "LEFT JOIN FETCH t.categoryMappings cm " +
-            "LEFT JOIN FETCH cm.category " +
-            "WHERE t.id IN :taskIds " +
-            "ORDER BY t.priority DESC, t.createdAt DESC")
-    List<Task> findTasksByIdsWithCategories(@Param("taskIds") List<Long> taskIds);
+    @Query(value = "SELECT t FROM Task t " +
+            "WHERE t.id IN (SELECT m.task.id FROM TaskCategoryMapping m WHERE m.category.id = :categoryId)",
+            countQuery = "SELECT COUNT(m) FROM TaskCategoryMapping m WHERE m.category.id = :categoryId")
+    Page<Task> findByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    /**
+     * 반복 일정 회차 중 이미 저장된 회차 (가상 회차에서 제외)
+     */
+    @Query("SELECT new com.yhs.inventroysystem.domain.task.repository.TaskOccurrenceKey(t.recurrenceId, t.occurrenceDate) " +
+            "FROM Task t " +
+            "WHERE t.recurrenceId IN :recurrenceIds AND t.occurrenceDate BETWEEN :from AND :to")
+    List<TaskOccurrenceKey> findOccurrenceKeys(@Param("recurrenceIds") Collection<Long> recurrenceIds,
+                                               @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to);
+
+    Optional<Task> findByRecurrenceIdAndOccurrenceDate(Long recurrenceId, LocalDate occurrenceDate);
+
+    /**
+     * 반복 일정 삭제 시 저장된 회차는 일반 작업으로 남김
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.recurrenceId = NULL, t.occurrenceDate = NULL WHERE t.recurrenceId = :recurrenceId")
+    int detachRecurrence(@Param("recurrenceId") Long recurrenceId);
+
+    /**
+     * category_summary 재계산 식 (TaskCategorySummary.format과 같은 형식/정렬)
+     */
+    String CATEGORY_SUMMARY_SQL = "COALESCE((SELECT GROUP_CONCAT(CONCAT(c.id, ':', COALESCE(c.color_code, '')) " +
+            "ORDER BY c.display_order, c.id SEPARATOR ',') " +
+            "FROM task_category_mappings m JOIN task_categories c ON c.id = m.category_id " +
+            "WHERE m.task_id = t.task_id), '')";
+
+    /**
+     * JDBC로 매핑을 직접 저장한 작업의 category_summary 재계산
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE tasks t SET t.category_summary = " + CATEGORY_SUMMARY_SQL +
+            " WHERE t.task_id IN (:taskIds)", nativeQuery = true)
+    int refreshCategorySummaries(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * 카테고리 색상/표시 순서 변경 시 해당 카테고리가 붙은 작업의 category_summary 재계산
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE tasks t SET t.category_summary = " + CATEGORY_SUMMARY_SQL +
+            " WHERE t.task_id IN (SELECT cm.task_id FROM task_category_mappings cm WHERE cm.category_id = :categoryId)",
+            nativeQuery = true)
+    int refreshCategorySummariesByCategoryId(@Param("categoryId") Long categoryId);
+
+    /**
+     * category_summary가 비어 있는(컬럼 추가 이전, 시드 등 JDBC 저장) 작업 채우기
+     */
+    @Modifying
+    @Query(value = "UPDATE tasks t SET t.category_summary = " + CATEGORY_SUMMARY_SQL +
+            " WHERE t.category_summary IS NULL", nativeQuery = true)
+    int fillMissingCategorySummaries();
 
     // ==================== 기존 쿼리들 (카테고리 없이) ====================
 
@@ -154,32 +182,32 @@ public interface TaskRepository extends CrudRepository<Task, Long> {
     List<Task> findHighPriorityTasks(@Param("priorities") List<Priority> priorities,
                                      @Param("completedStatus") TaskStatus completedStatus);
 
-    // 상태별 개수 조회
-    long countByStatus(TaskStatus status);
+    /**
+     * 달력 범위와 기간이 겹치는 작업 조회 (슬림 프로젝션)
+     * - 선택 조건 없이 범위 조건만 사용해 start_date / end_date 인덱스를 탈 수 있도록 함
+     */
+    @Query("SELECT new com.yhs.inventroysystem.domain.task.repository.TaskCalendarRow(" +
+            "t.id, t.title, t.startDate, t.endDate, t.status, t.priority, t.categorySummary, t.recurrenceId, t.occurrenceDate, t.lastModifiedAt) " +
+            "FROM Task t " +
+            "WHERE t.startDate <= :to AND t.endDate >= :from " +
+            "ORDER BY t.startDate ASC, t.id ASC")
+    List<TaskCalendarRow> findCalendarRows(@Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
 
-    // 우선순위별 개수 조회
-    long countByPriority(Priority priority);
+    /**
+     * 상태 x 우선순위별 작업 수 + 지연 작업 수를 한 번의 GROUP BY로 집계
+     */
+    @Query("SELECT new com.yhs.inventroysystem.domain.task.repository.TaskStatusPriorityCount(" +
+            "t.status, t.priority, COUNT(t), " +
+            "SUM(CASE WHEN t.endDate < :currentDate AND t.status <> :completedStatus THEN 1L ELSE 0L END)) " +
+            "FROM Task t " +
+            "GROUP BY t.status, t.priority")
+    List<TaskStatusPriorityCount> countGroupByStatusAndPriority(@Param("currentDate") LocalDate currentDate,
+                                                                @Param("completedStatus") TaskStatus completedStatus);
 
     // 페이징 조회 (우선순위, 생성일 순)
     Page<Task> findAllByOrderByPriorityDescCreatedAtDesc(Pageable pageable);
 
-    // 복합 검색
-    @Query("SELECT t FROM Task t WHERE " +
-            "(:title IS NULL OR UPPER(t.title) LIKE UPPER(CONCAT('%', :title, '%'))) AND " +
-            "(:authorName IS NULL OR UPPER(t.authorName) LIKE UPPER(CONCAT('%', :authorName, '%'))) AND " +
-            "(:statusList IS NULL OR t.status IN :statusList) AND " +
-            "(:priority IS NULL OR t.priority = :priority) AND " +
-            "(:startDate IS NULL OR t.startDate >= :startDate) AND " +
-            "(:endDate IS NULL OR t.endDate <= :endDate) " +
-            "ORDER BY t.priority DESC, t.createdAt DESC")
-    Page<Task> findTasksWithFilters(@Param("title") String title,
-                                    @Param("authorName") String authorName,
-                                    @Param("statusList") List<TaskStatus> statusList,
-                                    @Param("priority") Priority priority,
-                                    @Param("startDate") LocalDate startDate,
-                                    @Param("endDate") LocalDate endDate,
-                                    Pageable pageable);
-
     @Query("SELECT t FROM Task t")
     List<Task> findAll();
 }
\ No newline at end of file
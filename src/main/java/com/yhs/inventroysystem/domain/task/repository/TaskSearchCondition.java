@@ -0,0 +1,19 @@
+package com.yhs.inventroysystem.domain.task.repository;
+
+import com.yhs.inventroysystem.domain.task.entity.Priority;
+import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 작업 검색 조건 - null/빈 값인 조건은 쿼리에 포함하지 않음
+ */
+public record TaskSearchCondition(
+        String title,
+        String authorName,
+        List<TaskStatus> statusList,
+        Priority priority,
+        LocalDate startDate,
+        LocalDate endDate
+) {}
@@ -0,0 +1,70 @@
+package com.yhs.inventroysystem.domain.task.repository;
+
+import com.yhs.inventroysystem.domain.task.entity.Task;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 작업 검색 Specification
+ * - 전달된 조건만 WHERE 절에 추가 (":x IS NULL OR ..." 형태의 조건을 만들지 않음)
+ */
+public final class TaskSpecifications {
+
+    /**
+     * 검색 정렬 (우선순위, 생성일 역순) - id를 마지막 키로 두어 keyset 스크롤에서도 순서가 유일하도록 함
+     */
+    public static final Sort SEARCH_SORT = Sort.by(
+            Sort.Order.desc("priority"),
+            Sort.Order.desc("createdAt"),
+            Sort.Order.desc("id")
+    );
+
+    // MariaDB 문자열 리터럴에서 역슬래시가 이스케이프 문자로 해석되므로 '!' 사용
+    private static final char LIKE_ESCAPE = '!';
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> matching(TaskSearchCondition condition) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (hasText(condition.title())) {
+                predicates.add(cb.like(cb.upper(root.get("title")), containsPattern(condition.title()), LIKE_ESCAPE));
+            }
+            if (hasText(condition.authorName())) {
+                predicates.add(cb.like(cb.upper(root.get("authorName")), containsPattern(condition.authorName()), LIKE_ESCAPE));
+            }
+            if (condition.statusList() != null && !condition.statusList().isEmpty()) {
+                predicates.add(root.get("status").in(condition.statusList()));
+            }
+            if (condition.priority() != null) {
+                predicates.add(cb.equal(root.get("priority"), condition.priority()));
+            }
+            if (condition.startDate() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("startDate"), condition.startDate()));
+            }
+            if (condition.endDate() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("endDate"), condition.endDate()));
+            }
+
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String containsPattern(String keyword) {
+        String escaped = keyword.trim().toUpperCase()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,15 @@
+package com.yhs.inventroysystem.domain.task.repository;
+
+import com.yhs.inventroysystem.domain.task.entity.Priority;
+import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
+
+/**
+ * 상태 x 우선순위별 작업 수 집계 행
+ * - overdueCount: 종료일이 지났지만 완료되지 않은 작업 수
+ */
+public record TaskStatusPriorityCount(
+        TaskStatus status,
+        Priority priority,
+        Long taskCount,
+        Long overdueCount
+) {}
@@ -9,20 +9,30 @@ import com.yhs.inventroysystem.domain.task.entity.Priority;
 import com.yhs.inventroysystem.domain.task.entity.Task;
 import com.yhs.inventroysystem.domain.task.entity.TaskCategory;
 import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
+import com.yhs.inventroysystem.domain.task.repository.TaskCalendarRow;
+import com.yhs.inventroysystem.domain.task.repository.TaskOccurrenceKey;
 import com.yhs.inventroysystem.domain.task.repository.TaskRepository;
+import com.yhs.inventroysystem.domain.task.repository.TaskSearchCondition;
+import com.yhs.inventroysystem.domain.task.repository.TaskSpecifications;
+import com.yhs.inventroysystem.domain.task.repository.TaskStatusPriorityCount;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -77,8 +87,42 @@ public class TaskDomainService {
     public List<Task> findByStatusWithCategories(TaskStatus status) {
         return taskRepository.findByStatusWithCategories(status);
     }
-    public List<Task> findTasksByIdsWithCategories(List<Long> categoryIds) {
-        return taskRepository.findTasksByIdsWithCategories(categoryIds);
+    public Page<Task> findTasksByCategoryId(Long categoryId, Pageable pageable) {
+        return taskRepository.findByCategoryId(categoryId, pageable);
+    }
+
+    @Transactional
+    public int refreshCategorySummaries(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+        return taskRepository.refreshCategorySummaries(taskIds);
+    }
+
+    @Transactional
+    public int refreshCategorySummariesByCategoryId(Long categoryId) {
+        return taskRepository.refreshCategorySummariesByCategoryId(categoryId);
+    }
+
+    public List<TaskOccurrenceKey> findOccurrenceKeys(Collection<Long> recurrenceIds, LocalDate from, LocalDate to) {
+        if (recurrenceIds.isEmpty()) {
+            return List.of();
+        }
+        return taskRepository.findOccurrenceKeys(recurrenceIds, from, to);
+    }
+
+    public Optional<Task> findOccurrenceTask(Long recurrenceId, LocalDate occurrenceDate) {
+        return taskRepository.findByRecurrenceIdAndOccurrenceDate(recurrenceId, occurrenceDate);
+    }
+
+    @Transactional
+    public int detachRecurrence(Long recurrenceId) {
+        return taskRepository.detachRecurrence(recurrenceId);
+    }
+
+    @Transactional
+    public int fillMissingCategorySummaries() {
+        return taskRepository.fillMissingCategorySummaries();
     }
 
     public List<Task> findByPriorityWithCategories(Priority priority) {
@@ -102,12 +146,28 @@ public class TaskDomainService {
         return taskRepository.findOverdueTasksWithCategories(targetDate, status);
     }
 
-    public Page<Task> findTasksWithFiltersAndCategories(String title, String authorName,
-                                                        List<TaskStatus> statusList, Priority priority,
-                                                        LocalDate startDate, LocalDate endDate,
-                                                        Pageable pageable) {
-        return taskRepository.findTasksWithFiltersAndCategories(
-                title, authorName, statusList, priority, startDate, endDate, pageable);
+    /**
+     * 조건 검색 - 전체 건수 포함 (count 쿼리 실행)
+     */
+    public Page<Task> searchTasks(TaskSearchCondition condition, int page, int size) {
+        return taskRepository.findAll(TaskSpecifications.matching(condition),
+                PageRequest.of(page, size, TaskSpecifications.SEARCH_SORT));
+    }
+
+    /**
+     * 조건 검색 - 전체 건수 없이 다음 페이지 존재 여부만 (size + 1건 조회, count 쿼리 생략)
+     */
+    public Slice<Task> searchTasksSlice(TaskSearchCondition condition, int page, int size) {
+        return taskRepository.findBy(TaskSpecifications.matching(condition),
+                query -> query.slice(PageRequest.of(page, size, TaskSpecifications.SEARCH_SORT)));
+    }
+
+    /**
+     * 조건 검색 - keyset 이어 조회 (OFFSET 없이 마지막 정렬 키 이후부터)
+     */
+    public Window<Task> scrollTasks(TaskSearchCondition condition, KeysetScrollPosition position, int size) {
+        return taskRepository.findBy(TaskSpecifications.matching(condition),
+                query -> query.sortBy(TaskSpecifications.SEARCH_SORT).limit(size).scroll(position));
     }
 
     @Transactional
@@ -116,12 +176,12 @@ public class TaskDomainService {
         taskRepository.delete(task);
     }
 
-    public Long countByStatus(TaskStatus status) {
-        return taskRepository.countByStatus(status);
+    public List<TaskCalendarRow> findCalendarRows(LocalDate from, LocalDate to) {
+        return taskRepository.findCalendarRows(from, to);
     }
 
-    public Long countByPriority(Priority priority) {
-        return taskRepository.countByPriority(priority);
+    public List<TaskStatusPriorityCount> countGroupByStatusAndPriority(LocalDate currentDate) {
+        return taskRepository.countGroupByStatusAndPriority(currentDate, TaskStatus.COMPLETED);
     }
 
     public void validateDateRange(LocalDate startDate, LocalDate endDate) {
@@ -1,6 +1,7 @@
 package com.yhs.inventroysystem.domain.task.service;
 
 import com.yhs.inventroysystem.domain.task.entity.TaskCategory;
+import com.yhs.inventroysystem.domain.task.repository.TaskCategoryCount;
 import com.yhs.inventroysystem.domain.task.repository.TaskCategoryMappingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,4 +25,8 @@ public class TaskMappingDomainService {
         return taskCategoryMappingRepository.findTaskIdsByCategoryId(categoryId);
     }
 
+    public List<TaskCategoryCount> countTasksGroupByCategory() {
+        return taskCategoryMappingRepository.countTasksGroupByCategory();
+    }
+
 }
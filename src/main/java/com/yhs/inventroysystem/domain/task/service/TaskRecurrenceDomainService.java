@@ -0,0 +1,53 @@
+package com.yhs.inventroysystem.domain.task.service;
+
+import com.yhs.inventroysystem.domain.exception.ResourceNotFoundException;
+import com.yhs.inventroysystem.domain.task.entity.TaskRecurrence;
+import com.yhs.inventroysystem.domain.task.repository.TaskRecurrenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class TaskRecurrenceDomainService {
+
+    private final TaskRecurrenceRepository taskRecurrenceRepository;
+
+    @Transactional
+    public TaskRecurrence saveRecurrence(TaskRecurrence recurrence) {
+        return taskRecurrenceRepository.save(recurrence);
+    }
+
+    public TaskRecurrence findRecurrenceById(Long recurrenceId) {
+        return taskRecurrenceRepository.findById(recurrenceId)
+                .orElseThrow(() -> ResourceNotFoundException.taskRecurrence(recurrenceId));
+    }
+
+    public List<TaskRecurrence> findAllRecurrences() {
+        return taskRecurrenceRepository.findAllByOrderByStartDateAscIdAsc();
+    }
+
+    public List<TaskRecurrence> findOverlapping(LocalDate from, LocalDate to) {
+        return taskRecurrenceRepository.findOverlapping(from, to);
+    }
+
+    /**
+     * 저장된 회차가 삭제되면 같은 날짜의 가상 회차가 다시 보이지 않도록 제외 (템플릿이 이미 없으면 무시)
+     */
+    @Transactional
+    public void excludeOccurrence(Long recurrenceId, LocalDate occurrenceDate) {
+        taskRecurrenceRepository.findById(recurrenceId)
+                .ifPresent(recurrence -> recurrence.exclude(occurrenceDate));
+    }
+
+    @Transactional
+    public void deleteRecurrence(TaskRecurrence recurrence) {
+        taskRecurrenceRepository.delete(recurrence);
+    }
+}
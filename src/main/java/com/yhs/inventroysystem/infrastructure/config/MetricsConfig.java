@@ -0,0 +1,26 @@
+package com.yhs.inventroysystem.infrastructure.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Actuator/Micrometer 설정
+ * - /actuator/prometheus: 엔드포인트 타이머(http.server.requests), Hibernate 통계, HikariCP 풀, @Timed 서비스 타이머
+ * - actuator는 127.0.0.1:8081 관리 포트로 분리 (management.server.port)
+ * - 기본값은 metrics.properties (application.yml 설정이 우선)
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    /**
+     * 서비스 메서드의 @Timed 처리
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
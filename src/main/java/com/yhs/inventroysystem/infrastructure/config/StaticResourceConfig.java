@@ -0,0 +1,61 @@
+package com.yhs.inventroysystem.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정적 리소스 제공 설정 (보안 필터 체인은 SecurityConfig에서 제외)
+ * - /js, /css: 내용 해시 URL(th:src="@{/js/...}" → /js/app-<md5>.js) + 1년 immutable 캐시
+ * - /webjars: 경로에 버전이 포함되어 있으므로 그대로 1년 캐시
+ * - /images: JS에서 버전 없는 URL로도 접근하므로 1일 캐시
+ * - 빌드 시 만든 .gz(또는 배포 시 넣은 .br)가 있으면 Accept-Encoding에 따라 압축본을 그대로 전송
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private static final CacheControl VERSIONED_CACHE =
+            CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    private static final List<String> VERSIONED_DIRECTORIES = List.of("js", "css");
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String directory : VERSIONED_DIRECTORIES) {
+            registry.addResourceHandler("/" + directory + "/**")
+                    .addResourceLocations("classpath:/static/" + directory + "/")
+                    .setCacheControl(VERSIONED_CACHE)
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+
+        registry.addResourceHandler("/webjars/**")
+                .addResourceLocations("classpath:/META-INF/resources/webjars/")
+                .setCacheControl(VERSIONED_CACHE)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+
+        registry.addResourceHandler("/images/**")
+                .addResourceLocations("classpath:/static/images/")
+                .setCacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic())
+                .resourceChain(true)
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+
+    /**
+     * 템플릿의 @{/js/...} 링크를 내용 해시가 붙은 URL로 변환
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+}
@@ -0,0 +1,97 @@
+package com.yhs.inventroysystem.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class TaskExecutorConfig {
+
+    /**
+     * MVC 비동기 응답(StreamingResponseBody 엑셀 스트리밍) 처리용 작업 풀
+     * - Executor 빈을 직접 등록하면 Boot 기본 applicationTaskExecutor가 생성되지 않아
+     *   MVC가 요청마다 스레드를 만드는 SimpleAsyncTaskExecutor로 대체되므로 명시적으로 지정 (WebAsyncConfig)
+     * - 동시 스트리밍 수를 제한하고, 대기열이 가득 차면 TaskRejectedException 발생
+     */
+    @Bean(name = "mvcAsyncExecutor")
+    public ThreadPoolTaskExecutor mvcAsyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 엑셀 내보내기 전용 작업 풀
+     * - 동시에 생성되는 파일 수를 제한해 DB 커넥션/메모리 사용량을 묶어둠
+     * - 대기열이 가득 차면 TaskRejectedException 발생
+     */
+    @Bean(name = "exportJobExecutor")
+    public ThreadPoolTaskExecutor exportJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("excel-export-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이미지 썸네일 생성용 작업 풀
+     * - 디코딩 중 메모리 사용이 크므로 스레드 1개로 순차 처리
+     * - 대기열이 가득 차면 건너뛰고, 썸네일 요청 시 동기 생성으로 보완
+     */
+    @Bean(name = "imageDerivativeExecutor")
+    public ThreadPoolTaskExecutor imageDerivativeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("image-derivative-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 커밋 후 파일 삭제 대기열 처리용 작업 풀
+     * - 워커 1개가 대기열을 순서대로 비우므로 스레드 1개, 깨우기 요청은 합쳐서 들어옴
+     */
+    @Bean(name = "fileCleanupExecutor")
+    public ThreadPoolTaskExecutor fileCleanupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("file-cleanup-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 검색 색인 갱신용 작업 풀
+     * - Lucene IndexWriter 쓰기를 한 스레드로 직렬화, 커밋 후 깨우기 요청은 합쳐서 들어옴
+     * - searchIndex에 의존하도록 두어 종료 시 이 풀이 먼저 작업을 마치고 나서 색인이 닫히도록 함
+     */
+    @Bean(name = "searchIndexExecutor")
+    @DependsOn("searchIndex")
+    public ThreadPoolTaskExecutor searchIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("search-index-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
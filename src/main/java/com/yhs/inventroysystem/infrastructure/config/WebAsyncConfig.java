@@ -0,0 +1,26 @@
+package com.yhs.inventroysystem.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * MVC 비동기 처리 설정
+ * - StreamingResponseBody 등 비동기 응답을 크기가 제한된 mvcAsyncExecutor에서 실행
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    private final AsyncTaskExecutor mvcAsyncExecutor;
+
+    public WebAsyncConfig(@Qualifier("mvcAsyncExecutor") AsyncTaskExecutor mvcAsyncExecutor) {
+        this.mvcAsyncExecutor = mvcAsyncExecutor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncExecutor);
+    }
+}
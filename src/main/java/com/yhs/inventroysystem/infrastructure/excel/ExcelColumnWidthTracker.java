@@ -0,0 +1,44 @@
+package com.yhs.inventroysystem.infrastructure.excel;
+
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * 스트리밍(SXSSF) 엑셀 작성용 열 너비 계산기
+ * - autoSizeColumn은 모든 셀을 AWT 폰트로 측정하므로 느리고, 디스크로 flush된 행은 측정할 수 없음
+ * - 셀에 쓴 문자열의 최대 길이를 기록해 두었다가 마지막에 한 번에 너비 지정
+ */
+public class ExcelColumnWidthTracker {
+
+    private static final int MAX_COLUMN_WIDTH = 255 * 256;
+    private static final int PADDING = 1024; // 기존 autoSizeColumn 후 더하던 여유 폭과 동일
+
+    private final int[] maxWidthUnits;
+
+    public ExcelColumnWidthTracker(int columnCount) {
+        this.maxWidthUnits = new int[columnCount];
+    }
+
+    /**
+     * 셀에 표시될 문자열 기록 (한글 등 전각 문자는 2칸으로 계산)
+     */
+    public void track(int column, String text) {
+        if (text == null || column >= maxWidthUnits.length) {
+            return;
+        }
+
+        int units = 0;
+        for (int i = 0; i < text.length(); i++) {
+            units += text.charAt(i) > 0x7F ? 2 : 1;
+        }
+
+        if (units > maxWidthUnits[column]) {
+            maxWidthUnits[column] = units;
+        }
+    }
+
+    public void applyTo(Sheet sheet) {
+        for (int i = 0; i < maxWidthUnits.length; i++) {
+            sheet.setColumnWidth(i, Math.min(maxWidthUnits[i] * 256 + PADDING, MAX_COLUMN_WIDTH));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.yhs.inventroysystem.infrastructure.file;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 내용 기반 중복 제거 저장소
+ * - 업로드를 임시 파일로 쓰면서 SHA-256을 계산하고, uploads/blobs/{앞 2자리}/{해시} 경로에 한 번만 저장
+ * - 같은 내용은 디렉토리(저장 유형)와 무관하게 하나의 blob을 공유하고 file_blobs에서 참조 수 관리
+ * - delete는 마지막 참조일 때만 실제 파일 삭제
+ * - 참조 수 갱신 후 파일을 배치하므로, 동시에 삭제 중인 blob은 행 잠금 해제 후 다시 채워짐
+ * - blob 경로가 아닌 기존(UUID) 파일은 LocalFileStorageService와 동일하게 처리
+ */
+@Component("contentAddressedFileStorage")
+@RequiredArgsConstructor
+@Slf4j
+public class ContentAddressedFileStorageService implements FileStorageService {
+
+    private static final Path BLOB_ROOT = Paths.get(System.getProperty("user.dir"), "uploads", "blobs")
+            .toAbsolutePath()
+            .normalize();
+    private static final Path TEMP_DIR = BLOB_ROOT.resolve("tmp");
+
+    private final FileBlobRepository fileBlobRepository;
+    private final LocalFileStorageService localFileStorageService;
+
+    @Override
+    public FileUploadResult store(MultipartFile file, String directory) {
+        try (InputStream inputStream = file.getInputStream()) {
+            return store(inputStream, file.getOriginalFilename(), directory);
+        } catch (IOException e) {
+            throw new FileStorageException("파일 저장 실패: " + file.getOriginalFilename(), e);
+        }
+    }
+
+    @Override
+    public FileUploadResult store(InputStream inputStream, String originalFileName, String directory) {
+        Path tempFile = null;
+        try {
+            Files.createDirectories(TEMP_DIR);
+            tempFile = Files.createTempFile(TEMP_DIR, "upload-", ".tmp");
+
+            // 디스크에 쓰는 동안 해시 계산 (파일을 두 번 읽지 않음)
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long fileSize;
+            try (InputStream digestStream = new DigestInputStream(inputStream, digest)) {
+                fileSize = Files.copy(digestStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+            Path blobPath = resolveBlobPath(contentHash);
+
+            fileBlobRepository.acquire(contentHash, blobPath.toString(), fileSize);
+
+            if (Files.exists(blobPath)) {
+                log.debug("중복 파일 재사용: {} ({})", originalFileName, contentHash);
+            } else {
+                Files.createDirectories(blobPath.getParent());
+                Files.move(tempFile, blobPath, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            return new FileUploadResult(
+                    originalFileName,
+                    contentHash,
+                    blobPath.toString(),
+                    fileSize
+            );
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new FileStorageException("파일 저장 실패: " + originalFileName, e);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    @Override
+    public void delete(String filePath) {
+        Path path = Paths.get(filePath).toAbsolutePath().normalize();
+
+        if (!isBlobPath(path)) {
+            localFileStorageService.delete(filePath);
+            return;
+        }
+
+        if (fileBlobRepository.release(path.getFileName().toString())) {
+            localFileStorageService.delete(filePath);
+        }
+    }
+
+    @Override
+    public InputStream loadAsStream(String filePath) {
+        return localFileStorageService.loadAsStream(filePath);
+    }
+
+    @Override
+    public Resource loadAsResource(String filePath) {
+        return localFileStorageService.loadAsResource(filePath);
+    }
+
+    private Path resolveBlobPath(String contentHash) {
+        return BLOB_ROOT.resolve(contentHash.substring(0, 2)).resolve(contentHash);
+    }
+
+    private boolean isBlobPath(Path path) {
+        return path.startsWith(BLOB_ROOT) && !path.startsWith(TEMP_DIR);
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+}
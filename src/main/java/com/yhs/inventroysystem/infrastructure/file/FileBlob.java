@@ -0,0 +1,36 @@
+package com.yhs.inventroysystem.infrastructure.file;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 기반(SHA-256) 저장 파일의 참조 수
+ * - 문서(납품/견적/선적)와 부품 이미지가 같은 파일을 올리면 하나의 blob을 공유
+ * - 갱신은 FileBlobRepository(JDBC)에서 원자적으로 처리, 엔티티는 테이블 정의용
+ */
+@Entity
+@Table(name = "file_blobs")
+@Getter
+@NoArgsConstructor
+public class FileBlob {
+
+    // 로컬 blob은 SHA-256 해시, S3 객체는 "s3:" + 해시
+    @Id
+    @Column(name = "content_hash", length = 80)
+    private String contentHash;
+
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,44 @@
+package com.yhs.inventroysystem.infrastructure.file;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * blob 참조 수 관리용 JDBC 리포지토리
+ * - 증가/감소를 단일 SQL로 처리해 동시 업로드/삭제에서도 행 잠금으로 직렬화
+ * - 현재 트랜잭션(JPA)의 커넥션을 그대로 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class FileBlobRepository {
+
+    private static final String ACQUIRE_SQL =
+            "INSERT INTO file_blobs (content_hash, file_path, file_size, ref_count, created_at) " +
+                    "VALUES (?, ?, ?, 1, NOW()) " +
+                    "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1";
+
+    private static final String RELEASE_SQL =
+            "UPDATE file_blobs SET ref_count = ref_count - 1 WHERE content_hash = ? AND ref_count > 0";
+
+    private static final String DELETE_UNREFERENCED_SQL =
+            "DELETE FROM file_blobs WHERE content_hash = ? AND ref_count = 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void acquire(String contentHash, String filePath, long fileSize) {
+        jdbcTemplate.update(ACQUIRE_SQL, contentHash, filePath, fileSize);
+    }
+
+    /**
+     * 참조 1 감소
+     * @return 마지막 참조였으면(또는 참조 기록이 없으면) true → 실제 파일 삭제 대상
+     */
+    public boolean release(String contentHash) {
+        int updated = jdbcTemplate.update(RELEASE_SQL, contentHash);
+        if (updated == 0) {
+            return true;
+        }
+        return jdbcTemplate.update(DELETE_UNREFERENCED_SQL, contentHash) > 0;
+    }
+}
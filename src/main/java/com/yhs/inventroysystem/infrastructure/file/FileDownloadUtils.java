@@ -1,8 +1,18 @@
 package com.yhs.inventroysystem.infrastructure.file;
 
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Set;
 
 public class FileDownloadUtils {
@@ -68,4 +78,75 @@ public class FileDownloadUtils {
     public static boolean shouldDisplayInline(String contentType) {
         return contentType != null && INLINE_CONTENT_TYPES.contains(contentType.toLowerCase());
     }
-}
\ No newline at end of file
+
+    /**
+     * 파일 다운로드 응답 생성
+     * - ETag(수정 시각 + 크기), Last-Modified 설정 → If-None-Match/If-Modified-Since는 Spring이 304 처리
+     * - Range 요청은 Spring이 Resource 구간(ResourceRegion)으로 206 응답 (multipart/byteranges 포함)
+     * - If-Range가 현재 파일과 다르면 Range를 무시하고 전체 파일 전송
+     */
+    public static ResponseEntity<Resource> createDownloadResponse(Resource resource,
+                                                                  String fileName,
+                                                                  String contentType,
+                                                                  HttpHeaders requestHeaders) {
+        long contentLength;
+        long lastModified;
+        try {
+            contentLength = resource.contentLength();
+            lastModified = resource.lastModified();
+        } catch (IOException e) {
+            throw new FileStorageException("파일 정보 조회 실패: " + fileName, e);
+        }
+
+        String eTag = createETag(contentLength, lastModified);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(contentType))
+                .header(HttpHeaders.CONTENT_DISPOSITION, createContentDisposition(fileName, shouldDisplayInline(contentType)))
+                .eTag(eTag)
+                .lastModified(lastModified);
+
+        if (requestHeaders.getFirst(HttpHeaders.RANGE) != null
+                && !isIfRangeSatisfied(requestHeaders.getFirst(HttpHeaders.IF_RANGE), eTag, lastModified)) {
+            // Resource 타입이면 Spring이 Range를 적용하므로 InputStreamResource로 감싸 전체 전송
+            try {
+                return builder
+                        .contentLength(contentLength)
+                        .body(new InputStreamResource(resource.getInputStream()));
+            } catch (IOException e) {
+                throw new FileStorageException("파일 로드 실패: " + fileName, e);
+            }
+        }
+
+        return builder.body(resource);
+    }
+
+    /**
+     * 강한 ETag (If-Range 비교에 사용 가능하도록 W/ 없이 생성)
+     */
+    private static String createETag(long contentLength, long lastModified) {
+        return "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(contentLength) + "\"";
+    }
+
+    /**
+     * If-Range 검증 (RFC 9110)
+     * - 없으면 Range 그대로 적용
+     * - ETag 형식이면 강한 비교, 날짜 형식이면 초 단위 Last-Modified 일치 여부
+     */
+    private static boolean isIfRangeSatisfied(String ifRange, String eTag, long lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(eTag);
+        }
+
+        try {
+            long since = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            return lastModified / 1000 == since / 1000;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
@@ -7,17 +7,40 @@ import java.util.Map;
 @Component
 public class FileStorageFactory {
 
+    private static final String CONTENT_ADDRESSED_STORAGE = "contentAddressedFileStorage";
+
     private final Map<String, FileStorageService> storageServices;
+    private final FileStorageProperties fileStorageProperties;
 
-    public FileStorageFactory(Map<String, FileStorageService> storageServices) {
+    public FileStorageFactory(Map<String, FileStorageService> storageServices,
+                              FileStorageProperties fileStorageProperties) {
         this.storageServices = storageServices;
+        this.fileStorageProperties = fileStorageProperties;
     }
 
+    /**
+     * file.storage.backend가 설정되어 있으면 유형과 관계없이 해당 저장소 사용
+     * (여러 인스턴스에서 같은 파일을 보려면 s3FileStorage 지정)
+     * file.storage.deduplicate=true이면 문서/부품 이미지는 내용 기반 저장소 사용, 아니면 유형별 기본 저장소
+     */
     public FileStorageService getStorageService(FileStorageType type) {
-        FileStorageService service = storageServices.get(type.getStorageServiceName());
+        String serviceName = resolveServiceName(type);
+
+        FileStorageService service = storageServices.get(serviceName);
         if (service == null) {
-            throw new IllegalArgumentException("저장소 서비스를 찾을 수 없습니다: " + type);
+            throw new IllegalArgumentException("저장소 서비스를 찾을 수 없습니다: " + type + " (" + serviceName + ")");
         }
         return service;
     }
+
+    private String resolveServiceName(FileStorageType type) {
+        String backend = fileStorageProperties.getBackend();
+        if (backend != null && !backend.isBlank()) {
+            return backend;
+        }
+        if (fileStorageProperties.isDeduplicate() && type.isDeduplicable()) {
+            return CONTENT_ADDRESSED_STORAGE;
+        }
+        return type.getStorageServiceName();
+    }
 }
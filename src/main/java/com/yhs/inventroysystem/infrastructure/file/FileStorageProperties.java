@@ -0,0 +1,43 @@
+package com.yhs.inventroysystem.infrastructure.file;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "file.storage")
+@Getter
+@Setter
+public class FileStorageProperties {
+
+    /**
+     * 지정 시 모든 FileStorageType이 이 저장소 빈을 사용 (예: s3FileStorage)
+     * 비어 있으면 FileStorageType에 정의된 기본 저장소 사용
+     */
+    private String backend;
+
+    /**
+     * true면 문서/부품 이미지를 내용 기반 중복 제거 저장소(contentAddressedFileStorage)에 저장
+     * 기본값 false - 기존 로컬 저장소 그대로 사용
+     */
+    private boolean deduplicate;
+
+    private S3 s3 = new S3();
+
+    @Getter
+    @Setter
+    public static class S3 {
+        private boolean enabled;
+        private String endpoint;             // MinIO 등 S3 호환 서버 주소, 비우면 AWS 기본
+        private String region = "ap-northeast-2";
+        private String bucket;
+        private String accessKey;            // 비우면 기본 자격 증명 체인 사용
+        private String secretKey;
+        private boolean pathStyleAccess = true;
+        private Duration presignExpiration = Duration.ofMinutes(10);
+        private int partSize = 8 * 1024 * 1024; // 멀티파트 업로드 파트 크기 (최소 5MB)
+    }
+}
@@ -1,13 +1,33 @@
 package com.yhs.inventroysystem.infrastructure.file;
 
+import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
+import java.util.Optional;
 
 public interface FileStorageService {
     FileUploadResult store(MultipartFile file, String directory);
+    FileUploadResult store(InputStream inputStream, String originalFileName, String directory);
     void delete(String filePath);
-    byte[] load(String filePath);
     InputStream loadAsStream(String filePath);
+    Resource loadAsResource(String filePath);
+
+    /**
+     * 클라이언트가 저장소에서 직접 받을 수 있는 임시 다운로드 URL
+     * - 지원하지 않는 저장소(로컬 디스크)는 empty → 애플리케이션이 직접 전송
+     */
+    default Optional<URI> createDownloadUrl(String filePath, String fileName, String contentType) {
+        return Optional.empty();
+    }
+
+    /**
+     * directory 바로 아래 파일 일괄 삭제 (재시작 후 참조가 사라진 임시 산출물 정리용)
+     * - 지원하지 않는 저장소는 아무 것도 하지 않음 (오브젝트 스토리지는 수명 주기 규칙으로 정리)
+     * @return 삭제한 파일 수
+     */
+    default int deleteAll(String directory) {
+        return 0;
+    }
 }
\ No newline at end of file
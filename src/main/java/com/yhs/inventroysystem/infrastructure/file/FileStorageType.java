@@ -1,19 +1,22 @@
 package com.yhs.inventroysystem.infrastructure.file;
 
 public enum FileStorageType {
-    PART_IMAGE("uploads/parts/images", "localFileStorage"),
-    DELIVERY_DOCUMENT("uploads/delivery/documents", "localFileStorage"),
-    QUOTATION_DOCUMENT("uploads/quotation/documents", "localFileStorage"),
-    SHIPMENT_DOCUMENT("uploads/shipment/documents", "localFileStorage")
+    PART_IMAGE("uploads/parts/images", "localFileStorage", true),
+    DELIVERY_DOCUMENT("uploads/delivery/documents", "localFileStorage", true),
+    QUOTATION_DOCUMENT("uploads/quotation/documents", "localFileStorage", true),
+    SHIPMENT_DOCUMENT("uploads/shipment/documents", "localFileStorage", true),
+    EXPORT_FILE("uploads/exports", "localFileStorage", false)
 
     ;
 
     private final String directory;
     private final String storageServiceName;
+    private final boolean deduplicable; // file.storage.deduplicate=true 일 때 내용 기반 저장소 사용
 
-    FileStorageType(String directory, String storageServiceName) {
+    FileStorageType(String directory, String storageServiceName, boolean deduplicable) {
         this.directory = directory;
         this.storageServiceName = storageServiceName;
+        this.deduplicable = deduplicable;
     }
 
     public String getDirectory() {
@@ -23,4 +26,8 @@ public enum FileStorageType {
     public String getStorageServiceName() {
         return storageServiceName;
     }
+
+    public boolean isDeduplicable() {
+        return deduplicable;
+    }
 }
\ No newline at end of file
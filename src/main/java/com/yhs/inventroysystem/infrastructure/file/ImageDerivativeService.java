@@ -0,0 +1,208 @@
+package com.yhs.inventroysystem.infrastructure.file;
+
+import com.yhs.inventroysystem.infrastructure.file.s3.S3ObjectLocation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * 이미지 파생 파일(썸네일) 생성/캐시
+ * - 원본 옆에 {원본}.thumb{크기}.jpg로 저장 (blob 저장소면 같은 이미지의 썸네일도 공유)
+ * - 업로드 트랜잭션 커밋 후 별도 작업 풀에서 생성, 없으면 요청 시 동기 생성
+ * - 순수 Java(ImageIO + Graphics2D)로 처리, ImageIO가 읽지 못하는 형식은 원본 사용
+ */
+@Component
+@Slf4j
+public class ImageDerivativeService {
+
+    public static final int THUMBNAIL_SIZE = 200;
+
+    private static final String THUMBNAIL_SUFFIX = ".thumb" + THUMBNAIL_SIZE + ".jpg";
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final TaskExecutor imageDerivativeExecutor;
+
+    public ImageDerivativeService(@Qualifier("imageDerivativeExecutor") TaskExecutor imageDerivativeExecutor) {
+        this.imageDerivativeExecutor = imageDerivativeExecutor;
+    }
+
+    /**
+     * 썸네일 비동기 생성 요청 (트랜잭션 중이면 커밋 후 실행)
+     */
+    public void generateThumbnailAsync(String originalPath) {
+        Runnable task = () -> submit(originalPath);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 썸네일 조회 (없으면 동기 생성, 생성할 수 없는 형식이면 empty)
+     */
+    public Optional<Resource> loadThumbnail(String originalPath) {
+        Path thumbnailPath = resolveThumbnailPath(originalPath);
+
+        if (!Files.exists(thumbnailPath) && !createThumbnail(originalPath)) {
+            return Optional.empty();
+        }
+        return Optional.of(new FileSystemResource(thumbnailPath));
+    }
+
+    /**
+     * 원본이 더 이상 없을 때만 파생 파일 삭제
+     * - 같은 내용의 blob을 다른 부품이 계속 참조하면 썸네일도 그대로 둠
+     */
+    public void deleteOrphanedDerivatives(String originalPath) {
+        if (S3ObjectLocation.isS3Path(originalPath) || Files.exists(Paths.get(originalPath))) {
+            return;
+        }
+        deleteDerivatives(originalPath);
+    }
+
+    /**
+     * 원본에 딸린 파생 파일 삭제 (공유 blob이면 다음 요청 시 다시 생성됨)
+     */
+    private void deleteDerivatives(String originalPath) {
+        try {
+            Files.deleteIfExists(resolveThumbnailPath(originalPath));
+        } catch (IOException e) {
+            log.warn("썸네일 삭제 실패: {}", originalPath, e);
+        }
+    }
+
+    private void submit(String originalPath) {
+        try {
+            imageDerivativeExecutor.execute(() -> createThumbnail(originalPath));
+        } catch (TaskRejectedException e) {
+            log.warn("썸네일 생성 대기열이 가득 차 건너뜀: {}", originalPath);
+        }
+    }
+
+    private boolean createThumbnail(String originalPath) {
+        // 오브젝트 스토리지 원본은 로컬 파생 파일을 만들지 않음 → 원본으로 대체
+        if (S3ObjectLocation.isS3Path(originalPath)) {
+            return false;
+        }
+
+        Path thumbnailPath = resolveThumbnailPath(originalPath);
+        if (Files.exists(thumbnailPath)) {
+            return true;
+        }
+
+        Path tempFile = null;
+        try {
+            BufferedImage source = ImageIO.read(Paths.get(originalPath).toFile());
+            if (source == null) {
+                log.debug("썸네일을 만들 수 없는 이미지 형식: {}", originalPath);
+                return false;
+            }
+
+            BufferedImage thumbnail = scaleToFit(source, THUMBNAIL_SIZE);
+
+            // 임시 파일에 쓴 뒤 이동 → 동시 요청이 반쯤 쓴 파일을 읽지 않도록
+            tempFile = Files.createTempFile(thumbnailPath.getParent(), "thumb-", ".tmp");
+            writeJpeg(thumbnail, tempFile);
+            Files.move(tempFile, thumbnailPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 생성 실패: {}", originalPath, e);
+            return false;
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * 긴 변 기준으로 비율 유지 축소
+     * - 한 번에 크게 줄이면 bilinear 보간 품질이 떨어지므로 절반씩 단계적으로 축소
+     * - 투명 배경(PNG/GIF)은 흰색으로 채워 JPEG로 저장
+     */
+    private BufferedImage scaleToFit(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        int currentWidth = width;
+        int currentHeight = height;
+
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+            if (currentWidth < targetWidth * 2 || currentHeight < targetHeight * 2) {
+                currentWidth = targetWidth;
+                currentHeight = targetHeight;
+            }
+
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, currentWidth, currentHeight);
+                g.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+
+        return current;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private Path resolveThumbnailPath(String originalPath) {
+        return Paths.get(originalPath + THUMBNAIL_SUFFIX);
+    }
+}
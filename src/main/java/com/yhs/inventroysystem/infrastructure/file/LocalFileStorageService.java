@@ -1,6 +1,8 @@
 package com.yhs.inventroysystem.infrastructure.file;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -12,6 +14,7 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Component("localFileStorage")
 @Slf4j
@@ -44,27 +47,34 @@ public class LocalFileStorageService implements FileStorageService{
     }
 
     @Override
-    public void delete(String filePath) {
+    public FileUploadResult store(InputStream inputStream, String originalFileName, String directory) {
         try {
-            Path path = Paths.get(filePath);
-            Files.deleteIfExists(path);
+            String storedFileName = generateUniqueFileName(originalFileName);
+
+            Path directoryPath = Paths.get(BASE_UPLOAD_DIR, directory);
+            Files.createDirectories(directoryPath);
+
+            Path filePath = directoryPath.resolve(storedFileName);
+            long fileSize = Files.copy(inputStream, filePath, StandardCopyOption.REPLACE_EXISTING);
+
+            return new FileUploadResult(
+                    originalFileName,
+                    storedFileName,
+                    filePath.toString(),
+                    fileSize
+            );
         } catch (IOException e) {
-            throw new FileStorageException("파일 삭제 실패: " + filePath, e);
+            throw new FileStorageException("파일 저장 실패: " + originalFileName, e);
         }
     }
 
     @Override
-    public byte[] load(String filePath) {
-        // 작은 파일만 사용하도록 경고 로그 추가
+    public void delete(String filePath) {
         try {
             Path path = Paths.get(filePath);
-            long fileSize = Files.size(path);
-            if (fileSize > 10 * 1024 * 1024) { // 10MB 초과
-                throw new FileStorageException("파일이 너무 큽니다. 스트리밍 방식을 사용하세요: " + filePath);
-            }
-            return Files.readAllBytes(path);
+            Files.deleteIfExists(path);
         } catch (IOException e) {
-            throw new FileStorageException("파일 로드 실패: " + filePath, e);
+            throw new FileStorageException("파일 삭제 실패: " + filePath, e);
         }
     }
 
@@ -78,6 +88,40 @@ public class LocalFileStorageService implements FileStorageService{
         }
     }
 
+    /**
+     * 파일 Resource 조회
+     * - 힙에 읽어들이지 않고 파일 경로만 감싸므로 크기 제한 없음
+     * - Range 요청 시 Spring이 필요한 구간만 파일에서 읽어 전송
+     */
+    @Override
+    public Resource loadAsResource(String filePath) {
+        Path path = Paths.get(filePath);
+        if (!Files.isReadable(path)) {
+            throw new FileStorageException("파일 로드 실패: " + filePath);
+        }
+        return new FileSystemResource(path);
+    }
+
+    @Override
+    public int deleteAll(String directory) {
+        Path directoryPath = Paths.get(BASE_UPLOAD_DIR, directory);
+        if (!Files.isDirectory(directoryPath)) {
+            return 0;
+        }
+
+        int deleted = 0;
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            for (Path path : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                if (Files.deleteIfExists(path)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            throw new FileStorageException("파일 삭제 실패: " + directoryPath, e);
+        }
+        return deleted;
+    }
+
     private String generateUniqueFileName(String originalFileName) {
         return UUID.randomUUID().toString() + getExtension(originalFileName);
     }
@@ -0,0 +1,40 @@
+package com.yhs.inventroysystem.infrastructure.file.cleanup;
+
+import com.yhs.inventroysystem.infrastructure.file.FileStorageType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 파일 삭제 요청 등록
+ * - 트랜잭션 안에서 호출하면 삭제 요청을 같은 트랜잭션에 기록하고, 커밋 후 워커를 깨움
+ * - 롤백되면 기록도 사라지므로 파일이 먼저 지워지는 일이 없음
+ * - 요청 처리 시간에 파일 I/O가 포함되지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class FileDeletionQueue {
+
+    private final FileDeletionTaskRepository fileDeletionTaskRepository;
+    private final FileDeletionWorker fileDeletionWorker;
+
+    public void enqueue(FileStorageType storageType, String filePath) {
+        if (filePath == null) {
+            return;
+        }
+
+        fileDeletionTaskRepository.insert(storageType, filePath);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    fileDeletionWorker.wakeUp();
+                }
+            });
+        } else {
+            fileDeletionWorker.wakeUp();
+        }
+    }
+}
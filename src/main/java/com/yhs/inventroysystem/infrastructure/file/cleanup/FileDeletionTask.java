@@ -0,0 +1,53 @@
+package com.yhs.inventroysystem.infrastructure.file.cleanup;
+
+import com.yhs.inventroysystem.infrastructure.file.FileStorageType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 커밋 후 삭제할 파일 (transactional outbox)
+ * - 업무 트랜잭션 안에서 기록되므로 롤백되면 삭제 요청도 함께 사라짐
+ * - 처리/재시도는 FileDeletionTaskRepository(JDBC)에서 수행, 엔티티는 테이블 정의용
+ */
+@Entity
+@Table(name = "file_deletion_tasks",
+        indexes = @Index(name = "idx_file_deletion_tasks_due", columnList = "status, next_attempt_at"))
+@Getter
+@NoArgsConstructor
+public class FileDeletionTask {
+
+    public enum Status {
+        PENDING,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage_type", nullable = false, length = 30)
+    private FileStorageType storageType;
+
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Status status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
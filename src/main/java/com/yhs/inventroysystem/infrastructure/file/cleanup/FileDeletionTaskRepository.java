@@ -0,0 +1,72 @@
+package com.yhs.inventroysystem.infrastructure.file.cleanup;
+
+import com.yhs.inventroysystem.infrastructure.file.FileStorageType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 파일 삭제 대기열 JDBC 리포지토리
+ * - 등록은 현재 트랜잭션(JPA)의 커넥션을 그대로 사용 → 업무 데이터와 함께 커밋/롤백
+ * - 처리 대상은 next_attempt_at을 임대 시간만큼 미뤄 선점 (여러 인스턴스가 같은 작업을 동시에 처리하지 않도록)
+ */
+@Repository
+@RequiredArgsConstructor
+public class FileDeletionTaskRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO file_deletion_tasks (storage_type, file_path, status, attempts, next_attempt_at, created_at) " +
+                    "VALUES (?, ?, 'PENDING', 0, NOW(), NOW())";
+
+    private static final String FIND_DUE_SQL =
+            "SELECT id, storage_type, file_path, attempts FROM file_deletion_tasks " +
+                    "WHERE status = 'PENDING' AND next_attempt_at <= NOW() " +
+                    "ORDER BY id LIMIT ?";
+
+    private static final String CLAIM_SQL =
+            "UPDATE file_deletion_tasks SET next_attempt_at = DATE_ADD(NOW(), INTERVAL ? SECOND) " +
+                    "WHERE id = ? AND status = 'PENDING' AND next_attempt_at <= NOW()";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM file_deletion_tasks WHERE id = ?";
+
+    private static final String RECORD_FAILURE_SQL =
+            "UPDATE file_deletion_tasks " +
+                    "SET attempts = ?, status = ?, last_error = ?, next_attempt_at = DATE_ADD(NOW(), INTERVAL ? SECOND) " +
+                    "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record DueTask(Long id, FileStorageType storageType, String filePath, int attempts) {}
+
+    public void insert(FileStorageType storageType, String filePath) {
+        jdbcTemplate.update(INSERT_SQL, storageType.name(), filePath);
+    }
+
+    public List<DueTask> findDue(int limit) {
+        return jdbcTemplate.query(FIND_DUE_SQL, (rs, rowNum) -> new DueTask(
+                rs.getLong("id"),
+                FileStorageType.valueOf(rs.getString("storage_type")),
+                rs.getString("file_path"),
+                rs.getInt("attempts")
+        ), limit);
+    }
+
+    /**
+     * @return 선점에 성공하면 true (다른 인스턴스가 먼저 가져갔으면 false)
+     */
+    public boolean claim(Long id, long leaseSeconds) {
+        return jdbcTemplate.update(CLAIM_SQL, leaseSeconds, id) > 0;
+    }
+
+    public void delete(Long id) {
+        jdbcTemplate.update(DELETE_SQL, id);
+    }
+
+    public void recordFailure(Long id, int attempts, FileDeletionTask.Status status,
+                              String lastError, long retryDelaySeconds) {
+        jdbcTemplate.update(RECORD_FAILURE_SQL, attempts, status.name(), lastError, retryDelaySeconds, id);
+    }
+}
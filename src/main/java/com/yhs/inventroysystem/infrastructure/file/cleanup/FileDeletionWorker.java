@@ -0,0 +1,131 @@
+package com.yhs.inventroysystem.infrastructure.file.cleanup;
+
+import com.yhs.inventroysystem.infrastructure.file.FileStorageFactory;
+import com.yhs.inventroysystem.infrastructure.file.FileStorageType;
+import com.yhs.inventroysystem.infrastructure.file.ImageDerivativeService;
+import com.yhs.inventroysystem.infrastructure.file.cleanup.FileDeletionTaskRepository.DueTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 파일 삭제 대기열 처리
+ * - 커밋 직후 wakeUp()으로 즉시 처리, 실패분은 주기적 폴링으로 재시도
+ * - 재시도 간격은 30초부터 2배씩 늘려 최대 1시간, MAX_ATTEMPTS 초과 시 FAILED로 남겨 확인 대상
+ * - 작업 1건 = 트랜잭션 1개 (blob 참조 해제와 대기열 삭제를 함께 커밋, 파일 삭제 실패 시 둘 다 롤백)
+ */
+@Slf4j
+@Component
+public class FileDeletionWorker {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final long LEASE_SECONDS = 300;
+    private static final long BASE_RETRY_DELAY_SECONDS = 30;
+    private static final long MAX_RETRY_DELAY_SECONDS = 3600;
+
+    private final FileDeletionTaskRepository fileDeletionTaskRepository;
+    private final FileStorageFactory fileStorageFactory;
+    private final ImageDerivativeService imageDerivativeService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor fileCleanupExecutor;
+
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean(false);
+
+    public FileDeletionWorker(FileDeletionTaskRepository fileDeletionTaskRepository,
+                              FileStorageFactory fileStorageFactory,
+                              ImageDerivativeService imageDerivativeService,
+                              PlatformTransactionManager transactionManager,
+                              @Qualifier("fileCleanupExecutor") TaskExecutor fileCleanupExecutor) {
+        this.fileDeletionTaskRepository = fileDeletionTaskRepository;
+        this.fileStorageFactory = fileStorageFactory;
+        this.imageDerivativeService = imageDerivativeService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fileCleanupExecutor = fileCleanupExecutor;
+    }
+
+    /**
+     * 대기 중인 삭제 요청 처리 예약
+     * - 이미 예약되어 있으면 합쳐서 한 번만 실행
+     * - 풀이 가득 차면 다음 폴링에서 처리
+     */
+    public void wakeUp() {
+        if (!wakeUpPending.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            fileCleanupExecutor.execute(() -> {
+                wakeUpPending.set(false);
+                processDueTasks();
+            });
+        } catch (TaskRejectedException e) {
+            wakeUpPending.set(false);
+            log.debug("파일 삭제 작업 풀이 가득 차 다음 폴링에서 처리");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${file.cleanup.poll-interval:PT1M}",
+            initialDelayString = "${file.cleanup.initial-delay:PT30S}")
+    public void poll() {
+        wakeUp();
+    }
+
+    private void processDueTasks() {
+        List<DueTask> tasks;
+        do {
+            tasks = fileDeletionTaskRepository.findDue(BATCH_SIZE);
+            for (DueTask task : tasks) {
+                if (fileDeletionTaskRepository.claim(task.id(), LEASE_SECONDS)) {
+                    process(task);
+                }
+            }
+        } while (tasks.size() == BATCH_SIZE);
+    }
+
+    private void process(DueTask task) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                fileStorageFactory.getStorageService(task.storageType()).delete(task.filePath());
+                fileDeletionTaskRepository.delete(task.id());
+            });
+        } catch (RuntimeException e) {
+            recordFailure(task, e);
+            return;
+        }
+
+        if (task.storageType() == FileStorageType.PART_IMAGE) {
+            imageDerivativeService.deleteOrphanedDerivatives(task.filePath());
+        }
+    }
+
+    private void recordFailure(DueTask task, RuntimeException e) {
+        int attempts = task.attempts() + 1;
+        FileDeletionTask.Status status = attempts >= MAX_ATTEMPTS
+                ? FileDeletionTask.Status.FAILED
+                : FileDeletionTask.Status.PENDING;
+        long retryDelaySeconds = Math.min(BASE_RETRY_DELAY_SECONDS << Math.min(attempts - 1, 20), MAX_RETRY_DELAY_SECONDS);
+
+        String message = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+        if (message.length() > 500) {
+            message = message.substring(0, 500);
+        }
+
+        fileDeletionTaskRepository.recordFailure(task.id(), attempts, status, message, retryDelaySeconds);
+
+        if (status == FileDeletionTask.Status.FAILED) {
+            log.error("파일 삭제 재시도 한도 초과 - Task ID: {}, Path: {}", task.id(), task.filePath(), e);
+        } else {
+            log.warn("파일 삭제 실패, {}초 후 재시도 - Task ID: {}, Path: {}, 시도: {}",
+                    retryDelaySeconds, task.id(), task.filePath(), attempts, e);
+        }
+    }
+}
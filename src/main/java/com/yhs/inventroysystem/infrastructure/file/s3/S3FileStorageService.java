@@ -0,0 +1,305 @@
+package com.yhs.inventroysystem.infrastructure.file.s3;
+
+import com.yhs.inventroysystem.infrastructure.file.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * S3 호환 오브젝트 스토리지 저장소 (빈 이름: s3FileStorage)
+ * - 업로드를 임시 파일로 받으며 SHA-256을 계산하고 blobs/{앞 2자리}/{해시} 키에 한 번만 저장
+ * - 참조 수는 file_blobs에 "s3:" + 해시로 관리 (로컬 blob과 별도), 마지막 참조를 지울 때만 객체 삭제
+ * - 같은 키가 이미 있으면 업로드 생략, 없으면 partSize 단위 멀티파트 업로드 (partSize보다 작으면 단일 PUT)
+ * - 다운로드는 presigned URL을 발급해 클라이언트가 스토리지에서 직접 받도록 함
+ * - s3:// 경로가 아닌 기존 로컬 파일은 ContentAddressedFileStorageService로 처리 (이전 데이터 호환)
+ *   내용 기반 blob은 여러 문서가 공유하므로 참조 수를 줄이고 마지막 참조일 때만 파일 삭제
+ */
+@Slf4j
+public class S3FileStorageService implements FileStorageService {
+
+    private static final String BLOB_PREFIX = "blobs/";
+    private static final String BLOB_ID_PREFIX = "s3:";
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final ContentAddressedFileStorageService contentAddressedFileStorageService;
+    private final FileBlobRepository fileBlobRepository;
+    private final String bucket;
+    private final int partSize;
+    private final Duration presignExpiration;
+
+    public S3FileStorageService(S3Client s3Client,
+                                S3Presigner s3Presigner,
+                                ContentAddressedFileStorageService contentAddressedFileStorageService,
+                                FileBlobRepository fileBlobRepository,
+                                FileStorageProperties.S3 properties) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.contentAddressedFileStorageService = contentAddressedFileStorageService;
+        this.fileBlobRepository = fileBlobRepository;
+        this.bucket = properties.getBucket();
+        this.partSize = properties.getPartSize();
+        this.presignExpiration = properties.getPresignExpiration();
+    }
+
+    @Override
+    public FileUploadResult store(MultipartFile file, String directory) {
+        try (InputStream inputStream = file.getInputStream()) {
+            return store(inputStream, file.getOriginalFilename(), directory, file.getContentType());
+        } catch (IOException e) {
+            throw new FileStorageException("파일 저장 실패: " + file.getOriginalFilename(), e);
+        }
+    }
+
+    @Override
+    public FileUploadResult store(InputStream inputStream, String originalFileName, String directory) {
+        return store(inputStream, originalFileName, directory, null);
+    }
+
+    /**
+     * directory는 키에 쓰지 않음 (같은 내용은 저장 유형과 무관하게 하나의 객체를 공유)
+     */
+    private FileUploadResult store(InputStream inputStream, String originalFileName, String directory, String contentType) {
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("s3-upload-", ".tmp");
+
+            // 임시 파일에 쓰는 동안 해시 계산 (파일을 두 번 읽지 않음)
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long fileSize;
+            try (InputStream digestStream = new DigestInputStream(inputStream, digest)) {
+                fileSize = Files.copy(digestStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+            S3ObjectLocation location = new S3ObjectLocation(bucket, blobKey(contentHash));
+
+            fileBlobRepository.acquire(blobId(contentHash), location.toPath(), fileSize);
+
+            if (exists(location.key())) {
+                log.debug("중복 파일 재사용: {} ({})", originalFileName, contentHash);
+            } else {
+                try (InputStream fileStream = Files.newInputStream(tempFile)) {
+                    upload(location.key(), contentType, fileStream);
+                } catch (IOException | RuntimeException e) {
+                    fileBlobRepository.release(blobId(contentHash));
+                    throw e;
+                }
+            }
+
+            return new FileUploadResult(
+                    originalFileName,
+                    contentHash,
+                    location.toPath(),
+                    fileSize
+            );
+        } catch (IOException | NoSuchAlgorithmException | SdkException e) {
+            throw new FileStorageException("파일 저장 실패: " + originalFileName, e);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private void upload(String key, String contentType, InputStream inputStream) throws IOException {
+        byte[] firstPart = inputStream.readNBytes(partSize);
+
+        if (firstPart.length < partSize) {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .contentType(contentType)
+                            .build(),
+                    RequestBody.fromBytes(firstPart));
+        } else {
+            multipartUpload(key, contentType, firstPart, inputStream);
+        }
+    }
+
+    private boolean exists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+
+    private void multipartUpload(String key, String contentType, byte[] firstPart, InputStream inputStream)
+            throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        List<CompletedPart> completedParts = new ArrayList<>();
+
+        try {
+            byte[] part = firstPart;
+            int partNumber = 1;
+
+            while (part.length > 0) {
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .build(),
+                        RequestBody.fromBytes(part));
+
+                completedParts.add(CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build());
+
+                partNumber++;
+                part = inputStream.readNBytes(partSize);
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+
+        } catch (IOException | RuntimeException e) {
+            // 완료되지 않은 파트가 스토리지에 남지 않도록 중단
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        }
+    }
+
+    @Override
+    public void delete(String filePath) {
+        if (!S3ObjectLocation.isS3Path(filePath)) {
+            contentAddressedFileStorageService.delete(filePath);
+            return;
+        }
+
+        S3ObjectLocation location = S3ObjectLocation.parse(filePath);
+
+        // 다른 문서가 같은 객체를 참조하면 참조 수만 감소 (참조 기록이 없는 이전 UUID 키는 바로 삭제)
+        String key = location.key();
+        if (!fileBlobRepository.release(blobId(key.substring(key.lastIndexOf('/') + 1)))) {
+            return;
+        }
+
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(location.bucket())
+                    .key(location.key())
+                    .build());
+        } catch (S3Exception e) {
+            throw new FileStorageException("파일 삭제 실패: " + filePath, e);
+        }
+    }
+
+    @Override
+    public InputStream loadAsStream(String filePath) {
+        if (!S3ObjectLocation.isS3Path(filePath)) {
+            return contentAddressedFileStorageService.loadAsStream(filePath);
+        }
+
+        S3ObjectLocation location = S3ObjectLocation.parse(filePath);
+        try {
+            return s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(location.bucket())
+                    .key(location.key())
+                    .build());
+        } catch (S3Exception e) {
+            throw new FileStorageException("파일 로드 실패: " + filePath, e);
+        }
+    }
+
+    @Override
+    public Resource loadAsResource(String filePath) {
+        if (!S3ObjectLocation.isS3Path(filePath)) {
+            return contentAddressedFileStorageService.loadAsResource(filePath);
+        }
+        return new S3ObjectResource(s3Client, S3ObjectLocation.parse(filePath));
+    }
+
+    /**
+     * presigned GET URL 발급
+     * - Content-Type / Content-Disposition을 응답 헤더 재정의로 넣어 원본 파일명으로 받도록 함
+     * - presigner가 없으면 empty → 애플리케이션이 직접 전송
+     */
+    @Override
+    public Optional<URI> createDownloadUrl(String filePath, String fileName, String contentType) {
+        if (s3Presigner == null || !S3ObjectLocation.isS3Path(filePath)) {
+            return Optional.empty();
+        }
+
+        S3ObjectLocation location = S3ObjectLocation.parse(filePath);
+        String contentDisposition = FileDownloadUtils.createContentDisposition(
+                fileName,
+                FileDownloadUtils.shouldDisplayInline(contentType)
+        );
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(presignExpiration)
+                .getObjectRequest(GetObjectRequest.builder()
+                        .bucket(location.bucket())
+                        .key(location.key())
+                        .responseContentType(contentType)
+                        .responseContentDisposition(contentDisposition)
+                        .build())
+                .build();
+
+        try {
+            return Optional.of(s3Presigner.presignGetObject(presignRequest).url().toURI());
+        } catch (URISyntaxException e) {
+            log.warn("presigned URL 변환 실패: {}", filePath, e);
+            return Optional.empty();
+        }
+    }
+
+    private String blobKey(String contentHash) {
+        return BLOB_PREFIX + contentHash.substring(0, 2) + "/" + contentHash;
+    }
+
+    private String blobId(String contentHash) {
+        return BLOB_ID_PREFIX + contentHash;
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.yhs.inventroysystem.infrastructure.file.s3;
+
+/**
+ * 저장된 파일 경로(s3://bucket/key) ↔ 버킷/키 변환
+ */
+public record S3ObjectLocation(String bucket, String key) {
+
+    private static final String SCHEME_PREFIX = "s3://";
+
+    public static boolean isS3Path(String filePath) {
+        return filePath != null && filePath.startsWith(SCHEME_PREFIX);
+    }
+
+    public static S3ObjectLocation parse(String filePath) {
+        if (!isS3Path(filePath)) {
+            throw new IllegalArgumentException("S3 경로가 아닙니다: " + filePath);
+        }
+        String path = filePath.substring(SCHEME_PREFIX.length());
+        int slashIndex = path.indexOf('/');
+        if (slashIndex <= 0 || slashIndex == path.length() - 1) {
+            throw new IllegalArgumentException("S3 경로 형식이 올바르지 않습니다: " + filePath);
+        }
+        return new S3ObjectLocation(path.substring(0, slashIndex), path.substring(slashIndex + 1));
+    }
+
+    public String toPath() {
+        return SCHEME_PREFIX + bucket + "/" + key;
+    }
+}
@@ -0,0 +1,86 @@
+package com.yhs.inventroysystem.infrastructure.file.s3;
+
+import org.springframework.core.io.AbstractResource;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * S3 객체를 Spring Resource로 노출
+ * - 크기/수정 시각은 HEAD 한 번으로 조회 후 재사용 (ETag, Range 계산용)
+ */
+public class S3ObjectResource extends AbstractResource {
+
+    private final S3Client s3Client;
+    private final S3ObjectLocation location;
+
+    private HeadObjectResponse head;
+
+    public S3ObjectResource(S3Client s3Client, S3ObjectLocation location) {
+        this.s3Client = s3Client;
+        this.location = location;
+    }
+
+    @Override
+    public String getDescription() {
+        return "S3 object [" + location.toPath() + "]";
+    }
+
+    @Override
+    public String getFilename() {
+        String key = location.key();
+        return key.substring(key.lastIndexOf('/') + 1);
+    }
+
+    @Override
+    public boolean exists() {
+        try {
+            head();
+            return true;
+        } catch (FileNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(location.bucket())
+                    .key(location.key())
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new FileNotFoundException(getDescription());
+        }
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        return head().contentLength();
+    }
+
+    @Override
+    public long lastModified() throws IOException {
+        return head().lastModified().toEpochMilli();
+    }
+
+    private HeadObjectResponse head() throws FileNotFoundException {
+        if (head == null) {
+            try {
+                head = s3Client.headObject(HeadObjectRequest.builder()
+                        .bucket(location.bucket())
+                        .key(location.key())
+                        .build());
+            } catch (NoSuchKeyException e) {
+                throw new FileNotFoundException(getDescription());
+            }
+        }
+        return head;
+    }
+}
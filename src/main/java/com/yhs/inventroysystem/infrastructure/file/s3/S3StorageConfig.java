@@ -0,0 +1,72 @@
+package com.yhs.inventroysystem.infrastructure.file.s3;
+
+import com.yhs.inventroysystem.infrastructure.file.ContentAddressedFileStorageService;
+import com.yhs.inventroysystem.infrastructure.file.FileBlobRepository;
+import com.yhs.inventroysystem.infrastructure.file.FileStorageProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+
+/**
+ * S3 저장소 설정 (file.storage.s3.enabled=true 일 때만 등록)
+ * - 모든 유형을 S3로 저장하려면 file.storage.backend=s3FileStorage 지정
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "file.storage.s3", name = "enabled", havingValue = "true")
+public class S3StorageConfig {
+
+    @Bean(name = "s3FileStorage")
+    public S3FileStorageService s3FileStorage(FileStorageProperties fileStorageProperties,
+                                              ContentAddressedFileStorageService contentAddressedFileStorageService,
+                                              FileBlobRepository fileBlobRepository) {
+        FileStorageProperties.S3 properties = fileStorageProperties.getS3();
+
+        S3Configuration serviceConfiguration = S3Configuration.builder()
+                .pathStyleAccessEnabled(properties.isPathStyleAccess())
+                .build();
+        AwsCredentialsProvider credentialsProvider = credentialsProvider(properties);
+        Region region = Region.of(properties.getRegion());
+
+        S3ClientBuilder clientBuilder = S3Client.builder()
+                .region(region)
+                .credentialsProvider(credentialsProvider)
+                .serviceConfiguration(serviceConfiguration);
+        S3Presigner.Builder presignerBuilder = S3Presigner.builder()
+                .region(region)
+                .credentialsProvider(credentialsProvider)
+                .serviceConfiguration(serviceConfiguration);
+
+        if (properties.getEndpoint() != null && !properties.getEndpoint().isBlank()) {
+            URI endpoint = URI.create(properties.getEndpoint());
+            clientBuilder.endpointOverride(endpoint);
+            presignerBuilder.endpointOverride(endpoint);
+        }
+
+        return new S3FileStorageService(
+                clientBuilder.build(),
+                presignerBuilder.build(),
+                contentAddressedFileStorageService,
+                fileBlobRepository,
+                properties
+        );
+    }
+
+    private AwsCredentialsProvider credentialsProvider(FileStorageProperties.S3 properties) {
+        if (properties.getAccessKey() != null && !properties.getAccessKey().isBlank()) {
+            return StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(properties.getAccessKey(), properties.getSecretKey()));
+        }
+        return DefaultCredentialsProvider.create();
+    }
+}
@@ -0,0 +1,28 @@
+package com.yhs.inventroysystem.infrastructure.listener;
+
+import com.yhs.inventroysystem.domain.task.service.TaskDomainService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 category_summary가 비어 있는 작업 채우기
+ * - 컬럼 추가 이전 데이터, 시드처럼 매핑을 JDBC로 직접 넣은 데이터 대상
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskCategorySummaryBackfill implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final TaskDomainService taskDomainService;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        int updated = taskDomainService.fillMissingCategorySummaries();
+        if (updated > 0) {
+            log.info("작업 카테고리 요약 {}건을 채웠습니다.", updated);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.yhs.inventroysystem.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * 대량 조회(엑셀 내보내기 등)용 청크 단위 엔티티 리더
+ * - 정렬된 ID 목록을 chunkSize 단위로 나누어 엔티티(+연관 컬렉션)를 fetch join으로 조회
+ * - 다음 청크를 읽기 전에 영속성 컨텍스트를 비워 1차 캐시에 엔티티가 계속 쌓이지 않도록 함
+ * - loader는 ID 조회 쿼리와 같은 ORDER BY를 사용해야 전체 순서가 유지됨
+ * - 트랜잭션(readOnly) 안에서 사용해야 하며, 반환된 Iterable은 한 번만 순회
+ */
+@Component
+@RequiredArgsConstructor
+public class ChunkedEntityReader {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    public <T> Iterable<T> read(List<Long> orderedIds, Function<List<Long>, List<T>> loader) {
+        return read(orderedIds, DEFAULT_CHUNK_SIZE, loader);
+    }
+
+    public <T> Iterable<T> read(List<Long> orderedIds, int chunkSize, Function<List<Long>, List<T>> loader) {
+        return () -> new ChunkIterator<>(orderedIds, chunkSize, loader);
+    }
+
+    private class ChunkIterator<T> implements Iterator<T> {
+
+        private final List<Long> orderedIds;
+        private final int chunkSize;
+        private final Function<List<Long>, List<T>> loader;
+
+        private int nextChunkStart = 0;
+        private Iterator<T> current = Collections.emptyIterator();
+
+        private ChunkIterator(List<Long> orderedIds, int chunkSize, Function<List<Long>, List<T>> loader) {
+            this.orderedIds = orderedIds;
+            this.chunkSize = chunkSize;
+            this.loader = loader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext() && nextChunkStart < orderedIds.size()) {
+                loadNextChunk();
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        private void loadNextChunk() {
+            // 읽기 전용 조회이므로 flush 없이 이전 청크 엔티티 분리
+            if (nextChunkStart > 0) {
+                entityManager.clear();
+            }
+
+            int end = Math.min(nextChunkStart + chunkSize, orderedIds.size());
+            current = loader.apply(orderedIds.subList(nextChunkStart, end)).iterator();
+            nextChunkStart = end;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.yhs.inventroysystem.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 조회 범위 데이터의 변경 여부 판단용 프로젝션
+ * - 행 수, 품목 수, 문서/품목 최종 수정 시각이 모두 같으면 같은 데이터로 간주
+ * - 품목 수정(수량/단가)은 문서 행을 건드리지 않을 수 있으므로 품목 수정 시각도 포함
+ */
+public interface DataVersionView {
+
+    Long getRowCount();
+
+    Long getItemCount();
+
+    LocalDateTime getLastModifiedAt();
+
+    LocalDateTime getItemLastModifiedAt();
+
+    default String toVersionString() {
+        return getRowCount() + "-" + getItemCount()
+                + "-" + epochMillis(getLastModifiedAt())
+                + "-" + epochMillis(getItemLastModifiedAt());
+    }
+
+    static long epochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
+}
@@ -0,0 +1,16 @@
+package com.yhs.inventroysystem.infrastructure.persistence.monitor;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 모든 SQL을 SqlStatementCounter에 기록 (SQL은 그대로 반환)
+ * - JdbcTemplate(*BulkRepository)로 직접 실행하는 SQL은 포함되지 않음
+ */
+public class SqlCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.record(sql);
+        return sql;
+    }
+}
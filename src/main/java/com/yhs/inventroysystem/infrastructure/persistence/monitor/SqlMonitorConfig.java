@@ -0,0 +1,15 @@
+package com.yhs.inventroysystem.infrastructure.persistence.monitor;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SqlMonitorConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlCountingStatementInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlCountingStatementInspector());
+    }
+}
@@ -0,0 +1,161 @@
+package com.yhs.inventroysystem.infrastructure.persistence.monitor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 요청당 SQL 수 측정
+ * - sql.statements.per.request 분포 메트릭 (method, uri 태그)
+ * - 엔드포인트 예산(없으면 전역 임계값) 초과/반복 형태(N+1 의심)는 경고 로그
+ * - fail-on-violation이면 응답을 버퍼에 담아 두었다가 위반 시 500 오류 응답으로 교체
+ *   (본문이 먼저 커밋되면 클라이언트는 200을 받으므로 검사가 끝난 뒤 내보냄)
+ * - 집계 결과는 요청 속성(STATS_ATTRIBUTE)에 남겨 MockMvc 테스트에서 쿼리 예산 검증에 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlMonitorFilter extends OncePerRequestFilter {
+
+    public static final String STATS_ATTRIBUTE = SqlMonitorFilter.class.getName() + ".STATS";
+
+    private static final String METRIC_NAME = "sql.statements.per.request";
+
+    private final SqlMonitorProperties sqlMonitorProperties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !sqlMonitorProperties.isEnabled();
+    }
+
+    /**
+     * 비동기 응답(StreamingResponseBody 등)도 버퍼에 쓰이므로 비동기 디스패치에서 내보냄
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        if (isAsyncDispatch(request)) {
+            filterChain.doFilter(request, response);
+            copyBufferedBody(request, response);
+            return;
+        }
+
+        HttpServletResponse responseToUse = sqlMonitorProperties.isFailOnViolation()
+                ? new ContentCachingResponseWrapper(response)
+                : response;
+
+        SqlStatementCounter.Stats stats;
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            stats = scope.stats();
+            filterChain.doFilter(request, responseToUse);
+        }
+
+        request.setAttribute(STATS_ATTRIBUTE, stats);
+
+        // 정적 리소스 등 SQL이 없는 요청은 메트릭/검사 생략
+        if (stats.count() > 0) {
+            record(request, responseToUse, stats);
+        }
+
+        copyBufferedBody(request, responseToUse);
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, SqlStatementCounter.Stats stats)
+            throws IOException {
+
+        String uri = resolveUri(request);
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements executed per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(stats.count());
+
+        Optional<String> violation = checkBudget(request.getMethod(), uri, stats);
+        if (violation.isEmpty()) {
+            return;
+        }
+
+        ContentCachingResponseWrapper bufferedResponse =
+                WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (bufferedResponse == null) {
+            log.warn(violation.get());
+            return;
+        }
+
+        log.error(violation.get());
+        // 비동기 응답은 이미 다른 스레드에서 쓰이고 있을 수 있어 교체하지 않음 (로그만 남김)
+        if (!request.isAsyncStarted()) {
+            writeViolation(bufferedResponse, violation.get());
+        }
+    }
+
+    private Optional<String> checkBudget(String method, String uri, SqlStatementCounter.Stats stats) {
+        Map<String, Integer> repeatedShapes = stats.repeatedShapes(sqlMonitorProperties.getRepeatThreshold());
+        int budget = sqlMonitorProperties.budgetFor(uri);
+        boolean overBudget = stats.count() > budget;
+
+        if (!overBudget && repeatedShapes.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(String.format("SQL 예산 초과 의심 - %s %s: %d건 (예산 %d), 반복 형태: %s",
+                method, uri, stats.count(), budget, repeatedShapes));
+    }
+
+    private void writeViolation(ContentCachingResponseWrapper response, String message) throws IOException {
+        response.resetBuffer();
+        response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        response.setContentType("application/json;charset=UTF-8");
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("status", HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        errorResponse.put("error", "SQL_BUDGET_EXCEEDED");
+        errorResponse.put("message", message);
+
+        response.getOutputStream().write(objectMapper.writeValueAsBytes(errorResponse));
+    }
+
+    /**
+     * 버퍼에 담아 둔 본문을 실제 응답으로 복사 (비동기 처리 중이면 비동기 디스패치에서 복사)
+     */
+    private void copyBufferedBody(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ContentCachingResponseWrapper bufferedResponse =
+                WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (bufferedResponse != null && !request.isAsyncStarted()) {
+            bufferedResponse.copyBodyToResponse();
+        }
+    }
+
+    private String resolveUri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,30 @@
+package com.yhs.inventroysystem.infrastructure.persistence.monitor;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "sql.monitor")
+@Getter
+@Setter
+public class SqlMonitorProperties {
+    private boolean enabled = true;
+    private int warnThreshold = 50;        // 요청당 SQL 수가 이 값을 넘으면 경고
+    private int repeatThreshold = 10;      // 같은 형태의 SQL이 이 횟수 이상 반복되면 N+1 의심 경고
+    private boolean failOnViolation = false; // true면 경고 대신 예외 (테스트 프로필용)
+
+    /**
+     * 엔드포인트별 요청당 SQL 예산 (키: 매핑 URI 패턴, 예: sql.monitor.budgets[/api/clients]=2)
+     * 지정하지 않은 엔드포인트는 warnThreshold 적용
+     */
+    private Map<String, Integer> budgets = new HashMap<>();
+
+    public int budgetFor(String uri) {
+        return budgets.getOrDefault(uri, warnThreshold);
+    }
+}
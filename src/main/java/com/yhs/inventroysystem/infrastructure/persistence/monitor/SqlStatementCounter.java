@@ -0,0 +1,120 @@
+package com.yhs.inventroysystem.infrastructure.persistence.monitor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 현재 스레드에서 실행된 SQL 수 집계
+ * - SqlMonitorFilter가 HTTP 요청 단위로 open/close
+ * - 통합 테스트에서는 직접 열어서 쿼리 예산을 검증
+ * <pre>
+ * try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+ *     deliveryService.searchDeliveries(...);
+ *     assertThat(scope.stats().count()).isLessThanOrEqualTo(3);
+ *     assertThat(scope.stats().repeatedShapes(2)).isEmpty();
+ * }
+ * </pre>
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get(), new Stats());
+        CURRENT.set(scope.stats);
+        return scope;
+    }
+
+    public static Optional<Stats> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    static void record(String sql) {
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.record(sql);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Stats previous;
+        private final Stats stats;
+
+        private Scope(Stats previous, Stats stats) {
+            this.previous = previous;
+            this.stats = stats;
+        }
+
+        public Stats stats() {
+            return stats;
+        }
+
+        @Override
+        public void close() {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * 실행된 SQL 수와 형태별 반복 횟수
+     * - 형태: 리터럴/IN 목록 길이를 지운 SQL (같은 형태가 반복되면 N+1 의심)
+     */
+    public static final class Stats {
+
+        private static final int MAX_SHAPES = 200;
+
+        private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+        private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+        private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+        private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+        private int count;
+        private final Map<String, Integer> shapeCounts = new LinkedHashMap<>();
+
+        private void record(String sql) {
+            count++;
+
+            String shape = shapeOf(sql);
+            if (shapeCounts.containsKey(shape) || shapeCounts.size() < MAX_SHAPES) {
+                shapeCounts.merge(shape, 1, Integer::sum);
+            }
+        }
+
+        public int count() {
+            return count;
+        }
+
+        /**
+         * minRepeats번 이상 실행된 SQL 형태 (실행 횟수 내림차순)
+         */
+        public Map<String, Integer> repeatedShapes(int minRepeats) {
+            return shapeCounts.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= minRepeats)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .collect(Collectors.toMap(
+                            Map.Entry::getKey,
+                            Map.Entry::getValue,
+                            (a, b) -> a,
+                            LinkedHashMap::new
+                    ));
+        }
+
+        static String shapeOf(String sql) {
+            String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+            shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+            shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+            return IN_LIST.matcher(shape).replaceAll("(?)");
+        }
+    }
+}
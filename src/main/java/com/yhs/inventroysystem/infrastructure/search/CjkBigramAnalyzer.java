@@ -0,0 +1,39 @@
+package com.yhs.inventroysystem.infrastructure.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.cjk.CJKBigramFilter;
+import org.apache.lucene.analysis.cjk.CJKWidthFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+
+/**
+ * 한글/한자 bigram 분석기
+ * - 띄어쓰기 없는 한글 복합어도 부분 일치 검색이 되도록 2글자 단위로 분해 ("납품요청" → 납품, 품요, 요청)
+ * - 영문/숫자는 단어 단위 + 소문자
+ * - 색인 시에는 1글자(unigram)도 함께 남겨 한 글자 검색을 지원, 검색 시에는 bigram만 사용
+ */
+final class CjkBigramAnalyzer extends Analyzer {
+
+    private final boolean outputUnigrams;
+
+    CjkBigramAnalyzer(boolean outputUnigrams) {
+        this.outputUnigrams = outputUnigrams;
+    }
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        StandardTokenizer source = new StandardTokenizer();
+        TokenStream result = new CJKWidthFilter(source);
+        result = new LowerCaseFilter(result);
+        result = new CJKBigramFilter(result,
+                CJKBigramFilter.HAN | CJKBigramFilter.HIRAGANA | CJKBigramFilter.KATAKANA | CJKBigramFilter.HANGUL,
+                outputUnigrams);
+        return new TokenStreamComponents(source, result);
+    }
+
+    @Override
+    protected TokenStream normalize(String fieldName, TokenStream in) {
+        return new LowerCaseFilter(new CJKWidthFilter(in));
+    }
+}
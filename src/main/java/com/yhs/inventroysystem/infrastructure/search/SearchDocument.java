@@ -0,0 +1,28 @@
+package com.yhs.inventroysystem.infrastructure.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * 색인 대상 행
+ * - title/subtitle은 검색 결과에 그대로 표시, content는 검색에만 사용
+ * - code는 코드/번호 접두어 검색용 (없으면 null)
+ */
+public record SearchDocument(
+        SearchDocumentType type,
+        Long id,
+        String title,
+        String subtitle,
+        String content,
+        String code,
+        LocalDateTime modifiedAt,
+        boolean deleted
+) {
+
+    public String key() {
+        return key(type, id);
+    }
+
+    public static String key(SearchDocumentType type, Long id) {
+        return type.name() + ":" + id;
+    }
+}
@@ -0,0 +1,124 @@
+package com.yhs.inventroysystem.infrastructure.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 색인 대상 행 조회용 JDBC 리포지토리
+ * - 엔티티 로딩 없이 색인에 필요한 컬럼만 조회
+ */
+@Repository
+@RequiredArgsConstructor
+class SearchDocumentRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * id 이후 행을 id 순으로 limit건 조회 (전체 재색인용 keyset 순회)
+     */
+    List<SearchDocument> findAfterId(SearchDocumentType type, long afterId, int limit) {
+        return jdbcTemplate.query(
+                selectSql(type) + " WHERE " + idColumn(type) + " > ? ORDER BY " + idColumn(type) + " LIMIT ?",
+                rowMapper(type), afterId, limit);
+    }
+
+    List<SearchDocument> findByIds(SearchDocumentType type, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.query(
+                selectSql(type) + " WHERE " + idColumn(type) + " IN (" + placeholders + ")",
+                rowMapper(type), ids.toArray());
+    }
+
+    /**
+     * (modified_at, id)가 (since, afterId)보다 뒤인 행을 그 순서로 limit건 조회 (변경분 동기화용 keyset 순회)
+     * - afterId를 0으로 시작하면 modified_at >= since 인 행부터 읽음
+     */
+    List<SearchDocument> findModifiedAfter(SearchDocumentType type, LocalDateTime since, long afterId, int limit) {
+        String modifiedAt = modifiedAtColumn(type);
+        String id = idColumn(type);
+        Timestamp sinceTimestamp = Timestamp.valueOf(since);
+        return jdbcTemplate.query(
+                selectSql(type) + " WHERE (" + modifiedAt + " > ? OR (" + modifiedAt + " = ? AND " + id + " > ?))" +
+                        " ORDER BY " + modifiedAt + ", " + id + " LIMIT ?",
+                rowMapper(type), sinceTimestamp, sinceTimestamp, afterId, limit);
+    }
+
+    /**
+     * 거래처명이 납품 검색 결과에 포함되므로 거래처 변경 시 해당 거래처 납품도 재색인
+     */
+    List<Long> findDeliveryIdsByClientIds(Collection<Long> clientIds) {
+        if (clientIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String placeholders = String.join(",", Collections.nCopies(clientIds.size(), "?"));
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM deliveries WHERE client_id IN (" + placeholders + ")",
+                Long.class, clientIds.toArray());
+    }
+
+    private String selectSql(SearchDocumentType type) {
+        return switch (type) {
+            case TASK -> "SELECT t.task_id AS id, t.title AS title, t.author_name AS subtitle, " +
+                    "t.description AS content, NULL AS code, t.modified_at, t.deleted_at " +
+                    "FROM tasks t";
+            case DELIVERY -> "SELECT d.id AS id, d.delivery_number AS title, c.name AS subtitle, " +
+                    "d.memo AS content, d.delivery_number AS code, d.modified_at, d.deleted_at " +
+                    "FROM deliveries d JOIN clients c ON c.id = d.client_id";
+            case PRODUCT -> "SELECT p.id AS id, p.name AS title, p.product_code AS subtitle, " +
+                    "p.description AS content, p.product_code AS code, p.modified_at, p.deleted_at " +
+                    "FROM products p";
+            case PART -> "SELECT p.id AS id, p.name AS title, p.part_code AS subtitle, " +
+                    "p.specification AS content, p.part_code AS code, p.modified_at, p.deleted_at " +
+                    "FROM parts p";
+            case CLIENT -> "SELECT c.id AS id, c.name AS title, c.client_code AS subtitle, " +
+                    "CONCAT_WS(' ', c.short_name, c.representative) AS content, c.client_code AS code, " +
+                    "c.modified_at, c.deleted_at " +
+                    "FROM clients c";
+        };
+    }
+
+    private String idColumn(SearchDocumentType type) {
+        return switch (type) {
+            case TASK -> "t.task_id";
+            case DELIVERY -> "d.id";
+            case PRODUCT, PART -> "p.id";
+            case CLIENT -> "c.id";
+        };
+    }
+
+    private String modifiedAtColumn(SearchDocumentType type) {
+        return switch (type) {
+            case TASK -> "t.modified_at";
+            case DELIVERY -> "d.modified_at";
+            case PRODUCT, PART -> "p.modified_at";
+            case CLIENT -> "c.modified_at";
+        };
+    }
+
+    private RowMapper<SearchDocument> rowMapper(SearchDocumentType type) {
+        return (rs, rowNum) -> {
+            Timestamp modifiedAt = rs.getTimestamp("modified_at");
+            return new SearchDocument(
+                    type,
+                    rs.getLong("id"),
+                    rs.getString("title"),
+                    rs.getString("subtitle"),
+                    rs.getString("content"),
+                    rs.getString("code"),
+                    modifiedAt != null ? modifiedAt.toLocalDateTime() : null,
+                    rs.getTimestamp("deleted_at") != null
+            );
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.yhs.inventroysystem.infrastructure.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum SearchDocumentType {
+    TASK("작업"),
+    DELIVERY("납품"),
+    PRODUCT("제품"),
+    PART("부품"),
+    CLIENT("거래처");
+
+    private final String displayName;
+}
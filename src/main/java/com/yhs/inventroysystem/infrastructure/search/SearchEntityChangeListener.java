@@ -0,0 +1,93 @@
+package com.yhs.inventroysystem.infrastructure.search;
+
+import com.yhs.inventroysystem.domain.client.entity.Client;
+import com.yhs.inventroysystem.domain.delivery.entity.Delivery;
+import com.yhs.inventroysystem.domain.part.entity.Part;
+import com.yhs.inventroysystem.domain.product.entity.Product;
+import com.yhs.inventroysystem.domain.task.entity.Task;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 검색 대상 엔티티의 저장/수정/삭제가 커밋되면 검색 색인 갱신 예약
+ * - 롤백된 변경은 전달되지 않음, 실제 색인 내용은 커밋된 DB 행을 다시 읽어 구성
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchEntityChangeListener
+        implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final Map<Class<?>, SearchDocumentType> TRACKED_TYPES = Map.of(
+            Task.class, SearchDocumentType.TASK,
+            Delivery.class, SearchDocumentType.DELIVERY,
+            Product.class, SearchDocumentType.PRODUCT,
+            Part.class, SearchDocumentType.PART,
+            Client.class, SearchDocumentType.CLIENT
+    );
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SearchIndexer searchIndexer;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        enqueue(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        enqueue(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        enqueue(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return TRACKED_TYPES.containsKey(persister.getMappedClass());
+    }
+
+    private void enqueue(EntityPersister persister, Object id) {
+        SearchDocumentType type = TRACKED_TYPES.get(persister.getMappedClass());
+        if (type != null && id instanceof Long entityId) {
+            searchIndexer.enqueue(type, entityId);
+        }
+    }
+}
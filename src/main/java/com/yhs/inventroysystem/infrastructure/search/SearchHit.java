@@ -0,0 +1,9 @@
+package com.yhs.inventroysystem.infrastructure.search;
+
+public record SearchHit(
+        SearchDocumentType type,
+        Long id,
+        String title,
+        String subtitle,
+        float score
+) {}
@@ -0,0 +1,321 @@
+package com.yhs.inventroysystem.infrastructure.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Lucene 기반 통합 검색 색인
+ * - 문서 키(TYPE:id) 단위 upsert/삭제, BM25 점수 순 검색
+ * - 쓰기는 SearchIndexer의 단일 스레드에서만 수행, 검색은 SearcherManager로 동시 처리
+ */
+@Slf4j
+@Component
+public class SearchIndex {
+
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String SUBTITLE = "subtitle";
+    private static final String CONTENT = "content";
+    private static final String CODE = "code";
+    private static final String CODE_EXACT = "code_exact";
+    private static final String GENERATION = "generation";
+
+    private static final String SYNCED_AT = "syncedAt";
+
+    // 제목 > 코드 > 부제목 > 본문 순으로 가중치
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            TITLE, 3.0f,
+            CODE, 2.0f,
+            SUBTITLE, 1.5f,
+            CONTENT, 1.0f
+    );
+    private static final float CODE_PREFIX_BOOST = 5.0f;
+    // 접두어 일치는 점수가 상수이므로 완전 일치(BM25)보다 낮게
+    private static final float PREFIX_BOOST_RATIO = 0.5f;
+
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final Analyzer queryAnalyzer = new CjkBigramAnalyzer(false);
+
+    public SearchIndex(SearchProperties properties) {
+        try {
+            String indexPath = properties.getIndexPath();
+            this.directory = indexPath == null || indexPath.isBlank()
+                    ? new ByteBuffersDirectory()
+                    : FSDirectory.open(Path.of(indexPath));
+
+            IndexWriterConfig config = new IndexWriterConfig(new CjkBigramAnalyzer(true))
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            this.writer = new IndexWriter(directory, config);
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인을 열 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 문서 추가/갱신, 삭제된 행이면 색인에서 제거
+     */
+    public void upsert(Collection<SearchDocument> documents, long generation) {
+        try {
+            for (SearchDocument document : documents) {
+                Term key = new Term(KEY, document.key());
+                if (document.deleted()) {
+                    writer.deleteDocuments(key);
+                } else {
+                    writer.updateDocument(key, toLuceneDocument(document, generation));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(SearchDocumentType type, Collection<Long> ids) {
+        try {
+            for (Long id : ids) {
+                writer.deleteDocuments(new Term(KEY, SearchDocument.key(type, id)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 전체 재색인 후 이번 세대에서 다시 쓰이지 않은 문서(원본이 사라진 문서) 제거
+     */
+    public void deleteOlderGenerations(long generation) {
+        try {
+            writer.deleteDocuments(LongPoint.newRangeQuery(GENERATION, Long.MIN_VALUE, generation - 1));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 변경분 커밋 + 검색기 갱신, 동기화 기준 시각을 커밋 데이터로 함께 저장 (null이면 기존 값 유지)
+     */
+    public void commit(LocalDateTime syncedAt) {
+        try {
+            if (syncedAt != null) {
+                writer.setLiveCommitData(Map.of(SYNCED_AT, syncedAt.toString()).entrySet());
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 마지막 커밋의 동기화 기준 시각 (디스크 색인 재기동 시 이어서 동기화)
+     */
+    public Optional<LocalDateTime> lastSyncedAt() {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData == null) {
+            return Optional.empty();
+        }
+        for (Map.Entry<String, String> entry : commitData) {
+            if (SYNCED_AT.equals(entry.getKey())) {
+                return Optional.of(LocalDateTime.parse(entry.getValue()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<SearchHit> search(String keyword, Set<SearchDocumentType> types, int limit) {
+        Query query = buildQuery(keyword, types);
+        if (query == null) {
+            return List.of();
+        }
+
+        IndexSearcher searcher = acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, limit);
+            StoredFields storedFields = searcher.storedFields();
+
+            List<SearchHit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                Document document = storedFields.document(scoreDoc.doc);
+                hits.add(new SearchHit(
+                        SearchDocumentType.valueOf(document.get(TYPE)),
+                        document.getField(ID).numericValue().longValue(),
+                        document.get(TITLE),
+                        document.get(SUBTITLE),
+                        scoreDoc.score
+                ));
+            }
+            return hits;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰이 (제목/코드/부제목/본문 중 하나에) 포함된 문서를 찾고,
+     * 입력 중인 마지막 영문/숫자 토큰은 접두어 일치도 허용 (완전 일치보다 낮은 점수)
+     * - 코드/번호는 검색어 전체를 접두어로 한 일치에 가중치
+     */
+    Query buildQuery(String keyword, Set<SearchDocumentType> types) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+        boolean lastTokenComplete = Character.isWhitespace(keyword.charAt(keyword.length() - 1));
+        List<String> tokens = analyze(normalized);
+
+        BooleanQuery.Builder root = new BooleanQuery.Builder();
+
+        if (!tokens.isEmpty()) {
+            BooleanQuery.Builder allTokens = new BooleanQuery.Builder();
+            for (int i = 0; i < tokens.size(); i++) {
+                String token = tokens.get(i);
+                boolean prefix = i == tokens.size() - 1 && !lastTokenComplete && isPrefixCandidate(token);
+
+                BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+                FIELD_BOOSTS.forEach((field, boost) -> {
+                    Term term = new Term(field, token);
+                    anyField.add(new BoostQuery(new TermQuery(term), boost), Occur.SHOULD);
+                    if (prefix) {
+                        anyField.add(new BoostQuery(new PrefixQuery(term), boost * PREFIX_BOOST_RATIO), Occur.SHOULD);
+                    }
+                });
+                allTokens.add(anyField.build(), Occur.MUST);
+            }
+            root.add(allTokens.build(), Occur.SHOULD);
+        }
+
+        root.add(new BoostQuery(new PrefixQuery(new Term(CODE_EXACT, normalized)), CODE_PREFIX_BOOST), Occur.SHOULD);
+        root.setMinimumNumberShouldMatch(1);
+
+        if (types != null && !types.isEmpty() && types.size() < SearchDocumentType.values().length) {
+            BooleanQuery.Builder typeFilter = new BooleanQuery.Builder();
+            types.forEach(type -> typeFilter.add(new TermQuery(new Term(TYPE, type.name())), Occur.SHOULD));
+            root.add(typeFilter.build(), Occur.FILTER);
+        }
+
+        return root.build();
+    }
+
+    @PreDestroy
+    public void close() {
+        try {
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        } catch (IOException e) {
+            log.warn("검색 색인 종료 중 오류", e);
+        }
+    }
+
+    private Document toLuceneDocument(SearchDocument source, long generation) {
+        Document document = new Document();
+        document.add(new StringField(KEY, source.key(), Field.Store.NO));
+        document.add(new StringField(TYPE, source.type().name(), Field.Store.YES));
+        document.add(new StoredField(ID, source.id()));
+        document.add(new LongPoint(GENERATION, generation));
+        document.add(new TextField(TITLE, nullToEmpty(source.title()), Field.Store.YES));
+        document.add(new TextField(SUBTITLE, nullToEmpty(source.subtitle()), Field.Store.YES));
+        document.add(new TextField(CONTENT, nullToEmpty(source.content()), Field.Store.NO));
+        if (source.code() != null) {
+            document.add(new TextField(CODE, source.code(), Field.Store.NO));
+            document.add(new StringField(CODE_EXACT, source.code().toLowerCase(Locale.ROOT), Field.Store.NO));
+        }
+        return document;
+    }
+
+    private List<String> analyze(String text) {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream stream = queryAnalyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute termAttribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                String token = termAttribute.toString();
+                if (!tokens.contains(token)) {
+                    tokens.add(token);
+                }
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+
+    /**
+     * 영문/숫자 토큰만 접두어 검색 (한글/한자는 bigram이 이미 부분 일치를 처리)
+     */
+    private boolean isPrefixCandidate(String token) {
+        if (token.length() < 2) {
+            return false;
+        }
+        return token.codePoints().noneMatch(codePoint -> switch (Character.UnicodeScript.of(codePoint)) {
+            case HANGUL, HAN, HIRAGANA, KATAKANA -> true;
+            default -> false;
+        });
+    }
+
+    private IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("검색기 반환 실패", e);
+        }
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
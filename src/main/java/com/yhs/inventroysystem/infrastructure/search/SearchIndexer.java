@@ -0,0 +1,250 @@
+package com.yhs.inventroysystem.infrastructure.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검색 색인 갱신
+ * - 엔티티 커밋 직후 enqueue()로 변경 키를 모아 즉시 반영 (깨우기 요청은 합쳐서 한 번만 실행)
+ * - JDBC 일괄 저장처럼 엔티티 이벤트가 없는 변경분은 modified_at 기준 주기 동기화로 반영
+ * - 엔티티를 거치지 않은 물리 삭제는 야간 전체 재구성에서 정리
+ * - 모든 색인 쓰기는 searchIndexExecutor 스레드 1개에서 순서대로 실행
+ */
+@Slf4j
+@Component
+public class SearchIndexer {
+
+    private static final int ID_CHUNK_SIZE = 500;
+
+    private final SearchIndex searchIndex;
+    private final SearchDocumentRepository searchDocumentRepository;
+    private final SearchProperties searchProperties;
+    private final TaskExecutor searchIndexExecutor;
+
+    private final Map<SearchDocumentType, Set<Long>> pendingIds = new ConcurrentHashMap<>();
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean(false);
+
+    // 아래 두 값은 색인 스레드에서만 변경
+    private long generation = System.currentTimeMillis();
+    private LocalDateTime lastSyncedAt;
+
+    public SearchIndexer(SearchIndex searchIndex,
+                         SearchDocumentRepository searchDocumentRepository,
+                         SearchProperties searchProperties,
+                         @Qualifier("searchIndexExecutor") TaskExecutor searchIndexExecutor) {
+        this.searchIndex = searchIndex;
+        this.searchDocumentRepository = searchDocumentRepository;
+        this.searchProperties = searchProperties;
+        this.searchIndexExecutor = searchIndexExecutor;
+    }
+
+    /**
+     * 변경된 행 재색인 예약
+     */
+    public void enqueue(SearchDocumentType type, Long id) {
+        pendingIds.computeIfAbsent(type, key -> ConcurrentHashMap.newKeySet()).add(id);
+        wakeUp();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        submit("초기 색인", this::initialize);
+    }
+
+    @Scheduled(fixedDelayString = "${search.sync-interval:PT1M}",
+            initialDelayString = "${search.sync-initial-delay:PT1M}")
+    public void poll() {
+        submit("변경분 동기화", this::syncModified);
+    }
+
+    @Scheduled(cron = "${search.rebuild-cron:0 30 3 * * *}")
+    public void scheduledRebuild() {
+        submit("전체 재구성", this::rebuild);
+    }
+
+    private void wakeUp() {
+        if (!wakeUpPending.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            searchIndexExecutor.execute(() -> {
+                wakeUpPending.set(false);
+                runSafely("변경 반영", this::flushPending);
+            });
+        } catch (TaskRejectedException e) {
+            wakeUpPending.set(false);
+            log.debug("검색 색인 작업 풀이 가득 차 다음 동기화에서 처리");
+        }
+    }
+
+    private void submit(String name, Runnable job) {
+        try {
+            searchIndexExecutor.execute(() -> runSafely(name, job));
+        } catch (TaskRejectedException e) {
+            log.warn("검색 색인 작업 풀이 가득 차 {} 건너뜀", name);
+        }
+    }
+
+    private void runSafely(String name, Runnable job) {
+        try {
+            job.run();
+        } catch (RuntimeException e) {
+            log.error("검색 색인 {} 실패", name, e);
+        }
+    }
+
+    /**
+     * 디스크 색인에 이전 동기화 시각이 남아 있으면 그 이후 변경분만, 아니면 전체 재구성
+     */
+    private void initialize() {
+        searchIndex.lastSyncedAt().ifPresentOrElse(
+                syncedAt -> {
+                    lastSyncedAt = syncedAt;
+                    syncModified();
+                    log.info("검색 색인 이어서 동기화 - 기준 시각: {}", syncedAt);
+                },
+                this::rebuild);
+    }
+
+    /**
+     * 전체 재구성
+     * - 새 세대 번호로 모든 행을 다시 쓰고, 이전 세대로 남은 문서(원본이 사라진 행)를 삭제
+     * - 기존 색인을 지우지 않고 덮어쓰므로 재구성 중에도 검색 가능
+     */
+    private void rebuild() {
+        long startNanos = System.nanoTime();
+        LocalDateTime startedAt = LocalDateTime.now();
+        generation = System.currentTimeMillis();
+
+        int batchSize = searchProperties.getRebuildBatchSize();
+        int total = 0;
+        for (SearchDocumentType type : SearchDocumentType.values()) {
+            long afterId = 0;
+            List<SearchDocument> batch;
+            do {
+                batch = searchDocumentRepository.findAfterId(type, afterId, batchSize);
+                if (!batch.isEmpty()) {
+                    searchIndex.upsert(batch, generation);
+                    afterId = batch.get(batch.size() - 1).id();
+                    total += batch.size();
+                }
+            } while (batch.size() == batchSize);
+        }
+
+        searchIndex.deleteOlderGenerations(generation);
+        lastSyncedAt = startedAt;
+        searchIndex.commit(startedAt);
+
+        log.info("검색 색인 전체 재구성 완료 - 대상 {}건, {}ms", total, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * modified_at 기준 변경분 동기화 (이전 동기화 시각에서 syncOverlap만큼 앞당겨 다시 읽음)
+     * - 대량 변경 후에도 한 번에 모두 읽지 않도록 (modified_at, id) 순으로 syncBatchSize건씩 나눠 읽음
+     */
+    private void syncModified() {
+        if (lastSyncedAt == null) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = lastSyncedAt.minus(searchProperties.getSyncOverlap());
+
+        int batchSize = searchProperties.getSyncBatchSize();
+        for (SearchDocumentType type : SearchDocumentType.values()) {
+            LocalDateTime afterModifiedAt = since;
+            long afterId = 0;
+            List<SearchDocument> batch;
+            do {
+                batch = searchDocumentRepository.findModifiedAfter(type, afterModifiedAt, afterId, batchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                searchIndex.upsert(batch, generation);
+                if (type == SearchDocumentType.CLIENT) {
+                    reindexDeliveriesOfClients(batch.stream().map(SearchDocument::id).toList());
+                }
+
+                SearchDocument last = batch.get(batch.size() - 1);
+                afterModifiedAt = last.modifiedAt();
+                afterId = last.id();
+            } while (batch.size() == batchSize);
+        }
+
+        lastSyncedAt = startedAt;
+        searchIndex.commit(startedAt);
+    }
+
+    private void flushPending() {
+        boolean changed = false;
+        for (SearchDocumentType type : SearchDocumentType.values()) {
+            Set<Long> ids = pendingIds.get(type);
+            if (ids == null || ids.isEmpty()) {
+                continue;
+            }
+
+            List<Long> drained = new ArrayList<>(ids.size());
+            for (Iterator<Long> iterator = ids.iterator(); iterator.hasNext(); ) {
+                drained.add(iterator.next());
+                iterator.remove();
+            }
+
+            reindex(type, drained);
+            if (type == SearchDocumentType.CLIENT) {
+                reindexDeliveriesOfClients(drained);
+            }
+            changed = true;
+        }
+
+        if (changed) {
+            searchIndex.commit(lastSyncedAt);
+        }
+    }
+
+    private void reindexDeliveriesOfClients(Collection<Long> clientIds) {
+        for (List<Long> chunk : chunks(new ArrayList<>(clientIds))) {
+            reindex(SearchDocumentType.DELIVERY, searchDocumentRepository.findDeliveryIdsByClientIds(chunk));
+        }
+    }
+
+    /**
+     * 지정 행 재색인, 조회되지 않는 행(물리 삭제)은 색인에서 제거
+     */
+    private void reindex(SearchDocumentType type, List<Long> ids) {
+        for (List<Long> chunk : chunks(ids)) {
+            List<SearchDocument> documents = searchDocumentRepository.findByIds(type, chunk);
+
+            Set<Long> missingIds = new HashSet<>(chunk);
+            documents.forEach(document -> missingIds.remove(document.id()));
+
+            searchIndex.upsert(documents, generation);
+            searchIndex.delete(type, missingIds);
+        }
+    }
+
+    private List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,39 @@
+package com.yhs.inventroysystem.infrastructure.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 통합 검색 색인 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "search")
+@Getter
+@Setter
+public class SearchProperties {
+
+    /**
+     * 색인 디렉터리, 비우면 메모리 색인 (기동 시마다 전체 재색인)
+     */
+    private String indexPath;
+
+    /**
+     * 수정 시각 기반 동기화에서 이전 동기화 시점보다 앞당겨 다시 읽는 구간
+     * - 동기화 도중 늦게 커밋된 트랜잭션, 다른 인스턴스/JDBC 일괄 처리 변경분 보정
+     */
+    private Duration syncOverlap = Duration.ofMinutes(2);
+
+    /**
+     * 전체 재색인 시 한 번에 읽는 행 수
+     */
+    private int rebuildBatchSize = 2000;
+
+    /**
+     * 변경분 동기화 시 한 번에 읽는 행 수
+     */
+    private int syncBatchSize = 500;
+}
@@ -3,18 +3,28 @@ package com.yhs.inventroysystem.infrastructure.security.config;
 import com.yhs.inventroysystem.infrastructure.security.handler.CustomAccessDeniedHandler;
 import com.yhs.inventroysystem.infrastructure.security.handler.CustomAuthenticationEntryPoint;
 import com.yhs.inventroysystem.infrastructure.security.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
@@ -25,6 +35,11 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
     private final CustomAccessDeniedHandler accessDeniedHandler;
+    private final Environment environment;
+
+    private static final String[] STATIC_RESOURCE_PATHS = {
+            "/css/**", "/js/**", "/images/**", "/infra/**", "/webjars/**", "/favicon.ico"
+    };
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -35,8 +50,10 @@ public class SecurityConfig {
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // 이미 인가된 요청의 비동기 응답(StreamingResponseBody 등)
                         .requestMatchers("/", "/api/auth/**", "/auth/**").permitAll() // 인증 관련
-                        .requestMatchers("/css/**", "/js/**", "/images/**", "/infra/**").permitAll() // 정적 리소스 (CSS, JS, 이미지 등)
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).access(metricsScraperAccess())
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
 
                 .exceptionHandling(exception -> exception
@@ -49,8 +66,42 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 정적 리소스는 보안 필터 체인을 거치지 않음 (쿠키 파싱/JWT 검증/사용자 조회 생략)
+     */
+    @Bean
+    public WebSecurityCustomizer staticResourceSecurityCustomizer() {
+        return web -> web.ignoring()
+                .requestMatchers(STATIC_RESOURCE_PATHS);
+    }
+
+    /**
+     * JwtAuthenticationFilter는 보안 체인 안에서만 실행
+     * (@Component 필터가 서블릿 필터로 자동 등록되면 정적 리소스에도 실행됨)
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
         return authenticationConfiguration.getAuthenticationManager();
     }
+
+    /**
+     * 메트릭 수집기 접근 권한
+     * - actuator가 별도 관리 포트(management.server.port, 루프백 바인딩)에 있으면 인증 없이 허용
+     *   (EndpointRequest는 이 경우 관리 포트로 들어온 요청만 매칭)
+     * - 애플리케이션 포트에 함께 노출되면 ADMIN만 허용
+     *   (리버스 프록시 뒤에서는 원격 주소가 프록시의 루프백 주소일 수 있어 주소로 판단하지 않음)
+     */
+    private AuthorizationManager<RequestAuthorizationContext> metricsScraperAccess() {
+        if (ManagementPortType.get(environment) == ManagementPortType.DIFFERENT) {
+            return (authentication, context) -> new AuthorizationDecision(true);
+        }
+        return AuthorityAuthorizationManager.hasRole("ADMIN");
+    }
 }
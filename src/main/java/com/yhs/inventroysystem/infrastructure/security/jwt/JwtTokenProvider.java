@@ -3,20 +3,58 @@ package com.yhs.inventroysystem.infrastructure.security.jwt;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+/**
+ * JWT 발급/검증
+ * - 서명 키와 파서는 기동 시 한 번만 생성 (요청마다 Base64 디코딩/키 생성을 하지 않음)
+ * - 검증은 한 번의 파싱으로 서명/만료 확인과 클레임 추출을 함께 처리
+ * - 최근 검증한 토큰은 토큰 해시(SHA-256) 기준으로 exp까지 캐시 (최대 MAX_CACHED_TOKENS개)
+ *   가득 차면 가장 먼저 넣은 토큰부터 제거 (만료 시간이 같으므로 먼저 만료될 토큰)
+ */
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private static final int MAX_CACHED_TOKENS = 10_000;
+    private static final String ROLES_CLAIM = "roles";
+
     private final JwtProperties jwtProperties;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+
+    private final Map<String, VerifiedToken> verifiedTokens = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                    return size() > MAX_CACHED_TOKENS;
+                }
+            });
+
+    public JwtTokenProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getSecret()));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
 
     public String generateToken(Authentication authentication) {
         String username = authentication.getName();
@@ -29,37 +67,75 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .subject(username)
-                .claim("roles", authorities)
+                .claim(ROLES_CLAIM, authorities)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * 토큰 검증
+     * @return 서명이 올바르고 만료되지 않았으면 클레임, 아니면 empty
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
 
-        return claims.getSubject();
-    }
+        Instant now = Instant.now();
+        String cacheKey = hash(token);
+
+        VerifiedToken cached = verifiedTokens.get(cacheKey);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.remove(cacheKey, cached);
+            return Optional.empty();
+        }
 
-    public boolean validateToken(String token) {
+        VerifiedToken verified;
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            verified = toVerifiedToken(jwtParser.parseSignedClaims(token).getPayload());
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
+
+        // exp가 없는 토큰은 캐시하지 않음
+        if (verified.expiresAt() != null) {
+            verifiedTokens.put(cacheKey, verified);
+        }
+        return Optional.of(verified);
+    }
+
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        String roles = claims.get(ROLES_CLAIM, String.class);
+        List<String> roleList = StringUtils.hasText(roles)
+                ? Arrays.stream(roles.split(",")).map(String::trim).filter(StringUtils::hasText).toList()
+                : List.of();
+
+        return new VerifiedToken(
+                claims.getSubject(),
+                roleList,
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecret());
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * 캐시된 토큰 수
+     */
+    int cachedTokenCount() {
+        return verifiedTokens.size();
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
     }
 }
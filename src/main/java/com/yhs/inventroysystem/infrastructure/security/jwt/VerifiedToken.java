@@ -0,0 +1,18 @@
+package com.yhs.inventroysystem.infrastructure.security.jwt;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 서명/만료 검증이 끝난 JWT의 클레임
+ */
+public record VerifiedToken(
+        String username,
+        List<String> roles,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,88 @@
+package com.yhs.inventroysystem.infrastructure.seed;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시드 데이터 JDBC 배치 저장
+ * - 행을 모아 batchSize마다 batchUpdate 한 번 + 커밋 한 번
+ * - 자식 테이블 inserter는 flush 전에 부모 inserter를 먼저 flush (FK 순서 보장)
+ *   → 자식 행은 부모 행을 add한 다음에 add해야 함
+ */
+@Component
+@RequiredArgsConstructor
+class SeedBatchWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final SeedProperties seedProperties;
+
+    BatchInserter inserter(String sql) {
+        return new BatchInserter(sql, null);
+    }
+
+    BatchInserter inserter(String sql, BatchInserter parent) {
+        return new BatchInserter(sql, parent);
+    }
+
+    /**
+     * 명시적 id로 저장하기 위한 시작 값 (기존 행 다음부터)
+     */
+    long nextId(String table, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        return maxId == null ? 1 : maxId + 1;
+    }
+
+    long count(String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    class BatchInserter implements AutoCloseable {
+
+        private final String sql;
+        private final BatchInserter parent;
+        private final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        private final List<Object[]> rows = new ArrayList<>();
+        private long total;
+
+        private BatchInserter(String sql, BatchInserter parent) {
+            this.sql = sql;
+            this.parent = parent;
+        }
+
+        void add(Object... values) {
+            rows.add(values);
+            if (rows.size() >= seedProperties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (parent != null) {
+                parent.flush();
+            }
+            if (rows.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+            total += rows.size();
+            rows.clear();
+        }
+
+        long total() {
+            return total + rows.size();
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+}
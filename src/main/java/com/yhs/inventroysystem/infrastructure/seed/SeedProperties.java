@@ -0,0 +1,36 @@
+package com.yhs.inventroysystem.infrastructure.seed;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 합성 데이터 시드 설정 (seed 프로필에서 사용)
+ */
+@Component
+@ConfigurationProperties(prefix = "seed")
+@Getter
+@Setter
+public class SeedProperties {
+
+    /**
+     * 데이터 배수 (1 ≈ 50만 행, 20 ≈ 1,000만 행)
+     */
+    private int scaleFactor = 1;
+
+    /**
+     * 난수 seed (같은 seed와 배수면 같은 데이터)
+     */
+    private long randomSeed = 42;
+
+    /**
+     * 납품/선적/견적 이력 기간 (년)
+     */
+    private int years = 3;
+
+    /**
+     * JDBC 배치 크기 (배치 하나가 트랜잭션 하나)
+     */
+    private int batchSize = 2000;
+}
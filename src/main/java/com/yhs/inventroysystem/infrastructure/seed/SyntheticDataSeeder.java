@@ -0,0 +1,600 @@
+package com.yhs.inventroysystem.infrastructure.seed;
+
+import com.yhs.inventroysystem.domain.client.entity.ClientType;
+import com.yhs.inventroysystem.domain.delivery.entity.DeliveryStatus;
+import com.yhs.inventroysystem.domain.exchange.entity.Currency;
+import com.yhs.inventroysystem.domain.product.entity.ProductCategory;
+import com.yhs.inventroysystem.domain.quotation.entity.QuotationType;
+import com.yhs.inventroysystem.domain.shipment.entity.ShipmentType;
+import com.yhs.inventroysystem.domain.shipment.entity.TradeTerms;
+import com.yhs.inventroysystem.domain.task.entity.Priority;
+import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
+import com.yhs.inventroysystem.infrastructure.seed.SeedBatchWriter.BatchInserter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 대용량 합성 데이터 시드 (seed 프로필)
+ * - seed.scale-factor 배수로 국가, 거래처(회사/팀), 제품군, 부품, BOM, 거래처 단가, 수년치 납품/선적/견적, 일정 생성
+ * - 같은 random-seed/scale-factor면 같은 데이터 (날짜만 실행일 기준으로 이동해 최근 통계가 항상 데이터를 가짐)
+ * - id를 직접 지정해 JDBC 배치로 저장 (JPA 영속성 컨텍스트/IDENTITY 왕복 없음)
+ * - 거래처/제품/부품/납품 중 하나라도 데이터가 있으면 건너뜀
+ * 실행: --spring.profiles.active=seed --seed.scale-factor=20
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class SyntheticDataSeeder implements ApplicationRunner {
+
+    private static final BigDecimal TAX_RATE = new BigDecimal("0.10");
+
+    private static final String[][] COUNTRIES = {
+            {"KR", "대한민국", "South Korea"}, {"US", "미국", "United States"}, {"JP", "일본", "Japan"},
+            {"CN", "중국", "China"}, {"DE", "독일", "Germany"}, {"VN", "베트남", "Vietnam"},
+            {"SG", "싱가포르", "Singapore"}, {"TW", "대만", "Taiwan"}
+    };
+
+    private static final String[] BOX_TITLES = {"BOX S", "BOX M", "BOX L", "PALLET"};
+    private static final int[][] BOX_SIZES = {{30, 20, 15}, {40, 30, 25}, {60, 40, 40}, {120, 100, 80}}; // 가로, 세로, 높이 (cm)
+
+    private static final String[] AUTHORS = {"김민수", "이서연", "박지훈", "최유진", "정하늘", "강도윤", "윤서아", "임지호"};
+    private static final String[] TASK_WORDS = {"납품", "생산", "검수", "견적", "출하", "회의", "점검", "교육", "발주", "정산"};
+
+    private final SeedBatchWriter writer;
+    private final SeedProperties seedProperties;
+    private final JdbcTemplate jdbcTemplate;
+
+    private Random random;
+    private LocalDate today;
+
+    // 이후 단계에서 참조하는 생성 결과 (엔티티 대신 id와 최소 속성만 보관)
+    private List<ClientRef> clients;
+    private List<ProductRef> products;
+
+    private record ClientRef(long id, String name, String address, Currency currency) {}
+
+    private record ProductRef(long id, String code, String name, BigDecimal price) {}
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (hasData()) {
+            log.info("기존 데이터가 있어 시드 데이터 생성을 건너뜁니다.");
+            return;
+        }
+
+        int scale = seedProperties.getScaleFactor();
+        random = new Random(seedProperties.getRandomSeed());
+        today = LocalDate.now();
+        long startedAt = System.currentTimeMillis();
+        log.info("시드 데이터 생성 시작 (scale-factor: {}, random-seed: {})", scale, seedProperties.getRandomSeed());
+
+        Map<String, Long> countryIds = seedCountries();
+        List<Long> productLineIds = seedProductLines(8 * scale);
+        List<Long> partIds = seedParts(2_000 * scale);
+        products = seedProducts(500 * scale, productLineIds, partIds);
+        clients = seedClients(100 * scale, countryIds);
+        Map<Long, Map<Long, BigDecimal>> prices = seedClientProductPrices(20);
+        seedDeliveries(20_000 * scale, prices);
+        seedShipments(1_500 * scale);
+        seedQuotations(3_000 * scale);
+        seedTasks(20_000 * scale);
+
+        log.info("시드 데이터 생성 완료 ({}초)", (System.currentTimeMillis() - startedAt) / 1000);
+    }
+
+    private boolean hasData() {
+        return writer.count("clients") > 0 || writer.count("products") > 0
+                || writer.count("parts") > 0 || writer.count("deliveries") > 0;
+    }
+
+    // ========== 기준 정보 ==========
+
+    private Map<String, Long> seedCountries() {
+        try (BatchInserter countries = writer.inserter(
+                "INSERT IGNORE INTO countries (code, name, english_name) VALUES (?, ?, ?)")) {
+            for (String[] country : COUNTRIES) {
+                countries.add(country[0], country[1], country[2]);
+            }
+        }
+
+        Map<String, Long> countryIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, code FROM countries",
+                rs -> { countryIds.put(rs.getString("code"), rs.getLong("id")); });
+        return countryIds;
+    }
+
+    private List<Long> seedProductLines(int count) {
+        long nextId = writer.nextId("product_lines", "id");
+        List<Long> ids = new ArrayList<>(count);
+        try (BatchInserter productLines = writer.inserter(
+                "INSERT INTO product_lines (id, name, created_at, modified_at) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                long id = nextId++;
+                LocalDateTime createdAt = pastDateTime();
+                productLines.add(id, "제품군 " + id, createdAt, createdAt);
+                ids.add(id);
+            }
+            log.info("제품군 {}건", productLines.total());
+        }
+        return ids;
+    }
+
+    private List<Long> seedParts(int count) {
+        long nextId = writer.nextId("parts", "id");
+        List<Long> ids = new ArrayList<>(count);
+        try (BatchInserter parts = writer.inserter(
+                "INSERT INTO parts (id, part_code, name, specification, stock_quantity, unit, created_at, modified_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= count; i++) {
+                long id = nextId++;
+                LocalDateTime createdAt = pastDateTime();
+                parts.add(id, "PT-" + pad(i, 6), "부품 " + i, "규격 " + (1 + random.nextInt(200)),
+                        random.nextInt(100_000), random.nextInt(10) == 0 ? "m" : "EA", createdAt, createdAt);
+                ids.add(id);
+            }
+            log.info("부품 {}건", parts.total());
+        }
+        return ids;
+    }
+
+    /**
+     * 제품마다 부품 3~12개로 구성된 BOM
+     */
+    private List<ProductRef> seedProducts(int count, List<Long> productLineIds, List<Long> partIds) {
+        ProductCategory[] categories = ProductCategory.values();
+        long nextId = writer.nextId("products", "id");
+        List<ProductRef> refs = new ArrayList<>(count);
+
+        try (BatchInserter products = writer.inserter(
+                "INSERT INTO products (id, product_category, product_line_id, product_code, name, default_unit_price, " +
+                        "description, stock_quantity, is_featured, is_featured2, display_order, created_at, modified_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             BatchInserter mappings = writer.inserter(
+                     "INSERT INTO product_part_mappings (product_id, part_id, required_quantity) VALUES (?, ?, ?)",
+                     products)) {
+            for (int i = 1; i <= count; i++) {
+                long id = nextId++;
+                String code = "P-" + pad(i, 6);
+                String name = "제품 " + i;
+                BigDecimal price = money(10_000, 2_000_000);
+                LocalDateTime createdAt = pastDateTime();
+                products.add(id, categories[random.nextInt(categories.length)].name(),
+                        productLineIds.get(random.nextInt(productLineIds.size())), code, name, price,
+                        "제품 설명 " + i, random.nextInt(500), i % 20 == 0, i % 25 == 0, i, createdAt, createdAt);
+                refs.add(new ProductRef(id, code, name, price));
+
+                for (long partId : distinct(partIds, 3 + random.nextInt(10))) {
+                    mappings.add(id, partId, 1 + random.nextInt(20));
+                }
+            }
+            log.info("제품 {}건, BOM {}건", products.total(), mappings.total());
+        }
+        return refs;
+    }
+
+    /**
+     * 회사 count개, 회사마다 팀 0~3개
+     */
+    private List<ClientRef> seedClients(int count, Map<String, Long> countryIds) {
+        long nextId = writer.nextId("clients", "id");
+        List<ClientRef> refs = new ArrayList<>();
+
+        try (BatchInserter inserter = writer.inserter(
+                "INSERT INTO clients (id, client_code, country_id, name, short_name, address, contact_number, email, " +
+                        "representative, currency, client_type, shipment_destination, shipment_address, " +
+                        "shipment_representative, shipment_contact_number, final_destination, parent_client_id, " +
+                        "created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= count; i++) {
+                String[] country = COUNTRIES[i % 3 == 0 ? 1 + random.nextInt(COUNTRIES.length - 1) : 0];
+                Currency currency = currencyOf(country[0]);
+                long companyId = nextId++;
+                String code = "C-" + pad(i, 5);
+                String name = "거래처 " + i;
+                String address = country[2] + " 주소 " + i;
+                LocalDateTime createdAt = pastDateTime();
+
+                inserter.add(companyId, code, countryIds.get(country[0]), name, "C" + i, address,
+                        "02-000-" + pad(i, 4), "client" + i + "@example.com", "대표 " + i, currency.name(),
+                        ClientType.PARENT.name(), name + " 물류센터", address, "물류 담당", "02-111-" + pad(i, 4),
+                        currency == Currency.KRW ? null : country[2], null, createdAt, createdAt);
+                refs.add(new ClientRef(companyId, name, address, currency));
+
+                int teamCount = random.nextInt(4);
+                for (int t = 1; t <= teamCount; t++) {
+                    long teamId = nextId++;
+                    String teamName = name + " " + t + "팀";
+                    inserter.add(teamId, code + "-" + t, countryIds.get(country[0]), teamName, "C" + i + "T" + t,
+                            address, "02-000-" + pad(i, 4), "team" + t + ".client" + i + "@example.com", "담당자 " + t,
+                            currency.name(), ClientType.CHILD.name(), null, null, null, null, null, companyId,
+                            createdAt, createdAt);
+                    refs.add(new ClientRef(teamId, teamName, address, currency));
+                }
+            }
+            log.info("거래처 {}건", inserter.total());
+        }
+        return refs;
+    }
+
+    /**
+     * 거래처마다 제품 perClient개의 거래 단가 (기본 단가의 80~110%)
+     */
+    private Map<Long, Map<Long, BigDecimal>> seedClientProductPrices(int perClient) {
+        Map<Long, Map<Long, BigDecimal>> prices = new HashMap<>();
+        try (BatchInserter inserter = writer.inserter(
+                "INSERT INTO client_product_prices (client_id, product_id, unit_price, created_at, modified_at) " +
+                        "VALUES (?, ?, ?, ?, ?)")) {
+            for (ClientRef client : clients) {
+                Map<Long, BigDecimal> clientPrices = new HashMap<>();
+                for (ProductRef product : distinct(products, perClient)) {
+                    BigDecimal unitPrice = product.price()
+                            .multiply(BigDecimal.valueOf(80 + random.nextInt(31)))
+                            .divide(BigDecimal.valueOf(100), 0, RoundingMode.DOWN);
+                    LocalDateTime createdAt = pastDateTime();
+                    inserter.add(client.id(), product.id(), unitPrice, createdAt, createdAt);
+                    clientPrices.put(product.id(), unitPrice);
+                }
+                prices.put(client.id(), clientPrices);
+            }
+            log.info("거래처 단가 {}건", inserter.total());
+        }
+        return prices;
+    }
+
+    // ========== 거래 이력 ==========
+
+    /**
+     * 연도별 perYear건, 납품당 품목 1~8개
+     * - 최근 2주 이내 일부는 대기, 드물게 취소
+     * - 거래처 단가가 있으면 그 단가, 일부 품목은 할인/무상
+     */
+    private void seedDeliveries(int perYear, Map<Long, Map<Long, BigDecimal>> prices) {
+        long nextId = writer.nextId("deliveries", "id");
+        Map<Integer, Integer> sequences = new HashMap<>();
+
+        try (BatchInserter deliveries = writer.inserter(
+                "INSERT INTO deliveries (id, delivery_number, client_id, status, subtotal_amount, total_discount_amount, " +
+                        "total_amount, discount_note, exchange_rate, total_amountkrw, ordered_at, requested_at, " +
+                        "delivered_at, memo, created_at, modified_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             BatchInserter items = writer.inserter(
+                     "INSERT INTO delivery_items (delivery_id, product_id, quantity, base_unit_price, actual_unit_price, " +
+                             "discount_amount, price_note, total_price, is_free_item, modified_at) " +
+                             "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                     deliveries)) {
+            int total = perYear * seedProperties.getYears();
+            for (int i = 0; i < total; i++) {
+                long id = nextId++;
+                LocalDate requestedAt = pastDate();
+                LocalDate orderedAt = requestedAt.minusDays(3 + random.nextInt(14));
+                int sequence = sequences.merge(orderedAt.getYear(), 1, Integer::sum);
+                DeliveryStatus status = deliveryStatus(requestedAt);
+                LocalDateTime deliveredAt = status == DeliveryStatus.COMPLETED
+                        ? requestedAt.atTime(9 + random.nextInt(9), random.nextInt(60)) : null;
+                LocalDateTime createdAt = orderedAt.atTime(10, 0);
+                LocalDateTime modifiedAt = deliveredAt != null ? deliveredAt : createdAt;
+
+                ClientRef client = clients.get(random.nextInt(clients.size()));
+                Map<Long, BigDecimal> clientPrices = prices.getOrDefault(client.id(), Map.of());
+
+                List<Object[]> itemRows = new ArrayList<>();
+                BigDecimal subtotal = BigDecimal.ZERO;
+                for (ProductRef product : distinct(products, 1 + random.nextInt(8))) {
+                    int quantity = 1 + random.nextInt(50);
+                    if (random.nextInt(50) == 0) {
+                        itemRows.add(row(id, product.id(), quantity, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                                "샘플 무상 제공", BigDecimal.ZERO, true, modifiedAt));
+                        continue;
+                    }
+                    BigDecimal basePrice = clientPrices.getOrDefault(product.id(), product.price());
+                    boolean discounted = random.nextInt(10) == 0;
+                    BigDecimal actualPrice = discounted
+                            ? basePrice.multiply(new BigDecimal("0.95")).setScale(0, RoundingMode.DOWN)
+                            : basePrice;
+                    BigDecimal totalPrice = actualPrice.multiply(BigDecimal.valueOf(quantity));
+                    itemRows.add(row(id, product.id(), quantity, basePrice, actualPrice, basePrice.subtract(actualPrice),
+                            discounted ? "수량 할인" : null, totalPrice, false, modifiedAt));
+                    subtotal = subtotal.add(totalPrice);
+                }
+
+                BigDecimal discount = random.nextInt(10) == 0
+                        ? subtotal.multiply(new BigDecimal("0.03")).setScale(0, RoundingMode.DOWN)
+                        : null;
+                BigDecimal totalAmount = discount != null ? subtotal.subtract(discount) : subtotal;
+                BigDecimal exchangeRate = exchangeRate(client.currency());
+
+                deliveries.add(id, String.format("SOLM-PO-%d-%04d", orderedAt.getYear(), sequence), client.id(),
+                        status.name(), subtotal, discount, totalAmount, discount != null ? "연간 거래 할인" : null,
+                        exchangeRate, totalAmount.multiply(exchangeRate).setScale(0, RoundingMode.HALF_UP),
+                        orderedAt, requestedAt, deliveredAt, null, createdAt, modifiedAt);
+                itemRows.forEach(items::add);
+            }
+            log.info("납품 {}건, 납품 품목 {}건", deliveries.total(), items.total());
+        }
+    }
+
+    /**
+     * 해외 거래처 대상 선적 (품목 1~10개, 박스 1~4종)
+     */
+    private void seedShipments(int perYear) {
+        List<ClientRef> overseasClients = clients.stream()
+                .filter(client -> client.currency() != Currency.KRW)
+                .toList();
+        List<ClientRef> shipTo = overseasClients.isEmpty() ? clients : overseasClients;
+
+        long[] boxTemplateIds = seedBoxTemplates();
+
+        long nextId = writer.nextId("shipments", "id");
+        Map<Integer, Integer> sequences = new HashMap<>();
+        ShipmentType[] shipmentTypes = ShipmentType.values();
+        TradeTerms[] tradeTerms = TradeTerms.values();
+
+        try (BatchInserter shipments = writer.inserter(
+                "INSERT INTO shipments (id, invoice_number, invoice_date, year, sequence, shipper_company_name, " +
+                        "shipper_address, shipper_contact_person, shipper_phone, client_id, sold_to_company_name, " +
+                        "sold_to_address, sold_to_contact_person, sold_to_phone, ship_to_company_name, ship_to_address, " +
+                        "ship_to_contact_person, ship_to_phone, port_of_loading, final_destination, carrier_name, " +
+                        "freight_date, tracking_number, shipment_type, trade_terms, origin_description, total_box_count, " +
+                        "total_quantity, total_amount, currency, total_net_weight, total_gross_weight, total_cbm, " +
+                        "created_at, modified_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             BatchInserter items = writer.inserter(
+                     "INSERT INTO shipment_items (shipment_id, sequence, product_id, product_code, product_description, " +
+                             "hs_code, unit, quantity, unit_price, amount, net_weight, gross_weight, cbm, created_at, modified_at) " +
+                             "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                     shipments);
+             BatchInserter boxes = writer.inserter(
+                     "INSERT INTO shipment_box_items (shipment_id, sequence, title, width, length, height, quantity, " +
+                             "box_template_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                     shipments)) {
+            int total = perYear * seedProperties.getYears();
+            for (int i = 0; i < total; i++) {
+                long id = nextId++;
+                LocalDate invoiceDate = pastDate();
+                int year = invoiceDate.getYear();
+                int sequence = sequences.merge(year, 1, Integer::sum);
+                ClientRef client = shipTo.get(random.nextInt(shipTo.size()));
+                LocalDateTime createdAt = invoiceDate.atTime(11, 0);
+
+                List<Object[]> itemRows = new ArrayList<>();
+                List<Object[]> boxRows = new ArrayList<>();
+                int totalQuantity = 0;
+                BigDecimal totalAmount = BigDecimal.ZERO;
+                BigDecimal totalNetWeight = BigDecimal.ZERO;
+                BigDecimal totalGrossWeight = BigDecimal.ZERO;
+                BigDecimal totalCbm = BigDecimal.ZERO;
+                int itemSequence = 0;
+                for (ProductRef product : distinct(products, 1 + random.nextInt(10))) {
+                    int quantity = 1 + random.nextInt(200);
+                    BigDecimal unitPrice = BigDecimal.valueOf(10 + random.nextInt(2_000));
+                    BigDecimal amount = unitPrice.multiply(BigDecimal.valueOf(quantity));
+                    BigDecimal netWeight = BigDecimal.valueOf(quantity * (1 + random.nextInt(50)), 1);
+                    BigDecimal grossWeight = netWeight.multiply(new BigDecimal("1.1")).setScale(3, RoundingMode.HALF_UP);
+                    BigDecimal cbm = BigDecimal.valueOf(quantity * (1 + random.nextInt(20)), 3);
+                    itemRows.add(row(id, ++itemSequence, product.id(), product.code(), product.name(), "8471.30", "EA",
+                            quantity, unitPrice, amount, netWeight, grossWeight, cbm, createdAt, createdAt));
+
+                    totalQuantity += quantity;
+                    totalAmount = totalAmount.add(amount);
+                    totalNetWeight = totalNetWeight.add(netWeight);
+                    totalGrossWeight = totalGrossWeight.add(grossWeight);
+                    totalCbm = totalCbm.add(cbm);
+                }
+
+                int totalBoxCount = 0;
+                int boxTypes = 1 + random.nextInt(4);
+                for (int b = 0; b < boxTypes; b++) {
+                    int box = random.nextInt(BOX_SIZES.length);
+                    int quantity = 1 + random.nextInt(30);
+                    boxRows.add(row(id, b + 1, BOX_TITLES[box], bd(BOX_SIZES[box][0]), bd(BOX_SIZES[box][1]),
+                            bd(BOX_SIZES[box][2]), quantity, boxTemplateIds[box], createdAt, createdAt));
+                    totalBoxCount += quantity;
+                }
+
+                TradeTerms terms = tradeTerms[random.nextInt(tradeTerms.length)];
+                shipments.add(id, String.format("SOL-INV-%d-%04d", year, sequence), invoiceDate, year, sequence,
+                        "SOLMITECH CO., LTD.", "Seoul, Korea", "Export Team", "+82-2-000-0000", client.id(),
+                        client.name(), client.address(), "Purchasing", "+1-000-0000", client.name(), client.address(),
+                        "Receiving", "+1-000-0000", "INCHEON, KOREA", client.address(), "FedEx",
+                        invoiceDate.plusDays(random.nextInt(5)), "TRK" + pad(i + 1, 9),
+                        shipmentTypes[random.nextInt(shipmentTypes.length)].name(), terms.name(), "Made in Korea",
+                        totalBoxCount, totalQuantity, totalAmount, "USD",
+                        totalNetWeight, totalGrossWeight, totalCbm, createdAt, createdAt);
+                itemRows.forEach(items::add);
+                boxRows.forEach(boxes::add);
+            }
+            log.info("선적 {}건, 선적 품목 {}건, 박스 {}건", shipments.total(), items.total(), boxes.total());
+        }
+    }
+
+    private long[] seedBoxTemplates() {
+        long nextId = writer.nextId("shipment_box_templates", "id");
+        long[] ids = new long[BOX_TITLES.length];
+
+        try (BatchInserter templates = writer.inserter(
+                "INSERT INTO shipment_box_templates (id, title, width, length, height, is_active, created_at, modified_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            LocalDateTime createdAt = today.minusYears(seedProperties.getYears()).atStartOfDay();
+            for (int i = 0; i < BOX_TITLES.length; i++) {
+                ids[i] = nextId++;
+                templates.add(ids[i], BOX_TITLES[i], bd(BOX_SIZES[i][0]), bd(BOX_SIZES[i][1]), bd(BOX_SIZES[i][2]),
+                        true, createdAt, createdAt);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 접수/발행 견적 (품목 1~6개, 국내 거래처는 부가세 포함)
+     */
+    private void seedQuotations(int perYear) {
+        long nextId = writer.nextId("quotaions", "id");
+        Map<String, Integer> sequences = new HashMap<>();
+        QuotationType[] types = QuotationType.values();
+
+        try (BatchInserter quotations = writer.inserter(
+                "INSERT INTO quotaions (id, quotation_number, quotation_type, company_name, representative_name, " +
+                        "total_amount, tax_amount, total_after_tax_amount, is_tax, currency, note, ordered_at, " +
+                        "created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             BatchInserter items = writer.inserter(
+                     "INSERT INTO quotataion_items (quotation_id, product_name, quantity, unit_price, total_price, " +
+                             "created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                     quotations)) {
+            int total = perYear * seedProperties.getYears();
+            for (int i = 0; i < total; i++) {
+                long id = nextId++;
+                LocalDate orderedAt = pastDate();
+                QuotationType type = types[random.nextInt(types.length)];
+                String prefix = (type == QuotationType.RECEIPT ? "SOLM-RECEIPT-" : "SOLM-ISSUANCE-") + orderedAt.getYear();
+                int sequence = sequences.merge(prefix, 1, Integer::sum);
+                ClientRef client = clients.get(random.nextInt(clients.size()));
+                boolean isTax = client.currency() == Currency.KRW;
+                LocalDateTime createdAt = orderedAt.atTime(14, 0);
+
+                List<Object[]> itemRows = new ArrayList<>();
+                BigDecimal totalAmount = BigDecimal.ZERO;
+                for (ProductRef product : distinct(products, 1 + random.nextInt(6))) {
+                    int quantity = 1 + random.nextInt(100);
+                    BigDecimal totalPrice = product.price().multiply(BigDecimal.valueOf(quantity));
+                    itemRows.add(row(id, product.name(), quantity, product.price(), totalPrice, createdAt, createdAt));
+                    totalAmount = totalAmount.add(totalPrice);
+                }
+                BigDecimal taxAmount = isTax
+                        ? totalAmount.multiply(TAX_RATE).setScale(0, RoundingMode.HALF_UP)
+                        : BigDecimal.ZERO;
+
+                quotations.add(id, String.format("%s-%04d", prefix, sequence), type.name(), client.name(),
+                        "담당자 " + (1 + random.nextInt(20)), totalAmount, taxAmount, totalAmount.add(taxAmount),
+                        isTax, client.currency().name(), null, orderedAt, createdAt, createdAt);
+                itemRows.forEach(items::add);
+            }
+            log.info("견적 {}건, 견적 품목 {}건", quotations.total(), items.total());
+        }
+    }
+
+    /**
+     * 일정 (과거~향후 한 달, 카테고리 1~2개)
+     * - 카테고리는 기본 데이터(InventorySystemSetupData)로 만들어진 것을 사용
+     */
+    private void seedTasks(int count) {
+        List<Long> categoryIds = jdbcTemplate.queryForList("SELECT id FROM task_categories", Long.class);
+        TaskStatus[] statuses = TaskStatus.values();
+        Priority[] priorities = Priority.values();
+        long nextId = writer.nextId("tasks", "task_id");
+
+        try (BatchInserter tasks = writer.inserter(
+                "INSERT INTO tasks (task_id, title, description, author_name, start_date, end_date, status, priority, " +
+                        "created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             BatchInserter mappings = writer.inserter(
+                     "INSERT INTO task_category_mappings (task_id, category_id, created_at, modified_at) VALUES (?, ?, ?, ?)",
+                     tasks)) {
+            for (int i = 1; i <= count; i++) {
+                long id = nextId++;
+                LocalDate startDate = pastDate().plusDays(30);
+                LocalDate endDate = startDate.plusDays(random.nextInt(14));
+                TaskStatus status = endDate.isBefore(today) && random.nextInt(5) > 0
+                        ? TaskStatus.COMPLETED
+                        : statuses[random.nextInt(statuses.length)];
+                String word = TASK_WORDS[random.nextInt(TASK_WORDS.length)];
+                LocalDateTime createdAt = startDate.minusDays(random.nextInt(7)).atTime(9, 0);
+
+                tasks.add(id, word + " 일정 " + i, word + " 관련 업무 " + i, AUTHORS[random.nextInt(AUTHORS.length)],
+                        startDate, endDate, status.name(), priorities[random.nextInt(priorities.length)].name(),
+                        createdAt, createdAt);
+
+                if (!categoryIds.isEmpty()) {
+                    for (long categoryId : distinct(categoryIds, 1 + random.nextInt(2))) {
+                        mappings.add(id, categoryId, createdAt, createdAt);
+                    }
+                }
+            }
+            log.info("일정 {}건, 일정 카테고리 매핑 {}건", tasks.total(), mappings.total());
+        }
+    }
+
+    // ========== 값 ==========
+
+    private DeliveryStatus deliveryStatus(LocalDate requestedAt) {
+        if (requestedAt.isAfter(today.minusWeeks(2)) && random.nextInt(3) == 0) {
+            return DeliveryStatus.PENDING;
+        }
+        return random.nextInt(100) == 0 ? DeliveryStatus.CANCELLED : DeliveryStatus.COMPLETED;
+    }
+
+    private BigDecimal exchangeRate(Currency currency) {
+        return switch (currency) {
+            case KRW -> BigDecimal.ONE;
+            case USD -> BigDecimal.valueOf(1_300 + random.nextInt(150));
+            case JPY -> BigDecimal.valueOf(880 + random.nextInt(80), 2);
+            case EUR -> BigDecimal.valueOf(1_400 + random.nextInt(150));
+            case CNY -> BigDecimal.valueOf(180 + random.nextInt(20));
+            case GBP -> BigDecimal.valueOf(1_650 + random.nextInt(150));
+        };
+    }
+
+    private static Currency currencyOf(String countryCode) {
+        return switch (countryCode) {
+            case "KR" -> Currency.KRW;
+            case "JP" -> Currency.JPY;
+            case "CN" -> Currency.CNY;
+            case "DE" -> Currency.EUR;
+            default -> Currency.USD;
+        };
+    }
+
+    /**
+     * 이력 기간 안의 날짜 (균등 분포)
+     */
+    private LocalDate pastDate() {
+        return today.minusDays(random.nextInt(365 * seedProperties.getYears()));
+    }
+
+    private LocalDateTime pastDateTime() {
+        return pastDate().atTime(random.nextInt(24), random.nextInt(60));
+    }
+
+    private BigDecimal money(int min, int max) {
+        return BigDecimal.valueOf(min + random.nextInt(max - min));
+    }
+
+    /**
+     * 목록에서 서로 다른 원소 count개 (목록이 더 작으면 전부)
+     */
+    private <T> Set<T> distinct(List<T> values, int count) {
+        int target = Math.min(count, values.size());
+        Set<T> picked = new LinkedHashSet<>(target);
+        while (picked.size() < target) {
+            picked.add(values.get(random.nextInt(values.size())));
+        }
+        return picked;
+    }
+
+    private static Object[] row(Object... values) {
+        return values;
+    }
+
+    private static BigDecimal bd(int value) {
+        return BigDecimal.valueOf(value);
+    }
+
+    private static String pad(int value, int width) {
+        return String.format("%0" + width + "d", value);
+    }
+}
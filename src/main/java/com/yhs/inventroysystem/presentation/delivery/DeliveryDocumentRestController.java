@@ -7,7 +7,6 @@ import com.yhs.inventroysystem.presentation.delivery.DeliveryDocumentDtos.Delive
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -16,8 +15,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
 import static com.yhs.inventroysystem.application.delivery.DeliveryDocumentCommands.*;
 import static com.yhs.inventroysystem.presentation.delivery.DeliveryDocumentDtos.DeliveryDocumentDescriptionUpdateRequest;
@@ -113,29 +113,28 @@ public class DeliveryDocumentRestController {
     @GetMapping("/{documentId}/download")
     public ResponseEntity<Resource> downloadDocument(
             @PathVariable Long deliveryId,
-            @PathVariable Long documentId) {
+            @PathVariable Long documentId,
+            @RequestHeader HttpHeaders requestHeaders) {
 
         DeliveryDocument document = deliveryDocumentService.getDocument(documentId);
 
-        InputStream inputStream = deliveryDocumentService.getDocumentFileStream(documentId);
-        InputStreamResource resource = new InputStreamResource(inputStream);
+        Optional<URI> downloadUrl = deliveryDocumentService.getDocumentDownloadUrl(document);
+        if (downloadUrl.isPresent()) {
+            return ResponseEntity.status(HttpStatus.FOUND).location(downloadUrl.get()).build();
+        }
 
+        Resource resource = deliveryDocumentService.getDocumentResource(documentId);
 
         String contentType = document.getContentType() != null
                 ? document.getContentType()
                 : MediaType.APPLICATION_OCTET_STREAM_VALUE;
 
-        boolean shouldDisplayInline = FileDownloadUtils.shouldDisplayInline(contentType);
-        String contentDisposition = FileDownloadUtils.createContentDisposition(
+        return FileDownloadUtils.createDownloadResponse(
+                resource,
                 document.getOriginalFileName(),
-                shouldDisplayInline
+                contentType,
+                requestHeaders
         );
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                .contentLength(document.getFileSize())
-                .body(resource);
     }
 }
 
@@ -12,6 +12,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.*;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
@@ -134,11 +135,12 @@ public class DeliveryRestController {
     }
 
     @GetMapping("/export/excel")
-    public ResponseEntity<byte[]> exportAllDeliveriesToExcel(
+    public ResponseEntity<StreamingResponseBody> exportAllDeliveriesToExcel(
             @RequestParam(required = false) LocalDate startDate,
             @RequestParam(required = false) LocalDate endDate) {
 
-        byte[] excelData = deliveryExcelService.exportAllDeliveriesToExcel(startDate, endDate);
+        StreamingResponseBody excelData = outputStream ->
+                deliveryExcelService.exportAllDeliveriesToExcel(startDate, endDate, outputStream);
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
@@ -154,11 +156,12 @@ public class DeliveryRestController {
     }
 
     @GetMapping("/{deliveryId}/export/excel")
-    public ResponseEntity<byte[]> exportDeliveryByIdToExcel(@PathVariable Long deliveryId) {
-        byte[] excelData = deliveryExcelService.exportDeliveryByIdToExcel(deliveryId);
-
+    public ResponseEntity<StreamingResponseBody> exportDeliveryByIdToExcel(@PathVariable Long deliveryId) {
         Delivery delivery = deliveryService.findDeliveryById(deliveryId);
 
+        StreamingResponseBody excelData = outputStream ->
+                deliveryExcelService.exportDeliveryByIdToExcel(deliveryId, outputStream);
+
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
         headers.setContentDisposition(
@@ -0,0 +1,45 @@
+package com.yhs.inventroysystem.presentation.export;
+
+import com.yhs.inventroysystem.application.export.ExportJob;
+import com.yhs.inventroysystem.application.export.ExportJobStatus;
+import com.yhs.inventroysystem.application.export.ExportType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class ExportJobDtos {
+
+    public record ExportJobResponse(
+            String jobId,
+            ExportType type,
+            LocalDate startDate,
+            LocalDate endDate,
+            ExportJobStatus status,
+            String fileName,
+            Long fileSize,
+            String errorMessage,
+            String downloadUrl,
+            LocalDateTime requestedAt,
+            LocalDateTime completedAt
+    ) {
+        public static ExportJobResponse from(ExportJob job) {
+            String downloadUrl = job.getStatus() == ExportJobStatus.COMPLETED
+                    ? "/api/exports/" + job.getJobId() + "/download"
+                    : null;
+
+            return new ExportJobResponse(
+                    job.getJobId(),
+                    job.getType(),
+                    job.getStartDate(),
+                    job.getEndDate(),
+                    job.getStatus(),
+                    job.getFileName(),
+                    job.getFileSize(),
+                    job.getErrorMessage(),
+                    downloadUrl,
+                    job.getRequestedAt(),
+                    job.getCompletedAt()
+            );
+        }
+    }
+}
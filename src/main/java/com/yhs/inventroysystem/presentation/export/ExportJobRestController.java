@@ -0,0 +1,71 @@
+package com.yhs.inventroysystem.presentation.export;
+
+import com.yhs.inventroysystem.application.export.ExportJob;
+import com.yhs.inventroysystem.application.export.ExportJobService;
+import com.yhs.inventroysystem.application.export.ExportJobStatus;
+import com.yhs.inventroysystem.application.export.ExportType;
+import com.yhs.inventroysystem.infrastructure.file.FileDownloadUtils;
+import com.yhs.inventroysystem.presentation.export.ExportJobDtos.ExportJobResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.Optional;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/exports")
+public class ExportJobRestController {
+
+    private final ExportJobService exportJobService;
+
+    /**
+     * 엑셀 내보내기 요청
+     * - 이미 완료된 동일 요청이면 200, 새로 등록/진행 중이면 202
+     */
+    @PostMapping
+    public ResponseEntity<ExportJobResponse> requestExport(
+            @RequestParam ExportType type,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate) {
+
+        ExportJob job = exportJobService.requestExport(type, startDate, endDate);
+
+        HttpStatus status = job.getStatus() == ExportJobStatus.COMPLETED
+                ? HttpStatus.OK
+                : HttpStatus.ACCEPTED;
+
+        return ResponseEntity.status(status).body(ExportJobResponse.from(job));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ExportJobResponse> getJob(@PathVariable String jobId) {
+        ExportJob job = exportJobService.getJob(jobId);
+        return ResponseEntity.ok(ExportJobResponse.from(job));
+    }
+
+    @GetMapping("/{jobId}/download")
+    public ResponseEntity<Resource> download(@PathVariable String jobId,
+                                             @RequestHeader HttpHeaders requestHeaders) {
+        ExportJob job = exportJobService.getJob(jobId);
+
+        Optional<URI> downloadUrl = exportJobService.getResultDownloadUrl(jobId);
+        if (downloadUrl.isPresent()) {
+            return ResponseEntity.status(HttpStatus.FOUND).location(downloadUrl.get()).build();
+        }
+
+        Resource resource = exportJobService.loadResult(jobId);
+
+        return FileDownloadUtils.createDownloadResponse(
+                resource,
+                job.getFileName(),
+                ExportJobService.EXCEL_CONTENT_TYPE,
+                requestHeaders
+        );
+    }
+}
@@ -34,7 +34,9 @@ public class PartDtos {
             Integer stockQuantity,
             String unit,
             String imagePath,
-            String originalImageName
+            String originalImageName,
+            String imageUrl,
+            String thumbnailUrl
     ) {
         public static PartResponse from(Part part) {
             return new PartResponse(
@@ -45,7 +47,9 @@ public class PartDtos {
                     part.getStockQuantity(),
                     part.getUnit(),
                     part.getImagePath(),
-                    part.getOriginalImageName()
+                    part.getOriginalImageName(),
+                    PartDtos.imageUrl(part),
+                    PartDtos.thumbnailUrl(part)
             );
         }
     }
@@ -98,4 +102,21 @@ public class PartDtos {
 
             String note
     ) {}
-}
\ No newline at end of file
+
+    /**
+     * 버전(v)이 포함된 이미지 URL → 이미지가 바뀌기 전까지 브라우저 캐시 사용
+     */
+    public static String imageUrl(Part part) {
+        if (part.getImagePath() == null) {
+            return null;
+        }
+        return "/api/parts/" + part.getId() + "/image?v=" + part.getImageVersion();
+    }
+
+    public static String thumbnailUrl(Part part) {
+        if (part.getImagePath() == null) {
+            return null;
+        }
+        return "/api/parts/" + part.getId() + "/image/thumbnail?v=" + part.getImageVersion();
+    }
+}
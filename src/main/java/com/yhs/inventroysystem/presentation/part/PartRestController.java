@@ -5,15 +5,14 @@ import com.yhs.inventroysystem.application.part.PartCommands.PartStockUpdateComm
 import com.yhs.inventroysystem.application.part.PartService;
 import com.yhs.inventroysystem.domain.part.entity.Part;
 import com.yhs.inventroysystem.domain.part.entity.PartStockTransaction;
-import com.yhs.inventroysystem.infrastructure.file.FileStorageService;
 import com.yhs.inventroysystem.presentation.part.PartDtos.*;
 import com.yhs.inventroysystem.presentation.part.PartTransactionDtos.PartTransactionResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -21,10 +20,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.InputStream;
+import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static com.yhs.inventroysystem.application.part.PartCommands.*;
 import static com.yhs.inventroysystem.application.part.PartCommands.PartRegisterCommand;
@@ -35,9 +37,10 @@ import static com.yhs.inventroysystem.application.part.PartCommands.PartUpdateCo
 @RequiredArgsConstructor
 public class PartRestController {
 
-    private final PartService partService;
+    // presigned URL 유효 시간(file.storage.s3.presign-expiration, 기본 10분)보다 짧게
+    private static final Duration IMAGE_REDIRECT_MAX_AGE = Duration.ofMinutes(5);
 
-    private final FileStorageService fileStorageService;
+    private final PartService partService;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<PartResponse> registerPart(
@@ -141,11 +144,17 @@ public class PartRestController {
     }
 
     @GetMapping("/{partId}/image")
-    public ResponseEntity<Resource> getPartImage(@PathVariable Long partId) {
+    public ResponseEntity<Resource> getPartImage(
+            @PathVariable Long partId,
+            @RequestParam(value = "v", required = false) String version) {
         Part part = partService.findPartById(partId);
 
-        InputStream imageStream = partService.getPartImageStream(partId);
-        InputStreamResource resource = new InputStreamResource(imageStream);
+        Optional<URI> downloadUrl = partService.getPartImageDownloadUrl(part);
+        if (downloadUrl.isPresent()) {
+            return imageRedirect(downloadUrl.get());
+        }
+
+        Resource resource = partService.getPartImage(part);
 
         // 한글 파일명을 URL 인코딩
         String encodedFileName = URLEncoder.encode(
@@ -157,9 +166,53 @@ public class PartRestController {
                 .contentType(MediaType.IMAGE_JPEG)
                 .header(HttpHeaders.CONTENT_DISPOSITION,
                         "inline; filename*=UTF-8''" + encodedFileName)
+                .cacheControl(imageCacheControl(part, version))
+                .eTag(part.getImageVersion())
                 .body(resource);
     }
 
+    @GetMapping("/{partId}/image/thumbnail")
+    public ResponseEntity<Resource> getPartThumbnail(
+            @PathVariable Long partId,
+            @RequestParam(value = "v", required = false) String version) {
+        Part part = partService.findPartById(partId);
+
+        Optional<URI> downloadUrl = partService.getPartImageDownloadUrl(part);
+        if (downloadUrl.isPresent()) {
+            return imageRedirect(downloadUrl.get());
+        }
+
+        Resource resource = partService.getPartThumbnail(part);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_JPEG)
+                .cacheControl(imageCacheControl(part, version))
+                .eTag(part.getImageVersion() + "-thumb")
+                .body(resource);
+    }
+
+    /**
+     * 오브젝트 스토리지 이미지는 presigned URL로 리다이렉트 (애플리케이션이 바이트를 중계하지 않음)
+     * - URL이 만료되기 전까지만 리다이렉트를 캐시
+     */
+    private ResponseEntity<Resource> imageRedirect(URI downloadUrl) {
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(downloadUrl)
+                .cacheControl(CacheControl.maxAge(IMAGE_REDIRECT_MAX_AGE).cachePrivate())
+                .build();
+    }
+
+    /**
+     * v 파라미터가 현재 이미지 버전과 같으면 URL 자체가 내용을 식별하므로 1년 캐시,
+     * 아니면 매번 ETag로 재검증
+     */
+    private CacheControl imageCacheControl(Part part, String version) {
+        if (version != null && version.equals(part.getImageVersion())) {
+            return CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable();
+        }
+        return CacheControl.noCache().cachePrivate();
+    }
+
     @PatchMapping("/{partId}/stock/increase")
     public ResponseEntity<Void> increaseStock(
             @PathVariable Long partId,
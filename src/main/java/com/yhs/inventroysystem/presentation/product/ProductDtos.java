@@ -3,6 +3,7 @@ package com.yhs.inventroysystem.presentation.product;
 import com.yhs.inventroysystem.domain.product.entity.Product;
 import com.yhs.inventroysystem.domain.product.entity.ProductCategory;
 import com.yhs.inventroysystem.domain.product.entity.ProductPart;
+import com.yhs.inventroysystem.presentation.part.PartDtos;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -161,7 +162,9 @@ public class ProductDtos {
             Integer requiredQuantity,
             Integer partStockQuantity,
             String imagePath,
-            String originalImageName
+            String originalImageName,
+            String imageUrl,
+            String thumbnailUrl
     ) {
         public static PartMappingResponse from(ProductPart mapping) {
             return new PartMappingResponse(
@@ -171,7 +174,9 @@ public class ProductDtos {
                     mapping.getRequiredQuantity(),
                     mapping.getPart().getStockQuantity(),
                     mapping.getPart().getImagePath(),
-                    mapping.getPart().getOriginalImageName()
+                    mapping.getPart().getOriginalImageName(),
+                    PartDtos.imageUrl(mapping.getPart()),
+                    PartDtos.thumbnailUrl(mapping.getPart())
             );
         }
     }
@@ -9,7 +9,6 @@ import com.yhs.inventroysystem.infrastructure.file.FileDownloadUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -18,8 +17,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
 import static com.yhs.inventroysystem.presentation.quotation.QuotationDocumentDtos.*;
 import static com.yhs.inventroysystem.presentation.quotation.QuotationDocumentDtos.QuotationDocumentDescriptionUpdateRequest;
@@ -116,28 +116,27 @@ public class QuotationDocumentRestController {
     @GetMapping("{documentId}/download")
     public ResponseEntity<Resource> downloadDocument(
         @PathVariable Long quotationId,
-        @PathVariable Long documentId) {
+        @PathVariable Long documentId,
+        @RequestHeader HttpHeaders requestHeaders) {
 
         QuotationDocument document = quotationDocumentService.getDocument(documentId);
 
-        InputStream inputStream = quotationDocumentService.getDocumentFileStream(documentId);
-        InputStreamResource resource = new InputStreamResource(inputStream);
+        Optional<URI> downloadUrl = quotationDocumentService.getDocumentDownloadUrl(document);
+        if (downloadUrl.isPresent()) {
+            return ResponseEntity.status(HttpStatus.FOUND).location(downloadUrl.get()).build();
+        }
+
+        Resource resource = quotationDocumentService.getDocumentResource(documentId);
 
         String contentType = document.getContentType() != null
                 ? document.getContentType()
                 : MediaType.APPLICATION_OCTET_STREAM_VALUE;
 
-        boolean shouldDisplayInline = FileDownloadUtils.shouldDisplayInline(contentType);
-
-        String contentDisposition = FileDownloadUtils.createContentDisposition(
+        return FileDownloadUtils.createDownloadResponse(
+                resource,
                 document.getOriginalFileName(),
-                shouldDisplayInline
+                contentType,
+                requestHeaders
         );
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                .contentLength(document.getFileSize())
-                .body(resource);
     }
 }
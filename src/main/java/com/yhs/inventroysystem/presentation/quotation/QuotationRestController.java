@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
@@ -79,11 +80,12 @@ public class QuotationRestController {
     }
 
     @GetMapping("/export/excel")
-    public ResponseEntity<byte[]> exportAllQuotationToExcel(
+    public ResponseEntity<StreamingResponseBody> exportAllQuotationToExcel(
             @RequestParam(required = false) LocalDate startDate,
             @RequestParam(required = false) LocalDate endDate) {
 
-        byte[] excelData = quotationExcelService.exportAllQuotationsToExcel(startDate, endDate);
+        StreamingResponseBody excelData = outputStream ->
+                quotationExcelService.exportAllQuotationsToExcel(startDate, endDate, outputStream);
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
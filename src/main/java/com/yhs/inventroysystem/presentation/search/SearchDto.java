@@ -0,0 +1,35 @@
+package com.yhs.inventroysystem.presentation.search;
+
+import com.yhs.inventroysystem.infrastructure.search.SearchDocumentType;
+import com.yhs.inventroysystem.infrastructure.search.SearchHit;
+
+import java.util.List;
+
+public class SearchDto {
+
+    public record SearchResponse(
+            String keyword,
+            List<SearchHitResponse> hits,
+            long tookMillis
+    ) {}
+
+    public record SearchHitResponse(
+            SearchDocumentType type,
+            String typeName,
+            Long id,
+            String title,
+            String subtitle,
+            float score
+    ) {
+        public static SearchHitResponse from(SearchHit hit) {
+            return new SearchHitResponse(
+                    hit.type(),
+                    hit.type().getDisplayName(),
+                    hit.id(),
+                    hit.title(),
+                    hit.subtitle(),
+                    hit.score()
+            );
+        }
+    }
+}
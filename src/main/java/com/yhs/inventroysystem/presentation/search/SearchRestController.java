@@ -0,0 +1,42 @@
+package com.yhs.inventroysystem.presentation.search;
+
+import com.yhs.inventroysystem.application.search.SearchService;
+import com.yhs.inventroysystem.infrastructure.search.SearchDocumentType;
+import com.yhs.inventroysystem.presentation.search.SearchDto.SearchResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Validated
+public class SearchRestController {
+
+    private final SearchService searchService;
+
+    /**
+     * 통합 검색 - 제목/코드/설명에서 부분 일치, 관련도 순
+     *
+     * @param q 검색어 (마지막 단어는 접두어 일치)
+     * @param types 검색 대상 (생략 시 전체)
+     */
+    @GetMapping
+    public ResponseEntity<SearchResponse> search(
+            @RequestParam @NotBlank @Size(max = 100) String q,
+            @RequestParam(required = false) List<SearchDocumentType> types,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size) {
+
+        return ResponseEntity.ok(searchService.search(q, types, size));
+    }
+}
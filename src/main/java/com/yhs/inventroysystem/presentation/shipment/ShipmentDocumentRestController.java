@@ -6,7 +6,6 @@ import com.yhs.inventroysystem.infrastructure.file.FileDownloadUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -15,8 +14,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
 import static com.yhs.inventroysystem.application.shipment.ShipmentDocumentCommands.*;
 import static com.yhs.inventroysystem.presentation.shipment.ShipmentDocumentDtos.*;
@@ -109,27 +109,27 @@ public class ShipmentDocumentRestController {
     @GetMapping("/{documentId}/download")
     public ResponseEntity<Resource> downloadDocument(
             @PathVariable Long shipmentId,
-            @PathVariable Long documentId) {
+            @PathVariable Long documentId,
+            @RequestHeader HttpHeaders requestHeaders) {
 
         ShipmentDocument document = shipmentDocumentService.getDocument(documentId);
 
-        InputStream inputStream = shipmentDocumentService.getDocumentFileStream(documentId);
-        InputStreamResource resource = new InputStreamResource(inputStream);
+        Optional<URI> downloadUrl = shipmentDocumentService.getDocumentDownloadUrl(document);
+        if (downloadUrl.isPresent()) {
+            return ResponseEntity.status(HttpStatus.FOUND).location(downloadUrl.get()).build();
+        }
+
+        Resource resource = shipmentDocumentService.getDocumentResource(documentId);
 
         String contentType = document.getContentType() != null
                 ? document.getContentType()
                 : MediaType.APPLICATION_OCTET_STREAM_VALUE;
 
-        boolean shouldDisplayInline = FileDownloadUtils.shouldDisplayInline(contentType);
-        String contentDisposition = FileDownloadUtils.createContentDisposition(
+        return FileDownloadUtils.createDownloadResponse(
+                resource,
                 document.getOriginalFileName(),
-                shouldDisplayInline
+                contentType,
+                requestHeaders
         );
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                .contentLength(document.getFileSize())
-                .body(resource);
     }
 }
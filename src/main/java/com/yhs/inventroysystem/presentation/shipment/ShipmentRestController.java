@@ -10,6 +10,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
@@ -139,11 +140,12 @@ public class ShipmentRestController {
      * 내보내기
      */
     @GetMapping("/export/excel")
-    public ResponseEntity<byte[]> exportAllShipmentToExcel(
+    public ResponseEntity<StreamingResponseBody> exportAllShipmentToExcel(
             @RequestParam(required = false) LocalDate startDate,
             @RequestParam(required = false) LocalDate endDate) {
 
-        byte[] excelData = shipmentExcelService.exportAllShipmentsToExcel(startDate, endDate);
+        StreamingResponseBody excelData = outputStream ->
+                shipmentExcelService.exportAllShipmentsToExcel(startDate, endDate, outputStream);
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
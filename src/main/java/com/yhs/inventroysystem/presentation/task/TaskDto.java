@@ -2,6 +2,8 @@ package com.yhs.inventroysystem.presentation.task;
 
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.yhs.inventroysystem.application.task.TaskCategorizationResult;
 import com.yhs.inventroysystem.domain.task.entity.Priority;
 import com.yhs.inventroysystem.domain.task.entity.Task;
 import com.yhs.inventroysystem.domain.task.entity.TaskCategory;
@@ -11,6 +13,8 @@ import jakarta.validation.constraints.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import static com.yhs.inventroysystem.presentation.task.TaskCategoryDto.*;
 
@@ -151,11 +155,25 @@ public class TaskDto {
                             .toList()
             );
         }
+
+        /**
+         * 카테고리 요약 컬럼(category_summary)의 id로 카테고리 조립 (매핑 컬렉션 로딩 없음)
+         */
+        public static TaskResponse from(Task task, Map<Long, TaskCategory> categoryLookup) {
+            return from(task, task.getCategoryIds().stream()
+                    .map(categoryLookup::get)
+                    .filter(Objects::nonNull)
+                    .toList());
+        }
     }
 
+    /**
+     * 작업 목록 응답
+     * - totalCount: 전체 건수를 요청하지 않은 경우(includeTotal=false) null
+     */
     public record TaskListResponse(
             List<TaskResponse> tasks,
-            long totalCount,
+            Long totalCount,
             int page,
             int size,
             boolean hasNext,
@@ -163,6 +181,94 @@ public class TaskDto {
     ) {}
 
 
+    /**
+     * 작업 목록 무한 스크롤 응답
+     * - nextCursor를 다음 요청의 cursor로 전달, 더 없으면 null
+     */
+    public record TaskScrollResponse(
+            List<TaskResponse> tasks,
+            int size,
+            boolean hasNext,
+            String nextCursor
+    ) {}
+
+    /**
+     * 자동 카테고리 매핑 결과
+     */
+    public record TaskCategorizationResponse(
+            int scannedCount,
+            int mappedCount,
+            Map<String, Integer> mappedByCategory,
+            long elapsedMillis
+    ) {
+        public static TaskCategorizationResponse from(TaskCategorizationResult result) {
+            return new TaskCategorizationResponse(
+                    result.scanned(),
+                    result.mapped(),
+                    result.mappedByCategory(),
+                    result.elapsedMillis()
+            );
+        }
+    }
+
+    /**
+     * 달력 표시용 작업 응답 (설명/작성자 등 제외)
+     * - categories는 TaskResponse와 같은 키(colorCode)를 사용해 달력 렌더링 코드를 공유
+     */
+    public record TaskCalendarResponse(
+            Long id,
+            String title,
+
+            @JsonFormat(pattern = "yyyy-MM-dd")
+            LocalDate startDate,
+
+            @JsonFormat(pattern = "yyyy-MM-dd")
+            LocalDate endDate,
+
+            TaskStatus status,
+            Priority priority,
+            List<CategoryColor> categories,
+
+            // 반복 일정 회차인 경우 템플릿 id와 회차 날짜 (아직 저장되지 않은 가상 회차는 id가 null)
+            Long recurrenceId,
+
+            @JsonFormat(pattern = "yyyy-MM-dd")
+            LocalDate occurrenceDate,
+
+            // ETag 계산용 수정 시각 (가상 회차는 반복 템플릿의 수정 시각), 응답에는 포함하지 않음
+            @JsonIgnore
+            LocalDateTime modifiedAt
+    ) {
+        public record CategoryColor(
+                Long id,
+                String colorCode
+        ) {}
+    }
+
+    /**
+     * 작업 통계 응답
+     * - status / priority: 기존 위젯 호환용 합계
+     * - statusPriority: 상태 x 우선순위 교차 집계
+     */
+    public record TaskStatisticsResponse(
+            Map<TaskStatus, Long> status,
+            Map<Priority, Long> priority,
+            Map<TaskStatus, Map<Priority, Long>> statusPriority,
+            long total,
+            long overdue,
+            List<CategoryCount> categories,
+
+            @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+            LocalDateTime aggregatedAt
+    ) {
+        public record CategoryCount(
+                Long categoryId,
+                String name,
+                String colorCode,
+                long count
+        ) {}
+    }
+
     public record TaskCategoryUpdateRequest(
             @NotEmpty(message = "카테고리 ID 목록은 필수입니다")
             List<@NotNull @Min(1) Long> categoryIds
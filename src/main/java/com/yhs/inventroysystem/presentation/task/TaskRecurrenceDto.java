@@ -0,0 +1,92 @@
+package com.yhs.inventroysystem.presentation.task;
+
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.yhs.inventroysystem.domain.task.entity.Priority;
+import com.yhs.inventroysystem.domain.task.entity.TaskRecurrence;
+import jakarta.validation.constraints.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class TaskRecurrenceDto {
+
+    public record TaskRecurrenceCreateRequest(
+            @NotBlank(message = "반복 일정 제목은 필수입니다")
+            @Size(max = 200, message = "반복 일정 제목은 200자를 초과할 수 없습니다")
+            String title,
+
+            @Size(max = 1000, message = "설명은 1000자를 초과할 수 없습니다")
+            String description,
+
+            Priority priority,
+
+            // RFC 5545 RRULE (예: FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=20261231)
+            @NotBlank(message = "반복 규칙은 필수입니다")
+            @Size(max = 200, message = "반복 규칙은 200자를 초과할 수 없습니다")
+            String rrule,
+
+            @NotNull(message = "시작일은 필수입니다")
+            @JsonFormat(pattern = "yyyy-MM-dd")
+            LocalDate startDate,
+
+            @Min(value = 1, message = "회차 기간은 1일 이상이어야 합니다")
+            @Max(value = TaskRecurrence.MAX_DURATION_DAYS, message = "회차 기간은 31일을 초과할 수 없습니다")
+            Integer durationDays,
+
+            List<Long> categoryIds
+    ) {
+        public TaskRecurrenceCreateRequest {
+            if (priority == null) {
+                priority = Priority.MEDIUM;
+            }
+            if (durationDays == null) {
+                durationDays = 1;
+            }
+        }
+    }
+
+    public record TaskRecurrenceResponse(
+            Long id,
+            String title,
+            String description,
+            String authorName,
+            Priority priority,
+            String rrule,
+
+            @JsonFormat(pattern = "yyyy-MM-dd")
+            LocalDate startDate,
+
+            int durationDays,
+
+            // 마지막 회차 종료일, 끝이 없는 규칙이면 null
+            @JsonFormat(pattern = "yyyy-MM-dd")
+            LocalDate seriesEndDate,
+
+            List<Long> categoryIds,
+
+            @JsonFormat(pattern = "yyyy-MM-dd")
+            List<LocalDate> excludedDates,
+
+            @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+            LocalDateTime createdAt
+    ) {
+        public static TaskRecurrenceResponse from(TaskRecurrence recurrence) {
+            return new TaskRecurrenceResponse(
+                    recurrence.getId(),
+                    recurrence.getTitle(),
+                    recurrence.getDescription(),
+                    recurrence.getAuthorName(),
+                    recurrence.getPriority(),
+                    recurrence.getRrule(),
+                    recurrence.getStartDate(),
+                    recurrence.getDurationDays(),
+                    recurrence.getSeriesEndDate(),
+                    recurrence.getCategoryIds(),
+                    List.copyOf(recurrence.getExcludedDates()),
+                    recurrence.getCreatedAt()
+            );
+        }
+    }
+}
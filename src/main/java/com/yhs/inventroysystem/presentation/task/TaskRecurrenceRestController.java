@@ -0,0 +1,125 @@
+package com.yhs.inventroysystem.presentation.task;
+
+
+import com.yhs.inventroysystem.application.auth.UserDetails.CustomUserDetails;
+import com.yhs.inventroysystem.application.task.TaskCommands.TaskRecurrenceCreateCommand;
+import com.yhs.inventroysystem.application.task.TaskCommands.TaskUpdateCommand;
+import com.yhs.inventroysystem.application.task.TaskRecurrenceService;
+import com.yhs.inventroysystem.domain.task.entity.Task;
+import com.yhs.inventroysystem.domain.task.entity.TaskRecurrence;
+import com.yhs.inventroysystem.presentation.task.TaskDto.TaskResponse;
+import com.yhs.inventroysystem.presentation.task.TaskDto.TaskUpdateRequest;
+import com.yhs.inventroysystem.presentation.task.TaskRecurrenceDto.TaskRecurrenceCreateRequest;
+import com.yhs.inventroysystem.presentation.task.TaskRecurrenceDto.TaskRecurrenceResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 반복 일정 API
+ * - 가상 회차는 /api/tasks/calendar 응답에 recurrenceId + occurrenceDate로 포함
+ * - 저장되지 않은 회차는 PUT /occurrences/{date}로 수정할 때 작업으로 저장되고, 이후에는 일반 작업 API 사용
+ */
+@RestController
+@RequestMapping("/api/task-recurrences")
+@RequiredArgsConstructor
+@Validated
+public class TaskRecurrenceRestController {
+
+    private final TaskRecurrenceService taskRecurrenceService;
+
+    @PostMapping
+    public ResponseEntity<TaskRecurrenceResponse> createRecurrence(
+            @Valid @RequestBody TaskRecurrenceCreateRequest request,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+
+        TaskRecurrenceCreateCommand command = new TaskRecurrenceCreateCommand(
+                request.title(),
+                request.description(),
+                request.priority(),
+                request.rrule(),
+                request.startDate(),
+                request.durationDays(),
+                request.categoryIds()
+        );
+
+        TaskRecurrence recurrence = taskRecurrenceService.createRecurrence(command, currentUser);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(TaskRecurrenceResponse.from(recurrence));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<TaskRecurrenceResponse>> getRecurrences() {
+        List<TaskRecurrenceResponse> response = taskRecurrenceService.getRecurrences().stream()
+                .map(TaskRecurrenceResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{recurrenceId}")
+    public ResponseEntity<TaskRecurrenceResponse> getRecurrence(@PathVariable @Min(1) Long recurrenceId) {
+        TaskRecurrence recurrence = taskRecurrenceService.getRecurrence(recurrenceId);
+
+        return ResponseEntity.ok(TaskRecurrenceResponse.from(recurrence));
+    }
+
+    @DeleteMapping("/{recurrenceId}")
+    public ResponseEntity<Void> deleteRecurrence(@PathVariable @Min(1) Long recurrenceId) {
+        taskRecurrenceService.deleteRecurrence(recurrenceId);
+
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 회차 수정 (저장되지 않은 회차면 작업으로 저장하면서 수정)
+     */
+    @PutMapping("/{recurrenceId}/occurrences/{date}")
+    public ResponseEntity<TaskResponse> updateOccurrence(
+            @PathVariable @Min(1) Long recurrenceId,
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
+            @Valid @RequestBody TaskUpdateRequest request) {
+
+        TaskUpdateCommand command = new TaskUpdateCommand(
+                request.title(),
+                request.description(),
+                request.startDate(),
+                request.endDate(),
+                request.status(),
+                request.priority()
+        );
+
+        Task task = taskRecurrenceService.updateOccurrence(recurrenceId, date, command);
+
+        return ResponseEntity.ok(TaskResponse.from(task, task.getCategories()));
+    }
+
+    @PostMapping("/{recurrenceId}/occurrences/{date}/complete")
+    public ResponseEntity<TaskResponse> completeOccurrence(
+            @PathVariable @Min(1) Long recurrenceId,
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
+
+        Task task = taskRecurrenceService.completeOccurrence(recurrenceId, date);
+
+        return ResponseEntity.ok(TaskResponse.from(task, task.getCategories()));
+    }
+
+    @PostMapping("/{recurrenceId}/occurrences/{date}/skip")
+    public ResponseEntity<Void> skipOccurrence(
+            @PathVariable @Min(1) Long recurrenceId,
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
+
+        taskRecurrenceService.skipOccurrence(recurrenceId, date);
+
+        return ResponseEntity.ok().build();
+    }
+}
@@ -2,13 +2,17 @@ package com.yhs.inventroysystem.presentation.task;
 
 
 import com.yhs.inventroysystem.application.auth.UserDetails.CustomUserDetails;
+import com.yhs.inventroysystem.application.task.TaskCategorizationResult;
 import com.yhs.inventroysystem.application.task.TaskCategoryMappingService;
 import com.yhs.inventroysystem.application.task.TaskCommands.*;
 import com.yhs.inventroysystem.domain.task.entity.Priority;
 import com.yhs.inventroysystem.domain.task.entity.Task;
 import com.yhs.inventroysystem.domain.task.entity.TaskCategory;
 import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
+import com.yhs.inventroysystem.domain.task.repository.TaskSearchCondition;
+import com.yhs.inventroysystem.application.task.TaskSearchCursor;
 import com.yhs.inventroysystem.application.task.TaskService;
+import com.yhs.inventroysystem.application.task.TaskStatisticsService;
 import com.yhs.inventroysystem.presentation.task.TaskCategoryDto.TaskCategorySimpleResponse;
 import com.yhs.inventroysystem.presentation.task.TaskDto.*;
 import jakarta.validation.Valid;
@@ -16,13 +20,18 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.DigestUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +44,7 @@ public class TaskRestController {
 
     private final TaskService taskService;
     private final TaskCategoryMappingService taskCategoryMappingService;
+    private final TaskStatisticsService taskStatisticsService;
 
 
     @PostMapping
@@ -150,29 +160,100 @@ public class TaskRestController {
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "10") @Min(1) @Max(1000) int size) {
+            @RequestParam(defaultValue = "10") @Min(1) @Max(1000) int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
 
-        // Fetch Join으로 카테고리 정보가 이미 포함된 Task 조회
-        Page<Task> taskPage = taskService.searchTasks(
-                title, authorName, status, priority, startDate, endDate, page, size
-        );
+        TaskSearchCondition condition = new TaskSearchCondition(
+                title, authorName, status, priority, startDate, endDate);
 
-        List<TaskResponse> taskResponses = taskPage.getContent().stream()
+        // 전체 건수가 필요 없으면 count 쿼리 없이 Slice로 조회
+        Slice<Task> taskSlice = includeTotal
+                ? taskService.searchTasks(condition, page, size)
+                : taskService.searchTasksWithoutCount(condition, page, size);
+
+        List<TaskResponse> taskResponses = taskSlice.getContent().stream()
                 .map(task -> TaskResponse.from(task, task.getCategories()))
                 .toList();
 
         TaskListResponse response = new TaskListResponse(
                 taskResponses,
-                taskPage.getTotalElements(),
+                taskSlice instanceof Page<Task> taskPage ? taskPage.getTotalElements() : null,
                 page,
                 size,
-                taskPage.hasNext(),
-                taskPage.hasPrevious()
+                taskSlice.hasNext(),
+                taskSlice.hasPrevious()
         );
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 작업 목록 무한 스크롤 - keyset 커서 기반 이어 조회 (OFFSET / count 쿼리 없음)
+     */
+    @GetMapping("/search/scroll")
+    public ResponseEntity<TaskScrollResponse> scrollTasks(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String authorName,
+            @RequestParam(required = false) List<TaskStatus> status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(200) int size) {
+
+        TaskSearchCondition condition = new TaskSearchCondition(
+                title, authorName, status, priority, startDate, endDate);
+
+        Window<Task> window = taskService.scrollTasks(condition, cursor, size);
+
+        List<TaskResponse> taskResponses = window.getContent().stream()
+                .map(task -> TaskResponse.from(task, task.getCategories()))
+                .toList();
+
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? TaskSearchCursor.from(window.getContent().get(window.size() - 1)).encode()
+                : null;
+
+        return ResponseEntity.ok(new TaskScrollResponse(taskResponses, size, window.hasNext(), nextCursor));
+    }
+
+    /**
+     * 달력 범위 조회 - 응답 내용 기반 ETag로 조건부 GET 지원
+     * - 변경이 없으면 304로 본문 재전송 생략 (브라우저가 If-None-Match로 재검증)
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<List<TaskCalendarResponse>> getCalendarTasks(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to) {
+
+        List<TaskCalendarResponse> response = taskService.getCalendarTasks(from, to);
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(calendarETag(response))
+                .body(response);
+    }
+
+    /**
+     * 응답 항목의 식별자와 수정 시각으로 ETag 생성
+     * - 제목/기간/상태 변경은 modifiedAt으로 감지 (가상 회차는 반복 템플릿의 수정 시각)
+     * - 카테고리 색상 변경은 작업의 modifiedAt을 바꾸지 않으므로 카테고리 id/색상을 함께 포함
+     */
+    private String calendarETag(List<TaskCalendarResponse> tasks) {
+        StringBuilder version = new StringBuilder(tasks.size() * 48);
+        for (TaskCalendarResponse task : tasks) {
+            version.append(task.id()).append(':')
+                    .append(task.recurrenceId()).append(':')
+                    .append(task.occurrenceDate()).append(':')
+                    .append(task.modifiedAt());
+            for (TaskCalendarResponse.CategoryColor category : task.categories()) {
+                version.append(':').append(category.id()).append('=').append(category.colorCode());
+            }
+            version.append('\n');
+        }
+        return DigestUtils.md5DigestAsHex(version.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
     @GetMapping("/overdue")
     public ResponseEntity<List<TaskResponse>> getOverdueTasks() {
         // Fetch Join으로 카테고리 정보가 이미 포함된 Task 조회
@@ -186,8 +267,8 @@ public class TaskRestController {
     }
 
     @GetMapping("/statistics")
-    public ResponseEntity<Map<String, Object>> getTaskStatistics() {
-        Map<String, Object> response = taskService.getTaskStatistics();
+    public ResponseEntity<TaskStatisticsResponse> getTaskStatistics() {
+        TaskStatisticsResponse response = taskStatisticsService.getTaskStatistics();
 
         return ResponseEntity.ok(response);
     }
@@ -284,19 +365,42 @@ public class TaskRestController {
 
     @GetMapping("/by-category/{categoryId}")
     public ResponseEntity<List<TaskResponse>> getTasksByCategory(@PathVariable Long categoryId) {
-        // Fetch Join으로 카테고리 정보가 이미 포함된 Task 조회
         List<Task> tasks = taskCategoryMappingService.getTasksByCategory(categoryId);
+        Map<Long, TaskCategory> categoryLookup = taskCategoryMappingService.getCategoryLookup();
 
         List<TaskResponse> responses = tasks.stream()
-                .map(task -> TaskResponse.from(task, task.getCategories()))
+                .map(task -> TaskResponse.from(task, categoryLookup))
                 .toList();
 
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping("/by-category/{categoryId}/page")
+    public ResponseEntity<TaskListResponse> getTasksByCategoryPage(
+            @PathVariable Long categoryId,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(200) int size) {
+
+        Page<Task> taskPage = taskCategoryMappingService.getTasksByCategory(categoryId, page, size);
+        Map<Long, TaskCategory> categoryLookup = taskCategoryMappingService.getCategoryLookup();
+
+        List<TaskResponse> taskResponses = taskPage.getContent().stream()
+                .map(task -> TaskResponse.from(task, categoryLookup))
+                .toList();
+
+        return ResponseEntity.ok(new TaskListResponse(
+                taskResponses,
+                taskPage.getTotalElements(),
+                page,
+                size,
+                taskPage.hasNext(),
+                taskPage.hasPrevious()
+        ));
+    }
+
     @PostMapping("/mapping-all-task")
-    public ResponseEntity<Void> mappingAllTasks() {
-        taskCategoryMappingService.mappingAllTasks();
-        return ResponseEntity.ok().build();
+    public ResponseEntity<TaskCategorizationResponse> mappingAllTasks() {
+        TaskCategorizationResult result = taskCategoryMappingService.mappingAllTasks();
+        return ResponseEntity.ok(TaskCategorizationResponse.from(result));
     }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+// 엑셀 내보내기 작업 요청 + 완료될 때까지 폴링 후 다운로드
+const EXPORT_API_URL = '/api/exports';
+const EXPORT_POLL_INTERVAL_MS = 1500;
+const EXPORT_POLL_TIMEOUT_MS = 10 * 60 * 1000;
+
+async function requestExportDownload(type, startDate, endDate) {
+    const params = new URLSearchParams({ type, startDate, endDate });
+    const response = await fetch(`${EXPORT_API_URL}?${params}`, { method: 'POST' });
+
+    if (!response.ok) {
+        const error = await response.json().catch(() => null);
+        throw new Error(error?.message || 'Excel 내보내기 요청에 실패했습니다');
+    }
+
+    let job = await response.json();
+    const startedAt = Date.now();
+
+    while (job.status === 'PENDING' || job.status === 'RUNNING') {
+        if (Date.now() - startedAt > EXPORT_POLL_TIMEOUT_MS) {
+            throw new Error('Excel 파일 생성 시간이 초과되었습니다');
+        }
+
+        await new Promise(resolve => setTimeout(resolve, EXPORT_POLL_INTERVAL_MS));
+
+        const pollResponse = await fetch(`${EXPORT_API_URL}/${job.jobId}`);
+        if (!pollResponse.ok) throw new Error('Excel 내보내기 상태 확인에 실패했습니다');
+        job = await pollResponse.json();
+    }
+
+    if (job.status !== 'COMPLETED') {
+        throw new Error(job.errorMessage || 'Excel 파일 생성에 실패했습니다');
+    }
+
+    // 서버에 저장된 파일을 바로 다운로드 (blob 변환 없이 브라우저에 위임)
+    const a = document.createElement('a');
+    a.href = job.downloadUrl;
+    a.download = job.fileName;
+    document.body.appendChild(a);
+    a.click();
+    document.body.removeChild(a);
+}
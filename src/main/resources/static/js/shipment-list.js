@@ -868,28 +868,15 @@ function exportExcelCustomRange() {
     downloadExcel(startDate, endDate);
 }
 
-// Excel 다운로드 실행
+// Excel 내보내기 작업 요청 후 완료되면 다운로드
 async function downloadExcel(startDate, endDate) {
     try {
-        const url = `${API_BASE_URL}/export/excel?startDate=${startDate}&endDate=${endDate}`;
-        const response = await fetch(url);
-
-        if (!response.ok) throw new Error('Excel 다운로드에 실패했습니다');
-
-        const blob = await response.blob();
-        const downloadUrl = window.URL.createObjectURL(blob);
-        const a = document.createElement('a');
-        a.href = downloadUrl;
-        a.download = `shipments_${startDate}_${endDate}.xlsx`;
-        document.body.appendChild(a);
-        a.click();
-        document.body.removeChild(a);
-        window.URL.revokeObjectURL(downloadUrl);
-
+        showNotification('Excel 파일을 생성하고 있습니다', 'success');
+        await requestExportDownload('SHIPMENT', startDate, endDate);
         showNotification('Excel 파일이 다운로드되었습니다', 'success');
     } catch (error) {
         console.error('Error:', error);
-        showNotification('Excel 다운로드에 실패했습니다', 'error');
+        showNotification(error.message || 'Excel 다운로드에 실패했습니다', 'error');
     }
 }
 
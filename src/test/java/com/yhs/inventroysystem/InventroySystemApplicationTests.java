@@ -1,10 +1,9 @@
 package com.yhs.inventroysystem;
 
+import com.yhs.inventroysystem.support.IntegrationTestSupport;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
-class InventroySystemApplicationTests {
+class InventroySystemApplicationTests extends IntegrationTestSupport {
 
     @Test
     void contextLoads() {
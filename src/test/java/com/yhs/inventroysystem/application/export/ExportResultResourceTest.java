@@ -0,0 +1,53 @@
+package com.yhs.inventroysystem.application.export;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExportResultResourceTest {
+
+    @Test
+    void jobIsDownloadingWhileStreamIsOpen() throws Exception {
+        ExportJob job = job();
+        Resource resource = new ExportResultResource(new ByteArrayResource(new byte[]{1, 2, 3}), job);
+
+        assertThat(job.isDownloading(Duration.ZERO)).isFalse();
+
+        InputStream first = resource.getInputStream();
+        InputStream second = resource.getInputStream();
+        first.close();
+        first.close();
+        assertThat(job.isDownloading(Duration.ZERO)).isTrue();
+
+        second.close();
+        assertThat(job.isDownloading(Duration.ZERO)).isFalse();
+        assertThat(job.isDownloading(Duration.ofMinutes(1))).isTrue();
+    }
+
+    @Test
+    void failedOpenDoesNotLeaveDownloadCounted() {
+        ExportJob job = job();
+        Resource missing = new ByteArrayResource(new byte[0]) {
+            @Override
+            public InputStream getInputStream() throws FileNotFoundException {
+                throw new FileNotFoundException("missing");
+            }
+        };
+
+        assertThatThrownBy(() -> new ExportResultResource(missing, job).getInputStream())
+                .isInstanceOf(FileNotFoundException.class);
+        assertThat(job.isDownloading(Duration.ZERO)).isFalse();
+    }
+
+    private ExportJob job() {
+        return ExportJob.create(ExportType.DELIVERY, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), "v1");
+    }
+}
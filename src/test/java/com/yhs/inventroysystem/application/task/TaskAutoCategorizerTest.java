@@ -0,0 +1,99 @@
+package com.yhs.inventroysystem.application.task;
+
+import com.yhs.inventroysystem.domain.task.entity.Priority;
+import com.yhs.inventroysystem.domain.task.entity.Task;
+import com.yhs.inventroysystem.domain.task.entity.TaskCategory;
+import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
+import com.yhs.inventroysystem.domain.task.repository.TaskCategoryMappingBulkRepository;
+import com.yhs.inventroysystem.domain.task.repository.TaskCategoryMappingBulkRepository.Assignment;
+import com.yhs.inventroysystem.domain.task.repository.TaskRepository;
+import com.yhs.inventroysystem.domain.task.service.TaskCategoryDomainService;
+import com.yhs.inventroysystem.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동 카테고리 매핑 - 제목 규칙 우선순위와 실제 저장된 건수만 집계하는지 검증
+ */
+class TaskAutoCategorizerTest extends IntegrationTestSupport {
+
+    @Autowired
+    private TaskAutoCategorizer taskAutoCategorizer;
+
+    @Autowired
+    private TaskCategoryMappingBulkRepository taskCategoryMappingBulkRepository;
+
+    @Autowired
+    private TaskCategoryDomainService taskCategoryDomainService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void titlesAreClassifiedByFirstMatchingRule() {
+        Task shipment = saveTask("A사 출하 준비");
+        Task orderForProduction = saveTask("주문 접수 후 생산 계획");
+        Task production = saveTask("2라인 생산 점검");
+        Task other = saveTask("사무실 정리");
+
+        TaskCategorizationResult result = taskAutoCategorizer.categorizeUncategorizedTasks();
+
+        assertThat(categoryNames(shipment)).containsExactly("수주/납품");
+        assertThat(categoryNames(orderForProduction)).containsExactly("수주/납품");
+        assertThat(categoryNames(production)).containsExactly("제품 생산");
+        assertThat(categoryNames(other)).containsExactly("기타");
+
+        assertThat(result.mapped()).isEqualTo(result.scanned());
+        assertThat(result.mappedByCategory().values().stream().mapToInt(Integer::intValue).sum())
+                .isEqualTo(result.mapped());
+        assertThat(result.mappedByCategory().get("수주/납품")).isGreaterThanOrEqualTo(2);
+
+        TaskCategorizationResult rerun = taskAutoCategorizer.categorizeUncategorizedTasks();
+        assertThat(rerun.scanned()).isZero();
+        assertThat(rerun.mapped()).isZero();
+    }
+
+    @Test
+    void duplicateMappingsAreNotCountedAsInserted() {
+        TaskCategory etc = taskCategoryDomainService.findByName("기타");
+        TaskCategory production = taskCategoryDomainService.findByName("제품 생산");
+        Task first = saveTask("중복 확인 1");
+        Task second = saveTask("중복 확인 2");
+        List<Assignment> assignments = List.of(
+                new Assignment(first.getId(), etc.getId()),
+                new Assignment(second.getId(), etc.getId()));
+
+        assertThat(taskCategoryMappingBulkRepository.batchInsertIgnoringDuplicates(assignments))
+                .isEqualTo(Map.of(etc.getId(), 2));
+
+        // 다른 실행이 먼저 저장한 묶음을 다시 저장하는 경우 - 모두 중복이면 0건
+        assertThat(taskCategoryMappingBulkRepository.batchInsertIgnoringDuplicates(assignments)).isEmpty();
+
+        assertThat(taskCategoryMappingBulkRepository.batchInsertIgnoringDuplicates(List.of(
+                new Assignment(first.getId(), etc.getId()),
+                new Assignment(first.getId(), production.getId()))))
+                .isEqualTo(Map.of(production.getId(), 1));
+    }
+
+    private Task saveTask(String title) {
+        return taskRepository.save(new Task(title, "설명", "테스터",
+                LocalDate.of(2031, 7, 1), LocalDate.of(2031, 7, 2), TaskStatus.TODO, Priority.MEDIUM));
+    }
+
+    private List<String> categoryNames(Task task) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.name FROM task_category_mappings m JOIN task_categories c ON c.id = m.category_id " +
+                        "WHERE m.task_id = ?",
+                String.class, task.getId());
+    }
+}
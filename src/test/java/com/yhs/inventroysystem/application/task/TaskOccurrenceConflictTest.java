@@ -0,0 +1,92 @@
+package com.yhs.inventroysystem.application.task;
+
+import com.yhs.inventroysystem.application.task.TaskCommands.TaskUpdateCommand;
+import com.yhs.inventroysystem.domain.task.entity.Priority;
+import com.yhs.inventroysystem.domain.task.entity.RecurrenceRule;
+import com.yhs.inventroysystem.domain.task.entity.Task;
+import com.yhs.inventroysystem.domain.task.entity.TaskRecurrence;
+import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
+import com.yhs.inventroysystem.domain.task.service.TaskCategoryDomainService;
+import com.yhs.inventroysystem.domain.task.service.TaskDomainService;
+import com.yhs.inventroysystem.domain.task.service.TaskRecurrenceDomainService;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 같은 회차를 동시에 저장해 uk_task_occurrence 위반이 나면 새 트랜잭션에서 기존 작업에 수정 반영
+ */
+class TaskOccurrenceConflictTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 4, 1);
+
+    private final TaskRecurrenceDomainService taskRecurrenceDomainService = mock(TaskRecurrenceDomainService.class);
+    private final TaskDomainService taskDomainService = mock(TaskDomainService.class);
+    private final TaskCategoryDomainService taskCategoryDomainService = mock(TaskCategoryDomainService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private final TaskRecurrenceService taskRecurrenceService = new TaskRecurrenceService(
+            taskRecurrenceDomainService, taskDomainService, taskCategoryDomainService,
+            mock(ApplicationEventPublisher.class), new TransactionTemplate(transactionManager));
+
+    private final TaskRecurrence recurrence = new TaskRecurrence("주간 점검", null, "테스터", Priority.MEDIUM,
+            RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO"), MONDAY, 1, List.of());
+
+    @Test
+    void occurrenceStoredConcurrentlyIsEditedInRetry() {
+        Task storedByOther = new Task("주간 점검", null, "테스터", MONDAY, MONDAY, TaskStatus.TODO, Priority.MEDIUM);
+        given(transactionManager.getTransaction(any())).willAnswer(invocation -> new SimpleTransactionStatus());
+        given(taskRecurrenceDomainService.findRecurrenceById(1L)).willReturn(recurrence);
+        given(taskCategoryDomainService.findAllByIsActiveTrueOrderByDisplayOrderAsc()).willReturn(List.of());
+        given(taskDomainService.findOccurrenceTask(1L, MONDAY))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(storedByOther));
+        given(taskDomainService.saveTask(any())).willThrow(duplicate("uk_task_occurrence"));
+
+        Task task = taskRecurrenceService.updateOccurrence(1L, MONDAY, edit());
+
+        assertThat(task).isSameAs(storedByOther);
+        assertThat(task.getTitle()).isEqualTo("자료 준비");
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void otherIntegrityViolationIsNotRetried() {
+        given(transactionManager.getTransaction(any())).willAnswer(invocation -> new SimpleTransactionStatus());
+        given(taskRecurrenceDomainService.findRecurrenceById(1L)).willReturn(recurrence);
+        given(taskCategoryDomainService.findAllByIsActiveTrueOrderByDisplayOrderAsc()).willReturn(List.of());
+        given(taskDomainService.findOccurrenceTask(1L, MONDAY)).willReturn(Optional.empty());
+        given(taskDomainService.saveTask(any())).willThrow(duplicate("PRIMARY"));
+
+        assertThatThrownBy(() -> taskRecurrenceService.updateOccurrence(1L, MONDAY, edit()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(taskDomainService, times(1)).saveTask(any());
+    }
+
+    private TaskUpdateCommand edit() {
+        return new TaskUpdateCommand("자료 준비", null, MONDAY, MONDAY, TaskStatus.IN_PROGRESS, Priority.HIGH);
+    }
+
+    private DataIntegrityViolationException duplicate(String key) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException("Duplicate entry '1-2030-04-01' for key '" + key + "'"));
+    }
+}
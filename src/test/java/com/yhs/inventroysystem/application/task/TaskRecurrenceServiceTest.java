@@ -0,0 +1,166 @@
+package com.yhs.inventroysystem.application.task;
+
+import com.yhs.inventroysystem.application.task.TaskCommands.TaskUpdateCommand;
+import com.yhs.inventroysystem.domain.task.entity.Priority;
+import com.yhs.inventroysystem.domain.task.entity.RecurrenceRule;
+import com.yhs.inventroysystem.domain.task.entity.Task;
+import com.yhs.inventroysystem.domain.task.entity.TaskCategory;
+import com.yhs.inventroysystem.domain.task.entity.TaskRecurrence;
+import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
+import com.yhs.inventroysystem.domain.task.repository.TaskCategoryRepository;
+import com.yhs.inventroysystem.domain.task.service.TaskDomainService;
+import com.yhs.inventroysystem.domain.task.service.TaskRecurrenceDomainService;
+import com.yhs.inventroysystem.presentation.task.TaskDto.TaskCalendarResponse;
+import com.yhs.inventroysystem.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 반복 일정 가상 회차 펼치기 - 저장/건너뛴 회차는 가상 회차로 다시 나오지 않아야 함
+ * 회차 수정 - 수정할 때만 저장되고, 동시에 수정해도 회차당 작업은 하나
+ */
+class TaskRecurrenceServiceTest extends IntegrationTestSupport {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 4, 1);
+
+    @Autowired
+    private TaskRecurrenceService taskRecurrenceService;
+
+    @Autowired
+    private TaskRecurrenceDomainService taskRecurrenceDomainService;
+
+    @Autowired
+    private TaskDomainService taskDomainService;
+
+    @Autowired
+    private TaskCategoryRepository taskCategoryRepository;
+
+    @Test
+    void storedAndSkippedOccurrencesAreNotExpanded() {
+        TaskCategory category = taskCategoryRepository.save(new TaskCategory(
+                "반복-" + UUID.randomUUID().toString().substring(0, 8), "설명", "#123456", 1));
+        TaskRecurrence recurrence = saveRecurrence("FREQ=WEEKLY;BYDAY=MO", 1, List.of(category));
+
+        taskRecurrenceService.updateOccurrence(recurrence.getId(), MONDAY.plusWeeks(1),
+                edit("주간 점검", MONDAY.plusWeeks(1), MONDAY.plusWeeks(1), TaskStatus.IN_PROGRESS));
+        taskRecurrenceService.completeOccurrence(recurrence.getId(), MONDAY.plusWeeks(2));
+        taskRecurrenceService.skipOccurrence(recurrence.getId(), MONDAY.plusWeeks(3));
+
+        List<TaskCalendarResponse> occurrences = expand(recurrence, MONDAY, MONDAY.plusWeeks(4));
+
+        assertThat(occurrences)
+                .extracting(TaskCalendarResponse::occurrenceDate)
+                .containsExactly(MONDAY, MONDAY.plusWeeks(4));
+        assertThat(occurrences).allSatisfy(occurrence -> {
+            assertThat(occurrence.id()).isNull();
+            assertThat(occurrence.categories()).extracting("colorCode").containsExactly("#123456");
+        });
+    }
+
+    @Test
+    void storedMultiDayOccurrenceStartingBeforeWindowIsNotExpanded() {
+        TaskRecurrence recurrence = saveRecurrence("FREQ=WEEKLY;BYDAY=MO", 3, List.of());
+
+        taskRecurrenceService.updateOccurrence(recurrence.getId(), MONDAY,
+                edit("주간 점검", MONDAY, MONDAY.plusDays(2), TaskStatus.TODO));
+
+        // 4/1~4/3 회차는 저장되어 있으므로 4/2부터 조회해도 가상 회차로 나오지 않음
+        assertThat(expand(recurrence, MONDAY.plusDays(1), MONDAY.plusWeeks(1)))
+                .extracting(TaskCalendarResponse::occurrenceDate)
+                .containsExactly(MONDAY.plusWeeks(1));
+    }
+
+    @Test
+    void finishedSeriesIsNotExpandedAfterItsEnd() {
+        TaskRecurrence recurrence = saveRecurrence("FREQ=DAILY;COUNT=3", 1, List.of());
+
+        assertThat(expand(recurrence, MONDAY, MONDAY.plusWeeks(1)))
+                .extracting(TaskCalendarResponse::occurrenceDate)
+                .containsExactly(MONDAY, MONDAY.plusDays(1), MONDAY.plusDays(2));
+        assertThat(expand(recurrence, MONDAY.plusDays(3), MONDAY.plusWeeks(1))).isEmpty();
+    }
+
+    @Test
+    void updatingVirtualOccurrenceStoresItWithTheEdit() {
+        TaskRecurrence recurrence = saveRecurrence("FREQ=WEEKLY;BYDAY=MO", 1, List.of());
+
+        Task created = taskRecurrenceService.updateOccurrence(recurrence.getId(), MONDAY,
+                edit("회의 자료 준비", MONDAY, MONDAY.plusDays(1), TaskStatus.IN_PROGRESS));
+        Task updated = taskRecurrenceService.updateOccurrence(recurrence.getId(), MONDAY,
+                edit("회의 자료 확정", MONDAY, MONDAY.plusDays(2), TaskStatus.IN_PROGRESS));
+
+        assertThat(updated.getId()).isEqualTo(created.getId());
+        Task stored = taskDomainService.findOccurrenceTask(recurrence.getId(), MONDAY).orElseThrow();
+        assertThat(stored.getTitle()).isEqualTo("회의 자료 확정");
+        assertThat(stored.getEndDate()).isEqualTo(MONDAY.plusDays(2));
+        assertThat(stored.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void rejectedEditLeavesOccurrenceVirtual() {
+        TaskRecurrence recurrence = saveRecurrence("FREQ=WEEKLY;BYDAY=MO", 1, List.of());
+
+        assertThatThrownBy(() -> taskRecurrenceService.updateOccurrence(recurrence.getId(), MONDAY,
+                edit("주간 점검", MONDAY, MONDAY.minusDays(1), TaskStatus.TODO)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(taskDomainService.findOccurrenceTask(recurrence.getId(), MONDAY)).isEmpty();
+        assertThat(expand(recurrence, MONDAY, MONDAY))
+                .extracting(TaskCalendarResponse::occurrenceDate)
+                .containsExactly(MONDAY);
+    }
+
+    @Test
+    void concurrentEditsOfSameOccurrenceShareOneTask() throws Exception {
+        TaskRecurrence recurrence = saveRecurrence("FREQ=DAILY", 1, List.of());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            for (int day = 0; day < 5; day++) {
+                LocalDate date = MONDAY.plusDays(day);
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Callable<Long> edit = () -> {
+                    barrier.await(10, TimeUnit.SECONDS);
+                    return taskRecurrenceService.updateOccurrence(recurrence.getId(), date,
+                            edit("동시 수정", date, date, TaskStatus.IN_PROGRESS)).getId();
+                };
+
+                Future<Long> first = executor.submit(edit);
+                Future<Long> second = executor.submit(edit);
+
+                assertThat(first.get(30, TimeUnit.SECONDS)).isEqualTo(second.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private TaskUpdateCommand edit(String title, LocalDate startDate, LocalDate endDate, TaskStatus status) {
+        return new TaskUpdateCommand(title, null, startDate, endDate, status, Priority.MEDIUM);
+    }
+
+    private TaskRecurrence saveRecurrence(String rrule, int durationDays, List<TaskCategory> categories) {
+        return taskRecurrenceDomainService.saveRecurrence(new TaskRecurrence(
+                "주간 점검", null, "테스터", Priority.MEDIUM,
+                RecurrenceRule.parse(rrule), MONDAY, durationDays, categories));
+    }
+
+    private List<TaskCalendarResponse> expand(TaskRecurrence recurrence, LocalDate from, LocalDate to) {
+        return taskRecurrenceService.expandOccurrences(from, to).stream()
+                .filter(occurrence -> recurrence.getId().equals(occurrence.recurrenceId()))
+                .toList();
+    }
+}
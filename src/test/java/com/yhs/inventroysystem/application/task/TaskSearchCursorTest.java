@@ -0,0 +1,72 @@
+package com.yhs.inventroysystem.application.task;
+
+import com.yhs.inventroysystem.domain.task.entity.Priority;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.KeysetScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskSearchCursorTest {
+
+    @Test
+    void encodedCursorDecodesToSameKeys() {
+        TaskSearchCursor cursor = new TaskSearchCursor(
+                Priority.URGENT, LocalDateTime.of(2026, 3, 1, 9, 30, 15, 123_456_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(TaskSearchCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void cursorWithoutFractionalSecondsRoundTrips() {
+        TaskSearchCursor cursor = new TaskSearchCursor(Priority.LOW, LocalDateTime.of(2026, 3, 1, 0, 0), 1L);
+
+        assertThat(TaskSearchCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "not base64!",
+            "",
+            "SElHSHwyMDI2LTAzLTAxVDA5OjMw",   // 키 2개 (HIGH|2026-03-01T09:30)
+    })
+    void malformedCursorIsRejected(String cursor) {
+        assertThatThrownBy(() -> TaskSearchCursor.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "SUPER|2026-03-01T09:30|1",
+            "HIGH|yesterday|1",
+            "HIGH|2026-03-01T09:30|abc",
+            "HIGH|2026-03-01T09:30|1|extra",
+    })
+    void cursorWithInvalidKeyIsRejected(String raw) {
+        String cursor = Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> TaskSearchCursor.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+
+    @Test
+    void scrollPositionFollowsSearchSortKeyOrder() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 1, 9, 30);
+        KeysetScrollPosition position = new TaskSearchCursor(Priority.HIGH, createdAt, 7L).toScrollPosition();
+
+        assertThat(position.getKeys().keySet()).containsExactly("priority", "createdAt", "id");
+        assertThat(position.getKeys().values()).containsExactly(Priority.HIGH, createdAt, 7L);
+        assertThat(position.scrollsForward()).isTrue();
+    }
+}
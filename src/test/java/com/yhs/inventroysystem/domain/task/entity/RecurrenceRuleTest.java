@@ -0,0 +1,161 @@
+package com.yhs.inventroysystem.domain.task.entity;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceRuleTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "FREQ=DAILY",
+            "FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH",
+            "FREQ=MONTHLY;BYDAY=-1FR",
+            "FREQ=MONTHLY;BYDAY=1MO,3WE;COUNT=6",
+            "FREQ=MONTHLY;BYMONTHDAY=1,15,-1;COUNT=12",
+            "FREQ=YEARLY;UNTIL=20301231",
+    })
+    void parsedRuleFormatsBackToSameString(String rrule) {
+        RecurrenceRule rule = RecurrenceRule.parse(rrule);
+
+        assertThat(rule.toString()).isEqualTo(rrule);
+        assertThat(RecurrenceRule.parse(rule.toString())).isEqualTo(rule);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "rrule:freq=daily;interval=1|FREQ=DAILY",
+            "FREQ=MONTHLY;BYDAY=+1MO;WKST=MO|FREQ=MONTHLY;BYDAY=1MO",
+            "FREQ=DAILY;UNTIL=20260131T235959Z;|FREQ=DAILY;UNTIL=20260131",
+    })
+    void parseNormalizesRule(String rrule, String normalized) {
+        assertThat(RecurrenceRule.parse(rrule).toString()).isEqualTo(normalized);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "INTERVAL=2",
+            "FREQ=HOURLY",
+            "FREQ=DAILY;INTERVAL=0",
+            "FREQ=DAILY;COUNT=3;UNTIL=20260101",
+            "FREQ=DAILY;COUNT=1001",
+            "FREQ=MONTHLY;BYMONTHDAY=0",
+            "FREQ=MONTHLY;BYDAY=6MO",
+            "FREQ=YEARLY;BYDAY=MO",
+            "FREQ=WEEKLY;BYDAY=1MO",
+            "FREQ=WEEKLY;BYMONTHDAY=1",
+            "FREQ=WEEKLY;BYDAY=XX",
+            "FREQ=WEEKLY;WKST=SU",
+            "FREQ=DAILY;BYHOUR=9",
+    })
+    void invalidRuleIsRejected(String rrule) {
+        assertThatThrownBy(() -> RecurrenceRule.parse(rrule)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void weeklyWithIntervalStartingMidWeekSkipsEarlierDaysOfFirstWeek() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH");
+        LocalDate wednesday = LocalDate.of(2026, 1, 7);
+
+        assertThat(rule.occurrencesBetween(wednesday, wednesday, LocalDate.of(2026, 2, 8))).containsExactly(
+                LocalDate.of(2026, 1, 8),
+                LocalDate.of(2026, 1, 19), LocalDate.of(2026, 1, 22),
+                LocalDate.of(2026, 2, 2), LocalDate.of(2026, 2, 5));
+
+        // 조회 시작이 둘째 주기 중간이어도 주기 계산이 어긋나지 않아야 함
+        assertThat(rule.occurrencesBetween(wednesday, LocalDate.of(2026, 1, 20), LocalDate.of(2026, 2, 3)))
+                .containsExactly(LocalDate.of(2026, 1, 22), LocalDate.of(2026, 2, 2));
+        assertThat(rule.occursOn(wednesday, LocalDate.of(2026, 1, 12))).isFalse();
+    }
+
+    @Test
+    void weeklyWithoutByDayRepeatsOnStartDayOfWeek() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=3");
+        LocalDate start = LocalDate.of(2026, 1, 7);
+
+        assertThat(rule.occurrencesBetween(start, start, LocalDate.of(2026, 2, 28)))
+                .containsExactly(LocalDate.of(2026, 1, 7), LocalDate.of(2026, 1, 28), LocalDate.of(2026, 2, 18));
+    }
+
+    @Test
+    void monthlyLastFriday() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=-1FR");
+        LocalDate start = LocalDate.of(2026, 1, 1);
+
+        assertThat(rule.occurrencesBetween(start, start, LocalDate.of(2026, 4, 30))).containsExactly(
+                LocalDate.of(2026, 1, 30), LocalDate.of(2026, 2, 27),
+                LocalDate.of(2026, 3, 27), LocalDate.of(2026, 4, 24));
+    }
+
+    @Test
+    void monthlyLastDayFollowsMonthLength() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=-1");
+
+        assertThat(rule.occurrencesBetween(LocalDate.of(2026, 1, 15), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 4, 30)))
+                .containsExactly(LocalDate.of(2026, 1, 31), LocalDate.of(2026, 2, 28),
+                        LocalDate.of(2026, 3, 31), LocalDate.of(2026, 4, 30));
+        assertThat(rule.occursOn(LocalDate.of(2028, 1, 31), LocalDate.of(2028, 2, 29))).isTrue();
+    }
+
+    @Test
+    void monthlyOnThirtyFirstSkipsShortMonths() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY");
+        LocalDate start = LocalDate.of(2026, 1, 31);
+
+        assertThat(rule.occurrencesBetween(start, start, LocalDate.of(2026, 5, 31))).containsExactly(
+                LocalDate.of(2026, 1, 31), LocalDate.of(2026, 3, 31), LocalDate.of(2026, 5, 31));
+    }
+
+    @Test
+    void countIsCountedFromFirstOccurrenceEvenWhenWindowStartsLate() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO;COUNT=5");
+        LocalDate start = LocalDate.of(2026, 1, 5);
+
+        assertThat(rule.occurrencesBetween(start, LocalDate.of(2026, 1, 20), LocalDate.of(2026, 12, 31)))
+                .containsExactly(LocalDate.of(2026, 1, 26), LocalDate.of(2026, 2, 2));
+        assertThat(rule.occurrencesBetween(start, LocalDate.of(2026, 2, 3), LocalDate.of(2026, 12, 31))).isEmpty();
+    }
+
+    @Test
+    void untilIsInclusive() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=2;UNTIL=20260109");
+        LocalDate start = LocalDate.of(2026, 1, 1);
+
+        assertThat(rule.occurrencesBetween(start, start, LocalDate.of(2026, 1, 31))).containsExactly(
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 3), LocalDate.of(2026, 1, 5),
+                LocalDate.of(2026, 1, 7), LocalDate.of(2026, 1, 9));
+        assertThat(rule.lastOccurrence(start)).isEqualTo(LocalDate.of(2026, 1, 9));
+    }
+
+    @Test
+    void lastOccurrenceWithCount() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=1,15;COUNT=5");
+
+        // 시작일(1/10) 이전 후보(1/1)는 횟수에 포함하지 않음
+        assertThat(rule.lastOccurrence(LocalDate.of(2026, 1, 10))).isEqualTo(LocalDate.of(2026, 3, 15));
+    }
+
+    @Test
+    void lastOccurrenceOfEndlessRuleIsNull() {
+        assertThat(RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO").lastOccurrence(LocalDate.of(2026, 1, 5))).isNull();
+    }
+
+    @Test
+    void yearlyOnLeapDayOccursOnlyInLeapYears() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=YEARLY");
+        LocalDate leapDay = LocalDate.of(2024, 2, 29);
+
+        assertThat(rule.occurrencesBetween(leapDay, leapDay, LocalDate.of(2032, 12, 31)))
+                .containsExactly(LocalDate.of(2024, 2, 29), LocalDate.of(2028, 2, 29), LocalDate.of(2032, 2, 29));
+        assertThat(rule.occursOn(leapDay, LocalDate.of(2025, 2, 28))).isFalse();
+        assertThat(RecurrenceRule.parse("FREQ=YEARLY;COUNT=2").lastOccurrence(leapDay))
+                .isEqualTo(LocalDate.of(2028, 2, 29));
+    }
+}
@@ -0,0 +1,74 @@
+package com.yhs.inventroysystem.domain.task.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskRecurrenceTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    @Test
+    void excludedDatesAreLeftOutOfOccurrences() {
+        TaskRecurrence recurrence = recurrence("FREQ=DAILY;COUNT=5", MONDAY, 1);
+
+        recurrence.exclude(LocalDate.of(2026, 3, 4));
+        recurrence.exclude(LocalDate.of(2026, 3, 3));
+        recurrence.exclude(LocalDate.of(2026, 3, 4));
+
+        assertThat(recurrence.getExdates()).isEqualTo("2026-03-03,2026-03-04");
+        assertThat(recurrence.occurrencesOverlapping(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31)))
+                .containsExactly(LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 5), LocalDate.of(2026, 3, 6));
+        assertThat(recurrence.occursOn(LocalDate.of(2026, 3, 4))).isFalse();
+        assertThat(recurrence.occursOn(LocalDate.of(2026, 3, 5))).isTrue();
+    }
+
+    @Test
+    void excludingAllOccurrencesKeepsSeriesEnd() {
+        TaskRecurrence recurrence = recurrence("FREQ=WEEKLY;COUNT=2", MONDAY, 1);
+
+        recurrence.exclude(MONDAY);
+        recurrence.exclude(MONDAY.plusWeeks(1));
+
+        assertThat(recurrence.occurrencesOverlapping(MONDAY, MONDAY.plusMonths(1))).isEmpty();
+        assertThat(recurrence.getSeriesEndDate()).isEqualTo(MONDAY.plusWeeks(1));
+    }
+
+    @Test
+    void multiDayOccurrenceOverlapsWindowThatStartsAfterItsStartDate() {
+        TaskRecurrence recurrence = recurrence("FREQ=WEEKLY;BYDAY=MO", MONDAY, 3);
+
+        // 3/9(월)~3/11(수) 회차가 3/10부터 시작하는 조회 범위와 겹침
+        assertThat(recurrence.occurrencesOverlapping(LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 16)))
+                .containsExactly(LocalDate.of(2026, 3, 9), LocalDate.of(2026, 3, 16));
+        assertThat(recurrence.occurrenceEndDate(LocalDate.of(2026, 3, 9))).isEqualTo(LocalDate.of(2026, 3, 11));
+    }
+
+    @Test
+    void seriesEndDateCoversLastOccurrenceDuration() {
+        assertThat(recurrence("FREQ=DAILY;COUNT=5", MONDAY, 3).getSeriesEndDate())
+                .isEqualTo(LocalDate.of(2026, 3, 8));
+        assertThat(recurrence("FREQ=DAILY", MONDAY, 3).getSeriesEndDate()).isNull();
+    }
+
+    @Test
+    void untilBeforeStartDateIsRejected() {
+        assertThatThrownBy(() -> recurrence("FREQ=DAILY;UNTIL=20260301", MONDAY, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void durationOutOfRangeIsRejected() {
+        assertThatThrownBy(() -> recurrence("FREQ=DAILY", MONDAY, TaskRecurrence.MAX_DURATION_DAYS + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TaskRecurrence recurrence(String rrule, LocalDate startDate, int durationDays) {
+        return new TaskRecurrence("주간 점검", null, "테스터", Priority.MEDIUM,
+                RecurrenceRule.parse(rrule), startDate, durationDays, List.of());
+    }
+}
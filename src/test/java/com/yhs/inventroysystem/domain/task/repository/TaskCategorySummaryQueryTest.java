@@ -0,0 +1,85 @@
+package com.yhs.inventroysystem.domain.task.repository;
+
+import com.yhs.inventroysystem.domain.task.entity.Priority;
+import com.yhs.inventroysystem.domain.task.entity.Task;
+import com.yhs.inventroysystem.domain.task.entity.TaskCategory;
+import com.yhs.inventroysystem.domain.task.entity.TaskCategorySummary;
+import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
+import com.yhs.inventroysystem.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔티티에서 만든 category_summary(TaskCategorySummary.format)와
+ * DB에서 다시 계산한 값(TaskRepository.CATEGORY_SUMMARY_SQL)이 같은지 확인
+ * - 정렬: 표시 순서(null 먼저) → id, 색상이 없으면 빈 값
+ */
+class TaskCategorySummaryQueryTest extends IntegrationTestSupport {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCategoryRepository taskCategoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void sqlRefreshMatchesEntitySummary() {
+        String token = UUID.randomUUID().toString().substring(0, 8);
+        TaskCategory secondOrder = saveCategory(token + "-A", "#AA0000", 2);
+        TaskCategory noColor = saveCategory(token + "-B", null, 1);
+        TaskCategory noOrder = saveCategory(token + "-C", "#00CC00", null);
+        TaskCategory sameOrder = saveCategory(token + "-D", "#0000DD", 1);
+        TaskCategory noOrderLater = saveCategory(token + "-E", "#EEEEEE", null);
+
+        Task task = new Task("요약 비교 " + token, "설명", "테스터",
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 2), TaskStatus.TODO, Priority.MEDIUM);
+        List.of(secondOrder, sameOrder, noOrderLater, noColor, noOrder).forEach(task::addCategory);
+        Task saved = taskRepository.save(task);
+
+        assertThat(saved.getCategorySummary()).isEqualTo(String.join(",",
+                noOrder.getId() + ":#00CC00",
+                noOrderLater.getId() + ":#EEEEEE",
+                noColor.getId() + ":",
+                sameOrder.getId() + ":#0000DD",
+                secondOrder.getId() + ":#AA0000"));
+
+        assertThat(refreshFromSql(saved.getId())).isEqualTo(saved.getCategorySummary());
+        assertThat(TaskCategorySummary.parse(saved.getCategorySummary()).entries())
+                .extracting(TaskCategorySummary.Entry::colorCode)
+                .containsExactly("#00CC00", "#EEEEEE", null, "#0000DD", "#AA0000");
+    }
+
+    @Test
+    void sqlRefreshOfTaskWithoutCategoriesIsEmpty() {
+        Task saved = taskRepository.save(new Task("카테고리 없음", "설명", "테스터",
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 2), TaskStatus.TODO, Priority.LOW));
+
+        assertThat(saved.getCategorySummary()).isEmpty();
+        assertThat(refreshFromSql(saved.getId())).isEmpty();
+    }
+
+    private String refreshFromSql(Long taskId) {
+        jdbcTemplate.update("UPDATE tasks SET category_summary = NULL WHERE task_id = ?", taskId);
+        transactionTemplate.executeWithoutResult(status -> taskRepository.refreshCategorySummaries(List.of(taskId)));
+        return jdbcTemplate.queryForObject(
+                "SELECT category_summary FROM tasks WHERE task_id = ?", String.class, taskId);
+    }
+
+    private TaskCategory saveCategory(String name, String colorCode, Integer displayOrder) {
+        return taskCategoryRepository.save(new TaskCategory(name, "설명", colorCode, displayOrder));
+    }
+}
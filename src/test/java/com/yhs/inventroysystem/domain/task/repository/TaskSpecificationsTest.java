@@ -0,0 +1,134 @@
+package com.yhs.inventroysystem.domain.task.repository;
+
+import com.yhs.inventroysystem.application.task.TaskSearchCursor;
+import com.yhs.inventroysystem.application.task.TaskService;
+import com.yhs.inventroysystem.domain.task.entity.Priority;
+import com.yhs.inventroysystem.domain.task.entity.Task;
+import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
+import com.yhs.inventroysystem.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작업 검색 Specification + keyset 스크롤 (내장 MariaDB)
+ * - 테스트마다 고유한 제목 토큰으로 자기 데이터만 조회
+ */
+class TaskSpecificationsTest extends IntegrationTestSupport {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void percentInKeywordIsMatchedLiterally() {
+        String token = uniqueToken();
+        Task discount = save(token + " 100% 할인", Priority.MEDIUM);
+        save(token + " 1000개 할인", Priority.MEDIUM);
+
+        assertThat(searchTitle(token + " 100%")).containsExactly(discount.getId());
+    }
+
+    @Test
+    void underscoreInKeywordIsMatchedLiterally() {
+        String token = uniqueToken();
+        Task snakeCase = save(token + " part_no 정리", Priority.MEDIUM);
+        save(token + " partXno 정리", Priority.MEDIUM);
+
+        assertThat(searchTitle(token + " part_no")).containsExactly(snakeCase.getId());
+    }
+
+    @Test
+    void escapeCharacterInKeywordIsMatchedLiterally() {
+        String token = uniqueToken();
+        Task bang = save(token + " 긴급!_확인", Priority.MEDIUM);
+        save(token + " 긴급_확인", Priority.MEDIUM);
+        save(token + " 긴급!X확인", Priority.MEDIUM);
+
+        assertThat(searchTitle(token + " 긴급!_")).containsExactly(bang.getId());
+    }
+
+    @Test
+    void keywordIsMatchedCaseInsensitively() {
+        String token = uniqueToken();
+        Task upper = save(token + " ERP Sync", Priority.MEDIUM);
+
+        assertThat(searchTitle(token + " erp sync")).containsExactly(upper.getId());
+    }
+
+    /**
+     * 우선순위/생성일이 같은 행이 페이지 경계에 걸쳐도 id로 순서가 이어져야 함
+     */
+    @Test
+    void scrollOverEqualSortKeysVisitsEveryRowOnce() {
+        String token = uniqueToken();
+        List<Long> highIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            highIds.add(save(token + " 동일 키 " + i, Priority.HIGH).getId());
+        }
+        save(token + " 긴급 작업", Priority.URGENT);
+        save(token + " 낮음 작업", Priority.LOW);
+
+        LocalDateTime sameCreatedAt = LocalDateTime.of(2026, 1, 1, 9, 0);
+        jdbcTemplate.update("UPDATE tasks SET created_at = ? WHERE title LIKE ?",
+                Timestamp.valueOf(sameCreatedAt), token + "%");
+
+        List<Long> expected = taskRepository.findAll(
+                        TaskSpecifications.matching(titleCondition(token)), TaskSpecifications.SEARCH_SORT)
+                .stream()
+                .map(Task::getId)
+                .toList();
+
+        List<Long> scrolled = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            Window<Task> window = taskService.scrollTasks(titleCondition(token), cursor, 2);
+            window.getContent().forEach(task -> scrolled.add(task.getId()));
+            cursor = window.hasNext()
+                    ? TaskSearchCursor.from(window.getContent().get(window.size() - 1)).encode()
+                    : null;
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        assertThat(scrolled).hasSize(9).doesNotHaveDuplicates().isEqualTo(expected);
+        assertThat(scrolled.stream().filter(highIds::contains).toList())
+                .containsExactlyInAnyOrderElementsOf(highIds)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    private Task save(String title, Priority priority) {
+        return taskRepository.save(new Task(
+                title, "설명", "테스터", LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 2), TaskStatus.TODO, priority));
+    }
+
+    private List<Long> searchTitle(String title) {
+        return taskRepository.findAll(TaskSpecifications.matching(titleCondition(title))).stream()
+                .map(Task::getId)
+                .toList();
+    }
+
+    private TaskSearchCondition titleCondition(String title) {
+        return new TaskSearchCondition(title, null, null, null, null, null);
+    }
+
+    private String uniqueToken() {
+        return "T" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
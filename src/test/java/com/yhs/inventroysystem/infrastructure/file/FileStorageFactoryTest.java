@@ -0,0 +1,46 @@
+package com.yhs.inventroysystem.infrastructure.file;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class FileStorageFactoryTest {
+
+    private final FileStorageService local = mock(FileStorageService.class);
+    private final FileStorageService contentAddressed = mock(FileStorageService.class);
+    private final FileStorageService s3 = mock(FileStorageService.class);
+
+    private final FileStorageProperties properties = new FileStorageProperties();
+    private final FileStorageFactory factory = new FileStorageFactory(Map.of(
+            "localFileStorage", local,
+            "contentAddressedFileStorage", contentAddressed,
+            "s3FileStorage", s3), properties);
+
+    @Test
+    void localStorageIsDefaultForEveryType() {
+        for (FileStorageType type : FileStorageType.values()) {
+            assertThat(factory.getStorageService(type)).isSameAs(local);
+        }
+    }
+
+    @Test
+    void deduplicationAppliesToDocumentsAndImagesOnly() {
+        properties.setDeduplicate(true);
+
+        assertThat(factory.getStorageService(FileStorageType.PART_IMAGE)).isSameAs(contentAddressed);
+        assertThat(factory.getStorageService(FileStorageType.DELIVERY_DOCUMENT)).isSameAs(contentAddressed);
+        assertThat(factory.getStorageService(FileStorageType.EXPORT_FILE)).isSameAs(local);
+    }
+
+    @Test
+    void backendOverridesDeduplication() {
+        properties.setDeduplicate(true);
+        properties.setBackend("s3FileStorage");
+
+        assertThat(factory.getStorageService(FileStorageType.PART_IMAGE)).isSameAs(s3);
+        assertThat(factory.getStorageService(FileStorageType.EXPORT_FILE)).isSameAs(s3);
+    }
+}
@@ -0,0 +1,195 @@
+package com.yhs.inventroysystem.infrastructure.file.s3;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트용 프로세스 내 가짜 S3
+ * - S3FileStorageService가 사용하는 API(PUT/GET/HEAD/DELETE, 멀티파트)만 구현
+ * - 외부 스토리지 없이 S3 저장소 경로를 그대로 검증하기 위한 용도
+ * - 버킷 구분 없이 bucket/key로 보관
+ */
+public class InMemoryS3Client implements S3Client {
+
+    private record StoredObject(byte[] content, String contentType, Instant lastModified) {}
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, SortedMap<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+        byte[] content = readAll(requestBody);
+        objects.put(objectKey(request.bucket(), request.key()),
+                new StoredObject(content, request.contentType(), Instant.now()));
+        return PutObjectResponse.builder().eTag(eTag(content)).build();
+    }
+
+    @Override
+    public <ReturnT> ReturnT getObject(GetObjectRequest request,
+                                       ResponseTransformer<GetObjectResponse, ReturnT> responseTransformer) {
+        StoredObject object = find(request.bucket(), request.key());
+
+        GetObjectResponse response = GetObjectResponse.builder()
+                .contentLength((long) object.content().length)
+                .contentType(object.contentType())
+                .lastModified(object.lastModified())
+                .eTag(eTag(object.content()))
+                .build();
+
+        try {
+            return responseTransformer.transform(response,
+                    AbortableInputStream.create(new ByteArrayInputStream(object.content())));
+        } catch (Exception e) {
+            throw new IllegalStateException("가짜 S3 응답 변환 실패", e);
+        }
+    }
+
+    @Override
+    public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+        return getObject(request, ResponseTransformer.toInputStream());
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest request) {
+        StoredObject object = find(request.bucket(), request.key());
+        return HeadObjectResponse.builder()
+                .contentLength((long) object.content().length)
+                .contentType(object.contentType())
+                .lastModified(object.lastModified())
+                .eTag(eTag(object.content()))
+                .build();
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        objects.remove(objectKey(request.bucket(), request.key()));
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        multipartUploads.put(uploadId, new TreeMap<>());
+        return CreateMultipartUploadResponse.builder()
+                .bucket(request.bucket())
+                .key(request.key())
+                .uploadId(uploadId)
+                .build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody requestBody) {
+        SortedMap<Integer, byte[]> parts = findUpload(request.uploadId());
+        byte[] content = readAll(requestBody);
+        synchronized (parts) {
+            parts.put(request.partNumber(), content);
+        }
+        return UploadPartResponse.builder().eTag(eTag(content)).build();
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        SortedMap<Integer, byte[]> parts = findUpload(request.uploadId());
+
+        ByteArrayOutputStream merged = new ByteArrayOutputStream();
+        synchronized (parts) {
+            parts.values().forEach(merged::writeBytes);
+        }
+        multipartUploads.remove(request.uploadId());
+
+        byte[] content = merged.toByteArray();
+        objects.put(objectKey(request.bucket(), request.key()), new StoredObject(content, null, Instant.now()));
+
+        return CompleteMultipartUploadResponse.builder()
+                .bucket(request.bucket())
+                .key(request.key())
+                .eTag(eTag(content))
+                .build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+        multipartUploads.remove(request.uploadId());
+        return AbortMultipartUploadResponse.builder().build();
+    }
+
+    /**
+     * 저장된 객체 수
+     */
+    int objectCount() {
+        return objects.size();
+    }
+
+    /**
+     * 완료/중단되지 않은 멀티파트 업로드 수
+     */
+    int pendingMultipartUploadCount() {
+        return multipartUploads.size();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+        objects.clear();
+        multipartUploads.clear();
+    }
+
+    private StoredObject find(String bucket, String key) {
+        StoredObject object = objects.get(objectKey(bucket, key));
+        if (object == null) {
+            throw NoSuchKeyException.builder()
+                    .message("The specified key does not exist: " + key)
+                    .statusCode(404)
+                    .build();
+        }
+        return object;
+    }
+
+    private SortedMap<Integer, byte[]> findUpload(String uploadId) {
+        SortedMap<Integer, byte[]> parts = multipartUploads.get(uploadId);
+        if (parts == null) {
+            throw (AwsServiceException) NoSuchUploadException.builder()
+                    .message("The specified upload does not exist: " + uploadId)
+                    .statusCode(404)
+                    .build();
+        }
+        return parts;
+    }
+
+    private String objectKey(String bucket, String key) {
+        return bucket + "/" + key;
+    }
+
+    private String eTag(byte[] content) {
+        return "\"" + Integer.toHexString(java.util.Arrays.hashCode(content)) + "\"";
+    }
+
+    private byte[] readAll(RequestBody requestBody) {
+        try (InputStream inputStream = requestBody.contentStreamProvider().newStream()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
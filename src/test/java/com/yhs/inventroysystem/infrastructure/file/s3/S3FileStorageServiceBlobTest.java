@@ -0,0 +1,63 @@
+package com.yhs.inventroysystem.infrastructure.file.s3;
+
+import com.yhs.inventroysystem.infrastructure.file.ContentAddressedFileStorageService;
+import com.yhs.inventroysystem.infrastructure.file.FileBlobRepository;
+import com.yhs.inventroysystem.infrastructure.file.FileStorageProperties;
+import com.yhs.inventroysystem.infrastructure.file.FileStorageType;
+import com.yhs.inventroysystem.infrastructure.file.FileUploadResult;
+import com.yhs.inventroysystem.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * file.storage.backend=s3FileStorage 에서 s3:// 가 아닌 기존 blob 경로 삭제
+ * - 여러 문서가 공유하는 blob은 참조 수만 줄이고 마지막 참조에서만 파일 삭제
+ */
+class S3FileStorageServiceBlobTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ContentAddressedFileStorageService contentAddressedFileStorageService;
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @Test
+    void deletingOneReferenceKeepsSharedBlobForOtherDocuments() throws IOException {
+        byte[] content = ("shared-document-" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+
+        FileUploadResult deliveryDocument = contentAddressedFileStorageService.store(
+                new ByteArrayInputStream(content), "invoice.pdf", FileStorageType.DELIVERY_DOCUMENT.getDirectory());
+        FileUploadResult quotationDocument = contentAddressedFileStorageService.store(
+                new ByteArrayInputStream(content), "invoice-copy.pdf", FileStorageType.QUOTATION_DOCUMENT.getDirectory());
+        assertThat(quotationDocument.getFilePath()).isEqualTo(deliveryDocument.getFilePath());
+
+        S3FileStorageService s3FileStorageService = new S3FileStorageService(
+                new InMemoryS3Client(), null, contentAddressedFileStorageService, fileBlobRepository, s3Properties());
+
+        s3FileStorageService.delete(deliveryDocument.getFilePath());
+
+        try (InputStream inputStream = s3FileStorageService.loadAsStream(quotationDocument.getFilePath())) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+
+        s3FileStorageService.delete(quotationDocument.getFilePath());
+
+        assertThat(Files.exists(Path.of(quotationDocument.getFilePath()))).isFalse();
+    }
+
+    private FileStorageProperties.S3 s3Properties() {
+        FileStorageProperties.S3 properties = new FileStorageProperties.S3();
+        properties.setBucket("test");
+        return properties;
+    }
+}
@@ -0,0 +1,206 @@
+package com.yhs.inventroysystem.infrastructure.file.s3;
+
+import com.yhs.inventroysystem.infrastructure.file.FileBlobRepository;
+import com.yhs.inventroysystem.infrastructure.file.FileStorageException;
+import com.yhs.inventroysystem.infrastructure.file.FileStorageProperties;
+import com.yhs.inventroysystem.infrastructure.file.FileUploadResult;
+import com.yhs.inventroysystem.support.IntegrationTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * S3FileStorageService 업로드 → 다운로드 URL → 삭제 왕복
+ * - partSize를 작게 잡아 단일 PUT / 멀티파트 업로드 경로를 모두 확인
+ * - presigned URL은 서명만 하므로 실제 스토리지 없이 검증
+ * - 내용 기반 키의 참조 수는 file_blobs에 저장되므로 테스트 DB 사용 (내용은 테스트마다 난수)
+ */
+class S3FileStorageServiceRoundTripTest extends IntegrationTestSupport {
+
+    private static final String BUCKET = "test-bucket";
+    private static final int PART_SIZE = 1024;
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    private InMemoryS3Client s3Client;
+    private S3Presigner s3Presigner;
+    private S3FileStorageService s3FileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = new InMemoryS3Client();
+        s3Presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .endpointOverride(URI.create("http://localhost:9000"))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+        s3FileStorageService = newStorageService(s3Client);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Presigner.close();
+        s3Client.close();
+    }
+
+    @Test
+    void smallFileIsStoredWithSinglePut() throws IOException {
+        byte[] content = randomBytes(PART_SIZE - 1);
+
+        FileUploadResult result = s3FileStorageService.store(
+                new ByteArrayInputStream(content), "memo.txt", "deliveries");
+
+        assertThat(result.getFilePath()).matches("s3://" + BUCKET + "/blobs/[0-9a-f]{2}/[0-9a-f]{64}");
+        assertThat(result.getFileSize()).isEqualTo(content.length);
+        assertThat(readAll(result.getFilePath())).isEqualTo(content);
+        assertThat(s3FileStorageService.loadAsResource(result.getFilePath()).contentLength()).isEqualTo(content.length);
+    }
+
+    @Test
+    void largeFileIsStoredWithMultipartUpload() throws IOException {
+        byte[] content = randomBytes(PART_SIZE * 2 + PART_SIZE / 2);
+
+        FileUploadResult result = s3FileStorageService.store(
+                new ByteArrayInputStream(content), "drawing.pdf", "parts");
+
+        assertThat(result.getFileSize()).isEqualTo(content.length);
+        assertThat(readAll(result.getFilePath())).isEqualTo(content);
+        assertThat(s3Client.pendingMultipartUploadCount()).isZero();
+    }
+
+    @Test
+    void sameContentIsStoredOnceAndKeptUntilLastReference() throws IOException {
+        byte[] content = randomBytes(PART_SIZE * 2 + 7);
+
+        FileUploadResult delivery = s3FileStorageService.store(
+                new ByteArrayInputStream(content), "invoice.pdf", "deliveries");
+        FileUploadResult quotation = s3FileStorageService.store(
+                new ByteArrayInputStream(content), "invoice-copy.pdf", "quotations");
+
+        assertThat(quotation.getFilePath()).isEqualTo(delivery.getFilePath());
+        assertThat(s3Client.objectCount()).isEqualTo(1);
+
+        s3FileStorageService.delete(delivery.getFilePath());
+        assertThat(readAll(quotation.getFilePath())).isEqualTo(content);
+
+        s3FileStorageService.delete(quotation.getFilePath());
+        assertThat(s3Client.objectCount()).isZero();
+    }
+
+    @Test
+    void failedMultipartUploadIsAbortedAndReleased() {
+        InMemoryS3Client failingClient = new InMemoryS3Client() {
+            @Override
+            public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody requestBody) {
+                if (request.partNumber() > 1) {
+                    throw new IllegalStateException("connection reset");
+                }
+                return super.uploadPart(request, requestBody);
+            }
+        };
+        S3FileStorageService failingStorage = newStorageService(failingClient);
+        byte[] content = randomBytes(PART_SIZE + 10);
+
+        assertThatThrownBy(() -> failingStorage.store(new ByteArrayInputStream(content), "broken.pdf", "parts"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(failingClient.pendingMultipartUploadCount()).isZero();
+
+        // 실패한 업로드의 참조가 남지 않아 다시 올리면 새로 업로드됨
+        FileUploadResult result = s3FileStorageService.store(new ByteArrayInputStream(content), "broken.pdf", "parts");
+        assertThat(s3Client.objectCount()).isEqualTo(1);
+        s3FileStorageService.delete(result.getFilePath());
+        assertThat(s3Client.objectCount()).isZero();
+    }
+
+    @Test
+    void failedSourceStreamIsReportedAsStorageError() {
+        InputStream failingStream = new InputStream() {
+            private int remaining = PART_SIZE + 10;
+
+            @Override
+            public int read() throws IOException {
+                if (remaining-- <= 0) {
+                    throw new IOException("connection reset");
+                }
+                return 'a';
+            }
+        };
+
+        assertThatThrownBy(() -> s3FileStorageService.store(failingStream, "broken.pdf", "parts"))
+                .isInstanceOf(FileStorageException.class);
+        assertThat(s3Client.objectCount()).isZero();
+    }
+
+    @Test
+    void downloadUrlIsPresignedWithOriginalFileName() {
+        FileUploadResult result = s3FileStorageService.store(
+                new ByteArrayInputStream(randomBytes(10)), "견적서.pdf", "quotations");
+        String key = result.getFilePath().substring(("s3://" + BUCKET + "/").length());
+
+        URI url = s3FileStorageService.createDownloadUrl(result.getFilePath(), "견적서.pdf", "application/pdf")
+                .orElseThrow();
+
+        assertThat(url.getHost()).isEqualTo("localhost");
+        assertThat(url.getPath()).isEqualTo("/" + BUCKET + "/" + key);
+        assertThat(url.getQuery())
+                .contains("X-Amz-Signature=")
+                .contains("response-content-type=application/pdf")
+                .contains("response-content-disposition=");
+    }
+
+    @Test
+    void downloadUrlIsEmptyForNonS3Path() {
+        assertThat(s3FileStorageService.createDownloadUrl("uploads/blobs/ab/cd", "a.pdf", "application/pdf"))
+                .isEmpty();
+    }
+
+    @Test
+    void deletedObjectCannotBeLoaded() {
+        FileUploadResult result = s3FileStorageService.store(
+                new ByteArrayInputStream(randomBytes(PART_SIZE * 2)), "drawing.pdf", "parts");
+
+        s3FileStorageService.delete(result.getFilePath());
+
+        assertThatThrownBy(() -> s3FileStorageService.loadAsStream(result.getFilePath()))
+                .isInstanceOf(FileStorageException.class);
+    }
+
+    private S3FileStorageService newStorageService(InMemoryS3Client client) {
+        FileStorageProperties.S3 properties = new FileStorageProperties.S3();
+        properties.setBucket(BUCKET);
+        properties.setPartSize(PART_SIZE);
+        return new S3FileStorageService(client, s3Presigner, null, fileBlobRepository, properties);
+    }
+
+    private byte[] readAll(String filePath) throws IOException {
+        try (InputStream inputStream = s3FileStorageService.loadAsStream(filePath)) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,113 @@
+package com.yhs.inventroysystem.infrastructure.persistence.monitor;
+
+import com.yhs.inventroysystem.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청당 SQL 예산 검사 (test 프로필: sql.monitor.fail-on-violation=true)
+ * - 위반 시 컨트롤러가 쓴 본문 대신 500 오류 응답이 클라이언트에 전달되는지 확인
+ */
+@AutoConfigureMockMvc
+@WithMockUser
+class SqlMonitorFilterTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void requestWithinBudgetKeepsControllerResponse() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/clients"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        SqlStatementCounter.Stats stats =
+                (SqlStatementCounter.Stats) result.getRequest().getAttribute(SqlMonitorFilter.STATS_ATTRIBUTE);
+        assertThat(stats.count()).isPositive().isLessThanOrEqualTo(2);
+    }
+
+    /**
+     * StreamingResponseBody는 비동기로 버퍼에 쓰이므로 비동기 디스패치에서 본문이 전달되어야 함
+     */
+    @Test
+    void streamingResponseIsCopiedAfterAsyncDispatch() throws Exception {
+        MvcResult asyncResult = mockMvc.perform(get("/api/shipments/export/excel"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        byte[] body = result.getResponse().getContentAsByteArray();
+        assertThat(body).isNotEmpty();
+        assertThat(new String(body, 0, 2, StandardCharsets.US_ASCII)).isEqualTo("PK"); // xlsx(zip) 시그니처
+    }
+
+    /**
+     * 임계값을 0으로 낮춰 SQL을 실행하는 요청은 모두 위반으로 처리
+     */
+    @Nested
+    @TestPropertySource(properties = "sql.monitor.warn-threshold=0")
+    class WhenStatementCountExceedsThreshold {
+
+        // 바깥 클래스의 MockMvc는 다른 컨텍스트(기본 임계값)에 속하므로 따로 주입
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Test
+        void violationReplacesResponseWithError() throws Exception {
+            mockMvc.perform(get("/api/clients"))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(jsonPath("$.error").value("SQL_BUDGET_EXCEEDED"))
+                    .andExpect(jsonPath("$.message", containsString("GET /api/clients")))
+                    .andExpect(jsonPath("$[0]").doesNotExist());
+        }
+    }
+
+    /**
+     * /api/clients에만 예산 0을 지정 - 다른 엔드포인트는 전역 임계값(50) 그대로
+     */
+    @Nested
+    @TestPropertySource(properties = "sql.monitor.budgets[/api/clients]=0")
+    class WhenEndpointBudgetIsConfigured {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Test
+        void endpointOverItsBudgetIsViolation() throws Exception {
+            mockMvc.perform(get("/api/clients"))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(jsonPath("$.error").value("SQL_BUDGET_EXCEEDED"))
+                    .andExpect(jsonPath("$.message", containsString("(예산 0)")));
+        }
+
+        @Test
+        void endpointWithoutBudgetUsesGlobalThreshold() throws Exception {
+            MvcResult result = mockMvc.perform(get("/api/parts"))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            SqlStatementCounter.Stats stats =
+                    (SqlStatementCounter.Stats) result.getRequest().getAttribute(SqlMonitorFilter.STATS_ATTRIBUTE);
+            assertThat(stats.count()).isPositive();
+        }
+    }
+}
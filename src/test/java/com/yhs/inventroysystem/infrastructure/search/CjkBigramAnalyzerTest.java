@@ -0,0 +1,52 @@
+package com.yhs.inventroysystem.infrastructure.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CjkBigramAnalyzerTest {
+
+    @Test
+    void hangulCompoundIsSplitIntoBigrams() throws IOException {
+        assertThat(tokens(new CjkBigramAnalyzer(false), "납품요청"))
+                .containsExactly("납품", "품요", "요청");
+    }
+
+    @Test
+    void indexingAnalyzerAlsoKeepsUnigrams() throws IOException {
+        assertThat(tokens(new CjkBigramAnalyzer(true), "납품"))
+                .containsExactlyInAnyOrder("납", "납품", "품");
+    }
+
+    @Test
+    void latinWordsAndNumbersAreLowercasedWholeTokens() throws IOException {
+        assertThat(tokens(new CjkBigramAnalyzer(false), "Widget AB12 부품"))
+                .containsExactly("widget", "ab12", "부품");
+    }
+
+    @Test
+    void fullWidthCharactersAreNormalized() throws IOException {
+        assertThat(tokens(new CjkBigramAnalyzer(false), "ＡＢＣ１２３"))
+                .containsExactly("abc123");
+    }
+
+    private List<String> tokens(Analyzer analyzer, String text) throws IOException {
+        List<String> tokens = new ArrayList<>();
+        try (analyzer; TokenStream stream = analyzer.tokenStream("title", text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,85 @@
+package com.yhs.inventroysystem.infrastructure.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchIndexTest {
+
+    private final SearchIndex searchIndex = new SearchIndex(new SearchProperties());
+
+    @AfterEach
+    void tearDown() {
+        searchIndex.close();
+    }
+
+    @Test
+    void blankKeywordBuildsNoQuery() {
+        assertThat(searchIndex.buildQuery(null, null)).isNull();
+        assertThat(searchIndex.buildQuery("   ", null)).isNull();
+        assertThat(searchIndex.search("   ", null, 10)).isEmpty();
+    }
+
+    @Test
+    void hangulPartOfCompoundMatches() {
+        index(document(SearchDocumentType.TASK, 1L, "납품요청서 작성", null));
+
+        assertThat(ids(searchIndex.search("요청", null, 10))).containsExactly(1L);
+        assertThat(ids(searchIndex.search("요청서", null, 10))).containsExactly(1L);
+        assertThat(searchIndex.search("요청 반려", null, 10)).isEmpty();
+    }
+
+    @Test
+    void lastLatinTokenMatchesAsPrefixUntilCompleted() {
+        index(document(SearchDocumentType.PART, 1L, "Widget Assembly", null));
+
+        assertThat(ids(searchIndex.search("assembly wid", null, 10))).containsExactly(1L);
+        assertThat(searchIndex.search("assembly wid ", null, 10)).isEmpty();
+        assertThat(searchIndex.search("wid assembly", null, 10)).isEmpty();
+    }
+
+    @Test
+    void codePrefixRanksAboveTextMatch() {
+        index(document(SearchDocumentType.DELIVERY, 1L, "dlv 20260101 메모", null),
+                document(SearchDocumentType.DELIVERY, 2L, "정기 납품", "DLV-20260101-002"));
+
+        assertThat(ids(searchIndex.search("DLV-20260101", null, 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void typeFilterRestrictsHits() {
+        index(document(SearchDocumentType.TASK, 1L, "모터 점검", null),
+                document(SearchDocumentType.PART, 2L, "모터", "PT-000001"));
+
+        List<SearchHit> hits = searchIndex.search("모터", Set.of(SearchDocumentType.PART), 10);
+
+        assertThat(hits).extracting(SearchHit::type).containsExactly(SearchDocumentType.PART);
+        assertThat(searchIndex.search("모터", Set.of(SearchDocumentType.values()), 10)).hasSize(2);
+    }
+
+    @Test
+    void deletedDocumentIsRemoved() {
+        index(document(SearchDocumentType.CLIENT, 1L, "한빛상사", null));
+        index(new SearchDocument(SearchDocumentType.CLIENT, 1L, "한빛상사", null, null, null, LocalDateTime.now(), true));
+
+        assertThat(searchIndex.search("한빛", null, 10)).isEmpty();
+    }
+
+    private void index(SearchDocument... documents) {
+        searchIndex.upsert(List.of(documents), 1L);
+        searchIndex.commit(LocalDateTime.now());
+    }
+
+    private SearchDocument document(SearchDocumentType type, Long id, String title, String code) {
+        return new SearchDocument(type, id, title, null, null, code, LocalDateTime.now(), false);
+    }
+
+    private List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::id).toList();
+    }
+}
@@ -0,0 +1,87 @@
+package com.yhs.inventroysystem.infrastructure.search;
+
+import com.yhs.inventroysystem.support.IntegrationTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔티티 이벤트 없이 JDBC로 저장된 행이 modified_at 기준 변경분 동기화로 색인되는지 검증
+ */
+class SearchIndexerTest extends IntegrationTestSupport {
+
+    @Autowired
+    private SearchIndexer searchIndexer;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private SearchProperties searchProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("searchIndexExecutor")
+    private ThreadPoolTaskExecutor searchIndexExecutor;
+
+    private final int defaultSyncBatchSize = new SearchProperties().getSyncBatchSize();
+
+    @AfterEach
+    void restoreBatchSize() {
+        searchProperties.setSyncBatchSize(defaultSyncBatchSize);
+    }
+
+    @Test
+    void deltaSyncPagesThroughRowsSharingModifiedAt() throws Exception {
+        awaitIndexer();
+        searchProperties.setSyncBatchSize(2);
+
+        String token = "delta" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+        Timestamp modifiedAt = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusMinutes(1));
+        for (int i = 1; i <= 5; i++) {
+            jdbcTemplate.update(
+                    "INSERT INTO parts (part_code, name, specification, stock_quantity, unit, created_at, modified_at) " +
+                            "VALUES (?, ?, ?, 0, 'EA', ?, ?)",
+                    token + "-" + i, token + " 부품", "규격", modifiedAt, modifiedAt);
+        }
+
+        assertThat(searchIndex.search(token + " ", Set.of(SearchDocumentType.PART), 20)).isEmpty();
+
+        searchIndexer.poll();
+        awaitIndexer();
+
+        assertThat(searchIndex.search(token + " ", Set.of(SearchDocumentType.PART), 20)).hasSize(5);
+    }
+
+    @Test
+    void polledTablesHaveModifiedAtIndex() {
+        for (String table : new String[]{"tasks", "deliveries", "products", "parts", "clients"}) {
+            Integer indexes = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                            "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ? AND column_name = 'modified_at'",
+                    Integer.class, table, "idx_" + table + "_modified_at");
+            assertThat(indexes).as(table).isEqualTo(1);
+        }
+    }
+
+    /**
+     * 색인 작업 풀은 스레드 1개라 빈 작업이 끝나면 앞서 넣은 작업도 모두 끝난 상태
+     */
+    private void awaitIndexer() throws Exception {
+        searchIndexExecutor.submit(() -> { }).get(30, TimeUnit.SECONDS);
+    }
+}
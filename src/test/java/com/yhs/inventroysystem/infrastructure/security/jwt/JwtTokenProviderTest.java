@@ -0,0 +1,63 @@
+package com.yhs.inventroysystem.infrastructure.security.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final int MAX_CACHED_TOKENS = 10_000;
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(properties());
+
+    @Test
+    void verifiedTokenCarriesSubjectAndRoles() {
+        VerifiedToken verified = jwtTokenProvider.verify(token("admin")).orElseThrow();
+
+        assertThat(verified.username()).isEqualTo("admin");
+        assertThat(verified.roles()).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String token = token("admin");
+
+        assertThat(jwtTokenProvider.verify(token.substring(0, token.length() - 2) + "xx")).isEmpty();
+        assertThat(jwtTokenProvider.verify("")).isEmpty();
+    }
+
+    @Test
+    void fullCacheEvictsOldestTokenAndKeepsCaching() {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i <= MAX_CACHED_TOKENS; i++) {
+            String token = token("user" + i);
+            tokens.add(token);
+            assertThat(jwtTokenProvider.verify(token)).isPresent();
+        }
+
+        assertThat(jwtTokenProvider.cachedTokenCount()).isEqualTo(MAX_CACHED_TOKENS);
+
+        // 제거된 가장 오래된 토큰도 다시 검증하면 캐시에 들어가고, 그다음 오래된 토큰이 빠짐
+        assertThat(jwtTokenProvider.verify(tokens.get(0))).isPresent();
+        assertThat(jwtTokenProvider.cachedTokenCount()).isEqualTo(MAX_CACHED_TOKENS);
+    }
+
+    private String token(String username) {
+        return jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(
+                username, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    private static JwtProperties properties() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(Base64.getEncoder().encodeToString(new byte[64]));
+        properties.setExpiration(TimeUnit.HOURS.toMillis(1));
+        return properties;
+    }
+}
@@ -0,0 +1,76 @@
+package com.yhs.inventroysystem.presentation.part;
+
+import com.yhs.inventroysystem.application.part.PartService;
+import com.yhs.inventroysystem.domain.part.entity.Part;
+import com.yhs.inventroysystem.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.net.URI;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 부품 이미지 응답 - 오브젝트 스토리지면 presigned URL로 302, 로컬 저장소면 직접 전송
+ */
+@AutoConfigureMockMvc
+@WithMockUser
+class PartImageApiTest extends IntegrationTestSupport {
+
+    private static final URI PRESIGNED_URL = URI.create("http://localhost:9000/bucket/blobs/ab/abcd?X-Amz-Signature=x");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PartService partService;
+
+    @Test
+    void objectStorageImageRedirectsToPresignedUrl() throws Exception {
+        Part part = part("s3://bucket/blobs/ab/abcd");
+        given(partService.findPartById(1L)).willReturn(part);
+        given(partService.getPartImageDownloadUrl(part)).willReturn(Optional.of(PRESIGNED_URL));
+
+        mockMvc.perform(get("/api/parts/1/image"))
+                .andExpect(status().isFound())
+                .andExpect(header().string("Location", PRESIGNED_URL.toString()))
+                .andExpect(header().string("Cache-Control", "max-age=300, private"));
+        mockMvc.perform(get("/api/parts/1/image/thumbnail"))
+                .andExpect(status().isFound())
+                .andExpect(header().string("Location", PRESIGNED_URL.toString()));
+
+        verify(partService, never()).getPartImage(any());
+        verify(partService, never()).getPartThumbnail(any());
+    }
+
+    @Test
+    void localImageIsStreamed() throws Exception {
+        Part part = part("uploads/parts/images/local.jpg");
+        given(partService.findPartById(1L)).willReturn(part);
+        given(partService.getPartImageDownloadUrl(part)).willReturn(Optional.empty());
+        given(partService.getPartImage(part)).willReturn(new ByteArrayResource(new byte[]{1, 2, 3}));
+
+        mockMvc.perform(get("/api/parts/1/image"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(new byte[]{1, 2, 3}));
+    }
+
+    private Part part(String imagePath) {
+        Part part = new Part("P-IMG", "이미지 부품", "규격", 0, "EA");
+        part.updateImage(imagePath, "사진.jpg");
+        return part;
+    }
+}
@@ -0,0 +1,77 @@
+package com.yhs.inventroysystem.presentation.task;
+
+import com.yhs.inventroysystem.application.task.TaskCategoryCommands.TaskCategoryUpdateCommand;
+import com.yhs.inventroysystem.application.task.TaskCategoryService;
+import com.yhs.inventroysystem.domain.task.entity.Priority;
+import com.yhs.inventroysystem.domain.task.entity.Task;
+import com.yhs.inventroysystem.domain.task.entity.TaskCategory;
+import com.yhs.inventroysystem.domain.task.entity.TaskStatus;
+import com.yhs.inventroysystem.domain.task.repository.TaskCategoryRepository;
+import com.yhs.inventroysystem.domain.task.repository.TaskRepository;
+import com.yhs.inventroysystem.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 달력 조회 ETag - 변경이 없으면 304, 카테고리 색상만 바뀌어도 ETag가 달라져야 함
+ */
+@AutoConfigureMockMvc
+@WithMockUser
+class TaskCalendarApiTest extends IntegrationTestSupport {
+
+    private static final String FROM = "2031-06-01";
+    private static final String TO = "2031-06-30";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCategoryRepository taskCategoryRepository;
+
+    @Autowired
+    private TaskCategoryService taskCategoryService;
+
+    @Test
+    void eTagFollowsTaskAndCategoryColorChanges() throws Exception {
+        String name = "달력-" + UUID.randomUUID().toString().substring(0, 8);
+        TaskCategory category = taskCategoryRepository.save(new TaskCategory(name, "설명", "#111111", 1));
+        Task task = new Task("달력 ETag", "설명", "테스터",
+                LocalDate.of(2031, 6, 10), LocalDate.of(2031, 6, 11), TaskStatus.TODO, Priority.MEDIUM);
+        task.addCategory(category);
+        taskRepository.save(task);
+
+        String eTag = calendarETag();
+
+        mockMvc.perform(get("/api/tasks/calendar").param("from", FROM).param("to", TO)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        taskCategoryService.updateCategory(category.getId(), new TaskCategoryUpdateCommand(name, "설명", "#222222", 1));
+
+        assertThat(calendarETag()).isNotEqualTo(eTag);
+    }
+
+    private String calendarETag() throws Exception {
+        return mockMvc.perform(get("/api/tasks/calendar").param("from", FROM).param("to", TO))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].modifiedAt").doesNotExist())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+    }
+}
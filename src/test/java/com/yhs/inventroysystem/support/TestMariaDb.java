@@ -0,0 +1,52 @@
+package com.yhs.inventroysystem.support;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfiguration;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+import java.nio.file.Path;
+
+/**
+ * 통합 테스트용 내장 MariaDB (JVM당 한 번 기동)
+ * - 운영과 같은 엔진이라 네이티브 쿼리(GROUP_CONCAT, ON DUPLICATE KEY 등)를 그대로 검증
+ */
+public final class TestMariaDb {
+
+    private static final String DATABASE = "inventory_test";
+
+    private static DBConfiguration configuration;
+
+    private TestMariaDb() {
+    }
+
+    public static synchronized String jdbcUrl() {
+        if (configuration == null) {
+            configuration = start();
+        }
+        return "jdbc:mariadb://localhost:" + configuration.getPort() + "/" + DATABASE + "?createDatabaseIfNotExist=true";
+    }
+
+    private static DBConfiguration start() {
+        Path baseDir = Path.of("mariadb").toAbsolutePath();
+        DBConfigurationBuilder builder = DBConfigurationBuilder.newBuilder()
+                .setPort(0)
+                .setBaseDir(baseDir.resolve("base").toString())
+                .setDataDir(baseDir.resolve("data").toString())
+                .setDeletingTemporaryBaseAndDataDirsOnShutdown(true)
+                .addArg("--character-set-server=utf8mb4")
+                .addArg("--collation-server=utf8mb4_unicode_ci");
+        if ("root".equals(System.getProperty("user.name"))) {
+            builder.addArg("--user=root"); // mysqld는 root로 실행 시 명시적 지정 필요 (CI 컨테이너)
+        }
+
+        DBConfiguration dbConfiguration = builder.build();
+        try {
+            // 종료 시 정지/데이터 디렉터리 삭제는 MariaDB4j 종료 훅이 처리
+            DB.newEmbeddedDB(dbConfiguration).start();
+        } catch (ManagedProcessException e) {
+            throw new IllegalStateException("테스트용 MariaDB 기동 실패", e);
+        }
+        return dbConfiguration;
+    }
+}